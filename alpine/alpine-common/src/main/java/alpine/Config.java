@@ -178,11 +178,15 @@ public class Config {
         CORS_ALLOW_ORIGIN                      ("alpine.cors.allow.origin",          "*"),
         CORS_ALLOW_METHODS                     ("alpine.cors.allow.methods",         "GET, POST, PUT, DELETE, OPTIONS"),
         CORS_ALLOW_HEADERS                     ("alpine.cors.allow.headers",         "Origin, Content-Type, Authorization, X-Requested-With, Content-Length, Accept, Origin, X-Api-Key, X-Total-Count, *"),
-        CORS_EXPOSE_HEADERS                    ("alpine.cors.expose.headers",        "Origin, Content-Type, Authorization, X-Requested-With, Content-Length, Accept, Origin, X-Api-Key, X-Total-Count"),
+        CORS_EXPOSE_HEADERS                    ("alpine.cors.expose.headers",        "Origin, Content-Type, Authorization, X-Requested-With, Content-Length, Accept, Origin, X-Api-Key, X-Total-Count, X-Next-Page-Token"),
         CORS_ALLOW_CREDENTIALS                 ("alpine.cors.allow.credentials",     true),
         CORS_MAX_AGE                           ("alpine.cors.max.age",               3600),
         API_KEY_PREFIX                         ("alpine.api.key.prefix",             "alpine_"),
-        AUTH_JWT_TTL_SECONDS                   ("alpine.auth.jwt.ttl.seconds",       7 * 24 * 60 * 60);
+        AUTH_JWT_TTL_SECONDS                   ("alpine.auth.jwt.ttl.seconds",       7 * 24 * 60 * 60),
+        AUTH_CACHE_ENABLED                     ("alpine.auth.cache.enabled",         false),
+        AUTH_CACHE_MAX_SIZE                    ("alpine.auth.cache.max.size",        1000),
+        AUTH_CACHE_TTL_SECONDS                 ("alpine.auth.cache.ttl.seconds",     300),
+        AUTH_CACHE_VERSION_CHECK_INTERVAL_MS   ("alpine.auth.cache.version.check.interval.ms", 1000);
         // @formatter:on
 
         private String propertyName;
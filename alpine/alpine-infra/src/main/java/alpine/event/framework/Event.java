@@ -35,7 +35,8 @@ public interface Event {
      * The dispath method provides convenience in not having to know (or care) about
      * what {@link IEventService} implementation is used to process an event.
      *
-     * This method supports both {@link EventService} and {@link SingleThreadedEventService}
+     * This method supports both {@link EventService} and {@link SingleThreadedEventService},
+     * as well as any {@link IEventService} registered with {@link EventServices},
      * and may send an event to zero or more of the event services if they have a subscriber
      * capable of processing the event.
      *
@@ -52,6 +53,12 @@ public interface Event {
             informed = true;
             SingleThreadedEventService.getInstance().publish(event);
         }
+        for (final IEventService eventService : EventServices.getRegistered()) {
+            if (eventService.hasSubscriptions(event)) {
+                informed = true;
+                eventService.publish(event);
+            }
+        }
         if (!informed) {
             Logger.getLogger(Event.class).debug("No subscribers to inform from event: " + event.getClass().getName());
         }
@@ -75,7 +82,8 @@ public interface Event {
      * This method provides convenience in not having to know (or care) about
      * what {@link IEventService} implementation is used to process an event.
      *
-     * This method supports both {@link EventService} and {@link SingleThreadedEventService}.
+     * This method supports both {@link EventService} and {@link SingleThreadedEventService},
+     * as well as any {@link IEventService} registered with {@link EventServices}.
      *
      * @param chainIdentifier the UUID of the event to query
      * @return returns true if event is being processed, false if not
@@ -88,6 +96,11 @@ public interface Event {
         if (SingleThreadedEventService.getInstance().isEventBeingProcessed(chainIdentifier)) {
             return true;
         }
+        for (final IEventService eventService : EventServices.getRegistered()) {
+            if (eventService.isEventBeingProcessed(chainIdentifier)) {
+                return true;
+            }
+        }
         return false;
     }
 }
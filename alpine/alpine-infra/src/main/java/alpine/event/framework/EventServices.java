@@ -0,0 +1,66 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.event.framework;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of {@link IEventService} implementations that are considered by
+ * {@link Event#dispatch(Event)} and {@link Event#isEventBeingProcessed(java.util.UUID)},
+ * in addition to {@link EventService} and {@link SingleThreadedEventService}.
+ * <p>
+ * This allows applications to plug in their own {@link IEventService}s,
+ * without having to change the code that dispatches events.
+ *
+ * @since 5.6.0
+ */
+public final class EventServices {
+
+    private static final CopyOnWriteArrayList<IEventService> REGISTERED_SERVICES = new CopyOnWriteArrayList<>();
+
+    private EventServices() {
+    }
+
+    /**
+     * Register an {@link IEventService}.
+     *
+     * @param eventService The {@link IEventService} to register
+     */
+    public static void register(final IEventService eventService) {
+        REGISTERED_SERVICES.addIfAbsent(eventService);
+    }
+
+    /**
+     * Unregister a previously registered {@link IEventService}.
+     *
+     * @param eventService The {@link IEventService} to unregister
+     */
+    public static void unregister(final IEventService eventService) {
+        REGISTERED_SERVICES.remove(eventService);
+    }
+
+    /**
+     * @return The currently registered {@link IEventService}s
+     */
+    static List<IEventService> getRegistered() {
+        return REGISTERED_SERVICES;
+    }
+
+}
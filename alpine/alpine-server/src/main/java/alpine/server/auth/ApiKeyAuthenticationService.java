@@ -86,20 +86,23 @@ public class ApiKeyAuthenticationService implements AuthenticationService {
             throw new AuthenticationException();
         }
 
-        try (final var qm = new AlpineQueryManager()) {
-            final ApiKey apiKey = qm.getApiKeyByPublicId(decodedApiKey.getPublicId());
-            if (apiKey == null) {
-                LOGGER.debug("No API key found for public ID " + decodedApiKey.getPublicId());
-                throw new AuthenticationException();
-            }
-
-            if (!MessageDigest.isEqual(decodedApiKey.getSecretHash().getBytes(), apiKey.getSecretHash().getBytes())) {
-                LOGGER.debug("API key secret hashes do not match");
-                throw new AuthenticationException();
+        final ApiKey apiKey = AuthContextCache.getInstance().getApiKey(decodedApiKey.getPublicId(), () -> {
+            try (final var qm = new AlpineQueryManager()) {
+                final ApiKey persistentApiKey = qm.getApiKeyByPublicId(decodedApiKey.getPublicId());
+                return persistentApiKey != null ? qm.detach(persistentApiKey) : null;
             }
+        });
+        if (apiKey == null) {
+            LOGGER.debug("No API key found for public ID " + decodedApiKey.getPublicId());
+            throw new AuthenticationException();
+        }
 
-            return apiKey;
+        if (!MessageDigest.isEqual(decodedApiKey.getSecretHash().getBytes(), apiKey.getSecretHash().getBytes())) {
+            LOGGER.debug("API key secret hashes do not match");
+            throw new AuthenticationException();
         }
+
+        return apiKey;
     }
 
 }
@@ -0,0 +1,258 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.auth;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.model.ApiKey;
+import alpine.model.User;
+import alpine.persistence.AlpineQueryManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+
+import javax.jdo.datastore.JDOConnection;
+import java.security.Principal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A cache for the authentication and authorization context of API requests.
+ * <p>
+ * Caches {@link ApiKey}s by their public ID, {@link User}s by their identity provider and username,
+ * and the {@link AuthorizationContext} of {@link Principal}s. This saves multiple database round-trips
+ * for every authenticated request.
+ * <p>
+ * Cached entries are tagged with the version of the {@code AUTH_CACHE_VERSION} table at the time
+ * they were loaded. The version is incremented by database triggers whenever API keys, users, teams,
+ * permissions, or the ACL configuration change. Entries of an outdated version are reloaded, which
+ * propagates invalidations across all instances sharing the same database. The version is checked
+ * at most every {@link Config.AlpineKey#AUTH_CACHE_VERSION_CHECK_INTERVAL_MS} milliseconds.
+ * <p>
+ * Cached values are shared by concurrent requests. {@link ApiKey}s and {@link User}s must thus be
+ * detached from their persistence manager before they are cached, and must not be modified.
+ *
+ * @since 5.6.0
+ */
+public final class AuthContextCache {
+
+    /**
+     * The authorization context of a {@link Principal}.
+     *
+     * @param effectivePermissions The effective permissions of the {@link Principal}
+     * @param isAclEnabled         Whether portfolio access control is enabled
+     */
+    public record AuthorizationContext(Set<String> effectivePermissions, boolean isAclEnabled) {
+    }
+
+    private record VersionedValue<T>(long version, T value) {
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(AuthContextCache.class);
+    private static final AuthContextCache INSTANCE = new AuthContextCache(
+            Config.getInstance().getPropertyAsBoolean(Config.AlpineKey.AUTH_CACHE_ENABLED),
+            Config.getInstance().getPropertyAsLong(Config.AlpineKey.AUTH_CACHE_MAX_SIZE),
+            Duration.ofSeconds(Config.getInstance().getPropertyAsLong(Config.AlpineKey.AUTH_CACHE_TTL_SECONDS)),
+            Duration.ofMillis(Config.getInstance().getPropertyAsLong(Config.AlpineKey.AUTH_CACHE_VERSION_CHECK_INTERVAL_MS)),
+            AuthContextCache::fetchVersion);
+
+    private final boolean enabled;
+    private final Duration versionCheckInterval;
+    private final LongSupplier versionSupplier;
+    private final ReentrantLock versionLock = new ReentrantLock();
+    private final NamedCache<ApiKey> apiKeyCache;
+    private final NamedCache<User> userCache;
+    private final NamedCache<AuthorizationContext> authorizationContextCache;
+    private volatile long version;
+    private volatile long versionCheckedAtNanos;
+    private volatile boolean versionKnown;
+
+    AuthContextCache(final boolean enabled, final long maxSize, final Duration ttl,
+                     final Duration versionCheckInterval, final LongSupplier versionSupplier) {
+        this.enabled = enabled;
+        this.versionCheckInterval = versionCheckInterval;
+        this.versionSupplier = versionSupplier;
+        this.apiKeyCache = new NamedCache<>("api_key", maxSize, ttl);
+        this.userCache = new NamedCache<>("user", maxSize, ttl);
+        this.authorizationContextCache = new NamedCache<>("authorization_context", maxSize, ttl);
+    }
+
+    public static AuthContextCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieve an {@link ApiKey} by its public ID.
+     *
+     * @param publicId The public ID of the {@link ApiKey}
+     * @param loader   The {@link Supplier} to load the {@link ApiKey} with in case of a cache miss
+     * @return The {@link ApiKey}, or {@code null} when it does not exist
+     */
+    public ApiKey getApiKey(final String publicId, final Supplier<ApiKey> loader) {
+        return get(apiKeyCache, publicId, loader);
+    }
+
+    /**
+     * Retrieve a {@link User} by their identity provider and username.
+     *
+     * @param identityProvider The {@link IdentityProvider} of the {@link User}
+     * @param username         The username of the {@link User}
+     * @param loader           The {@link Supplier} to load the {@link User} with in case of a cache miss
+     * @return The {@link User}, or {@code null} when they do not exist
+     */
+    public User getUser(final IdentityProvider identityProvider, final String username, final Supplier<User> loader) {
+        return get(userCache, identityProvider.name() + ":" + username, loader);
+    }
+
+    /**
+     * Retrieve the {@link AuthorizationContext} of a {@link Principal}.
+     *
+     * @param principal The {@link Principal} to retrieve the {@link AuthorizationContext} for
+     * @param loader    The {@link Supplier} to load the {@link AuthorizationContext} with in case of a cache miss
+     * @return The {@link AuthorizationContext}
+     */
+    public AuthorizationContext getAuthorizationContext(final Principal principal, final Supplier<AuthorizationContext> loader) {
+        final String key = switch (principal) {
+            case ApiKey apiKey -> "API_KEY:" + apiKey.getId();
+            case User user -> "USER:" + user.getId();
+            default -> null;
+        };
+        if (key == null) {
+            return loader.get();
+        }
+
+        return get(authorizationContextCache, key, loader);
+    }
+
+    /**
+     * Invalidate all cached entries of this instance.
+     * <p>
+     * Invalidations on other instances happen through the version counter in the database.
+     */
+    public void invalidateAll() {
+        apiKeyCache.cache().invalidateAll();
+        userCache.cache().invalidateAll();
+        authorizationContextCache.cache().invalidateAll();
+        versionKnown = false;
+    }
+
+    private <T> T get(final NamedCache<T> namedCache, final String key, final Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        final long currentVersion;
+        try {
+            currentVersion = getCurrentVersion();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to determine auth cache version; Bypassing cache", e);
+            return loader.get();
+        }
+
+        final VersionedValue<T> cachedValue = namedCache.cache().getIfPresent(key);
+        if (cachedValue != null && cachedValue.version() == currentVersion) {
+            namedCache.hitCounter().increment();
+            return cachedValue.value();
+        }
+
+        namedCache.missCounter().increment();
+        final T value = loader.get();
+        if (value != null) {
+            // Values loaded concurrently to a modification may already be outdated when they are put.
+            // This is fine, because the modification also increments the version, causing the value
+            // to be reloaded on its next access.
+            namedCache.cache().put(key, new VersionedValue<>(currentVersion, value));
+        } else {
+            namedCache.cache().invalidate(key);
+        }
+
+        return value;
+    }
+
+    private long getCurrentVersion() {
+        if (versionKnown && System.nanoTime() - versionCheckedAtNanos < versionCheckInterval.toNanos()) {
+            return version;
+        }
+
+        versionLock.lock();
+        try {
+            final long nowNanos = System.nanoTime();
+            if (versionKnown && nowNanos - versionCheckedAtNanos < versionCheckInterval.toNanos()) {
+                return version;
+            }
+
+            version = versionSupplier.getAsLong();
+            versionCheckedAtNanos = nowNanos;
+            versionKnown = true;
+            return version;
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    private static long fetchVersion() {
+        try (final var qm = new AlpineQueryManager()) {
+            final var jdoConnection = (JDOConnection) qm.getPersistenceManager().getDataStoreConnection();
+            try {
+                final var connection = (Connection) jdoConnection.getNativeConnection();
+                try (final PreparedStatement ps = connection.prepareStatement("""
+                        SELECT COALESCE(MAX("VERSION"), 0) FROM "AUTH_CACHE_VERSION"
+                        """);
+                     final ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            } finally {
+                jdoConnection.close();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to query auth cache version", e);
+        }
+    }
+
+    private record NamedCache<T>(Cache<String, VersionedValue<T>> cache, Counter hitCounter, Counter missCounter) {
+
+        private NamedCache(final String name, final long maxSize, final Duration ttl) {
+            this(Caffeine.newBuilder()
+                            .expireAfterWrite(ttl)
+                            .maximumSize(maxSize)
+                            .build(),
+                    Counter.builder("alpine_auth_cache_lookups")
+                            .description("Number of auth cache lookups")
+                            .tag("cache", name)
+                            .tag("result", "hit")
+                            .register(Metrics.getRegistry()),
+                    Counter.builder("alpine_auth_cache_lookups")
+                            .description("Number of auth cache lookups")
+                            .tag("cache", name)
+                            .tag("result", "miss")
+                            .register(Metrics.getRegistry()));
+        }
+
+    }
+
+}
@@ -18,9 +18,8 @@
  */
 package alpine.server.auth;
 
-import alpine.model.LdapUser;
 import alpine.model.ManagedUser;
-import alpine.model.OidcUser;
+import alpine.model.User;
 import alpine.persistence.AlpineQueryManager;
 import org.glassfish.jersey.server.ContainerRequest;
 
@@ -66,27 +65,26 @@ public class JwtAuthenticationService implements AuthenticationService {
             final JsonWebToken jwt = new JsonWebToken();
             final boolean isValid = jwt.validateToken(bearer);
             if (isValid) {
-                try (AlpineQueryManager qm = new AlpineQueryManager()) {
-                    if (jwt.getSubject() == null || jwt.getExpiration() == null) {
-                        throw new AuthenticationException("Token does not contain a valid subject or expiration");
-                    }
-                    if (jwt.getIdentityProvider() == null || IdentityProvider.LOCAL == jwt.getIdentityProvider()) {
-                        final ManagedUser managedUser = qm.getManagedUser(jwt.getSubject());
-                        if (managedUser != null) {
-                            return managedUser.isSuspended() ? null : managedUser;
-                        }
-                    } else if (IdentityProvider.LDAP == jwt.getIdentityProvider()) {
-                        final LdapUser ldapUser =  qm.getLdapUser(jwt.getSubject());
-                        if (ldapUser != null) {
-                            return ldapUser;
-                        }
-                    } else if (IdentityProvider.OPENID_CONNECT == jwt.getIdentityProvider()) {
-                        final OidcUser oidcUser = qm.getOidcUser(jwt.getSubject());
-                        if (oidcUser != null) {
-                            return oidcUser;
-                        }
+                if (jwt.getSubject() == null || jwt.getExpiration() == null) {
+                    throw new AuthenticationException("Token does not contain a valid subject or expiration");
+                }
+                final IdentityProvider identityProvider = jwt.getIdentityProvider() != null
+                        ? jwt.getIdentityProvider()
+                        : IdentityProvider.LOCAL;
+                final User user = AuthContextCache.getInstance().getUser(identityProvider, jwt.getSubject(), () -> {
+                    try (AlpineQueryManager qm = new AlpineQueryManager()) {
+                        final User persistentUser = switch (identityProvider) {
+                            case LOCAL -> qm.getManagedUser(jwt.getSubject());
+                            case LDAP -> qm.getLdapUser(jwt.getSubject());
+                            case OPENID_CONNECT -> qm.getOidcUser(jwt.getSubject());
+                        };
+                        return persistentUser != null ? qm.detach(persistentUser) : null;
                     }
+                });
+                if (user instanceof final ManagedUser managedUser) {
+                    return managedUser.isSuspended() ? null : managedUser;
                 }
+                return user;
             }
         }
         return null;
@@ -23,6 +23,8 @@ import alpine.model.ApiKey;
 import alpine.model.ConfigProperty;
 import alpine.model.User;
 import alpine.persistence.AlpineQueryManager;
+import alpine.server.auth.AuthContextCache;
+import alpine.server.auth.AuthContextCache.AuthorizationContext;
 import alpine.server.auth.PermissionRequired;
 import org.owasp.security.logging.SecurityMarkers;
 
@@ -66,14 +68,16 @@ public class AuthorizationFilter implements ContainerRequestFilter {
             return;
         }
 
-        final Set<String> effectivePermissions;
-        final boolean isAclEnabled;
-
-        try (final var qm = new AlpineQueryManager()) {
-            effectivePermissions = qm.getEffectivePermissions(principal);
-            final ConfigProperty property = qm.getConfigProperty(ACL_ENABLED_GROUP_NAME, ACL_ENABLED_PROPERTY_NAME);
-            isAclEnabled = property != null && "true".equals(property.getPropertyValue());
-        }
+        final AuthorizationContext authorizationContext = AuthContextCache.getInstance().getAuthorizationContext(principal, () -> {
+            try (final var qm = new AlpineQueryManager()) {
+                final ConfigProperty property = qm.getConfigProperty(ACL_ENABLED_GROUP_NAME, ACL_ENABLED_PROPERTY_NAME);
+                return new AuthorizationContext(
+                        qm.getEffectivePermissions(principal),
+                        property != null && "true".equals(property.getPropertyValue()));
+            }
+        });
+        final Set<String> effectivePermissions = authorizationContext.effectivePermissions();
+        final boolean isAclEnabled = authorizationContext.isAclEnabled();
 
         if (isAclEnabled && resourceInfo.getResourceMethod().isAnnotationPresent(ResourceAccessRequired.class)) {
             requestContext.setProperty(EFFECTIVE_PERMISSIONS_PROPERTY, effectivePermissions);
@@ -23,6 +23,7 @@ import alpine.common.logging.Logger;
 import alpine.common.metrics.Metrics;
 import alpine.persistence.IPersistenceManagerFactory;
 import alpine.persistence.JdoProperties;
+import alpine.server.auth.AuthContextCache;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import io.micrometer.core.instrument.FunctionCounter;
@@ -170,6 +171,9 @@ public class PersistenceManagerFactory implements IPersistenceManagerFactory, Se
             pmf.close();
             pmf = null;
         }
+
+        // Cached entries are bound to the datastore they were loaded from.
+        AuthContextCache.getInstance().invalidateAll();
     }
 
     private void registerDataNucleusMetrics(final JDOPersistenceManagerFactory pmf) {
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.auth;
+
+import alpine.model.ApiKey;
+import alpine.model.ManagedUser;
+import alpine.model.User;
+import alpine.server.auth.AuthContextCache.AuthorizationContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AuthContextCacheTest {
+
+    @Test
+    void shouldServeApiKeyFromCacheWhileVersionIsUnchanged() {
+        final var version = new AtomicLong(1);
+        final var cache = new AuthContextCache(true, 10, Duration.ofMinutes(5), Duration.ZERO, version::get);
+
+        final var apiKey = new ApiKey();
+        apiKey.setPublicId("foo");
+        final var loadCount = new AtomicInteger();
+
+        assertThat(cache.getApiKey("foo", () -> {
+            loadCount.incrementAndGet();
+            return apiKey;
+        })).isSameAs(apiKey);
+        assertThat(cache.getApiKey("foo", () -> {
+            loadCount.incrementAndGet();
+            return apiKey;
+        })).isSameAs(apiKey);
+        assertThat(loadCount).hasValue(1);
+
+        version.incrementAndGet();
+
+        assertThat(cache.getApiKey("foo", () -> {
+            loadCount.incrementAndGet();
+            return apiKey;
+        })).isSameAs(apiKey);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheAbsentValues() {
+        final var cache = new AuthContextCache(true, 10, Duration.ofMinutes(5), Duration.ZERO, () -> 1);
+
+        final var loadCount = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            assertThat(cache.getUser(IdentityProvider.LOCAL, "foo", () -> {
+                loadCount.incrementAndGet();
+                return null;
+            })).isNull();
+        }
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void shouldCacheAuthorizationContextPerPrincipal() {
+        final var cache = new AuthContextCache(true, 10, Duration.ofMinutes(5), Duration.ZERO, () -> 1);
+
+        final var apiKey = new ApiKey();
+        apiKey.setId(1);
+        final User user = new ManagedUser();
+        user.setId(1);
+
+        cache.getAuthorizationContext(apiKey, () -> new AuthorizationContext(Set.of("FOO"), false));
+        cache.getAuthorizationContext(user, () -> new AuthorizationContext(Set.of("BAR"), true));
+
+        assertThat(cache.getAuthorizationContext(apiKey, () -> {
+            throw new AssertionError("Should not be loaded");
+        })).isEqualTo(new AuthorizationContext(Set.of("FOO"), false));
+        assertThat(cache.getAuthorizationContext(user, () -> {
+            throw new AssertionError("Should not be loaded");
+        })).isEqualTo(new AuthorizationContext(Set.of("BAR"), true));
+    }
+
+    @Test
+    void shouldCheckVersionOnlyOncePerInterval() {
+        final var versionCheckCount = new AtomicInteger();
+        final var cache = new AuthContextCache(true, 10, Duration.ofMinutes(5), Duration.ofMinutes(5),
+                () -> versionCheckCount.incrementAndGet());
+
+        for (int i = 0; i < 3; i++) {
+            cache.getUser(IdentityProvider.LDAP, "foo", ManagedUser::new);
+        }
+        assertThat(versionCheckCount).hasValue(1);
+
+        cache.invalidateAll();
+
+        cache.getUser(IdentityProvider.LDAP, "foo", ManagedUser::new);
+        assertThat(versionCheckCount).hasValue(2);
+    }
+
+    @Test
+    void shouldBypassCacheWhenVersionCanNotBeDetermined() {
+        final var cache = new AuthContextCache(true, 10, Duration.ofMinutes(5), Duration.ZERO, () -> {
+            throw new IllegalStateException("Boom");
+        });
+
+        final var loadCount = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.getApiKey("foo", () -> {
+                loadCount.incrementAndGet();
+                return new ApiKey();
+            });
+        }
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void shouldAlwaysLoadWhenDisabled() {
+        final var cache = new AuthContextCache(false, 10, Duration.ofMinutes(5), Duration.ZERO, () -> {
+            throw new AssertionError("Version should not be checked");
+        });
+
+        final var loadCount = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.getApiKey("foo", () -> {
+                loadCount.incrementAndGet();
+                return new ApiKey();
+            });
+        }
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void shouldPropagateLoaderExceptions() {
+        final var cache = new AuthContextCache(true, 10, Duration.ofMinutes(5), Duration.ZERO, () -> 1);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> cache.getApiKey("foo", () -> {
+                    throw new IllegalStateException("Boom");
+                }));
+    }
+
+}
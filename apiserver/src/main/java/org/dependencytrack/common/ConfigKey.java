@@ -23,12 +23,23 @@ import alpine.Config;
 public enum ConfigKey implements Config.Key {
 
     ALPINE_WORKER_POOL_DRAIN_TIMEOUT_DURATION("alpine.worker.pool.drain.timeout.duration", "PT30S"),
+    EVENT_QUEUE_ENABLED("event.queue.enabled", false),
+    EVENT_QUEUE_POLL_INTERVAL_DURATION("event.queue.poll.interval.duration", "PT1S"),
+    EVENT_QUEUE_VISIBILITY_TIMEOUT_DURATION("event.queue.visibility.timeout.duration", "PT5M"),
+    EVENT_QUEUE_MAX_ATTEMPTS("event.queue.max.attempts", 3),
+    EVENT_QUEUE_RETRY_BACKOFF_DURATION("event.queue.retry.backoff.duration", "PT10S"),
+    EVENT_QUEUE_CONCURRENCY_PROJECT_METRICS_UPDATE("event.queue.concurrency.project.metrics.update", 4),
+    EVENT_QUEUE_CONCURRENCY_PROJECT_POLICY_EVALUATION("event.queue.concurrency.project.policy.evaluation", 4),
+    EVENT_QUEUE_CONCURRENCY_PROJECT_CLONE("event.queue.concurrency.project.clone", 1),
+    EVENT_COALESCING_WINDOW_DURATION("event.coalescing.window.duration", "PT0S"),
 
     KAFKA_AUTO_OFFSET_RESET("kafka.auto.offset.reset", "earliest"),
     KAFKA_BOOTSTRAP_SERVERS("kafka.bootstrap.servers", null),
     KAFKA_KEY_STORE_PASSWORD("kafka.keystore.password", ""),
     KAFKA_KEY_STORE_PATH("kafka.keystore.path", ""),
     KAFKA_MTLS_ENABLED("kafka.mtls.enabled", false),
+    KAFKA_PROCESSOR_ADAPTIVE_CONCURRENCY_INTERVAL_DURATION("kafka.processor.adaptive.concurrency.interval.duration", "PT10S"),
+    KAFKA_PROCESSOR_DB_CONCURRENCY_BUDGET("kafka.processor.db.concurrency.budget", -1),
     KAFKA_PRODUCER_DRAIN_TIMEOUT_DURATION("kafka.producer.drain.timeout.duration", "PT30S"),
     KAFKA_TLS_ENABLED("kafka.tls.enabled", false),
     KAFKA_TLS_PROTOCOL("kafka.security.protocol", ""),
@@ -39,9 +50,17 @@ public enum ConfigKey implements Config.Key {
     TASK_SCHEDULER_INITIAL_DELAY("task.scheduler.initial.delay", "180000"),
     TASK_SCHEDULER_POLLING_INTERVAL("task.scheduler.polling.interval", "60000"),
     TMP_DELAY_BOM_PROCESSED_NOTIFICATION("tmp.delay.bom.processed.notification", "false"),
+    BOM_UPLOAD_PROCESSING_BULK_ENABLED("bom.upload.processing.bulk.enabled", false),
+    LICENSE_REGISTRY_MAX_AGE_DURATION("license.registry.max.age.duration", "PT5M"),
+    POLICY_EVALUATION_CHUNK_SIZE("policy.evaluation.chunk.size", 1000),
+    POLICY_EVALUATION_PARALLELISM("policy.evaluation.parallelism", 1),
+    METRICS_UPDATE_ENGINE("metrics.update.engine", "procedural"),
+    METRICS_UPDATE_INCREMENTAL_ENABLED("metrics.update.incremental.enabled", false),
+    METRICS_UPDATE_INCREMENTAL_MAX_CHANGES("metrics.update.incremental.max.changes", 1000),
     INTEGRITY_INITIALIZER_ENABLED("integrity.initializer.enabled", "false"),
     INTEGRITY_CHECK_ENABLED("integrity.check.enabled", "false"),
     VULNERABILITY_POLICY_ANALYSIS_ENABLED("vulnerability.policy.analysis.enabled", false),
+    VULNERABILITY_POLICY_CACHE_MAX_AGE_DURATION("vulnerability.policy.cache.max.age.duration", "PT1M"),
     VULNERABILITY_POLICY_BUNDLE_URL("vulnerability.policy.bundle.url", null),
     VULNERABILITY_POLICY_BUNDLE_SOURCE_TYPE("vulnerability.policy.bundle.source.type", "NGINX"),
     VULNERABILITY_POLICY_BUNDLE_AUTH_USERNAME( "vulnerability.policy.bundle.auth.username", null),
@@ -22,6 +22,7 @@ import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.LdapSyncEvent;
 import alpine.event.framework.EventService;
+import alpine.event.framework.EventServices;
 import alpine.event.framework.SingleThreadedEventService;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
@@ -33,6 +34,7 @@ import org.dependencytrack.event.maintenance.TagMaintenanceEvent;
 import org.dependencytrack.event.maintenance.VulnerabilityDatabaseMaintenanceEvent;
 import org.dependencytrack.event.maintenance.VulnerabilityScanMaintenanceEvent;
 import org.dependencytrack.event.maintenance.WorkflowMaintenanceEvent;
+import org.dependencytrack.event.queue.DurableEventService;
 import org.dependencytrack.tasks.BomUploadProcessingTask;
 import org.dependencytrack.tasks.CallbackTask;
 import org.dependencytrack.tasks.CloneProjectTask;
@@ -59,6 +61,7 @@ import org.dependencytrack.tasks.maintenance.TagMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.VulnerabilityDatabaseMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.VulnerabilityScanMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.WorkflowMaintenanceTask;
+import org.dependencytrack.tasks.metrics.IncrementalMetricsUpdateTask;
 import org.dependencytrack.tasks.metrics.PortfolioMetricsUpdateTask;
 import org.dependencytrack.tasks.metrics.ProjectMetricsUpdateTask;
 import org.dependencytrack.tasks.metrics.VulnerabilityMetricsUpdateTask;
@@ -82,6 +85,9 @@ public class EventSubsystemInitializer implements ServletContextListener {
     // Starts the SingleThreadedEventService
     private static final SingleThreadedEventService EVENT_SERVICE_ST = SingleThreadedEventService.getInstance();
 
+    private static final boolean EVENT_QUEUE_ENABLED =
+            Config.getInstance().getPropertyAsBoolean(ConfigKey.EVENT_QUEUE_ENABLED);
+
     private static final Duration DRAIN_TIMEOUT_DURATION =
             Duration.parse(Config.getInstance().getProperty(ConfigKey.ALPINE_WORKER_POOL_DRAIN_TIMEOUT_DURATION));
 
@@ -101,10 +107,9 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE.subscribe(PortfolioVulnerabilityAnalysisEvent.class, VulnerabilityAnalysisTask.class);
         EVENT_SERVICE.subscribe(ProjectRepositoryMetaAnalysisEvent.class, RepositoryMetaAnalysisTask.class);
         EVENT_SERVICE.subscribe(PortfolioRepositoryMetaAnalysisEvent.class, RepositoryMetaAnalysisTask.class);
-        EVENT_SERVICE.subscribe(ProjectMetricsUpdateEvent.class, ProjectMetricsUpdateTask.class);
         EVENT_SERVICE.subscribe(PortfolioMetricsUpdateEvent.class, PortfolioMetricsUpdateTask.class);
         EVENT_SERVICE.subscribe(VulnerabilityMetricsUpdateEvent.class, VulnerabilityMetricsUpdateTask.class);
-        EVENT_SERVICE.subscribe(CloneProjectEvent.class, CloneProjectTask.class);
+        EVENT_SERVICE.subscribe(IncrementalMetricsUpdateEvent.class, IncrementalMetricsUpdateTask.class);
         EVENT_SERVICE.subscribe(FortifySscUploadEventAbstract.class, FortifySscUploadTask.class);
         EVENT_SERVICE.subscribe(DefectDojoUploadEventAbstract.class, DefectDojoUploadTask.class);
         EVENT_SERVICE.subscribe(KennaSecurityUploadEventAbstract.class, KennaSecurityUploadTask.class);
@@ -114,10 +119,29 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE.subscribe(VulnerabilityPolicyFetchEvent.class, VulnerabilityPolicyFetchTask.class);
         EVENT_SERVICE.subscribe(EpssMirrorEvent.class, EpssMirrorTask.class);
         EVENT_SERVICE.subscribe(ComponentPolicyEvaluationEvent.class, PolicyEvaluationTask.class);
-        EVENT_SERVICE.subscribe(ProjectPolicyEvaluationEvent.class, PolicyEvaluationTask.class);
+        EVENT_SERVICE.subscribe(PortfolioPolicyEvaluationEvent.class, PolicyEvaluationTask.class);
         EVENT_SERVICE.subscribe(IntegrityMetaInitializerEvent.class, IntegrityMetaInitializerTask.class);
         EVENT_SERVICE.subscribe(IntegrityAnalysisEvent.class, IntegrityAnalysisTask.class);
 
+        // Heavy per-project tasks may be processed via the durable event queue instead,
+        // such that they survive restarts, and are distributed across instances.
+        if (EVENT_QUEUE_ENABLED) {
+            final Config config = Config.getInstance();
+            final DurableEventService durableEventService = DurableEventService.getInstance();
+            durableEventService.subscribe(ProjectMetricsUpdateEvent.class, ProjectMetricsUpdateTask.class,
+                    config.getPropertyAsInt(ConfigKey.EVENT_QUEUE_CONCURRENCY_PROJECT_METRICS_UPDATE));
+            durableEventService.subscribe(ProjectPolicyEvaluationEvent.class, PolicyEvaluationTask.class,
+                    config.getPropertyAsInt(ConfigKey.EVENT_QUEUE_CONCURRENCY_PROJECT_POLICY_EVALUATION));
+            durableEventService.subscribe(CloneProjectEvent.class, CloneProjectTask.class,
+                    config.getPropertyAsInt(ConfigKey.EVENT_QUEUE_CONCURRENCY_PROJECT_CLONE));
+            EventServices.register(durableEventService);
+            durableEventService.start();
+        } else {
+            EVENT_SERVICE.subscribe(ProjectMetricsUpdateEvent.class, ProjectMetricsUpdateTask.class);
+            EVENT_SERVICE.subscribe(ProjectPolicyEvaluationEvent.class, PolicyEvaluationTask.class);
+            EVENT_SERVICE.subscribe(CloneProjectEvent.class, CloneProjectTask.class);
+        }
+
         // Execute maintenance tasks on the single-threaded event service.
         // This way, they are not blocked by, and don't block, actual processing tasks on the main event service.
         EVENT_SERVICE_ST.subscribe(ComponentMetadataMaintenanceEvent.class, ComponentMetadataMaintenanceTask.class);
@@ -149,6 +173,7 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE.unsubscribe(ProjectMetricsUpdateTask.class);
         EVENT_SERVICE.unsubscribe(PortfolioMetricsUpdateTask.class);
         EVENT_SERVICE.unsubscribe(VulnerabilityMetricsUpdateTask.class);
+        EVENT_SERVICE.unsubscribe(IncrementalMetricsUpdateTask.class);
         EVENT_SERVICE.unsubscribe(CloneProjectTask.class);
         EVENT_SERVICE.unsubscribe(FortifySscUploadTask.class);
         EVENT_SERVICE.unsubscribe(DefectDojoUploadTask.class);
@@ -171,5 +196,14 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE_ST.unsubscribe(WorkflowMaintenanceTask.class);
         EVENT_SERVICE_ST.unsubscribe(ProjectMaintenanceTask.class);
         EVENT_SERVICE_ST.shutdown(DRAIN_TIMEOUT_DURATION);
+
+        if (EVENT_QUEUE_ENABLED) {
+            final DurableEventService durableEventService = DurableEventService.getInstance();
+            EventServices.unregister(durableEventService);
+            durableEventService.unsubscribe(ProjectMetricsUpdateTask.class);
+            durableEventService.unsubscribe(PolicyEvaluationTask.class);
+            durableEventService.unsubscribe(CloneProjectTask.class);
+            durableEventService.shutdown(DRAIN_TIMEOUT_DURATION);
+        }
     }
 }
@@ -32,13 +32,28 @@ import java.util.UUID;
 public class ProjectMetricsUpdateEvent extends AbstractChainableEvent {
 
     private final UUID uuid;
+    private final boolean incremental;
 
     public ProjectMetricsUpdateEvent(final UUID uuid) {
+        this(uuid, false);
+    }
+
+    /**
+     * @param uuid        {@link UUID} of the {@link Project} to update metrics for
+     * @param incremental Whether it is sufficient to only update metrics of components with recorded changes
+     * @since 5.6.0
+     */
+    public ProjectMetricsUpdateEvent(final UUID uuid, final boolean incremental) {
         this.uuid = uuid;
+        this.incremental = incremental;
     }
 
     public UUID getUuid() {
         return uuid;
     }
 
+    public boolean isIncremental() {
+        return incremental;
+    }
+
 }
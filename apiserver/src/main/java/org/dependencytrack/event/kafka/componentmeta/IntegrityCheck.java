@@ -18,19 +18,15 @@
  */
 package org.dependencytrack.event.kafka.componentmeta;
 
-import alpine.Config;
 import alpine.common.logging.Logger;
 import org.apache.commons.lang3.StringUtils;
-import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.IntegrityAnalysis;
 import org.dependencytrack.model.IntegrityMatchStatus;
 import org.dependencytrack.model.IntegrityMetaComponent;
 import org.dependencytrack.persistence.QueryManager;
-import org.dependencytrack.proto.repometaanalysis.v1.AnalysisResult;
 
 import java.util.Date;
-import java.util.List;
 
 import static org.dependencytrack.model.IntegrityMatchStatus.COMPONENT_MISSING_HASH;
 import static org.dependencytrack.model.IntegrityMatchStatus.COMPONENT_MISSING_HASH_AND_MATCH_UNKNOWN;
@@ -42,36 +38,6 @@ public class IntegrityCheck {
 
     private static final Logger LOGGER = Logger.getLogger(IntegrityCheck.class);
 
-    public static void performIntegrityCheck(final IntegrityMetaComponent integrityMetaComponent, final AnalysisResult result, final QueryManager qm) {
-        if (!Config.getInstance().getPropertyAsBoolean(ConfigKey.INTEGRITY_CHECK_ENABLED)) {
-            LOGGER.debug("Integrity check is disabled");
-            return;
-        }
-        //if integritymeta is in result with hashses but component uuid is not present, result has integrity data for existing
-        // components. Get components from database and perform integrity check
-        if (StringUtils.isBlank(result.getComponent().getUuid())) {
-            integrityAnalysisOfExistingComponents(integrityMetaComponent, qm);
-            return;
-        }
-        //check if the object is not null
-        final Component component = qm.getObjectByUuid(Component.class, result.getComponent().getUuid());
-        if (component == null) {
-            LOGGER.debug("Component is not present in database for which Integrity metadata is received so skipping analysis");
-            return;
-        }
-        calculateIntegrityResult(integrityMetaComponent, component, qm);
-    }
-
-    private static void integrityAnalysisOfExistingComponents(final IntegrityMetaComponent integrityMetaComponent, final QueryManager qm) {
-        if (integrityMetaComponent != null) {
-            List<Component> componentList = qm.getComponentsByPurl(integrityMetaComponent.getPurl());
-            for (Component component : componentList) {
-                LOGGER.debug("calculate integrity for component : " + component.getUuid());
-                calculateIntegrityResult(integrityMetaComponent, component, qm);
-            }
-        }
-    }
-
     private static IntegrityMatchStatus checkHash(String metadataHash, String componentHash) {
         if (StringUtils.isBlank(metadataHash) && StringUtils.isBlank(componentHash)) {
             return COMPONENT_MISSING_HASH_AND_MATCH_UNKNOWN;
@@ -93,23 +59,46 @@ public class IntegrityCheck {
             LOGGER.info("Integrity metadata is null in result and db. Cannot perform integrity analysis");
             return;
         }
-        IntegrityMatchStatus md5Status = checkHash(metadata.getMd5(), component.getMd5());
-        IntegrityMatchStatus sha1Status = checkHash(metadata.getSha1(), component.getSha1());
-        IntegrityMatchStatus sha256Status = checkHash(metadata.getSha256(), component.getSha256());
-        IntegrityMatchStatus sha512Status = checkHash(metadata.getSha512(), component.getSha512());
+        final IntegrityAnalysis hashComparison = compareHashes(metadata, component);
 
         IntegrityAnalysis integrityAnalysis = qm.getIntegrityAnalysisByComponentUuid(component.getUuid());
         if (integrityAnalysis == null) {
             integrityAnalysis = new IntegrityAnalysis();
             integrityAnalysis.setComponent(component);
         }
+        integrityAnalysis.setIntegrityCheckStatus(hashComparison.getIntegrityCheckStatus());
+        integrityAnalysis.setMd5HashMatchStatus(hashComparison.getMd5HashMatchStatus());
+        integrityAnalysis.setSha1HashMatchStatus(hashComparison.getSha1HashMatchStatus());
+        integrityAnalysis.setSha256HashMatchStatus(hashComparison.getSha256HashMatchStatus());
+        integrityAnalysis.setSha512HashMatchStatus(hashComparison.getSha512HashMatchStatus());
+        integrityAnalysis.setUpdatedAt(new Date());
+        qm.persist(integrityAnalysis);
+    }
+
+    /**
+     * Compare the hashes of a {@link Component} with those of its {@link IntegrityMetaComponent}.
+     * <p>
+     * The returned {@link IntegrityAnalysis} only carries the match statuses,
+     * it is neither associated with the {@link Component} nor persisted.
+     *
+     * @param metadata  The {@link IntegrityMetaComponent} to compare against
+     * @param component The {@link Component} to compare
+     * @return The result of the comparison
+     * @since 5.6.0
+     */
+    public static IntegrityAnalysis compareHashes(final IntegrityMetaComponent metadata, final Component component) {
+        final IntegrityMatchStatus md5Status = checkHash(metadata.getMd5(), component.getMd5());
+        final IntegrityMatchStatus sha1Status = checkHash(metadata.getSha1(), component.getSha1());
+        final IntegrityMatchStatus sha256Status = checkHash(metadata.getSha256(), component.getSha256());
+        final IntegrityMatchStatus sha512Status = checkHash(metadata.getSha512(), component.getSha512());
+
+        final var integrityAnalysis = new IntegrityAnalysis();
         integrityAnalysis.setIntegrityCheckStatus(calculateIntegrityCheckStatus(md5Status, sha1Status, sha256Status, sha512Status));
         integrityAnalysis.setMd5HashMatchStatus(md5Status);
         integrityAnalysis.setSha1HashMatchStatus(sha1Status);
         integrityAnalysis.setSha256HashMatchStatus(sha256Status);
         integrityAnalysis.setSha512HashMatchStatus(sha512Status);
-        integrityAnalysis.setUpdatedAt(new Date());
-        qm.persist(integrityAnalysis);
+        return integrityAnalysis;
     }
 
     private static IntegrityMatchStatus calculateIntegrityCheckStatus(IntegrityMatchStatus md5Status, IntegrityMatchStatus sha1Status, IntegrityMatchStatus sha256Status, IntegrityMatchStatus sha512Status) {
@@ -19,33 +19,50 @@
 package org.dependencytrack.event.kafka.processor;
 
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
 import org.dependencytrack.model.Epss;
 import org.dependencytrack.parser.dependencytrack.EpssModelConverter;
-import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.EpssDao;
+import org.dependencytrack.persistence.jdbi.EpssDao.SynchronizationResult;
 import org.dependencytrack.proto.mirror.v1.EpssItem;
 
 import java.util.List;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+
 
 public class EpssMirrorProcessor implements BatchProcessor<String, EpssItem> {
 
     public static final String PROCESSOR_NAME = "epss.mirror";
     private static final Logger LOGGER = Logger.getLogger(EpssMirrorProcessor.class);
+    private static final Counter RECORDS_CREATED_COUNTER = Counter.builder("epss_mirror_records_synchronized")
+            .description("Number of EPSS records that were created or updated by mirroring")
+            .tag("operation", "create")
+            .register(Metrics.getRegistry());
+    private static final Counter RECORDS_UPDATED_COUNTER = Counter.builder("epss_mirror_records_synchronized")
+            .description("Number of EPSS records that were created or updated by mirroring")
+            .tag("operation", "update")
+            .register(Metrics.getRegistry());
 
     @Override
     public void process(List<ConsumerRecord<String, EpssItem>> consumerRecords) throws ProcessingException {
-        try (QueryManager qm = new QueryManager()) {
-            LOGGER.debug("Synchronizing batch of %s mirrored EPSS records.".formatted(consumerRecords.size()));
-            List<Epss> epssList = consumerRecords.stream()
-                    .map(ConsumerRecord::value)
-                    .map(EpssModelConverter::convert)
-                    .toList();
-            if (!epssList.isEmpty()) {
-                qm.synchronizeAllEpss(epssList);
-            }
+        LOGGER.debug("Synchronizing batch of %s mirrored EPSS records.".formatted(consumerRecords.size()));
+        List<Epss> epssList = consumerRecords.stream()
+                .map(ConsumerRecord::value)
+                .map(EpssModelConverter::convert)
+                .toList();
+        if (epssList.isEmpty()) {
+            return;
         }
+
+        final SynchronizationResult result = inJdbiTransaction(
+                handle -> handle.attach(EpssDao.class).synchronizeAll(epssList));
+        LOGGER.debug("Created %d and updated %d EPSS records".formatted(result.created(), result.updated()));
+        RECORDS_CREATED_COUNTER.increment(result.created());
+        RECORDS_UPDATED_COUNTER.increment(result.updated());
     }
 }
@@ -123,7 +123,7 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
                 }
                 case PROJECT -> {
                     LOGGER.debug("Triggering policy evaluation for project %s".formatted(completedVulnScan.getTargetIdentifier()));
-                    metricsUpdateEvent = new ProjectMetricsUpdateEvent(completedVulnScan.getTargetIdentifier());
+                    metricsUpdateEvent = new ProjectMetricsUpdateEvent(completedVulnScan.getTargetIdentifier(), /* incremental */ true);
                     policyEvalEvent = new ProjectPolicyEvaluationEvent(completedVulnScan.getTargetIdentifier());
                 }
                 default -> throw new IllegalStateException("""
@@ -37,11 +37,11 @@ public class ProcessorInitializer implements ServletContextListener {
 
         PROCESSOR_MANAGER.registerProcessor(VulnerabilityMirrorProcessor.PROCESSOR_NAME,
                 KafkaTopics.NEW_VULNERABILITY, new VulnerabilityMirrorProcessor());
-        PROCESSOR_MANAGER.registerProcessor(RepositoryMetaResultProcessor.PROCESSOR_NAME,
+        PROCESSOR_MANAGER.registerBatchProcessor(RepositoryMetaResultProcessor.PROCESSOR_NAME,
                 KafkaTopics.REPO_META_ANALYSIS_RESULT, new RepositoryMetaResultProcessor());
         PROCESSOR_MANAGER.registerBatchProcessor(EpssMirrorProcessor.PROCESSOR_NAME,
                 KafkaTopics.NEW_EPSS, new EpssMirrorProcessor());
-        PROCESSOR_MANAGER.registerProcessor(VulnerabilityScanResultProcessor.PROCESSOR_NAME,
+        PROCESSOR_MANAGER.registerBatchProcessor(VulnerabilityScanResultProcessor.PROCESSOR_NAME,
                 KafkaTopics.VULN_ANALYSIS_RESULT, new VulnerabilityScanResultProcessor());
         PROCESSOR_MANAGER.registerBatchProcessor(ProcessedVulnerabilityScanResultProcessor.PROCESSOR_NAME,
                 KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED, new ProcessedVulnerabilityScanResultProcessor());
@@ -55,4 +55,12 @@ public class ProcessorInitializer implements ServletContextListener {
         PROCESSOR_MANAGER.close();
     }
 
+    /**
+     * @return The {@link ProcessorManager} managing all processors of this instance
+     * @since 5.6.0
+     */
+    public static ProcessorManager getProcessorManager() {
+        return PROCESSOR_MANAGER;
+    }
+
 }
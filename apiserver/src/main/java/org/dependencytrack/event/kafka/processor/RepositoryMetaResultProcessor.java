@@ -18,184 +18,287 @@
  */
 package org.dependencytrack.event.kafka.processor;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.dependencytrack.event.kafka.processor.api.Processor;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
+import org.dependencytrack.model.Component;
 import org.dependencytrack.model.FetchStatus;
+import org.dependencytrack.model.IntegrityAnalysis;
 import org.dependencytrack.model.IntegrityMetaComponent;
 import org.dependencytrack.model.RepositoryMetaComponent;
 import org.dependencytrack.model.RepositoryType;
-import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao.IntegrityCheckCandidateRecord;
+import org.dependencytrack.persistence.jdbi.RepositoryMetaDao;
 import org.dependencytrack.proto.repometaanalysis.v1.AnalysisResult;
-import org.dependencytrack.util.PersistenceUtil;
+import org.dependencytrack.proto.repometaanalysis.v1.IntegrityMeta;
+import org.jdbi.v3.core.Handle;
 
-import javax.jdo.PersistenceManager;
-import javax.jdo.Query;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
-import static org.dependencytrack.event.kafka.componentmeta.IntegrityCheck.performIntegrityCheck;
+import static org.dependencytrack.event.kafka.componentmeta.IntegrityCheck.compareHashes;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 
 /**
- * A {@link Processor} responsible for processing result of component repository meta analyses.
+ * A {@link BatchProcessor} responsible for processing result of component repository meta analyses.
+ * <p>
+ * Results are deduplicated within a batch, and persisted using set-based statements,
+ * such that the number of database round trips does not grow with the size of the batch.
  */
-public class RepositoryMetaResultProcessor implements Processor<String, AnalysisResult> {
+public class RepositoryMetaResultProcessor implements BatchProcessor<String, AnalysisResult> {
 
     static final String PROCESSOR_NAME = "repo.meta.analysis.result";
 
     private static final Logger LOGGER = Logger.getLogger(RepositoryMetaResultProcessor.class);
 
+    private record MetaComponentCoordinates(RepositoryType repositoryType, String namespace, String name) {
+    }
+
+    private record IntegrityCheckTarget(String purl, UUID componentUuid) {
+    }
+
     @Override
-    public void process(final ConsumerRecord<String, AnalysisResult> record) throws ProcessingException {
-        if (!isRecordValid(record)) {
+    public void process(final List<ConsumerRecord<String, AnalysisResult>> records) throws ProcessingException {
+        final var metaComponentByCoordinates = new LinkedHashMap<MetaComponentCoordinates, RepositoryMetaComponent>();
+        final var integrityMetaComponentByPurl = new LinkedHashMap<String, IntegrityMetaComponent>();
+        final var integrityCheckTargets = new LinkedHashSet<IntegrityCheckTarget>();
+
+        for (final ConsumerRecord<String, AnalysisResult> record : records) {
+            final PackageURL purl = parsePurl(record);
+            if (purl == null) {
+                continue;
+            }
+
+            final RepositoryMetaComponent metaComponent = createRepositoryMetaComponent(record, purl);
+            if (metaComponent != null) {
+                // When multiple results for the same coordinates are present, the most recent one wins.
+                metaComponentByCoordinates.merge(
+                        new MetaComponentCoordinates(metaComponent.getRepositoryType(), metaComponent.getNamespace(), metaComponent.getName()),
+                        metaComponent,
+                        (existing, incoming) -> incoming.getLastCheck().before(existing.getLastCheck()) ? existing : incoming);
+            }
+
+            final AnalysisResult result = record.value();
+            if (!result.hasIntegrityMeta()) {
+                LOGGER.debug("Incoming result for component with purl %s  does not include component integrity info".formatted(purl));
+                continue;
+            }
+
+            // Integrity metadata can't be modified anymore once it has been processed,
+            // so the first processed result wins over any later results.
+            integrityMetaComponentByPurl.merge(
+                    purl.toString(),
+                    createIntegrityMetaComponent(result, purl),
+                    (existing, incoming) -> existing.getStatus() == FetchStatus.PROCESSED ? existing : incoming);
+
+            final String componentUuid = result.getComponent().getUuid();
+            if (StringUtils.isBlank(componentUuid)) {
+                // Result has integrity data for existing components.
+                integrityCheckTargets.add(new IntegrityCheckTarget(purl.toString(), null));
+            } else {
+                try {
+                    integrityCheckTargets.add(new IntegrityCheckTarget(purl.toString(), UUID.fromString(componentUuid)));
+                } catch (IllegalArgumentException e) {
+                    LOGGER.warn("Received integrity metadata for %s with invalid component UUID %s; Skipping integrity check"
+                            .formatted(purl, componentUuid));
+                }
+            }
+        }
+
+        if (metaComponentByCoordinates.isEmpty() && integrityMetaComponentByPurl.isEmpty()) {
             return;
         }
-        try (final var qm = new QueryManager()) {
-            synchronizeRepositoryMetadata(qm, record);
-            IntegrityMetaComponent integrityMetaComponent = synchronizeIntegrityMetadata(qm, record);
-            if (integrityMetaComponent != null) {
-                performIntegrityCheck(integrityMetaComponent, record.value(), qm);
-            }
-        } catch (Exception e) {
+
+        try {
+            useJdbiTransaction(handle -> {
+                synchronizeRepositoryMetadata(handle, metaComponentByCoordinates.values());
+                synchronizeIntegrityMetadata(handle, integrityMetaComponentByPurl.values());
+                performIntegrityChecks(handle, integrityCheckTargets);
+            });
+        } catch (RuntimeException e) {
             throw new ProcessingException(e);
         }
     }
 
-    private IntegrityMetaComponent synchronizeIntegrityMetadata(final QueryManager queryManager, final ConsumerRecord<String, AnalysisResult> record) throws MalformedPackageURLException {
-        final AnalysisResult result = record.value();
-        PackageURL purl = new PackageURL(result.getComponent().getPurl());
-        if (result.hasIntegrityMeta()) {
-            return synchronizeIntegrityMetaResult(record, queryManager, purl);
-        } else {
-            LOGGER.debug("Incoming result for component with purl %s  does not include component integrity info".formatted(purl));
-            return null;
+    private static void synchronizeRepositoryMetadata(final Handle jdbiHandle, final Collection<RepositoryMetaComponent> metaComponents) {
+        if (metaComponents.isEmpty()) {
+            return;
+        }
+
+        final int modified = jdbiHandle.attach(RepositoryMetaDao.class).upsertAll(metaComponents);
+        if (modified < metaComponents.size()) {
+            LOGGER.debug("""
+                    Discarded %d repository meta results that were older than \
+                    what's already in the database""".formatted(metaComponents.size() - modified));
         }
     }
 
-    private void synchronizeRepositoryMetadata(final QueryManager qm, final ConsumerRecord<String, AnalysisResult> record) throws Exception {
-        final PersistenceManager pm = qm.getPersistenceManager();
-        final AnalysisResult result = record.value();
-        final var purl = new PackageURL(result.getComponent().getPurl());
-
-        // It is possible that the same meta info is reported for multiple components in parallel,
-        // causing unique constraint violations when attempting to insert into the REPOSITORY_META_COMPONENT table.
-        // In such cases, we can get away with simply retrying to SELECT+UPDATE or INSERT again. We'll attempt
-        // up to 3 times before giving up.
-        qm.runInRetryableTransaction(() -> {
-            final RepositoryMetaComponent repositoryMetaComponentResult = createRepositoryMetaResult(record, pm, purl);
-            if (repositoryMetaComponentResult != null) {
-                pm.makePersistent(repositoryMetaComponentResult);
-            }
+    private static void synchronizeIntegrityMetadata(final Handle jdbiHandle, final Collection<IntegrityMetaComponent> integrityMetaComponents) {
+        if (integrityMetaComponents.isEmpty()) {
+            return;
+        }
 
-            return null;
-        }, PersistenceUtil::isUniqueConstraintViolation);
+        final int numComponents = integrityMetaComponents.size();
+        final var purls = new ArrayList<String>(numComponents);
+        final var md5s = new ArrayList<String>(numComponents);
+        final var sha1s = new ArrayList<String>(numComponents);
+        final var sha256s = new ArrayList<String>(numComponents);
+        final var sha512s = new ArrayList<String>(numComponents);
+        final var publishedAts = new ArrayList<Long>(numComponents);
+        final var repositoryUrls = new ArrayList<String>(numComponents);
+        final var statuses = new ArrayList<String>(numComponents);
+        for (final IntegrityMetaComponent integrityMetaComponent : integrityMetaComponents) {
+            purls.add(integrityMetaComponent.getPurl());
+            md5s.add(integrityMetaComponent.getMd5());
+            sha1s.add(integrityMetaComponent.getSha1());
+            sha256s.add(integrityMetaComponent.getSha256());
+            sha512s.add(integrityMetaComponent.getSha512());
+            publishedAts.add(integrityMetaComponent.getPublishedAt() != null
+                    ? integrityMetaComponent.getPublishedAt().getTime()
+                    : null);
+            repositoryUrls.add(integrityMetaComponent.getRepositoryUrl());
+            statuses.add(integrityMetaComponent.getStatus().name());
+        }
+
+        final int updated = jdbiHandle.attach(ComponentMetaDao.class).updateIntegrityMetaComponents(
+                purls, md5s, sha1s, sha256s, sha512s, publishedAts, repositoryUrls, statuses);
+        LOGGER.debug("Updated integrity metadata of %d/%d components".formatted(updated, numComponents));
     }
 
-    private RepositoryMetaComponent createRepositoryMetaResult(ConsumerRecord<String, AnalysisResult> incomingAnalysisResultRecord, PersistenceManager pm, PackageURL purl) {
-        final AnalysisResult result = incomingAnalysisResultRecord.value();
-        if (!result.hasLatestVersion()) {
-            return null;
+    private static void performIntegrityChecks(final Handle jdbiHandle, final Set<IntegrityCheckTarget> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        if (!Config.getInstance().getPropertyAsBoolean(ConfigKey.INTEGRITY_CHECK_ENABLED)) {
+            LOGGER.debug("Integrity check is disabled");
+            return;
         }
 
-        final Query<RepositoryMetaComponent> query = pm.newQuery(RepositoryMetaComponent.class);
-        query.setFilter("repositoryType == :repositoryType && namespace == :namespace && name == :name");
-        query.setParameters(
-                RepositoryType.resolve(purl),
-                purl.getNamespace(),
-                purl.getName()
-        );
+        final var purls = new ArrayList<String>(targets.size());
+        final var componentUuids = new ArrayList<UUID>(targets.size());
+        for (final IntegrityCheckTarget target : targets) {
+            purls.add(target.purl());
+            componentUuids.add(target.componentUuid());
+        }
 
-        RepositoryMetaComponent persistentRepoMetaComponent;
-        try {
-            persistentRepoMetaComponent = query.executeUnique();
-        } finally {
-            query.closeAll();
+        final var dao = jdbiHandle.attach(ComponentMetaDao.class);
+        final List<IntegrityCheckCandidateRecord> candidates = dao.getIntegrityCheckCandidates(purls, componentUuids);
+        if (candidates.isEmpty()) {
+            LOGGER.debug("No components with integrity metadata found; Skipping integrity check");
+            return;
         }
 
-        if (persistentRepoMetaComponent == null) {
-            persistentRepoMetaComponent = new RepositoryMetaComponent();
+        final var analysisByComponentId = new HashMap<Long, IntegrityAnalysis>(candidates.size());
+        for (final IntegrityCheckCandidateRecord candidate : candidates) {
+            final var component = new Component();
+            component.setMd5(candidate.componentMd5());
+            component.setSha1(candidate.componentSha1());
+            component.setSha256(candidate.componentSha256());
+            component.setSha512(candidate.componentSha512());
+
+            final var metadata = new IntegrityMetaComponent();
+            metadata.setMd5(candidate.metaMd5());
+            metadata.setSha1(candidate.metaSha1());
+            metadata.setSha256(candidate.metaSha256());
+            metadata.setSha512(candidate.metaSha512());
+
+            analysisByComponentId.put(candidate.componentId(), compareHashes(metadata, component));
         }
 
-        if (persistentRepoMetaComponent.getLastCheck() != null
-            && persistentRepoMetaComponent.getLastCheck().after(new Date(incomingAnalysisResultRecord.timestamp()))) {
-            LOGGER.warn("""
-                    Received repository meta information for %s that is older\s
-                    than what's already in the database; Discarding
-                    """.formatted(purl));
-            return null;
+        final int numAnalyses = analysisByComponentId.size();
+        final var componentIds = new ArrayList<Long>(numAnalyses);
+        final var integrityCheckStatuses = new ArrayList<String>(numAnalyses);
+        final var md5Statuses = new ArrayList<String>(numAnalyses);
+        final var sha1Statuses = new ArrayList<String>(numAnalyses);
+        final var sha256Statuses = new ArrayList<String>(numAnalyses);
+        final var sha512Statuses = new ArrayList<String>(numAnalyses);
+        for (final Map.Entry<Long, IntegrityAnalysis> entry : analysisByComponentId.entrySet()) {
+            componentIds.add(entry.getKey());
+            integrityCheckStatuses.add(entry.getValue().getIntegrityCheckStatus().name());
+            md5Statuses.add(entry.getValue().getMd5HashMatchStatus().name());
+            sha1Statuses.add(entry.getValue().getSha1HashMatchStatus().name());
+            sha256Statuses.add(entry.getValue().getSha256HashMatchStatus().name());
+            sha512Statuses.add(entry.getValue().getSha512HashMatchStatus().name());
         }
 
-        persistentRepoMetaComponent.setRepositoryType(RepositoryType.resolve(purl));
-        persistentRepoMetaComponent.setNamespace(purl.getNamespace());
-        persistentRepoMetaComponent.setName(purl.getName());
-        if (result.hasLatestVersion()) {
-            persistentRepoMetaComponent.setLatestVersion(result.getLatestVersion());
+        dao.upsertIntegrityAnalyses(componentIds, integrityCheckStatuses,
+                md5Statuses, sha1Statuses, sha256Statuses, sha512Statuses);
+        LOGGER.debug("Performed integrity check for %d components".formatted(numAnalyses));
+    }
+
+    private static RepositoryMetaComponent createRepositoryMetaComponent(final ConsumerRecord<String, AnalysisResult> record, final PackageURL purl) {
+        final AnalysisResult result = record.value();
+        if (!result.hasLatestVersion()) {
+            return null;
         }
+
+        final var metaComponent = new RepositoryMetaComponent();
+        metaComponent.setRepositoryType(RepositoryType.resolve(purl));
+        metaComponent.setNamespace(purl.getNamespace());
+        metaComponent.setName(purl.getName());
+        metaComponent.setLatestVersion(result.getLatestVersion());
         if (result.hasPublished()) {
-            persistentRepoMetaComponent.setPublished(new Date(result.getPublished().getSeconds() * 1000));
+            metaComponent.setPublished(new Date(result.getPublished().getSeconds() * 1000));
         }
-        persistentRepoMetaComponent.setLastCheck(new Date(incomingAnalysisResultRecord.timestamp()));
-        return persistentRepoMetaComponent;
+        metaComponent.setLastCheck(new Date(record.timestamp()));
+        return metaComponent;
     }
 
-    private IntegrityMetaComponent synchronizeIntegrityMetaResult(final ConsumerRecord<String, AnalysisResult> incomingAnalysisResultRecord, QueryManager queryManager, PackageURL purl) {
-        final AnalysisResult result = incomingAnalysisResultRecord.value();
-        IntegrityMetaComponent persistentIntegrityMetaComponent = queryManager.getIntegrityMetaComponent(purl.toString());
-        if (persistentIntegrityMetaComponent != null && persistentIntegrityMetaComponent.getStatus() != null && persistentIntegrityMetaComponent.getStatus().equals(FetchStatus.PROCESSED)) {
-            LOGGER.warn("""
-                    Received hash information for %s that has already been processed; Discarding
-                    """.formatted(purl));
-            return persistentIntegrityMetaComponent;
-        }
-        if (persistentIntegrityMetaComponent == null) {
-            persistentIntegrityMetaComponent = new IntegrityMetaComponent();
-        }
-
-        if (result.getIntegrityMeta().hasMd5() || result.getIntegrityMeta().hasSha1() || result.getIntegrityMeta().hasSha256()
-                || result.getIntegrityMeta().hasSha512() || result.getIntegrityMeta().hasCurrentVersionLastModified()) {
-            Optional.of(result.getIntegrityMeta().getMd5()).filter(StringUtils::isNotBlank).ifPresent(persistentIntegrityMetaComponent::setMd5);
-            Optional.of(result.getIntegrityMeta().getSha1()).filter(StringUtils::isNotBlank).ifPresent(persistentIntegrityMetaComponent::setSha1);
-            Optional.of(result.getIntegrityMeta().getSha256()).filter(StringUtils::isNotBlank).ifPresent(persistentIntegrityMetaComponent::setSha256);
-            Optional.of(result.getIntegrityMeta().getSha512()).filter(StringUtils::isNotBlank).ifPresent(persistentIntegrityMetaComponent::setSha512);
-            persistentIntegrityMetaComponent.setPurl(result.getComponent().getPurl());
-            persistentIntegrityMetaComponent.setRepositoryUrl(result.getIntegrityMeta().getMetaSourceUrl());
-            persistentIntegrityMetaComponent.setPublishedAt(result.getIntegrityMeta().hasCurrentVersionLastModified() ? new Date(result.getIntegrityMeta().getCurrentVersionLastModified().getSeconds() * 1000) : null);
-            persistentIntegrityMetaComponent.setStatus(FetchStatus.PROCESSED);
+    private static IntegrityMetaComponent createIntegrityMetaComponent(final AnalysisResult result, final PackageURL purl) {
+        final IntegrityMeta integrityMeta = result.getIntegrityMeta();
+
+        final var integrityMetaComponent = new IntegrityMetaComponent();
+        integrityMetaComponent.setPurl(purl.toString());
+        integrityMetaComponent.setRepositoryUrl(integrityMeta.getMetaSourceUrl());
+        if (integrityMeta.hasMd5() || integrityMeta.hasSha1() || integrityMeta.hasSha256()
+                || integrityMeta.hasSha512() || integrityMeta.hasCurrentVersionLastModified()) {
+            integrityMetaComponent.setMd5(StringUtils.trimToNull(integrityMeta.getMd5()));
+            integrityMetaComponent.setSha1(StringUtils.trimToNull(integrityMeta.getSha1()));
+            integrityMetaComponent.setSha256(StringUtils.trimToNull(integrityMeta.getSha256()));
+            integrityMetaComponent.setSha512(StringUtils.trimToNull(integrityMeta.getSha512()));
+            integrityMetaComponent.setPublishedAt(integrityMeta.hasCurrentVersionLastModified()
+                    ? new Date(integrityMeta.getCurrentVersionLastModified().getSeconds() * 1000)
+                    : null);
+            integrityMetaComponent.setStatus(FetchStatus.PROCESSED);
         } else {
-            persistentIntegrityMetaComponent.setMd5(null);
-            persistentIntegrityMetaComponent.setSha256(null);
-            persistentIntegrityMetaComponent.setSha1(null);
-            persistentIntegrityMetaComponent.setSha512(null);
-            persistentIntegrityMetaComponent.setPurl(purl.toString());
-            persistentIntegrityMetaComponent.setRepositoryUrl(result.getIntegrityMeta().getMetaSourceUrl());
-            persistentIntegrityMetaComponent.setStatus(FetchStatus.NOT_AVAILABLE);
-        }
-        return queryManager.updateIntegrityMetaComponent(persistentIntegrityMetaComponent);
+            integrityMetaComponent.setStatus(FetchStatus.NOT_AVAILABLE);
+        }
+        return integrityMetaComponent;
     }
 
-    private static boolean isRecordValid(final ConsumerRecord<String, AnalysisResult> record) {
+    private static PackageURL parsePurl(final ConsumerRecord<String, AnalysisResult> record) {
         final AnalysisResult result = record.value();
         if (!result.hasComponent()) {
             LOGGER.warn("""
                     Received repository meta information without component,\s
                     will not be able to correlate; Dropping
                     """);
-            return false;
+            return null;
         }
 
         try {
-            new PackageURL(result.getComponent().getPurl());
+            return new PackageURL(result.getComponent().getPurl());
         } catch (MalformedPackageURLException e) {
             LOGGER.warn("""
                     Received repository meta information with invalid PURL,\s
                     will not be able to correlate; Dropping
                     """, e);
-            return false;
+            return null;
         }
-        return true;
     }
 }
@@ -32,18 +32,24 @@ import org.cyclonedx.proto.v1_6.Bom;
 import org.cyclonedx.proto.v1_6.Component;
 import org.cyclonedx.proto.v1_6.VulnerabilityAffects;
 import org.dependencytrack.event.kafka.processor.api.Processor;
+import org.dependencytrack.metrics.Metrics;
+import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerableSoftware;
 import org.dependencytrack.parser.dependencytrack.ModelConverterCdxToVuln;
 import org.dependencytrack.parser.nvd.ModelConverter;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 import us.springett.parsers.cpe.exceptions.CpeEncodingException;
 import us.springett.parsers.cpe.exceptions.CpeParsingException;
 
+import javax.jdo.Query;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
 /**
  * A {@link Processor} that ingests vulnerability data from CycloneDX Bill of Vulnerabilities.
  */
@@ -63,6 +69,10 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
             Vulnerability.Source source = Vulnerability.Source.valueOf(mirrorSource);
             final Vulnerability vulnerability = ModelConverterCdxToVuln.convert(qm, bom, bom.getVulnerabilities(0), false);
             final List<VulnerableSoftware> vsListOld = qm.detach(qm.getVulnerableSoftwareByVulnId(vulnerability.getSource(), vulnerability.getVulnId()));
+            final boolean shouldRecordMetricsChanges = Metrics.isIncrementalUpdateEnabled();
+            final Severity previousSeverity = shouldRecordMetricsChanges
+                    ? getSeverity(qm, vulnerability.getSource(), vulnerability.getVulnId())
+                    : null;
             final Vulnerability synchronizedVulnerability = qm.synchronizeVulnerability(vulnerability, false);
             var cycloneVuln = bom.getVulnerabilities(0);
             // Alias synchronization across multiple sources is too unreliable right now.
@@ -128,6 +138,24 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
                 synchronizedVulnerability.setVulnerableSoftware(reconciledVsList);
             }
             qm.persist(synchronizedVulnerability);
+
+            if (shouldRecordMetricsChanges && previousSeverity != synchronizedVulnerability.getSeverity()) {
+                // The severity affects metrics of all components the vulnerability was reported for.
+                useJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                        .recordVulnerabilityMetricsChanges(synchronizedVulnerability.getId()));
+            }
+        }
+    }
+
+    private static Severity getSeverity(final QueryManager qm, final String source, final String vulnId) {
+        final Query<Vulnerability> query = qm.getPersistenceManager().newQuery(Vulnerability.class);
+        try {
+            query.setFilter("source == :source && vulnId == :vulnId");
+            query.setParameters(source, vulnId);
+            query.setResult("severity");
+            return query.executeResultUnique(Severity.class);
+        } finally {
+            query.closeAll();
         }
     }
 
@@ -33,12 +33,14 @@ import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.event.kafka.KafkaEventHeaders;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.event.kafka.KafkaUtil;
-import org.dependencytrack.event.kafka.processor.api.Processor;
+import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.AnalysisJustification;
 import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.model.VulnerabilityAnalysisLevel;
@@ -47,6 +49,7 @@ import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.dependencytrack.persistence.jdbi.NotificationSubjectDao;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyEvaluator;
@@ -76,6 +79,7 @@ import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.slf4j.MDC;
 
 import jakarta.ws.rs.core.MultivaluedHashMap;
+import javax.jdo.JDOHelper;
 import javax.jdo.Query;
 import javax.jdo.Transaction;
 import java.util.ArrayList;
@@ -83,6 +87,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -90,6 +95,7 @@ import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -121,9 +127,9 @@ import static org.dependencytrack.util.VulnerabilityUtil.isAuthoritativeSource;
 import static org.dependencytrack.util.VulnerabilityUtil.isMirroringEnabled;
 
 /**
- * A {@link Processor} responsible for processing {@link ScanResult}s.
+ * A {@link BatchProcessor} responsible for processing {@link ScanResult}s.
  */
-public class VulnerabilityScanResultProcessor implements Processor<ScanKey, ScanResult> {
+public class VulnerabilityScanResultProcessor implements BatchProcessor<ScanKey, ScanResult> {
 
     static String PROCESSOR_NAME = "vuln.scan.result";
 
@@ -132,6 +138,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
     private final ThreadLocal<List<KafkaEvent<?, ?>>> eventsToDispatch = ThreadLocal.withInitial(ArrayList::new);
     private final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
     private final VulnerabilityPolicyEvaluator vulnPolicyEvaluator;
+    private final boolean shouldRecordMetricsChanges;
 
     public VulnerabilityScanResultProcessor() {
         this(Config.getInstance().getPropertyAsBoolean(VULNERABILITY_POLICY_ANALYSIS_ENABLED)
@@ -141,20 +148,17 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
     VulnerabilityScanResultProcessor(final VulnerabilityPolicyEvaluator vulnPolicyEvaluator) {
         this.vulnPolicyEvaluator = vulnPolicyEvaluator;
+        this.shouldRecordMetricsChanges = Metrics.isIncrementalUpdateEnabled();
     }
 
     @Override
-    public void process(final ConsumerRecord<ScanKey, ScanResult> record) {
-        final ScanKey scanKey = record.key();
-        final ScanResult scanResult = record.value();
-        final VulnerabilityAnalysisLevel analysisLevel = determineAnalysisLevel(record);
-        final boolean isNewComponent = determineIsComponentNew(record);
-
-        try (var ignoredMdcComponentUuid = MDC.putCloseable(MDC_COMPONENT_UUID, scanKey.getComponentUuid());
-             var ignoredMdcScanToken = MDC.putCloseable(MDC_SCAN_TOKEN, scanKey.getScanToken())) {
-            maybeQueueResultProcessedEvent(scanKey, scanResult);
+    public void process(final List<ConsumerRecord<ScanKey, ScanResult>> records) {
+        try {
+            for (final ConsumerRecord<ScanKey, ScanResult> record : records) {
+                maybeQueueResultProcessedEvent(record.key(), record.value());
+            }
 
-            processInternal(scanKey, scanResult, analysisLevel, isNewComponent);
+            processInternal(records);
 
             // NB: Dispatching asynchronously here as blocking comes with a latency penalty
             // that is too high, given the frequency at which records are processed.
@@ -164,31 +168,131 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
         }
     }
 
-    private void processInternal(final ScanKey scanKey,
-                                 final ScanResult scanResult,
-                                 final VulnerabilityAnalysisLevel analysisLevel,
-                                 final boolean isNewComponent) {
+    private void processInternal(final List<ConsumerRecord<ScanKey, ScanResult>> records) {
+        // Group records by component, retaining the order in which they were received.
+        // The parallel consumer never processes multiple records with the same key concurrently,
+        // thus processing the records of each component in order preserves ordering guarantees.
+        final var recordsByComponentUuid = new LinkedHashMap<UUID, List<ConsumerRecord<ScanKey, ScanResult>>>();
+        for (final ConsumerRecord<ScanKey, ScanResult> record : records) {
+            final UUID componentUuid = UUID.fromString(record.key().getComponentUuid());
+            recordsByComponentUuid.computeIfAbsent(componentUuid, ignored -> new ArrayList<>()).add(record);
+        }
+
+        final Map<UUID, Component> componentByUuid = withJdbiHandle(handle -> handle.attach(Dao.class)
+                .getComponentsByUuids(recordsByComponentUuid.keySet())).stream()
+                .collect(Collectors.toMap(Component::uuid, Function.identity()));
+
         try (final var qm = new QueryManager()) {
             // Do not unload fields upon commit (why is this even the default WTF).
             qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
             qm.getPersistenceManager().setProperty(PROPERTY_PERSISTENCE_BY_REACHABILITY_AT_COMMIT, "false");
 
-            final Component component = withJdbiHandle(handle -> handle.attach(Dao.class).getComponentByUuid(UUID.fromString(scanKey.getComponentUuid())));
-            if (component == null) {
-                LOGGER.warn("Received result for component, but it does not exist");
-                return;
+            final Map<VulnIdAndSource, Vulnerability> existingVulns = fetchExistingVulnerabilities(qm, records);
+
+            for (final Map.Entry<UUID, List<ConsumerRecord<ScanKey, ScanResult>>> entry : recordsByComponentUuid.entrySet()) {
+                try (var ignoredMdcComponentUuid = MDC.putCloseable(MDC_COMPONENT_UUID, entry.getKey().toString())) {
+                    final Component component = componentByUuid.get(entry.getKey());
+                    if (component == null) {
+                        LOGGER.warn("Received result for component, but it does not exist");
+                        continue;
+                    }
+
+                    processComponentRecords(qm, component, entry.getValue(), existingVulns);
+                }
             }
+        }
+    }
+
+    private void processComponentRecords(final QueryManager qm, final Component component,
+                                         final List<ConsumerRecord<ScanKey, ScanResult>> records,
+                                         final Map<VulnIdAndSource, Vulnerability> existingVulns) {
+        final var syncedScannerResults = new ArrayList<SyncedScannerResult>();
+        for (final ConsumerRecord<ScanKey, ScanResult> record : records) {
+            final ScanKey scanKey = record.key();
+            final VulnerabilityAnalysisLevel analysisLevel = determineAnalysisLevel(record);
+            final boolean isNewComponent = determineIsComponentNew(record);
+
+            try (var ignoredMdcScanToken = MDC.putCloseable(MDC_SCAN_TOKEN, scanKey.getScanToken())) {
+                for (final ScannerResult scannerResult : record.value().getScannerResultsList()) {
+                    if (!isProcessable(component, scanKey, scannerResult)) {
+                        continue;
+                    }
+
+                    final Set<Vulnerability> syncedVulns = syncVulnerabilities(qm, component, scanKey, scannerResult, existingVulns);
+                    LOGGER.debug("Synchronized %d vulnerabilities reported by %s for %s (scanKey: %s)"
+                            .formatted(syncedVulns.size(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)));
+
+                    syncedScannerResults.add(new SyncedScannerResult(scanKey, scannerResult,
+                            analysisLevel, isNewComponent, syncedVulns));
+                }
+            }
+        }
+
+        if (syncedScannerResults.isEmpty()) {
+            return;
+        }
 
-            for (final ScannerResult scannerResult : scanResult.getScannerResultsList()) {
-                processScannerResult(qm, component, scanKey, scannerResult, analysisLevel, isNewComponent);
+        // Evaluate policies only once for all vulnerabilities reported for the component.
+        // Policy evaluation does not depend on the findings of the component, so the result
+        // is the same as if each scanner result was evaluated separately.
+        final var uniqueSyncedVulns = new HashMap<UUID, Vulnerability>();
+        for (final SyncedScannerResult syncedScannerResult : syncedScannerResults) {
+            for (final Vulnerability syncedVuln : syncedScannerResult.vulns()) {
+                uniqueSyncedVulns.putIfAbsent(syncedVuln.getUuid(), syncedVuln);
             }
         }
+
+        final Map<UUID, VulnerabilityPolicy> matchedPoliciesByVulnUuid = maybeEvaluateVulnPolicies(component, uniqueSyncedVulns.values());
+        LOGGER.debug("Identified policy matches for %d/%d vulnerabilities"
+                .formatted(matchedPoliciesByVulnUuid.size(), uniqueSyncedVulns.size()));
+
+        // Log the matched policies with operation mode LOG
+        final List<String> loggablePolicies = matchedPoliciesByVulnUuid.entrySet().stream()
+                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.LOG)
+                .map(policy -> policy.getValue().getName()).toList();
+        if (!loggablePolicies.isEmpty()) {
+            LOGGER.info("List of matched vulnerability policies with mode LOG : " + loggablePolicies);
+        }
+
+        final Map<UUID, VulnerabilityPolicy> actionablePolicies = matchedPoliciesByVulnUuid.entrySet().stream()
+                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.APPLY)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        // Findings, analyses, and notifications depend on the state left behind by earlier
+        // scanner results, so they must be processed in the order the results were received.
+        boolean hasSnykVulns = component.hasSnykVulns();
+        for (final SyncedScannerResult syncedScannerResult : syncedScannerResults) {
+            final ScanKey scanKey = syncedScannerResult.scanKey();
+            final ScannerResult scannerResult = syncedScannerResult.scannerResult();
+            final Set<Vulnerability> syncedVulns = syncedScannerResult.vulns();
+
+            try (var ignoredMdcScanToken = MDC.putCloseable(MDC_SCAN_TOKEN, scanKey.getScanToken())) {
+                if (scannerResult.getScanner() == SCANNER_SNYK && hasSnykVulns) {
+                    // Compare component's Snyk vulnerabilities and suppress those which are longer vulnerable by SNYK.
+                    compareAndSuppressVulnBySnyk(qm, component, scannerResult.getBom().getVulnerabilitiesList());
+                }
+
+                // Perform analysis for only actionable policies.
+                final Map<UUID, VulnerabilityPolicy> actionablePoliciesForResult = syncedVulns.stream()
+                        .map(Vulnerability::getUuid)
+                        .filter(actionablePolicies::containsKey)
+                        .collect(Collectors.toMap(Function.identity(), actionablePolicies::get));
+                final List<Vulnerability> newVulnUuids = synchronizeFindingsAndAnalyses(qm, component, syncedVulns,
+                        scannerResult.getScanner(), actionablePoliciesForResult);
+                LOGGER.debug("Identified %d new vulnerabilities for %s with %s (scanKey: %s)"
+                        .formatted(newVulnUuids.size(), scanKey.getComponentUuid(), scannerResult.getScanner(), prettyPrint(scanKey)));
+
+                maybeQueueNotifications(qm, component, syncedScannerResult.isNewComponent(),
+                        syncedScannerResult.analysisLevel(), newVulnUuids);
+            }
+
+            hasSnykVulns |= syncedVulns.stream()
+                    .map(Vulnerability::getSource)
+                    .anyMatch(Vulnerability.Source.SNYK.name()::equals);
+        }
     }
 
-    private void processScannerResult(final QueryManager qm, final Component component,
-                                      final ScanKey scanKey, final ScannerResult scannerResult,
-                                      final VulnerabilityAnalysisLevel analysisLevel,
-                                      final boolean isNewComponent) {
+    private boolean isProcessable(final Component component, final ScanKey scanKey, final ScannerResult scannerResult) {
         if (scannerResult.getStatus() == SCAN_STATUS_FAILED) {
             final var message = "Scan of component %s with %s failed (scanKey: %s): %s"
                     .formatted(component.uuid(), scannerResult.getScanner(), prettyPrint(scanKey), scannerResult.getFailureReason());
@@ -199,40 +303,54 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                     .title(NotificationConstants.Title.ANALYZER_ERROR)
                     .content(message));
             LOGGER.warn(message);
-            return;
+            return false;
         } else if (scannerResult.getStatus() != ScanStatus.SCAN_STATUS_SUCCESSFUL) {
             LOGGER.warn("Unable to process results from %s with status %s; Dropping record (scanKey: %s)"
                     .formatted(scannerResult.getScanner(), scannerResult.getStatus(), prettyPrint(scanKey)));
-            return;
+            return false;
         }
 
-        final Set<Vulnerability> syncedVulns = syncVulnerabilities(qm, component, scanKey, scannerResult);
-        LOGGER.debug("Synchronized %d vulnerabilities reported by %s for %s (scanKey: %s)"
-                .formatted(syncedVulns.size(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)));
-
-        final Map<UUID, VulnerabilityPolicy> matchedPoliciesByVulnUuid = maybeEvaluateVulnPolicies(component, syncedVulns);
-        LOGGER.debug("Identified policy matches for %d/%d vulnerabilities (scanKey: %s)"
-                .formatted(matchedPoliciesByVulnUuid.size(), syncedVulns.size(), prettyPrint(scanKey)));
+        return true;
+    }
 
-        // Log the matched policies with operation mode LOG
-        final List<String> loggablePolicies = matchedPoliciesByVulnUuid.entrySet().stream()
-                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.LOG)
-                .map(policy -> policy.getValue().getName()).toList();
-        if (!loggablePolicies.isEmpty()) {
-            LOGGER.info("List of matched vulnerability policies with mode LOG : " + loggablePolicies);
+    /**
+     * Fetch all existing {@link Vulnerability}s that were reported in a given batch of {@link ScanResult}s
+     * using a single query, instead of querying them one-by-one while synchronizing.
+     *
+     * @param qm      The {@link QueryManager} to use
+     * @param records The batch of {@link ConsumerRecord}s to fetch {@link Vulnerability}s for
+     * @return The existing {@link Vulnerability}s, indexed by their {@link VulnIdAndSource}
+     */
+    private static Map<VulnIdAndSource, Vulnerability> fetchExistingVulnerabilities(final QueryManager qm,
+                                                                                   final List<ConsumerRecord<ScanKey, ScanResult>> records) {
+        final Set<String> reportedVulnIds = records.stream()
+                .map(ConsumerRecord::value)
+                .flatMap(scanResult -> scanResult.getScannerResultsList().stream())
+                .filter(scannerResult -> scannerResult.getStatus() == ScanStatus.SCAN_STATUS_SUCCESSFUL)
+                .flatMap(scannerResult -> scannerResult.getBom().getVulnerabilitiesList().stream())
+                .filter(org.cyclonedx.proto.v1_6.Vulnerability::hasId)
+                .map(org.cyclonedx.proto.v1_6.Vulnerability::getId)
+                .collect(Collectors.toSet());
+        if (reportedVulnIds.isEmpty()) {
+            return new HashMap<>();
         }
 
-        final Map<UUID, VulnerabilityPolicy> actionablePolicies = matchedPoliciesByVulnUuid.entrySet().stream()
-                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.APPLY)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final List<Vulnerability> vulns;
+        final Query<Vulnerability> query = qm.getPersistenceManager().newQuery(Vulnerability.class);
+        try {
+            query.setFilter(":vulnIds.contains(vulnId)");
+            query.setParameters(reportedVulnIds);
+            vulns = List.copyOf(query.executeList());
+        } finally {
+            query.closeAll();
+        }
 
-        // Perform analysis for only actionable policies.
-        final List<Vulnerability> newVulnUuids = synchronizeFindingsAndAnalyses(qm, component, syncedVulns,
-                scannerResult.getScanner(), actionablePolicies);
-        LOGGER.debug("Identified %d new vulnerabilities for %s with %s (scanKey: %s)"
-                .formatted(newVulnUuids.size(), scanKey.getComponentUuid(), scannerResult.getScanner(), prettyPrint(scanKey)));
+        final var vulnByIdAndSource = new HashMap<VulnIdAndSource, Vulnerability>(vulns.size());
+        for (final Vulnerability vuln : vulns) {
+            vulnByIdAndSource.put(new VulnIdAndSource(vuln.getVulnId(), vuln.getSource()), vuln);
+        }
 
-        maybeQueueNotifications(qm, component, isNewComponent, analysisLevel, newVulnUuids);
+        return vulnByIdAndSource;
     }
 
     /**
@@ -241,16 +359,13 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
      * @param qm            The {@link QueryManager} to use
      * @param scanKey       The {@link ScanKey} associated with the {@link ScannerResult}
      * @param scannerResult The {@link ScannerResult} to synchronize vulnerabilities from
+     * @param existingVulns Existing {@link Vulnerability}s, as fetched for the entire batch
      * @return A {@link Set} of synchronized {@link Vulnerability}s
      */
-    private Set<Vulnerability> syncVulnerabilities(final QueryManager qm, final Component component, final ScanKey scanKey, final ScannerResult scannerResult) {
+    private Set<Vulnerability> syncVulnerabilities(final QueryManager qm, final Component component, final ScanKey scanKey,
+                                                   final ScannerResult scannerResult, final Map<VulnIdAndSource, Vulnerability> existingVulns) {
         final var syncedVulns = new HashSet<Vulnerability>();
 
-        if (scannerResult.getScanner() == SCANNER_SNYK && component.hasSnykVulns()) {
-            // Compare component's Snyk vulnerabilities and suppress those which are longer vulnerable by SNYK.
-            compareAndSuppressVulnBySnyk(qm, component, scannerResult.getBom().getVulnerabilitiesList());
-        }
-
         for (final org.cyclonedx.proto.v1_6.Vulnerability reportedVuln : scannerResult.getBom().getVulnerabilitiesList()) {
             final Vulnerability vuln;
             try {
@@ -262,7 +377,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
             }
 
             try {
-                final Vulnerability syncedVuln = syncVulnerability(qm, vuln, scannerResult.getScanner());
+                final Vulnerability syncedVuln = syncVulnerability(qm, vuln, scannerResult.getScanner(), existingVulns);
 
                 // Detach vulnerabilities from JDO persistence context.
                 // We do not want to trigger any DB interactions by accessing their fields later.
@@ -272,12 +387,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 qm.getPersistenceManager().makeTransient(syncedVuln);
 
                 if (vuln.getAliases() != null && !vuln.getAliases().isEmpty()) {
-                    final var syncedAliases = new ArrayList<VulnerabilityAlias>();
-                    for (VulnerabilityAlias alias : vuln.getAliases()) {
-                        final VulnerabilityAlias syncedAlias = qm.synchronizeVulnerabilityAlias(alias);
-                        qm.getPersistenceManager().makeTransient(syncedAlias);
-                        syncedAliases.add(syncedAlias);
-                    }
+                    final List<VulnerabilityAlias> syncedAliases = qm.synchronizeVulnerabilityAliases(vuln.getAliases());
                     syncedVuln.setAliases(syncedAliases);
                 }
 
@@ -331,27 +441,48 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
      * an active {@link Transaction}, and only calls setters of existing vulnerabilities when the respective
      * value actually changed, saving network round-trips.
      *
-     * @param qm      The {@link QueryManager} to use
-     * @param vuln    The {@link Vulnerability} to synchronize
-     * @param scanner The {@link AnalyzerIdentity} that reported the vulnerability
+     * @param qm            The {@link QueryManager} to use
+     * @param vuln          The {@link Vulnerability} to synchronize
+     * @param scanner       The {@link AnalyzerIdentity} that reported the vulnerability
+     * @param existingVulns Existing {@link Vulnerability}s, as fetched for the entire batch
      * @return The synchronized {@link Vulnerability}
      * @throws IllegalStateException  When no {@link Transaction} is active
      * @throws NoSuchElementException When the reported vulnerability is internal, but does not exist in the datastore
      */
-    private Vulnerability syncVulnerability(final QueryManager qm, final Vulnerability vuln, final Scanner scanner) {
+    private Vulnerability syncVulnerability(final QueryManager qm, final Vulnerability vuln, final Scanner scanner,
+                                            final Map<VulnIdAndSource, Vulnerability> existingVulns) {
+        final VulnIdAndSource vulnIdAndSource = vuln.getSource() != null
+                ? new VulnIdAndSource(vuln.getVulnId(), vuln.getSource())
+                : null;
+        final Vulnerability prefetchedVuln = vulnIdAndSource != null
+                ? existingVulns.get(vulnIdAndSource)
+                : null;
+        if (prefetchedVuln != null && !canUpdateVulnerability(prefetchedVuln, scanner)) {
+            // Nothing to update; The vulnerability fetched for the batch can be used as-is.
+            return prefetchedVuln;
+        }
+
+        final var severityChanged = new AtomicBoolean(false);
+
         // TODO: Refactor this to use JDBI instead.
         // It is possible that the same vulnerability is reported for multiple components in parallel,
         // causing unique constraint violations when attempting to INSERT into the VULNERABILITY table.
         // In such cases, we can get away with simply retrying to SELECT or INSERT again.
-        return qm.runInRetryableTransaction(() -> {
+        final Vulnerability syncedVuln = qm.runInRetryableTransaction(() -> {
             final Vulnerability existingVuln;
-            final Query<Vulnerability> query = qm.getPersistenceManager().newQuery(Vulnerability.class);
-            try {
-                query.setFilter("vulnId == :vulnId && source == :source");
-                query.setParameters(vuln.getVulnId(), vuln.getSource());
-                existingVuln = query.executeUnique();
-            } finally {
-                query.closeAll();
+            if (prefetchedVuln != null && JDOHelper.isPersistent(prefetchedVuln)) {
+                existingVuln = prefetchedVuln;
+            } else {
+                // The vulnerability was either not fetched for the batch, or it was already made
+                // transient after being synchronized for a previous component of the batch.
+                final Query<Vulnerability> query = qm.getPersistenceManager().newQuery(Vulnerability.class);
+                try {
+                    query.setFilter("vulnId == :vulnId && source == :source");
+                    query.setParameters(vuln.getVulnId(), vuln.getSource());
+                    existingVuln = query.executeUnique();
+                } finally {
+                    query.closeAll();
+                }
             }
 
             if (existingVuln == null) {
@@ -377,7 +508,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 differ.applyIfChanged("published", Vulnerability::getPublished, existingVuln::setPublished);
                 differ.applyIfChanged("updated", Vulnerability::getUpdated, existingVuln::setUpdated);
                 differ.applyIfChanged("cwes", Vulnerability::getCwes, existingVuln::setCwes);
-                differ.applyIfChanged("severity", Vulnerability::getSeverity, existingVuln::setSeverity);
+                severityChanged.set(differ.applyIfChanged("severity", Vulnerability::getSeverity, existingVuln::setSeverity));
                 differ.applyIfChanged("cvssV2BaseScore", Vulnerability::getCvssV2BaseScore, existingVuln::setCvssV2BaseScore);
                 differ.applyIfChanged("cvssV2ImpactSubScore", Vulnerability::getCvssV2ImpactSubScore, existingVuln::setCvssV2ImpactSubScore);
                 differ.applyIfChanged("cvssV2ExploitabilitySubScore", Vulnerability::getCvssV2ExploitabilitySubScore, existingVuln::setCvssV2ExploitabilitySubScore);
@@ -406,6 +537,18 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
             return existingVuln;
         }, PersistenceUtil::isUniqueConstraintViolation);
+
+        if (vulnIdAndSource != null) {
+            existingVulns.put(vulnIdAndSource, syncedVuln);
+        }
+
+        if (shouldRecordMetricsChanges && severityChanged.get()) {
+            // The severity affects metrics of all components the vulnerability was reported for,
+            // not only those of the component that was just scanned.
+            useJdbiHandle(handle -> handle.attach(MetricsDao.class).recordVulnerabilityMetricsChanges(syncedVuln.getId()));
+        }
+
+        return syncedVuln;
     }
 
     private Map<UUID, VulnerabilityPolicy> maybeEvaluateVulnPolicies(final Component component, final Collection<Vulnerability> vulns) {
@@ -455,6 +598,10 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                     .toList();
             dao.createFindingAttributions(findingAttributions);
 
+            if (shouldRecordMetricsChanges && !vulns.isEmpty()) {
+                handle.attach(MetricsDao.class).recordComponentMetricsChanges(List.of(component.id()));
+            }
+
             return maybeApplyPolicyAnalyses(qm, dao, component, vulns, newFindingVulnIds, policiesByVulnUuid);
         });
     }
@@ -847,10 +994,10 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 INNER JOIN
                   "PROJECT" AS "P" ON "P"."ID" = "C"."PROJECT_ID"
                 WHERE
-                  "C"."UUID" = :uuid
+                  "C"."UUID" = ANY(:uuids)
                 """)
         @RegisterConstructorMapper(Component.class)
-        Component getComponentByUuid(final UUID uuid);
+        List<Component> getComponentsByUuids(@Bind final Collection<UUID> uuids);
 
         @SqlBatch("""
                 INSERT INTO "COMPONENTS_VULNERABILITIES"
@@ -1305,6 +1452,10 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
     }
 
+    private record SyncedScannerResult(ScanKey scanKey, ScannerResult scannerResult, VulnerabilityAnalysisLevel analysisLevel,
+                                       boolean isNewComponent, Set<Vulnerability> vulns) {
+    }
+
     public record Component(long id, UUID uuid, long projectId, UUID projectUuid, boolean hasSnykVulns) {
     }
 
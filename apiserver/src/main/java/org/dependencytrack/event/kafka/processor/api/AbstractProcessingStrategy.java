@@ -46,10 +46,12 @@ abstract class AbstractProcessingStrategy<K, V> implements ProcessingStrategy {
 
     private final Serde<K> keySerde;
     private final Serde<V> valueSerde;
+    final ProcessorMetrics metrics;
 
-    AbstractProcessingStrategy(final Serde<K> keySerde, final Serde<V> valueSerde) {
+    AbstractProcessingStrategy(final Serde<K> keySerde, final Serde<V> valueSerde, final ProcessorMetrics metrics) {
         this.keySerde = keySerde;
         this.valueSerde = valueSerde;
+        this.metrics = metrics;
     }
 
     /**
@@ -0,0 +1,215 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import io.confluent.parallelconsumer.PCRetriableException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the effective concurrency and batch size with which a processor's records are processed.
+ * <p>
+ * The parallel consumer is configured with the configured maximum concurrency and batch size,
+ * which act as ceilings. When adaptive concurrency is enabled, the limits are periodically
+ * adjusted via {@link #adjust(boolean, long)}, following an additive-increase / multiplicative-decrease
+ * scheme: Limits are decreased when processing latency exceeds the target, or when the database
+ * connection pool is saturated, and increased again while there is consumer lag to work off.
+ * <p>
+ * Independent of adaptive concurrency, processing of every (sub-)batch requires a permit from
+ * the global database concurrency budget, if one is configured. The budget is shared across processors.
+ *
+ * @since 5.6.0
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    record Options(
+            boolean adaptive,
+            int minConcurrency,
+            int maxConcurrency,
+            int minBatchSize,
+            int maxBatchSize,
+            Duration targetLatency
+    ) {
+
+        Options {
+            if (minConcurrency < 1 || minConcurrency > maxConcurrency) {
+                throw new IllegalArgumentException("minConcurrency must be between 1 and %d, but is %d"
+                        .formatted(maxConcurrency, minConcurrency));
+            }
+            if (minBatchSize < 1 || minBatchSize > maxBatchSize) {
+                throw new IllegalArgumentException("minBatchSize must be between 1 and %d, but is %d"
+                        .formatted(maxBatchSize, minBatchSize));
+            }
+        }
+
+    }
+
+    private final String processorName;
+    private final Options options;
+    private final Semaphore globalBudget;
+    private final ResizableSemaphore permits;
+    private final LongAdder windowBatches = new LongAdder();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private volatile int concurrencyLimit;
+    private volatile int batchSizeLimit;
+
+    /**
+     * @param processorName Name of the processor
+     * @param options       The {@link Options} to use
+     * @param globalBudget  {@link Semaphore} representing the global database concurrency budget,
+     *                      or {@code null} when no budget is configured
+     */
+    AdaptiveConcurrencyLimiter(final String processorName, final Options options, final Semaphore globalBudget) {
+        this.processorName = processorName;
+        this.options = options;
+        this.globalBudget = globalBudget;
+        this.permits = new ResizableSemaphore(options.maxConcurrency());
+        this.concurrencyLimit = options.maxConcurrency();
+        this.batchSizeLimit = options.maxBatchSize();
+    }
+
+    /**
+     * Process a given {@link List} of records, honoring the current limits.
+     * <p>
+     * Records exceeding the current batch size limit are processed in multiple, consecutive sub-batches.
+     *
+     * @param records            The records to process
+     * @param processingStrategy The {@link ProcessingStrategy} to process the records with
+     */
+    void processRecords(final List<ConsumerRecord<byte[], byte[]>> records, final ProcessingStrategy processingStrategy) {
+        acquire(permits);
+        try {
+            final int batchSize = batchSizeLimit;
+            for (int i = 0; i < records.size(); i += batchSize) {
+                final List<ConsumerRecord<byte[], byte[]>> batch = records.subList(i, Math.min(records.size(), i + batchSize));
+
+                if (globalBudget != null) {
+                    acquire(globalBudget);
+                }
+
+                final long startTimeNanos = System.nanoTime();
+                try {
+                    processingStrategy.processRecords(batch);
+                } finally {
+                    windowLatencyNanos.add(System.nanoTime() - startTimeNanos);
+                    windowBatches.increment();
+
+                    if (globalBudget != null) {
+                        globalBudget.release();
+                    }
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Adjust the limits based on the latency observed since the last adjustment, and the given signals.
+     *
+     * @param isDbPoolSaturated Whether threads are waiting for database connections
+     * @param consumerLag       The maximum consumer lag in records, or {@code -1} when unknown
+     */
+    synchronized void adjust(final boolean isDbPoolSaturated, final long consumerLag) {
+        final long batches = windowBatches.sumThenReset();
+        final long latencyNanos = windowLatencyNanos.sumThenReset();
+        if (!options.adaptive()) {
+            return;
+        }
+
+        final boolean isLatencyExceeded = batches > 0
+                && (latencyNanos / batches) > options.targetLatency().toNanos();
+        final boolean isLatencyWellBelowTarget = batches > 0
+                && (latencyNanos / batches) < (options.targetLatency().toNanos() / 2);
+
+        if (isLatencyExceeded && batchSizeLimit > options.minBatchSize()) {
+            // Large batches are the most likely cause of slow processing,
+            // so try to reduce them before sacrificing concurrency.
+            batchSizeLimit = Math.max(options.minBatchSize(), batchSizeLimit / 2);
+        } else if (isLatencyExceeded || isDbPoolSaturated) {
+            setConcurrencyLimit(Math.max(options.minConcurrency(), concurrencyLimit / 2));
+        } else if (consumerLag != 0) {
+            setConcurrencyLimit(Math.min(options.maxConcurrency(), concurrencyLimit + 1));
+            if (isLatencyWellBelowTarget) {
+                batchSizeLimit = Math.min(options.maxBatchSize(), batchSizeLimit * 2);
+            }
+        }
+
+        LOGGER.debug("""
+                Adjusted limits of processor %s to concurrency=%d, batchSize=%d \
+                (batches=%d, latencyNanos=%d, dbPoolSaturated=%s, consumerLag=%d)\
+                """.formatted(processorName, concurrencyLimit, batchSizeLimit,
+                batches, latencyNanos, isDbPoolSaturated, consumerLag));
+    }
+
+    boolean isAdaptive() {
+        return options.adaptive();
+    }
+
+    int concurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    int batchSizeLimit() {
+        return batchSizeLimit;
+    }
+
+    private void setConcurrencyLimit(final int newLimit) {
+        final int delta = newLimit - concurrencyLimit;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            // Permits held by in-flight batches are not revoked.
+            // The new limit takes effect as they are released.
+            permits.reducePermits(-delta);
+        }
+
+        concurrencyLimit = newLimit;
+    }
+
+    private void acquire(final Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PCRetriableException(e);
+        }
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+
+        private ResizableSemaphore(final int permits) {
+            super(permits, /* fair */ true);
+        }
+
+        @Override
+        protected void reducePermits(final int reduction) {
+            super.reducePermits(reduction);
+        }
+
+    }
+
+}
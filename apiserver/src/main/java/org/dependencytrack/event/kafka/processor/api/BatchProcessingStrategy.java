@@ -43,8 +43,9 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
     private final BatchProcessor<K, V> batchProcessor;
 
     BatchProcessingStrategy(final BatchProcessor<K, V> batchProcessor,
-                            final Serde<K> keySerde, final Serde<V> valueSerde) {
-        super(keySerde, valueSerde);
+                            final Serde<K> keySerde, final Serde<V> valueSerde,
+                            final ProcessorMetrics metrics) {
+        super(keySerde, valueSerde, metrics);
         this.batchProcessor = batchProcessor;
     }
 
@@ -53,7 +54,10 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
      */
     @Override
     public void processRecords(final List<ConsumerRecord<byte[], byte[]>> records) {
+        metrics.recordBatchSize(records.size());
+
         final var deserializedRecords = new ArrayList<ConsumerRecord<K, V>>(records.size());
+        final long deserializationStartNanos = metrics.startTimer();
         for (final ConsumerRecord<byte[], byte[]> record : records) {
             try (var ignoredMdcKafkaRecordTopic = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_TOPIC, record.topic());
                  var ignoredMdcKafkaRecordPartition = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_PARTITION, String.valueOf(record.partition()));
@@ -62,25 +66,33 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
             } catch (SerializationException e) {
                 // TODO: Consider supporting error handlers, e.g. to send record to DLT.
                 LOGGER.error("Failed to deserialize record; Skipping", e);
+                metrics.recordSkipped(ProcessorMetrics.SkipReason.DESERIALIZATION_FAILURE, 1);
             }
         }
+        metrics.recordDeserialization(deserializationStartNanos);
 
         if (deserializedRecords.isEmpty()) {
             LOGGER.warn("All of the %d records in this batch failed to be deserialized".formatted(records.size()));
             return;
         }
 
+        final long processingStartNanos = metrics.startTimer();
         try {
             batchProcessor.process(deserializedRecords);
+            metrics.recordProcessed(deserializedRecords.size());
         } catch (ProcessingException | RuntimeException e) {
             if (isRetryableException(e)) {
                 LOGGER.warn("Encountered retryable exception while processing %d records".formatted(deserializedRecords.size()), e);
+                metrics.recordRetry();
                 throw new PCRetriableException(e);
             }
 
             LOGGER.error("Encountered non-retryable exception while processing %d records; Skipping".formatted(deserializedRecords.size()), e);
+            metrics.recordSkipped(ProcessorMetrics.SkipReason.PROCESSING_FAILURE, deserializedRecords.size());
             // TODO: Consider supporting error handlers, e.g. to send records to DLT.
             // Skip records to avoid poison-pill scenario.
+        } finally {
+            metrics.recordProcessing(processingStartNanos);
         }
     }
 
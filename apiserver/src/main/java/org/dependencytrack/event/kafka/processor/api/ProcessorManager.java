@@ -26,16 +26,25 @@ import io.confluent.parallelconsumer.ParallelConsumerOptions.ProcessingOrder;
 import io.confluent.parallelconsumer.ParallelEoSStreamProcessor;
 import io.confluent.parallelconsumer.ParallelStreamProcessor;
 import io.github.resilience4j.core.IntervalFunction;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeTopicsOptions;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.kafka.KafkaTopics.Topic;
@@ -43,14 +52,20 @@ import org.dependencytrack.util.ConfigUtil;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -66,10 +81,18 @@ import static org.apache.kafka.common.config.SslConfigs.SSL_KEYSTORE_PASSWORD_CO
 import static org.apache.kafka.common.config.SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG;
 import static org.apache.kafka.common.config.SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG;
 import static org.dependencytrack.common.ConfigKey.KAFKA_BOOTSTRAP_SERVERS;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_CONCURRENCY_ENABLED;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_CONCURRENCY_ENABLED_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_TARGET_LATENCY_MS;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_TARGET_LATENCY_MS_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_BATCH_SIZE;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_BATCH_SIZE_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_CONCURRENCY;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_CONCURRENCY_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MIN_BATCH_SIZE;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MIN_BATCH_SIZE_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MIN_CONCURRENCY;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MIN_CONCURRENCY_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_PROCESSING_ORDER;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_PROCESSING_ORDER_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_INITIAL_DELAY_MS;
@@ -91,11 +114,18 @@ public class ProcessorManager implements AutoCloseable {
     private final Map<String, ManagedProcessor> managedProcessors = new LinkedHashMap<>();
     private final UUID instanceId;
     private final Config config;
+    private final Semaphore dbConcurrencyBudget;
     private AdminClient adminClient;
+    private ScheduledExecutorService concurrencyAdjustmentExecutor;
 
     public ProcessorManager() {
         this.instanceId = UUID.randomUUID();
         this.config = Config.getInstance();
+
+        final int dbConcurrencyBudgetPermits = config.getPropertyAsInt(ConfigKey.KAFKA_PROCESSOR_DB_CONCURRENCY_BUDGET);
+        this.dbConcurrencyBudget = dbConcurrencyBudgetPermits > 0
+                ? new Semaphore(dbConcurrencyBudgetPermits, /* fair */ true)
+                : null;
     }
 
     /**
@@ -109,9 +139,9 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerProcessor(final String name, final Topic<K, V> topic, final Processor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, false);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        final var metrics = new ProcessorMetrics(name, Metrics.getRegistry());
+        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), metrics);
+        managedProcessors.put(name, createManagedProcessor(name, topic, processingStrategy, metrics, false));
     }
 
     /**
@@ -125,9 +155,9 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerBatchProcessor(final String name, final Topic<K, V> topic, final BatchProcessor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, true);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        final var metrics = new ProcessorMetrics(name, Metrics.getRegistry());
+        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), metrics);
+        managedProcessors.put(name, createManagedProcessor(name, topic, processingStrategy, metrics, true));
     }
 
     @SuppressWarnings("resource")
@@ -143,9 +173,20 @@ public class ProcessorManager implements AutoCloseable {
             managedProcessor.parallelConsumer().poll(pollCtx -> {
                 // NB: Unless batching is enabled, the below list only ever contains a single record.
                 final List<ConsumerRecord<byte[], byte[]>> polledRecords = pollCtx.getConsumerRecordsFlattened();
-                managedProcessor.processingStrategy().processRecords(polledRecords);
+                managedProcessor.concurrencyLimiter().processRecords(polledRecords, managedProcessor.processingStrategy());
             });
         }
+
+        if (managedProcessors.values().stream().anyMatch(processor -> processor.concurrencyLimiter().isAdaptive())) {
+            final Duration adjustmentInterval = Duration.parse(
+                    config.getProperty(ConfigKey.KAFKA_PROCESSOR_ADAPTIVE_CONCURRENCY_INTERVAL_DURATION));
+            LOGGER.info("Adjusting concurrency of adaptive processors every %s".formatted(adjustmentInterval));
+
+            concurrencyAdjustmentExecutor = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("ProcessorManager-ConcurrencyAdjuster").daemon(true).factory());
+            concurrencyAdjustmentExecutor.scheduleWithFixedDelay(this::adjustConcurrencyLimits,
+                    adjustmentInterval.toMillis(), adjustmentInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
     }
 
     public HealthCheckResponse probeHealth() {
@@ -160,11 +201,9 @@ public class ProcessorManager implements AutoCloseable {
             responseBuilder.withData(processorName, isProcessorUp
                     ? HealthCheckResponse.Status.UP.name()
                     : HealthCheckResponse.Status.DOWN.name());
-            if (isProcessorUp
-                    && parallelConsumer instanceof final ParallelEoSStreamProcessor<?, ?> concreteParallelConsumer
-                    && concreteParallelConsumer.getFailureCause() != null) {
-                responseBuilder.withData("%s_failure_reason".formatted(processorName),
-                        concreteParallelConsumer.getFailureCause().getMessage());
+            final String failureReason = getFailureReason(parallelConsumer);
+            if (isProcessorUp && failureReason != null) {
+                responseBuilder.withData("%s_failure_reason".formatted(processorName), failureReason);
             }
 
             isUp &= isProcessorUp;
@@ -173,9 +212,52 @@ public class ProcessorManager implements AutoCloseable {
         return responseBuilder.status(isUp).build();
     }
 
+    /**
+     * Summarize the state of all registered processors.
+     * <p>
+     * Partition lags are determined by querying the Kafka cluster for end offsets of the subscribed
+     * topics, and committed offsets of the processors' consumer groups.
+     *
+     * @return A {@link List} of {@link ProcessorStatus}es, in order of processor registration
+     */
+    public List<ProcessorStatus> getProcessorStatuses() {
+        final var statuses = new ArrayList<ProcessorStatus>(managedProcessors.size());
+        for (final Map.Entry<String, ManagedProcessor> entry : managedProcessors.entrySet()) {
+            final String processorName = entry.getKey();
+            final ManagedProcessor managedProcessor = entry.getValue();
+            final ProcessorMetrics metrics = managedProcessor.metrics();
+            final AdaptiveConcurrencyLimiter concurrencyLimiter = managedProcessor.concurrencyLimiter();
+
+            statuses.add(new ProcessorStatus(
+                    processorName,
+                    managedProcessor.topic(),
+                    managedProcessor.consumerGroupId(),
+                    !managedProcessor.parallelConsumer().isClosedOrFailed(),
+                    getFailureReason(managedProcessor.parallelConsumer()),
+                    concurrencyLimiter.isAdaptive(),
+                    concurrencyLimiter.concurrencyLimit(),
+                    concurrencyLimiter.batchSizeLimit(),
+                    metrics.processedRecords(),
+                    metrics.skippedRecords(),
+                    metrics.retries(),
+                    metrics.recordsPerSecond(),
+                    metrics.meanBatchSize(),
+                    metrics.meanDeserializationTimeMs(),
+                    metrics.meanProcessingTimeMs(),
+                    getPartitionLags(managedProcessor.topic(), managedProcessor.consumerGroupId())));
+        }
+
+        return statuses;
+    }
+
     @Override
     @SuppressWarnings("resource")
     public void close() {
+        if (concurrencyAdjustmentExecutor != null) {
+            LOGGER.debug("Stopping concurrency adjustment");
+            concurrencyAdjustmentExecutor.shutdownNow();
+        }
+
         if (adminClient != null) {
             LOGGER.debug("Closing admin client");
             adminClient.close();
@@ -219,6 +301,47 @@ public class ProcessorManager implements AutoCloseable {
         }
     }
 
+    private Map<Integer, Long> getPartitionLags(final String topicName, final String consumerGroupId) {
+        try {
+            final Map<TopicPartition, OffsetAndMetadata> committedOffsets = adminClient()
+                    .listConsumerGroupOffsets(consumerGroupId, new ListConsumerGroupOffsetsOptions().timeoutMs(3_000))
+                    .partitionsToOffsetAndMetadata()
+                    .get();
+
+            final var offsetSpecs = new HashMap<TopicPartition, OffsetSpec>();
+            for (int partition = 0; partition < getTopicPartitionCount(topicName); partition++) {
+                offsetSpecs.put(new TopicPartition(topicName, partition), OffsetSpec.latest());
+            }
+            final Map<TopicPartition, ListOffsetsResultInfo> endOffsets = adminClient()
+                    .listOffsets(offsetSpecs, new ListOffsetsOptions().timeoutMs(3_000))
+                    .all()
+                    .get();
+
+            final var lags = new TreeMap<Integer, Long>();
+            for (final Map.Entry<TopicPartition, ListOffsetsResultInfo> entry : endOffsets.entrySet()) {
+                final OffsetAndMetadata committedOffset = committedOffsets.get(entry.getKey());
+                final long endOffset = entry.getValue().offset();
+
+                // Without committed offset, all records in the partition are yet to be consumed.
+                // This is not entirely accurate for topics with retention, but good enough for a summary.
+                lags.put(entry.getKey().partition(), committedOffset != null
+                        ? Math.max(0, endOffset - committedOffset.offset())
+                        : endOffset);
+            }
+
+            return lags;
+        } catch (ExecutionException | RuntimeException e) {
+            LOGGER.warn("Failed to determine lag of consumer group %s on topic %s"
+                    .formatted(consumerGroupId, topicName), e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while determining lag of consumer group %s on topic %s"
+                    .formatted(consumerGroupId, topicName));
+            return null;
+        }
+    }
+
     private int getTopicPartitionCount(final String topicName) {
         LOGGER.debug("Determining partition count of topic %s".formatted(topicName));
         final DescribeTopicsResult topicsResult = adminClient().describeTopics(List.of(topicName), new DescribeTopicsOptions().timeoutMs(3_000));
@@ -237,9 +360,65 @@ public class ProcessorManager implements AutoCloseable {
         }
     }
 
-    private ParallelStreamProcessor<byte[], byte[]> createParallelConsumer(final String processorName, final Topic<?, ?> topic, final boolean isBatch) {
+    private void adjustConcurrencyLimits() {
+        try {
+            final boolean isDbPoolSaturated = isDbPoolSaturated();
+            for (final ManagedProcessor managedProcessor : managedProcessors.values()) {
+                if (managedProcessor.concurrencyLimiter().isAdaptive()) {
+                    managedProcessor.concurrencyLimiter().adjust(isDbPoolSaturated, getConsumerLag(managedProcessor.consumer()));
+                }
+            }
+        } catch (RuntimeException e) {
+            // Exceptions would cause the scheduled executor to cease further executions.
+            LOGGER.warn("Failed to adjust concurrency limits of processors", e);
+        }
+    }
+
+    /**
+     * Determine whether any threads are waiting to acquire a database connection.
+     * <p>
+     * Relies on the connection pool metrics being published, which requires metrics to be enabled.
+     * If they are not, the database connection pool is never considered to be saturated.
+     */
+    private boolean isDbPoolSaturated() {
+        if (!config.getPropertyAsBoolean(Config.AlpineKey.METRICS_ENABLED)) {
+            return false;
+        }
+
+        return Metrics.getRegistry().find("hikaricp.connections.pending").gauges().stream()
+                .anyMatch(gauge -> gauge.value() > 0);
+    }
+
+    /**
+     * Determine the maximum lag, in number of records, across all partitions assigned to a given {@link Consumer}.
+     *
+     * @return The maximum lag, or {@code -1} when it can not (yet) be determined
+     */
+    private static long getConsumerLag(final Consumer<byte[], byte[]> consumer) {
+        for (final Map.Entry<MetricName, ? extends Metric> entry : consumer.metrics().entrySet()) {
+            final MetricName metricName = entry.getKey();
+            if ("records-lag-max".equals(metricName.name())
+                    && "consumer-fetch-manager-metrics".equals(metricName.group())
+                    && !metricName.tags().containsKey("topic")
+                    && entry.getValue().metricValue() instanceof final Double lag
+                    && !lag.isNaN()) {
+                return lag.longValue();
+            }
+        }
+
+        return -1;
+    }
+
+    private ManagedProcessor createManagedProcessor(
+            final String processorName,
+            final Topic<?, ?> topic,
+            final ProcessingStrategy processingStrategy,
+            final ProcessorMetrics metrics,
+            final boolean isBatch) {
+        final Map<String, Object> consumerConfig = createConsumerConfig(processorName);
+        final Consumer<byte[], byte[]> consumer = createConsumer(processorName, consumerConfig);
         final var optionsBuilder = ParallelConsumerOptions.<byte[], byte[]>builder()
-                .consumer(createConsumer(processorName))
+                .consumer(consumer)
                 .ignoreReflectiveAccessExceptionsForAutoCommitDisabledCheck(true);
 
         final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
@@ -250,20 +429,22 @@ public class ProcessorManager implements AutoCloseable {
                 .orElse(PROPERTY_PROCESSING_ORDER_DEFAULT);
         optionsBuilder.ordering(processingOrder);
 
-        final int maxConcurrency = Optional.ofNullable(properties.get(PROPERTY_MAX_CONCURRENCY))
+        final int configuredMaxConcurrency = Optional.ofNullable(properties.get(PROPERTY_MAX_CONCURRENCY))
                 .map(Integer::parseInt)
                 .orElse(PROPERTY_MAX_CONCURRENCY_DEFAULT);
-        if (maxConcurrency == -1) {
-            final int numTopicPartitions = getTopicPartitionCount(topic.name());
+        final int maxConcurrency;
+        if (configuredMaxConcurrency == -1) {
+            maxConcurrency = getTopicPartitionCount(topic.name());
             LOGGER.debug("""
                     Max concurrency of processor %s is configured to match the partition count of topic %s (%d)\
-                    """.formatted(processorName, topic.name(), numTopicPartitions));
-            optionsBuilder.maxConcurrency(numTopicPartitions);
+                    """.formatted(processorName, topic.name(), maxConcurrency));
         } else {
-            optionsBuilder.maxConcurrency(maxConcurrency);
+            maxConcurrency = configuredMaxConcurrency;
         }
+        optionsBuilder.maxConcurrency(maxConcurrency);
 
         final Optional<String> optionalMaxBatchSizeProperty = Optional.ofNullable(properties.get(PROPERTY_MAX_BATCH_SIZE));
+        int maxBatchSize = 1;
         if (isBatch) {
             if (processingOrder == ProcessingOrder.PARTITION) {
                 LOGGER.warn("""
@@ -274,7 +455,7 @@ public class ProcessorManager implements AutoCloseable {
                         """.formatted(processorName, processingOrder));
             }
 
-            final int maxBatchSize = optionalMaxBatchSizeProperty
+            maxBatchSize = optionalMaxBatchSizeProperty
                     .map(Integer::parseInt)
                     .orElse(PROPERTY_MAX_BATCH_SIZE_DEFAULT);
             optionsBuilder.batchSize(maxBatchSize);
@@ -302,10 +483,58 @@ public class ProcessorManager implements AutoCloseable {
 
         final ParallelConsumerOptions<byte[], byte[]> options = optionsBuilder.build();
         LOGGER.debug("Creating parallel consumer for processor %s with options %s".formatted(processorName, options));
-        return ParallelStreamProcessor.createEosStreamProcessor(options);
+        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = ParallelStreamProcessor.createEosStreamProcessor(options);
+
+        final AdaptiveConcurrencyLimiter concurrencyLimiter =
+                createConcurrencyLimiter(processorName, properties, maxConcurrency, isBatch ? maxBatchSize : 1);
+
+        return new ManagedProcessor(parallelConsumer, processingStrategy, topic.name(),
+                (String) consumerConfig.get(GROUP_ID_CONFIG), consumer, concurrencyLimiter, metrics);
     }
 
-    private Consumer<byte[], byte[]> createConsumer(final String processorName) {
+    private AdaptiveConcurrencyLimiter createConcurrencyLimiter(
+            final String processorName,
+            final Map<String, String> properties,
+            final int maxConcurrency,
+            final int maxBatchSize) {
+        final boolean isAdaptive = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_CONCURRENCY_ENABLED))
+                .map(Boolean::parseBoolean)
+                .orElse(PROPERTY_ADAPTIVE_CONCURRENCY_ENABLED_DEFAULT);
+        final int minConcurrency = Optional.ofNullable(properties.get(PROPERTY_MIN_CONCURRENCY))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_MIN_CONCURRENCY_DEFAULT);
+        final int minBatchSize = Optional.ofNullable(properties.get(PROPERTY_MIN_BATCH_SIZE))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_MIN_BATCH_SIZE_DEFAULT);
+        final long targetLatencyMs = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_TARGET_LATENCY_MS))
+                .map(Long::parseLong)
+                .orElse(PROPERTY_ADAPTIVE_TARGET_LATENCY_MS_DEFAULT);
+
+        final var limiterOptions = new AdaptiveConcurrencyLimiter.Options(
+                isAdaptive,
+                Math.min(minConcurrency, maxConcurrency),
+                maxConcurrency,
+                Math.min(minBatchSize, maxBatchSize),
+                maxBatchSize,
+                Duration.ofMillis(targetLatencyMs));
+        LOGGER.debug("Creating concurrency limiter for processor %s with options %s".formatted(processorName, limiterOptions));
+        final var concurrencyLimiter = new AdaptiveConcurrencyLimiter(processorName, limiterOptions, dbConcurrencyBudget);
+
+        if (isAdaptive && config.getPropertyAsBoolean(Config.AlpineKey.METRICS_ENABLED)) {
+            Gauge.builder("pc.adaptive.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::concurrencyLimit)
+                    .description("Current concurrency limit of adaptive processors")
+                    .tag("processor", processorName)
+                    .register(Metrics.getRegistry());
+            Gauge.builder("pc.adaptive.batch.size.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::batchSizeLimit)
+                    .description("Current batch size limit of adaptive processors")
+                    .tag("processor", processorName)
+                    .register(Metrics.getRegistry());
+        }
+
+        return concurrencyLimiter;
+    }
+
+    private Map<String, Object> createConsumerConfig(final String processorName) {
         final var consumerConfig = new HashMap<String, Object>();
         consumerConfig.put(BOOTSTRAP_SERVERS_CONFIG, config.getProperty(KAFKA_BOOTSTRAP_SERVERS));
         consumerConfig.put(CLIENT_ID_CONFIG, "%s-%s-consumer".formatted(instanceId, processorName));
@@ -330,6 +559,10 @@ public class ProcessorManager implements AutoCloseable {
         consumerConfig.put(VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
         consumerConfig.put(ENABLE_AUTO_COMMIT_CONFIG, false); // Commits are managed by parallel consumer
 
+        return consumerConfig;
+    }
+
+    private Consumer<byte[], byte[]> createConsumer(final String processorName, final Map<String, Object> consumerConfig) {
         LOGGER.debug("Creating consumer for processor %s with options %s".formatted(processorName, consumerConfig));
         final var consumer = new KafkaConsumer<byte[], byte[]>(consumerConfig);
 
@@ -340,7 +573,7 @@ public class ProcessorManager implements AutoCloseable {
         return consumer;
     }
 
-    private AdminClient adminClient() {
+    private synchronized AdminClient adminClient() {
         if (adminClient != null) {
             return adminClient;
         }
@@ -427,8 +660,20 @@ public class ProcessorManager implements AutoCloseable {
                 multiplier, randomizationFactor, Duration.ofMillis(maxDelayMs));
     }
 
+    private static String getFailureReason(final ParallelStreamProcessor<?, ?> parallelConsumer) {
+        if (parallelConsumer instanceof final ParallelEoSStreamProcessor<?, ?> concreteParallelConsumer
+                && concreteParallelConsumer.getFailureCause() != null) {
+            return concreteParallelConsumer.getFailureCause().getMessage();
+        }
+
+        return null;
+    }
+
     private record ManagedProcessor(ParallelStreamProcessor<byte[], byte[]> parallelConsumer,
-                                    ProcessingStrategy processingStrategy, String topic) {
+                                    ProcessingStrategy processingStrategy, String topic, String consumerGroupId,
+                                    Consumer<byte[], byte[]> consumer,
+                                    AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                    ProcessorMetrics metrics) {
     }
 
 }
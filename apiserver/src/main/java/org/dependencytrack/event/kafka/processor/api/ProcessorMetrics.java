@@ -0,0 +1,179 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Meters recording the activity of a single processor.
+ * <p>
+ * Committing of offsets is handled by the parallel consumer, and covered by its own meters.
+ *
+ * @since 5.6.0
+ */
+final class ProcessorMetrics {
+
+    enum SkipReason {
+        DESERIALIZATION_FAILURE,
+        PROCESSING_FAILURE
+    }
+
+    private static final int THROUGHPUT_WINDOW_SECONDS = 60;
+
+    private final Timer deserializationTimer;
+    private final Timer processingTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter processedRecordsCounter;
+    private final Counter deserializationFailureCounter;
+    private final Counter processingFailureCounter;
+    private final Counter retriesCounter;
+    private final LongSupplier nanoTimeSupplier;
+
+    // Number of processed records per second, for the last THROUGHPUT_WINDOW_SECONDS seconds.
+    // Buckets are indexed by second modulo window size, and reset when a new second claims them.
+    private final AtomicLongArray throughputBucketSeconds = new AtomicLongArray(THROUGHPUT_WINDOW_SECONDS);
+    private final AtomicLongArray throughputBucketCounts = new AtomicLongArray(THROUGHPUT_WINDOW_SECONDS);
+
+    ProcessorMetrics(final String processorName, final MeterRegistry meterRegistry) {
+        this(processorName, meterRegistry, System::nanoTime);
+    }
+
+    ProcessorMetrics(final String processorName, final MeterRegistry meterRegistry, final LongSupplier nanoTimeSupplier) {
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.deserializationTimer = Timer.builder("kafka_processor_deserialization")
+                .description("Time spent deserializing records")
+                .tag("processor", processorName)
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("kafka_processor_processing")
+                .description("Time spent processing records, excluding deserialization")
+                .tag("processor", processorName)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("kafka_processor_batch_size")
+                .description("Number of records passed to the processor at once")
+                .tag("processor", processorName)
+                .register(meterRegistry);
+        this.processedRecordsCounter = Counter.builder("kafka_processor_records_processed")
+                .description("Number of records that were processed successfully")
+                .tag("processor", processorName)
+                .register(meterRegistry);
+        this.deserializationFailureCounter = Counter.builder("kafka_processor_records_skipped")
+                .description("Number of records that were skipped due to non-retryable failures")
+                .tag("processor", processorName)
+                .tag("reason", "deserialization_failure")
+                .register(meterRegistry);
+        this.processingFailureCounter = Counter.builder("kafka_processor_records_skipped")
+                .description("Number of records that were skipped due to non-retryable failures")
+                .tag("processor", processorName)
+                .tag("reason", "processing_failure")
+                .register(meterRegistry);
+        this.retriesCounter = Counter.builder("kafka_processor_retries")
+                .description("Number of times processing of records failed with a retryable exception")
+                .tag("processor", processorName)
+                .register(meterRegistry);
+    }
+
+    long startTimer() {
+        return nanoTimeSupplier.getAsLong();
+    }
+
+    void recordDeserialization(final long startNanos) {
+        deserializationTimer.record(nanoTimeSupplier.getAsLong() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordProcessing(final long startNanos) {
+        processingTimer.record(nanoTimeSupplier.getAsLong() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordBatchSize(final int batchSize) {
+        batchSizeSummary.record(batchSize);
+    }
+
+    void recordProcessed(final int recordCount) {
+        processedRecordsCounter.increment(recordCount);
+
+        final long nowSeconds = TimeUnit.NANOSECONDS.toSeconds(nanoTimeSupplier.getAsLong());
+        final int bucket = (int) Math.floorMod(nowSeconds, THROUGHPUT_WINDOW_SECONDS);
+        final long bucketSecond = throughputBucketSeconds.get(bucket);
+        if (bucketSecond != nowSeconds && throughputBucketSeconds.compareAndSet(bucket, bucketSecond, nowSeconds)) {
+            throughputBucketCounts.set(bucket, 0);
+        }
+
+        throughputBucketCounts.addAndGet(bucket, recordCount);
+    }
+
+    void recordSkipped(final SkipReason reason, final int recordCount) {
+        switch (reason) {
+            case DESERIALIZATION_FAILURE -> deserializationFailureCounter.increment(recordCount);
+            case PROCESSING_FAILURE -> processingFailureCounter.increment(recordCount);
+        }
+    }
+
+    void recordRetry() {
+        retriesCounter.increment();
+    }
+
+    long processedRecords() {
+        return (long) processedRecordsCounter.count();
+    }
+
+    long skippedRecords() {
+        return (long) (deserializationFailureCounter.count() + processingFailureCounter.count());
+    }
+
+    long retries() {
+        return (long) retriesCounter.count();
+    }
+
+    double meanBatchSize() {
+        return batchSizeSummary.mean();
+    }
+
+    double meanDeserializationTimeMs() {
+        return deserializationTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    double meanProcessingTimeMs() {
+        return processingTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return Average number of records processed per second, over the last minute
+     */
+    double recordsPerSecond() {
+        final long nowSeconds = TimeUnit.NANOSECONDS.toSeconds(nanoTimeSupplier.getAsLong());
+
+        long count = 0;
+        for (int i = 0; i < THROUGHPUT_WINDOW_SECONDS; i++) {
+            final long bucketSecond = throughputBucketSeconds.get(i);
+            if (nowSeconds - bucketSecond < THROUGHPUT_WINDOW_SECONDS) {
+                count += throughputBucketCounts.get(i);
+            }
+        }
+
+        return (double) count / THROUGHPUT_WINDOW_SECONDS;
+    }
+
+}
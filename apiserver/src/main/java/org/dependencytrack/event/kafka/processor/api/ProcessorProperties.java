@@ -22,10 +22,18 @@ import io.confluent.parallelconsumer.ParallelConsumerOptions.ProcessingOrder;
 
 final class ProcessorProperties {
 
+    static final String PROPERTY_ADAPTIVE_CONCURRENCY_ENABLED = "adaptive.concurrency.enabled";
+    static final boolean PROPERTY_ADAPTIVE_CONCURRENCY_ENABLED_DEFAULT = false;
+    static final String PROPERTY_ADAPTIVE_TARGET_LATENCY_MS = "adaptive.target.latency.ms";
+    static final long PROPERTY_ADAPTIVE_TARGET_LATENCY_MS_DEFAULT = 5 * 1000; // 5s
     static final String PROPERTY_MAX_BATCH_SIZE = "max.batch.size";
     static final int PROPERTY_MAX_BATCH_SIZE_DEFAULT = 10;
     static final String PROPERTY_MAX_CONCURRENCY = "max.concurrency";
     static final int PROPERTY_MAX_CONCURRENCY_DEFAULT = 1;
+    static final String PROPERTY_MIN_BATCH_SIZE = "min.batch.size";
+    static final int PROPERTY_MIN_BATCH_SIZE_DEFAULT = 1;
+    static final String PROPERTY_MIN_CONCURRENCY = "min.concurrency";
+    static final int PROPERTY_MIN_CONCURRENCY_DEFAULT = 1;
     static final String PROPERTY_PROCESSING_ORDER = "processing.order";
     static final ProcessingOrder PROPERTY_PROCESSING_ORDER_DEFAULT = ProcessingOrder.PARTITION;
     static final String PROPERTY_RETRY_INITIAL_DELAY_MS = "retry.initial.delay.ms";
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Summary of the state of a processor managed by {@link ProcessorManager}.
+ *
+ * @param name                      Name of the processor
+ * @param topic                     Name of the topic the processor consumes from
+ * @param consumerGroupId           ID of the consumer group the processor is a member of
+ * @param healthy                   Whether the processor is running
+ * @param failureReason             Reason of the processor's failure, if any
+ * @param adaptiveConcurrency       Whether adaptive concurrency is enabled for the processor
+ * @param concurrencyLimit          The current concurrency limit
+ * @param batchSizeLimit            The current batch size limit
+ * @param recordsProcessed          Number of records processed successfully
+ * @param recordsSkipped            Number of records skipped due to non-retryable failures
+ * @param retries                   Number of retryable failures
+ * @param recordsPerSecond          Average number of records processed per second, over the last minute
+ * @param meanBatchSize             Mean number of records processed at once
+ * @param meanDeserializationTimeMs Mean time spent deserializing records, in milliseconds
+ * @param meanProcessingTimeMs      Mean time spent processing records, in milliseconds
+ * @param partitionLags             Lag of the consumer group, in number of records, by partition,
+ *                                  or {@code null} when it could not be determined
+ * @since 5.6.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProcessorStatus(
+        String name,
+        String topic,
+        String consumerGroupId,
+        boolean healthy,
+        String failureReason,
+        boolean adaptiveConcurrency,
+        int concurrencyLimit,
+        int batchSizeLimit,
+        long recordsProcessed,
+        long recordsSkipped,
+        long retries,
+        double recordsPerSecond,
+        double meanBatchSize,
+        double meanDeserializationTimeMs,
+        double meanProcessingTimeMs,
+        Map<Integer, Long> partitionLags
+) {
+}
@@ -46,8 +46,9 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
     private final Processor<K, V> processor;
 
     SingleRecordProcessingStrategy(final Processor<K, V> processor,
-                                   final Serde<K> keySerde, final Serde<V> valueSerde) {
-        super(keySerde, valueSerde);
+                                   final Serde<K> keySerde, final Serde<V> valueSerde,
+                                   final ProcessorMetrics metrics) {
+        super(keySerde, valueSerde, metrics);
         this.processor = processor;
     }
 
@@ -73,26 +74,38 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
     }
 
     private void processRecord(final ConsumerRecord<byte[], byte[]> record) {
+        metrics.recordBatchSize(1);
+
         final ConsumerRecord<K, V> deserializedRecord;
+        final long deserializationStartNanos = metrics.startTimer();
         try {
             deserializedRecord = deserialize(record);
         } catch (SerializationException e) {
             LOGGER.error("Failed to deserialize consumer record %s; Skipping", e);
+            metrics.recordSkipped(ProcessorMetrics.SkipReason.DESERIALIZATION_FAILURE, 1);
             // TODO: Consider supporting error handlers, e.g. to send record to DLT.
             return; // Skip record to avoid poison-pill scenario.
+        } finally {
+            metrics.recordDeserialization(deserializationStartNanos);
         }
 
+        final long processingStartNanos = metrics.startTimer();
         try (var ignoredMdcKafkaRecordKey = MDC.putCloseable(MDC_KAFKA_RECORD_KEY, String.valueOf(deserializedRecord.key()))) {
             processor.process(deserializedRecord);
+            metrics.recordProcessed(1);
         } catch (ProcessingException | RuntimeException e) {
             if (isRetryableException(e)) {
                 LOGGER.warn("Encountered retryable exception while processing record", e);
+                metrics.recordRetry();
                 throw new PCRetriableException(e);
             }
 
             LOGGER.error("Encountered non-retryable exception while processing record; Skipping", e);
+            metrics.recordSkipped(ProcessorMetrics.SkipReason.PROCESSING_FAILURE, 1);
             // TODO: Consider supporting error handlers, e.g. to send record to DLT.
             // Skip record to avoid poison-pill scenario.
+        } finally {
+            metrics.recordProcessing(processingStartNanos);
         }
     }
 
@@ -0,0 +1,178 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import alpine.event.framework.ChainLink;
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import alpine.event.framework.IEventService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
+import org.dependencytrack.resources.v1.vo.CloneProjectRequest;
+
+import java.util.UUID;
+
+/**
+ * Converts events to and from the JSON representation in which they are stored in the event queue.
+ * <p>
+ * Events linked via {@link ChainableEvent#onSuccess()} and {@link ChainableEvent#onFailure()}
+ * are stored alongside the event, such that the chain survives restarts as well.
+ * Only links without an explicit {@link IEventService} are supported.
+ *
+ * @since 5.6.0
+ */
+final class DurableEventCodec {
+
+    private static final JsonMapper JSON_MAPPER = new JsonMapper();
+
+    private DurableEventCodec() {
+    }
+
+    static boolean isSupported(final Class<? extends Event> eventType) {
+        return eventType == ProjectMetricsUpdateEvent.class
+                || eventType == ProjectPolicyEvaluationEvent.class
+                || eventType == CloneProjectEvent.class;
+    }
+
+    /**
+     * Determine the key by which a given event may be coalesced with equivalent pending events.
+     * <p>
+     * Events with chained events are never coalesced, as doing so would drop their chains.
+     *
+     * @param event The event to determine the coalescing key for
+     * @return The coalescing key, or {@code null} when the event must not be coalesced
+     */
+    static String coalescingKey(final ChainableEvent event) {
+        if (event.onSuccess().length > 0 || event.onFailure().length > 0) {
+            return null;
+        }
+
+        return switch (event) {
+            case ProjectMetricsUpdateEvent e -> "%s:%s".formatted(e.getUuid(), e.isIncremental());
+            case ProjectPolicyEvaluationEvent e -> e.getUuid().toString();
+            default -> null;
+        };
+    }
+
+    static String encode(final ChainableEvent event) {
+        try {
+            return JSON_MAPPER.writeValueAsString(encodeNode(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode event of type " + event.getClass().getName(), e);
+        }
+    }
+
+    static ChainableEvent decode(final String payload) {
+        try {
+            return decodeNode(JSON_MAPPER.readTree(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to decode event", e);
+        }
+    }
+
+    private static ObjectNode encodeNode(final Event event) {
+        if (!(event instanceof final ChainableEvent chainableEvent)) {
+            throw new IllegalArgumentException("Event of type %s is not chainable"
+                    .formatted(event.getClass().getName()));
+        }
+
+        final ObjectNode dataNode = JSON_MAPPER.createObjectNode();
+        switch (chainableEvent) {
+            case ProjectMetricsUpdateEvent e -> dataNode
+                    .put("uuid", e.getUuid().toString())
+                    .put("incremental", e.isIncremental());
+            case ProjectPolicyEvaluationEvent e -> dataNode
+                    .put("uuid", e.getUuid().toString());
+            case CloneProjectEvent e -> dataNode
+                    .put("project", e.getRequest().getProject())
+                    .put("version", e.getRequest().getVersion())
+                    .put("includeTags", e.getRequest().includeTags())
+                    .put("includeProperties", e.getRequest().includeProperties())
+                    .put("includeDependencies", e.getRequest().includeDependencies())
+                    .put("includeComponents", e.getRequest().includeComponents())
+                    .put("includeServices", e.getRequest().includeServices())
+                    .put("includeAuditHistory", e.getRequest().includeAuditHistory())
+                    .put("includeACL", e.getRequest().includeACL())
+                    .put("includePolicyViolations", e.getRequest().includePolicyViolations())
+                    .put("makeCloneLatest", e.getRequest().makeCloneLatest());
+            default -> throw new IllegalArgumentException("Events of type %s can not be queued"
+                    .formatted(event.getClass().getName()));
+        }
+
+        final ObjectNode node = JSON_MAPPER.createObjectNode()
+                .put("type", event.getClass().getName())
+                .put("chainIdentifier", chainableEvent.getChainIdentifier().toString());
+        node.set("data", dataNode);
+
+        final ArrayNode onSuccessNode = node.putArray("onSuccess");
+        for (final ChainLink chainLink : chainableEvent.onSuccess()) {
+            requireDefaultEventService(chainLink.getSuccessEventService());
+            onSuccessNode.add(encodeNode(chainLink.getSuccessEvent()));
+        }
+
+        final ArrayNode onFailureNode = node.putArray("onFailure");
+        for (final ChainLink chainLink : chainableEvent.onFailure()) {
+            requireDefaultEventService(chainLink.getFailureEventService());
+            onFailureNode.add(encodeNode(chainLink.getFailureEvent()));
+        }
+
+        return node;
+    }
+
+    private static ChainableEvent decodeNode(final JsonNode node) throws JsonProcessingException {
+        final String eventType = node.get("type").asText();
+        final JsonNode dataNode = node.get("data");
+
+        final ChainableEvent event;
+        if (ProjectMetricsUpdateEvent.class.getName().equals(eventType)) {
+            event = new ProjectMetricsUpdateEvent(
+                    UUID.fromString(dataNode.get("uuid").asText()),
+                    dataNode.get("incremental").asBoolean());
+        } else if (ProjectPolicyEvaluationEvent.class.getName().equals(eventType)) {
+            event = new ProjectPolicyEvaluationEvent(UUID.fromString(dataNode.get("uuid").asText()));
+        } else if (CloneProjectEvent.class.getName().equals(eventType)) {
+            event = new CloneProjectEvent(JSON_MAPPER.treeToValue(dataNode, CloneProjectRequest.class));
+        } else {
+            throw new IllegalStateException("Events of type %s can not be decoded".formatted(eventType));
+        }
+
+        event.setChainIdentifier(UUID.fromString(node.get("chainIdentifier").asText()));
+        for (final JsonNode onSuccessNode : node.get("onSuccess")) {
+            event.onSuccess(decodeNode(onSuccessNode));
+        }
+        for (final JsonNode onFailureNode : node.get("onFailure")) {
+            event.onFailure(decodeNode(onFailureNode));
+        }
+
+        return event;
+    }
+
+    private static void requireDefaultEventService(final Class<? extends IEventService> eventService) {
+        if (eventService != null) {
+            throw new IllegalArgumentException("Chain links with explicit event services can not be queued");
+        }
+    }
+
+}
@@ -0,0 +1,418 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.ChainLink;
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import alpine.event.framework.IEventService;
+import alpine.event.framework.Subscriber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.EventQueueDao;
+import org.dependencytrack.persistence.jdbi.EventQueueDao.QueuedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * An {@link IEventService} that persists events in a database-backed queue,
+ * rather than holding them in memory.
+ * <p>
+ * Compared to {@link alpine.event.framework.EventService}, queued events:
+ * <ul>
+ *     <li>survive restarts,</li>
+ *     <li>are distributed across all instances polling the queue,</li>
+ *     <li>are processed with a per-event-type concurrency limit,</li>
+ *     <li>are coalesced with equivalent pending events where possible, and</li>
+ *     <li>are retried with exponential backoff when processing fails.</li>
+ * </ul>
+ * Claimed events are hidden from other instances for the duration of the visibility timeout,
+ * which is extended periodically while processing is ongoing. Should an instance stop without
+ * completing an event, it becomes visible again once the timeout elapses.
+ * <p>
+ * Only events supported by {@link DurableEventCodec} can be published.
+ *
+ * @since 5.6.0
+ */
+public final class DurableEventService implements IEventService {
+
+    record Options(
+            Duration pollInterval,
+            Duration visibilityTimeout,
+            int maxAttempts,
+            Duration retryBackoff
+    ) {
+
+        static Options fromConfig(final Config config) {
+            return new Options(
+                    Duration.parse(config.getProperty(ConfigKey.EVENT_QUEUE_POLL_INTERVAL_DURATION)),
+                    Duration.parse(config.getProperty(ConfigKey.EVENT_QUEUE_VISIBILITY_TIMEOUT_DURATION)),
+                    config.getPropertyAsInt(ConfigKey.EVENT_QUEUE_MAX_ATTEMPTS),
+                    Duration.parse(config.getProperty(ConfigKey.EVENT_QUEUE_RETRY_BACKOFF_DURATION)));
+        }
+
+    }
+
+    private record Subscription(List<Class<? extends Subscriber>> subscriberTypes, Semaphore permits) {
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(DurableEventService.class);
+    private static final DurableEventService INSTANCE = new DurableEventService(Options.fromConfig(Config.getInstance()));
+
+    private final Options options;
+    private final Map<Class<? extends Event>, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, UUID> leaseIdByInFlightEventId = new ConcurrentHashMap<>();
+    private final ExecutorService workerExecutor;
+    private final ScheduledExecutorService pollExecutor;
+    private volatile boolean started;
+
+    DurableEventService(final Options options) {
+        this.options = options;
+        this.workerExecutor = Executors.newCachedThreadPool(
+                Thread.ofPlatform().name("DurableEventService-Worker-", 0).daemon(true).factory());
+        this.pollExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("DurableEventService-Poller").daemon(true).factory());
+
+        Gauge.builder("event_queue_events_in_flight", leaseIdByInFlightEventId, Map::size)
+                .description("Number of queued events currently being processed by this instance")
+                .register(Metrics.getRegistry());
+    }
+
+    public static DurableEventService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start polling the queue for events of subscribed types.
+     * <p>
+     * Subscriptions should be made prior to calling this method.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+
+        pollExecutor.scheduleWithFixedDelay(this::poll,
+                0, options.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+        final long leaseExtensionIntervalMillis = options.visibilityTimeout().toMillis() / 2;
+        pollExecutor.scheduleWithFixedDelay(this::extendLeases,
+                leaseExtensionIntervalMillis, leaseExtensionIntervalMillis, TimeUnit.MILLISECONDS);
+
+        started = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(final Event event) {
+        if (!(event instanceof final ChainableEvent chainableEvent)
+            || !DurableEventCodec.isSupported(event.getClass())) {
+            throw new IllegalArgumentException("Events of type %s can not be queued"
+                    .formatted(event.getClass().getName()));
+        }
+
+        final Subscription subscription = subscriptions.get(event.getClass());
+        if (subscription == null || subscription.subscriberTypes().isEmpty()) {
+            LOGGER.debug("No subscribers to inform from event: " + event.getClass().getName());
+            return;
+        }
+
+        final String payload = DurableEventCodec.encode(chainableEvent);
+        final String coalescingKey = DurableEventCodec.coalescingKey(chainableEvent);
+
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(EventQueueDao.class);
+            for (final Class<? extends Subscriber> subscriberType : subscription.subscriberTypes()) {
+                final boolean enqueued = dao.enqueue(event.getClass().getName(), subscriberType.getName(),
+                        chainableEvent.getChainIdentifier(), coalescingKey, payload);
+                Counter.builder(enqueued ? "event_queue_events_published" : "event_queue_events_coalesced")
+                        .description(enqueued
+                                ? "Number of events published to the event queue"
+                                : "Number of events that were coalesced with an equivalent pending event")
+                        .tag("event", event.getClass().getSimpleName())
+                        .register(Metrics.getRegistry())
+                        .increment();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Events of the given type are processed with a concurrency of 1.
+     */
+    @Override
+    public void subscribe(final Class<? extends Event> eventType, final Class<? extends Subscriber> subscriberType) {
+        subscribe(eventType, subscriberType, 1);
+    }
+
+    /**
+     * Subscribe to an event type.
+     *
+     * @param eventType      The type of event to subscribe to
+     * @param subscriberType The {@link Subscriber} that gets informed when the type of event is published
+     * @param concurrency    Maximum number of events of the given type to process concurrently on this instance
+     */
+    public void subscribe(
+            final Class<? extends Event> eventType,
+            final Class<? extends Subscriber> subscriberType,
+            final int concurrency) {
+        if (!DurableEventCodec.isSupported(eventType)) {
+            throw new IllegalArgumentException("Events of type %s can not be queued".formatted(eventType.getName()));
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1, but is " + concurrency);
+        }
+
+        final Subscription subscription = subscriptions.computeIfAbsent(eventType,
+                ignored -> new Subscription(new CopyOnWriteArrayList<>(), new Semaphore(concurrency)));
+        if (!subscription.subscriberTypes().contains(subscriberType)) {
+            subscription.subscriberTypes().add(subscriberType);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unsubscribe(final Class<? extends Subscriber> subscriberType) {
+        for (final Subscription subscription : subscriptions.values()) {
+            subscription.subscriberTypes().remove(subscriberType);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasSubscriptions(final Event event) {
+        final Subscription subscription = subscriptions.get(event.getClass());
+        return subscription != null && !subscription.subscriberTypes().isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        LOGGER.info("Shutting down DurableEventService");
+        pollExecutor.shutdownNow();
+        workerExecutor.shutdown();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Events that are still being processed when {@code timeout} elapses are not lost,
+     * but will be processed again once their visibility timeout elapsed.
+     */
+    @Override
+    public boolean shutdown(final Duration timeout) {
+        shutdown();
+
+        try {
+            return workerExecutor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEventBeingProcessed(final ChainableEvent event) {
+        return isEventBeingProcessed(event.getChainIdentifier());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Considers events queued by, and being processed on, all instances.
+     */
+    @Override
+    public boolean isEventBeingProcessed(final UUID chainIdentifier) {
+        return withJdbiHandle(handle -> handle.attach(EventQueueDao.class).existsByChainIdentifier(chainIdentifier));
+    }
+
+    void poll() {
+        for (final Map.Entry<Class<? extends Event>, Subscription> entry : subscriptions.entrySet()) {
+            final Semaphore permits = entry.getValue().permits();
+            final int availablePermits = permits.drainPermits();
+            if (availablePermits == 0) {
+                continue;
+            }
+
+            final List<QueuedEvent> claimedEvents;
+            try {
+                final UUID leaseId = UUID.randomUUID();
+                claimedEvents = withJdbiHandle(handle -> handle.attach(EventQueueDao.class).claim(
+                        entry.getKey().getName(), availablePermits, leaseId, options.visibilityTimeout()));
+            } catch (RuntimeException e) {
+                permits.release(availablePermits);
+                LOGGER.error("Failed to claim events of type %s".formatted(entry.getKey().getName()), e);
+                continue;
+            }
+
+            // Return permits that were not needed.
+            permits.release(availablePermits - claimedEvents.size());
+
+            for (final QueuedEvent queuedEvent : claimedEvents) {
+                leaseIdByInFlightEventId.put(queuedEvent.id(), queuedEvent.leaseId());
+                workerExecutor.execute(() -> {
+                    try {
+                        process(queuedEvent);
+                    } finally {
+                        leaseIdByInFlightEventId.remove(queuedEvent.id());
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void process(final QueuedEvent queuedEvent) {
+        final ChainableEvent event;
+        final Subscriber subscriber;
+        try {
+            event = DurableEventCodec.decode(queuedEvent.payload());
+            subscriber = Class.forName(queuedEvent.subscriber())
+                    .asSubclass(Subscriber.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // There's no point in retrying this, and the event's chain can't be recovered either.
+            LOGGER.error("Failed to restore event %d for subscriber %s; Discarding it"
+                    .formatted(queuedEvent.id(), queuedEvent.subscriber()), e);
+            complete(queuedEvent, "failed");
+            return;
+        }
+
+        if (queuedEvent.attempts() > options.maxAttempts()) {
+            // The event was claimed by instances that stopped before completing it too often.
+            LOGGER.warn("Event %d exceeded the maximum of %d attempts; Discarding it"
+                    .formatted(queuedEvent.id(), options.maxAttempts()));
+            dispatchAll(event.onFailure(), ChainLink::getFailureEvent);
+            complete(queuedEvent, "failed");
+            return;
+        }
+
+        final Timer.Sample timerSample = Timer.start();
+        try {
+            subscriber.inform(event);
+        } catch (RuntimeException e) {
+            if (queuedEvent.attempts() < options.maxAttempts()) {
+                final Duration retryDelay = options.retryBackoff().multipliedBy(1L << Math.min(queuedEvent.attempts() - 1, 16));
+                LOGGER.warn("Failed to process event %d on attempt %d/%d; Retrying in %s"
+                        .formatted(queuedEvent.id(), queuedEvent.attempts(), options.maxAttempts(), retryDelay), e);
+                withJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                        .release(queuedEvent.id(), queuedEvent.leaseId(), retryDelay));
+                recordOutcome(queuedEvent, "retried");
+                return;
+            }
+
+            LOGGER.error("Failed to process event %d on attempt %d/%d; Giving up"
+                    .formatted(queuedEvent.id(), queuedEvent.attempts(), options.maxAttempts()), e);
+            dispatchAll(event.onFailure(), ChainLink::getFailureEvent);
+            complete(queuedEvent, "failed");
+            return;
+        } finally {
+            timerSample.stop(Timer.builder("event_queue_event_processing")
+                    .description("Time spent processing queued events")
+                    .tag("event", event.getClass().getSimpleName())
+                    .tag("subscriber", subscriber.getClass().getSimpleName())
+                    .register(Metrics.getRegistry()));
+        }
+
+        // Chained events are dispatched before the event is removed from the queue,
+        // such that the chain is never observed as not being processed in between.
+        dispatchAll(event.onSuccess(), ChainLink::getSuccessEvent);
+        complete(queuedEvent, "completed");
+    }
+
+    private void complete(final QueuedEvent queuedEvent, final String outcome) {
+        final boolean deleted = withJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                .delete(queuedEvent.id(), queuedEvent.leaseId()));
+        if (!deleted) {
+            LOGGER.warn("""
+                    Lease of event %d expired before it could be completed; \
+                    It may be processed again""".formatted(queuedEvent.id()));
+        }
+
+        recordOutcome(queuedEvent, outcome);
+    }
+
+    private void extendLeases() {
+        final var ids = new ArrayList<Long>(leaseIdByInFlightEventId.size());
+        final var leaseIds = new ArrayList<UUID>(leaseIdByInFlightEventId.size());
+        for (final Map.Entry<Long, UUID> entry : leaseIdByInFlightEventId.entrySet()) {
+            ids.add(entry.getKey());
+            leaseIds.add(entry.getValue());
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            final int extendedLeases = withJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                    .extendLeases(ids, leaseIds, options.visibilityTimeout()));
+            LOGGER.debug("Extended leases of %d/%d in-flight events".formatted(extendedLeases, ids.size()));
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to extend leases of in-flight events", e);
+        }
+    }
+
+    private static void dispatchAll(final ChainLink[] chainLinks, final Function<ChainLink, Event> eventFn) {
+        for (final ChainLink chainLink : chainLinks) {
+            Event.dispatch(eventFn.apply(chainLink));
+        }
+    }
+
+    private static void recordOutcome(final QueuedEvent queuedEvent, final String outcome) {
+        Counter.builder("event_queue_events_" + outcome)
+                .description("Number of queued events by outcome of their processing")
+                .tag("event", queuedEvent.eventType().substring(queuedEvent.eventType().lastIndexOf('.') + 1))
+                .register(Metrics.getRegistry())
+                .increment();
+    }
+
+}
@@ -21,8 +21,10 @@ package org.dependencytrack.filestorage;
 import org.dependencytrack.plugin.api.ExtensionPoint;
 import org.dependencytrack.proto.filestorage.v1.FileMetadata;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
@@ -59,6 +61,41 @@ public interface FileStorage extends ExtensionPoint {
         return store(fileName, "application/octet-stream", content);
     }
 
+    /**
+     * Persist data from an {@link InputStream} to a file in storage.
+     * <p>
+     * In contrast to {@link #store(String, String, byte[])}, this method does not require
+     * the entire content to be held in memory. Storage providers should consume
+     * {@code contentStream} incrementally, and perform additional steps such as
+     * compression and digest calculation on the fly.
+     * <p>
+     * The caller remains responsible for closing {@code contentStream}.
+     *
+     * @param fileName      Name of the file. This fileName is not guaranteed to be reflected
+     *                      in storage as-is. It may be modified or changed entirely.
+     * @param mediaType     Media type of the file.
+     * @param contentStream {@link InputStream} of the data to store.
+     * @return Metadata of the stored file.
+     * @throws IOException When storing the file failed.
+     */
+    default FileMetadata store(
+            final String fileName,
+            final String mediaType,
+            final InputStream contentStream) throws IOException {
+        requireNonNull(contentStream, "contentStream must not be null");
+        return store(fileName, mediaType, contentStream.readAllBytes());
+    }
+
+    /**
+     * Persist data from an {@link InputStream} to a file in storage,
+     * assuming the media type to be {@code application/octet-stream}.
+     *
+     * @see #store(String, String, InputStream)
+     */
+    default FileMetadata store(final String fileName, final InputStream contentStream) throws IOException {
+        return store(fileName, "application/octet-stream", contentStream);
+    }
+
     /**
      * Retrieves a file from storage.
      * <p>
@@ -75,6 +112,25 @@ public interface FileStorage extends ExtensionPoint {
      */
     byte[] get(final FileMetadata fileMetadata) throws IOException;
 
+    /**
+     * Retrieves a file from storage as {@link InputStream}.
+     * <p>
+     * In contrast to {@link #get(FileMetadata)}, this method does not require
+     * the entire content to be held in memory. Integrity verification is performed
+     * once the returned stream is read to completion, in which case a mismatch
+     * is reported as {@link IOException}.
+     * <p>
+     * The caller is responsible for closing the returned stream.
+     *
+     * @param fileMetadata Metadata of the file to retrieve.
+     * @return An {@link InputStream} of the file's content.
+     * @throws IOException           When retrieving the file failed.
+     * @throws FileNotFoundException When the requested file was not found.
+     */
+    default InputStream getAsStream(final FileMetadata fileMetadata) throws IOException {
+        return new ByteArrayInputStream(get(fileMetadata));
+    }
+
     /**
      * Deletes a file from storage.
      * <p>
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.filestorage;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.dependencytrack.proto.filestorage.v1.FileMetadata;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Utilities for streaming compression, decompression, and integrity verification
+ * of file content, shared by {@link FileStorage} implementations.
+ *
+ * @since 5.6.0
+ */
+final class FileStorageStreams {
+
+    /**
+     * Magic number of a Zstandard frame, in little-endian byte order.
+     *
+     * @see <a href="https://datatracker.ietf.org/doc/html/rfc8878#section-3.1.1">RFC 8878, Section 3.1.1</a>
+     */
+    private static final byte[] ZSTD_FRAME_MAGIC = {(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD};
+
+    private FileStorageStreams() {
+    }
+
+    /**
+     * Copy {@code inputStream} to {@code outputStream}, optionally compressing
+     * the content with Zstandard on the fly.
+     * <p>
+     * The SHA-256 digest is calculated on the data that is written to {@code outputStream},
+     * i.e. on the compressed data if {@code compress} is {@code true}.
+     * This is consistent with the digest calculation for {@code byte[]}-based storage.
+     * <p>
+     * Note that {@code outputStream} will be closed by this method.
+     *
+     * @param inputStream      The {@link InputStream} to read from.
+     * @param outputStream     The {@link OutputStream} to write to.
+     * @param compress         Whether to compress the content.
+     * @param compressionLevel The Zstandard compression level to use.
+     * @return The hex-encoded SHA-256 digest of the written data.
+     * @throws IOException When reading or writing failed.
+     */
+    static String copy(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final boolean compress,
+            final int compressionLevel) throws IOException {
+        final MessageDigest messageDigest = DigestUtils.getSha256Digest();
+
+        try (outputStream;
+             final var digestOutputStream = new DigestOutputStream(outputStream, messageDigest);
+             final OutputStream targetOutputStream = compress
+                     ? new ZstdOutputStream(digestOutputStream, compressionLevel)
+                     : digestOutputStream) {
+            inputStream.transferTo(targetOutputStream);
+        }
+
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    /**
+     * Wrap a raw {@link InputStream} such that its content is transparently decompressed
+     * (if it was compressed before), and its SHA-256 digest is verified against the
+     * digest recorded in {@code fileMetadata}.
+     * <p>
+     * Verification happens once the returned {@link InputStream} reaches EOF.
+     * Consumers must thus read the stream to completion in order for integrity
+     * violations to be detected. A mismatch is reported as {@link IOException}.
+     *
+     * @param rawInputStream The {@link InputStream} of the file as it exists in storage.
+     * @param fileMetadata   Metadata of the file.
+     * @return The wrapped {@link InputStream}.
+     * @throws IOException When reading from {@code rawInputStream} failed.
+     */
+    static InputStream verifyingAndDecompressing(
+            final InputStream rawInputStream,
+            final FileMetadata fileMetadata) throws IOException {
+        final byte[] expectedDigest = HexFormat.of().parseHex(fileMetadata.getSha256Digest());
+        final var digestInputStream = new DigestInputStream(rawInputStream, DigestUtils.getSha256Digest());
+        final var bufferedInputStream = new BufferedInputStream(digestInputStream);
+
+        final InputStream decodedInputStream = isZstdCompressed(bufferedInputStream)
+                ? new ZstdInputStream(bufferedInputStream)
+                : bufferedInputStream;
+
+        return new DigestVerifyingInputStream(decodedInputStream, bufferedInputStream, digestInputStream, expectedDigest);
+    }
+
+    private static boolean isZstdCompressed(final BufferedInputStream inputStream) throws IOException {
+        inputStream.mark(ZSTD_FRAME_MAGIC.length);
+        try {
+            final byte[] head = inputStream.readNBytes(ZSTD_FRAME_MAGIC.length);
+            if (head.length < ZSTD_FRAME_MAGIC.length) {
+                return false;
+            }
+
+            for (int i = 0; i < ZSTD_FRAME_MAGIC.length; i++) {
+                if (head[i] != ZSTD_FRAME_MAGIC[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        } finally {
+            inputStream.reset();
+        }
+    }
+
+    private static final class DigestVerifyingInputStream extends FilterInputStream {
+
+        private final InputStream rawInputStream;
+        private final DigestInputStream digestInputStream;
+        private final byte[] expectedDigest;
+        private boolean verified;
+
+        private DigestVerifyingInputStream(
+                final InputStream decodedInputStream,
+                final InputStream rawInputStream,
+                final DigestInputStream digestInputStream,
+                final byte[] expectedDigest) {
+            super(decodedInputStream);
+            this.rawInputStream = rawInputStream;
+            this.digestInputStream = digestInputStream;
+            this.expectedDigest = expectedDigest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int result = super.read();
+            if (result == -1) {
+                verify();
+            }
+
+            return result;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int result = super.read(b, off, len);
+            if (result == -1) {
+                verify();
+            }
+
+            return result;
+        }
+
+        private void verify() throws IOException {
+            if (verified) {
+                return;
+            }
+
+            // Decompression may complete before the underlying stream is fully consumed,
+            // e.g. when trailing bytes follow the last frame. All raw bytes must have
+            // passed through the digest for the verification to be meaningful.
+            rawInputStream.transferTo(OutputStream.nullOutputStream());
+            verified = true;
+
+            final byte[] actualDigest = digestInputStream.getMessageDigest().digest();
+            if (!MessageDigest.isEqual(actualDigest, expectedDigest)) {
+                throw new IOException("SHA256 digest mismatch: actual=%s, expected=%s".formatted(
+                        HexFormat.of().formatHex(actualDigest), HexFormat.of().formatHex(expectedDigest)));
+            }
+        }
+
+    }
+
+}
@@ -27,12 +27,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
 import java.util.HexFormat;
 
 import static java.util.Objects.requireNonNull;
@@ -64,27 +66,8 @@ final class LocalFileStorage implements FileStorage {
         requireValidFileName(fileName);
         requireNonNull(content, "content must not be null");
 
-        final Path filePath = resolveFilePath(fileName);
-        if (Files.isDirectory(filePath)) {
-            throw new IOException("Path %s exists, but is a directory".formatted(fileName));
-        }
-        if (!Files.exists(filePath.getParent())) {
-            LOGGER.debug("Creating parent directories of {}", filePath);
-            Files.createDirectories(filePath.getParent());
-        }
-
-        final Path relativeFilePath = baseDirPath.relativize(filePath);
-
-        final URI locationUri;
-        try {
-            locationUri = new URIBuilder()
-                    .setScheme(EXTENSION_NAME)
-                    .setHost("")
-                    .setPath(relativeFilePath.toString())
-                    .build();
-        } catch (URISyntaxException e) {
-            throw new IllegalStateException("Failed to build URI for " + relativeFilePath, e);
-        }
+        final Path filePath = prepareFilePath(fileName);
+        final URI locationUri = buildLocationUri(filePath);
 
         final byte[] maybeCompressedContent = content.length >= compressionThresholdBytes
                 ? Zstd.compress(content, compressionLevel)
@@ -105,26 +88,59 @@ final class LocalFileStorage implements FileStorage {
     }
 
     @Override
-    public byte[] get(final FileMetadata fileMetadata) throws IOException {
-        requireNonNull(fileMetadata, "fileMetadata must not be null");
+    public FileMetadata store(
+            final String fileName,
+            final String mediaType,
+            final InputStream contentStream) throws IOException {
+        requireValidFileName(fileName);
+        requireNonNull(contentStream, "contentStream must not be null");
 
-        final Path filePath = resolveFilePath(fileMetadata);
+        // Content smaller than the compression threshold is stored as-is.
+        // Only buffer as much as is needed to make that decision.
+        final byte[] contentHead = contentStream.readNBytes(compressionThresholdBytes);
+        if (contentHead.length < compressionThresholdBytes) {
+            return store(fileName, mediaType, contentHead);
+        }
 
-        final byte[] maybeCompressedContent = Files.readAllBytes(filePath);
-        final byte[] actualContentDigest = DigestUtils.sha256(maybeCompressedContent);
-        final byte[] expectedContentDigest = HexFormat.of().parseHex(fileMetadata.getSha256Digest());
+        final Path filePath = prepareFilePath(fileName);
+        final URI locationUri = buildLocationUri(filePath);
 
-        if (!Arrays.equals(actualContentDigest, expectedContentDigest)) {
-            throw new IOException("SHA256 digest mismatch: actual=%s, expected=%s".formatted(
-                    HexFormat.of().formatHex(actualContentDigest), fileMetadata.getSha256Digest()));
+        final String contentDigestHex;
+        try (final var sequenceInputStream = new SequenceInputStream(new ByteArrayInputStream(contentHead), contentStream)) {
+            contentDigestHex = FileStorageStreams.copy(
+                    sequenceInputStream,
+                    new BufferedOutputStream(Files.newOutputStream(filePath)),
+                    /* compress */ true,
+                    compressionLevel);
         }
 
-        final long decompressedSize = Zstd.decompressedSize(maybeCompressedContent);
-        if (Zstd.decompressedSize(maybeCompressedContent) <= 0) {
-            return maybeCompressedContent; // Not compressed.
+        return FileMetadata.newBuilder()
+                .setLocation(locationUri.toString())
+                .setMediaType(mediaType)
+                .setSha256Digest(contentDigestHex)
+                .build();
+    }
+
+    @Override
+    public byte[] get(final FileMetadata fileMetadata) throws IOException {
+        try (final InputStream inputStream = getAsStream(fileMetadata)) {
+            return inputStream.readAllBytes();
         }
+    }
+
+    @Override
+    public InputStream getAsStream(final FileMetadata fileMetadata) throws IOException {
+        requireNonNull(fileMetadata, "fileMetadata must not be null");
 
-        return Zstd.decompress(maybeCompressedContent, Math.toIntExact(decompressedSize));
+        final Path filePath = resolveFilePath(fileMetadata);
+
+        final InputStream fileInputStream = Files.newInputStream(filePath);
+        try {
+            return FileStorageStreams.verifyingAndDecompressing(fileInputStream, fileMetadata);
+        } catch (IOException | RuntimeException e) {
+            fileInputStream.close();
+            throw e;
+        }
     }
 
     @Override
@@ -136,6 +152,33 @@ final class LocalFileStorage implements FileStorage {
         return Files.deleteIfExists(filePath);
     }
 
+    private Path prepareFilePath(final String fileName) throws IOException {
+        final Path filePath = resolveFilePath(fileName);
+        if (Files.isDirectory(filePath)) {
+            throw new IOException("Path %s exists, but is a directory".formatted(fileName));
+        }
+        if (!Files.exists(filePath.getParent())) {
+            LOGGER.debug("Creating parent directories of {}", filePath);
+            Files.createDirectories(filePath.getParent());
+        }
+
+        return filePath;
+    }
+
+    private URI buildLocationUri(final Path filePath) {
+        final Path relativeFilePath = baseDirPath.relativize(filePath);
+
+        try {
+            return new URIBuilder()
+                    .setScheme(EXTENSION_NAME)
+                    .setHost("")
+                    .setPath(relativeFilePath.toString())
+                    .build();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Failed to build URI for " + relativeFilePath, e);
+        }
+    }
+
     private Path resolveFilePath(final String filePath) {
         final Path resolvedFilePath = baseDirPath.resolve(filePath).normalize().toAbsolutePath();
         if (!resolvedFilePath.startsWith(baseDirPath)) {
@@ -22,7 +22,9 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.dependencytrack.proto.filestorage.v1.FileMetadata;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.NoSuchFileException;
@@ -98,6 +100,20 @@ final class MemoryFileStorage implements FileStorage {
         return fileContent;
     }
 
+    @Override
+    public InputStream getAsStream(final FileMetadata fileMetadata) throws IOException {
+        requireNonNull(fileMetadata, "fileMetadata must not be null");
+
+        final String fileName = resolveFileName(fileMetadata);
+
+        final byte[] fileContent = fileContentByKey.get(fileName);
+        if (fileContent == null) {
+            throw new NoSuchFileException(fileMetadata.getLocation());
+        }
+
+        return FileStorageStreams.verifyingAndDecompressing(new ByteArrayInputStream(fileContent), fileMetadata);
+    }
+
     @Override
     public boolean delete(final FileMetadata fileMetadata) {
         requireNonNull(fileMetadata, "fileMetadata must not be null");
@@ -31,12 +31,16 @@ import org.dependencytrack.proto.filestorage.v1.FileMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
-import java.util.Arrays;
+import java.nio.file.Path;
 import java.util.HexFormat;
 
 import static java.util.Objects.requireNonNull;
@@ -137,21 +141,87 @@ final class S3FileStorage implements FileStorage {
                 .build();
     }
 
+    @Override
+    public FileMetadata store(
+            final String fileName,
+            final String mediaType,
+            final InputStream contentStream) throws IOException {
+        requireValidFileName(fileName);
+        requireNonNull(contentStream, "contentStream must not be null");
+
+        // Content smaller than the compression threshold is stored as-is.
+        // Only buffer as much as is needed to make that decision.
+        final byte[] contentHead = contentStream.readNBytes(compressionThresholdBytes);
+        if (contentHead.length < compressionThresholdBytes) {
+            return store(fileName, mediaType, contentHead);
+        }
+
+        final var fileLocation = new S3FileLocation(bucketName, fileName);
+        final URI locationUri = fileLocation.asURI();
+
+        // The size of the compressed content is not known upfront, but S3 uploads of
+        // unknown size require multipart uploads with large, in-memory buffered parts.
+        // Spool the compressed content to a temporary file instead, which also allows
+        // the digest to be calculated before the upload starts.
+        final Path tempFilePath = Files.createTempFile("dtrack-s3-upload-", null);
+        try {
+            final String contentDigestHex;
+            try (final var sequenceInputStream = new SequenceInputStream(new ByteArrayInputStream(contentHead), contentStream)) {
+                contentDigestHex = FileStorageStreams.copy(
+                        sequenceInputStream,
+                        new BufferedOutputStream(Files.newOutputStream(tempFilePath)),
+                        /* compress */ true,
+                        compressionLevel);
+            }
+
+            try (final InputStream tempFileInputStream = Files.newInputStream(tempFilePath)) {
+                s3Client.putObject(PutObjectArgs.builder()
+                        .bucket(fileLocation.bucket())
+                        .object(fileLocation.object())
+                        .stream(tempFileInputStream, Files.size(tempFilePath), -1)
+                        .build());
+            } catch (Exception e) {
+                if (e instanceof final IOException ioe) {
+                    throw ioe;
+                }
+
+                throw new IOException(e);
+            }
+
+            return FileMetadata.newBuilder()
+                    .setLocation(locationUri.toString())
+                    .setMediaType(mediaType)
+                    .setSha256Digest(contentDigestHex)
+                    .build();
+        } finally {
+            try {
+                Files.deleteIfExists(tempFilePath);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to delete temporary file {}", tempFilePath, e);
+            }
+        }
+    }
+
     @Override
     public byte[] get(final FileMetadata fileMetadata) throws IOException {
+        try (final InputStream inputStream = getAsStream(fileMetadata)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    @Override
+    public InputStream getAsStream(final FileMetadata fileMetadata) throws IOException {
         requireNonNull(fileMetadata, "fileMetadata must not be null");
 
         final var fileLocation = S3FileLocation.from(fileMetadata);
 
-        final byte[] maybeCompressedContent;
+        final GetObjectResponse response;
         try {
-            try (final GetObjectResponse response = s3Client.getObject(
+            response = s3Client.getObject(
                     GetObjectArgs.builder()
                             .bucket(fileLocation.bucket())
                             .object(fileLocation.object())
-                            .build())) {
-                maybeCompressedContent = response.readAllBytes();
-            }
+                            .build());
         } catch (ErrorResponseException e) {
             // https://docs.aws.amazon.com/AmazonS3/latest/API/ErrorResponses.html#ErrorCodeList
             if ("NoSuchKey".equalsIgnoreCase(e.errorResponse().code())) {
@@ -167,20 +237,12 @@ final class S3FileStorage implements FileStorage {
             throw new IOException(e);
         }
 
-        final byte[] actualContentDigest = DigestUtils.sha256(maybeCompressedContent);
-        final byte[] expectedContentDigest = HexFormat.of().parseHex(fileMetadata.getSha256Digest());
-
-        if (!Arrays.equals(actualContentDigest, expectedContentDigest)) {
-            throw new IOException("SHA256 digest mismatch: actual=%s, expected=%s".formatted(
-                    HexFormat.of().formatHex(actualContentDigest), fileMetadata.getSha256Digest()));
-        }
-
-        final long decompressedSize = Zstd.decompressedSize(maybeCompressedContent);
-        if (Zstd.decompressedSize(maybeCompressedContent) <= 0) {
-            return maybeCompressedContent; // Not compressed.
+        try {
+            return FileStorageStreams.verifyingAndDecompressing(response, fileMetadata);
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
         }
-
-        return Zstd.decompress(maybeCompressedContent, Math.toIntExact(decompressedSize));
     }
 
     @Override
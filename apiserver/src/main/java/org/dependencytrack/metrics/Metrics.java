@@ -18,13 +18,22 @@
  */
 package org.dependencytrack.metrics;
 
+import alpine.Config;
+import alpine.common.logging.Logger;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
+import org.jdbi.v3.core.Handle;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 
 /**
  * Helper class for enhancing metrics.
@@ -34,6 +43,54 @@ import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
  */
 public final class Metrics {
 
+    private static final Logger LOGGER = Logger.getLogger(Metrics.class);
+
+    /**
+     * Strategies for calculating {@link Project} metrics.
+     *
+     * @since 5.6.0
+     */
+    public enum ProjectMetricsEngine {
+
+        /**
+         * Calculate metrics component-by-component, using the {@code UPDATE_PROJECT_METRICS} procedure.
+         */
+        PROCEDURAL("UPDATE_PROJECT_METRICS"),
+
+        /**
+         * Calculate metrics for all components at once, using the {@code UPDATE_PROJECT_METRICS_SET_BASED} procedure.
+         */
+        SET_BASED("UPDATE_PROJECT_METRICS_SET_BASED");
+
+        private static final ProjectMetricsEngine CONFIGURED = resolve(
+                Config.getInstance().getProperty(ConfigKey.METRICS_UPDATE_ENGINE));
+
+        private final String procedureName;
+
+        ProjectMetricsEngine(final String procedureName) {
+            this.procedureName = procedureName;
+        }
+
+        static ProjectMetricsEngine fromConfig() {
+            return CONFIGURED;
+        }
+
+        private static ProjectMetricsEngine resolve(final String value) {
+            if (value == null || value.isBlank()) {
+                return PROCEDURAL;
+            }
+
+            try {
+                return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Invalid value \"%s\" for %s; Falling back to %s".formatted(
+                        value, ConfigKey.METRICS_UPDATE_ENGINE.getPropertyName(), PROCEDURAL));
+                return PROCEDURAL;
+            }
+        }
+
+    }
+
     private Metrics() {
     }
 
@@ -68,10 +125,72 @@ public final class Metrics {
      * @since 5.0.0
      */
     public static void updateProjectMetrics(final UUID projectUuid) {
-        useJdbiHandle(handle -> handle
-                .createCall("CALL \"UPDATE_PROJECT_METRICS\"(:uuid)")
+        updateProjectMetrics(projectUuid, ProjectMetricsEngine.fromConfig());
+    }
+
+    /**
+     * Update metrics for a given {@link Project}, using a given {@link ProjectMetricsEngine}.
+     *
+     * @param projectUuid {@link UUID} of the {@link Project} to update metrics for
+     * @param engine      The {@link ProjectMetricsEngine} to use
+     * @since 5.6.0
+     */
+    public static void updateProjectMetrics(final UUID projectUuid, final ProjectMetricsEngine engine) {
+        useJdbiHandle(handle -> updateProjectMetrics(handle, projectUuid, engine));
+    }
+
+    /**
+     * Incrementally update metrics for a given {@link Project}.
+     * <p>
+     * Only metrics of {@link Component}s for which changes were recorded via
+     * {@link MetricsDao#recordComponentMetricsChanges(Collection)}, and of {@link Component}s
+     * that do not have any metrics yet, are re-calculated. The most recent metrics of all other
+     * {@link Component}s are re-used when aggregating the {@link ProjectMetrics}.
+     * <p>
+     * Falls back to {@link #updateProjectMetrics(UUID)} when more changes than
+     * {@link ConfigKey#METRICS_UPDATE_INCREMENTAL_MAX_CHANGES} were recorded.
+     * <p>
+     * Not all writers record their changes, e.g. edits of internal vulnerabilities and VEX uploads
+     * do not. Metrics affected by such changes are only corrected by a full re-calculation,
+     * as performed for all projects by the portfolio metrics update task.
+     *
+     * @param projectUuid {@link UUID} of the {@link Project} to update metrics for
+     * @since 5.6.0
+     */
+    public static void updateProjectMetricsIncrementally(final UUID projectUuid) {
+        final int maxChanges = Config.getInstance().getPropertyAsInt(ConfigKey.METRICS_UPDATE_INCREMENTAL_MAX_CHANGES);
+        final ProjectMetricsEngine engine = ProjectMetricsEngine.fromConfig();
+
+        // Claiming the changes and updating the metrics happens in the same transaction,
+        // such that changes are not lost when the update fails.
+        useJdbiTransaction(handle -> {
+            final List<Long> changedComponentIds =
+                    handle.attach(MetricsDao.class).claimComponentMetricsChanges(projectUuid);
+            if (changedComponentIds.size() > maxChanges) {
+                updateProjectMetrics(handle, projectUuid, engine);
+                return;
+            }
+
+            handle.createCall("CALL \"UPDATE_PROJECT_METRICS_INCREMENTAL\"(:uuid, :componentIds)")
+                    .bind("uuid", projectUuid)
+                    .bindArray("componentIds", Long.class, changedComponentIds)
+                    .invoke();
+        });
+    }
+
+    /**
+     * @return Whether changes relevant to metrics shall be recorded, such that
+     * {@link #updateProjectMetricsIncrementally(UUID)} can be used
+     * @since 5.6.0
+     */
+    public static boolean isIncrementalUpdateEnabled() {
+        return Config.getInstance().getPropertyAsBoolean(ConfigKey.METRICS_UPDATE_INCREMENTAL_ENABLED);
+    }
+
+    private static void updateProjectMetrics(final Handle handle, final UUID projectUuid, final ProjectMetricsEngine engine) {
+        handle.createCall("CALL \"%s\"(:uuid)".formatted(engine.procedureName))
                 .bind("uuid", projectUuid)
-                .invoke());
+                .invoke();
     }
 
     /**
@@ -379,31 +379,56 @@ public class VersionDistance implements Comparable<VersionDistance>, Serializabl
      * @return true if the condition is true for the components versionDistance, false otherwise
      */
     public static boolean evaluate(final org.dependencytrack.proto.policy.v1.VersionDistance policyConditionValue, final String policyConditionOperator, final VersionDistance versionDistance) {
-        final var operator = PolicyCondition.Operator.valueOf(policyConditionOperator);
-        final var value = policyConditionValue;
-
         if (policyConditionValue != null) {
-            var epoch = policyConditionValue.getEpoch().equals("") ? "0" : policyConditionValue.getEpoch();
-            var major = policyConditionValue.getMajor().equals("") ? "?" : policyConditionValue.getMajor();
-            var minor = policyConditionValue.getMinor().equals("") ? "?" : policyConditionValue.getMinor();
-            var patch = policyConditionValue.getPatch().equals("") ? "?" : policyConditionValue.getPatch();
             final List<VersionDistance> versionDistanceList;
             try {
-                versionDistanceList = VersionDistance.parse(epoch + ":" + major + "." + minor + "." + patch);
+                versionDistanceList = parse(policyConditionValue);
             } catch (IllegalArgumentException e) {
                 LOGGER.error("Invalid version distance format", e);
                 return false;
             }
-            if (versionDistanceList.isEmpty()) {
-                versionDistanceList.add(new VersionDistance(0, 0, 0));
-            }
-            return versionDistanceList.stream().reduce(
-                    false,
-                    (latest, current) -> latest || matches(operator, current, versionDistance),
-                    Boolean::logicalOr
-            );
+            return evaluate(versionDistanceList, policyConditionOperator, versionDistance);
         }
         return false;
 
     }
+
+    /**
+     * Evaluate VersionDistance conditions, that were previously parsed using {@link #parse(org.dependencytrack.proto.policy.v1.VersionDistance)},
+     * for a given versionDistance.
+     *
+     * @param policyDistances         parsed condition value
+     * @param policyConditionOperator condition operator
+     * @param versionDistance         the {@link VersionDistance} to evalue
+     * @return true if the condition is true for the components versionDistance, false otherwise
+     * @since 5.6.0
+     */
+    public static boolean evaluate(final List<VersionDistance> policyDistances, final String policyConditionOperator, final VersionDistance versionDistance) {
+        final var operator = PolicyCondition.Operator.valueOf(policyConditionOperator);
+        return policyDistances.stream().reduce(
+                false,
+                (latest, current) -> latest || matches(operator, current, versionDistance),
+                Boolean::logicalOr
+        );
+    }
+
+    /**
+     * Parse a VersionDistance condition value into a list of {@link VersionDistance}s.
+     *
+     * @param policyConditionValue condition value {@link VersionDistance}
+     * @return an unmodifiable list of {@link VersionDistance}s
+     * @throws IllegalArgumentException if the condition value is invalid
+     * @since 5.6.0
+     */
+    public static List<VersionDistance> parse(final org.dependencytrack.proto.policy.v1.VersionDistance policyConditionValue) {
+        var epoch = policyConditionValue.getEpoch().equals("") ? "0" : policyConditionValue.getEpoch();
+        var major = policyConditionValue.getMajor().equals("") ? "?" : policyConditionValue.getMajor();
+        var minor = policyConditionValue.getMinor().equals("") ? "?" : policyConditionValue.getMinor();
+        var patch = policyConditionValue.getPatch().equals("") ? "?" : policyConditionValue.getPatch();
+        final List<VersionDistance> versionDistanceList = parse(epoch + ":" + major + "." + minor + "." + patch);
+        if (versionDistanceList.isEmpty()) {
+            return List.of(new VersionDistance(0, 0, 0));
+        }
+        return List.copyOf(versionDistanceList);
+    }
 }
\ No newline at end of file
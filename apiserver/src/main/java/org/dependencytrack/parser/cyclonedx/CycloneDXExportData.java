@@ -0,0 +1,110 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import org.dependencytrack.model.Analysis;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.parser.cyclonedx.util.ModelConverter;
+import org.dependencytrack.persistence.jdbi.BomExportDao;
+import org.dependencytrack.persistence.jdbi.BomExportDao.FindingEdge;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Vulnerability data of a project, as required for CycloneDX exports.
+ * <p>
+ * All data is loaded upfront with a constant number of queries, and indexed in memory.
+ * This avoids lazy loading of vulnerabilities and analyses for every single component or finding.
+ *
+ * @since 5.6.0
+ */
+final class CycloneDXExportData {
+
+    private final List<FindingEdge> findingEdges;
+    private final Map<Long, Vulnerability> vulnerabilityById;
+    private final Set<UUID> vulnerableComponentUuids;
+
+    private CycloneDXExportData(final List<FindingEdge> findingEdges, final List<Vulnerability> vulnerabilities) {
+        this.findingEdges = findingEdges;
+        this.vulnerabilityById = vulnerabilities.stream()
+                .collect(Collectors.toMap(Vulnerability::getId, Function.identity()));
+        this.vulnerableComponentUuids = findingEdges.stream()
+                .map(FindingEdge::componentUuid)
+                .collect(Collectors.toSet());
+    }
+
+    static CycloneDXExportData load(final long projectId) {
+        return withJdbiHandle(handle -> {
+            final var dao = handle.attach(BomExportDao.class);
+            return new CycloneDXExportData(
+                    dao.getFindingEdgesByProject(projectId),
+                    dao.getVulnerabilitiesByProject(projectId));
+        });
+    }
+
+    boolean isVulnerable(final UUID componentUuid) {
+        return vulnerableComponentUuids.contains(componentUuid);
+    }
+
+    /**
+     * Convert all findings to CycloneDX vulnerabilities, omitting duplicates.
+     * <p>
+     * Conversion happens lazily, as the returned {@link Stream} is consumed.
+     *
+     * @param variant     The {@link CycloneDXExporter.Variant} being exported
+     * @param projectUuid UUID of the project being exported
+     * @return A {@link Stream} of CycloneDX vulnerabilities
+     */
+    Stream<org.cyclonedx.model.vulnerability.Vulnerability> vulnerabilities(
+            final CycloneDXExporter.Variant variant,
+            final UUID projectUuid) {
+        final var vulnerabilitiesSeen = new HashSet<org.cyclonedx.model.vulnerability.Vulnerability>();
+        return findingEdges.stream()
+                .map(findingEdge -> ModelConverter.convert(
+                        variant,
+                        vulnerabilityById.get(findingEdge.vulnerabilityId()),
+                        findingEdge.componentUuid(),
+                        projectUuid,
+                        createAnalysis(findingEdge)))
+                .filter(vulnerabilitiesSeen::add);
+    }
+
+    private static Analysis createAnalysis(final FindingEdge findingEdge) {
+        if (findingEdge.analysisState() == null) {
+            return null;
+        }
+
+        final var analysis = new Analysis();
+        analysis.setAnalysisState(findingEdge.analysisState());
+        analysis.setAnalysisJustification(findingEdge.analysisJustification());
+        analysis.setAnalysisResponse(findingEdge.analysisResponse());
+        analysis.setAnalysisDetails(findingEdge.analysisDetails());
+        return analysis;
+    }
+
+}
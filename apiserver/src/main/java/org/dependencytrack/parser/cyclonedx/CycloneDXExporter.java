@@ -22,19 +22,29 @@ import org.cyclonedx.Version;
 import org.cyclonedx.exception.GeneratorException;
 import org.cyclonedx.generators.BomGeneratorFactory;
 import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Dependency;
 import org.dependencytrack.model.Component;
-import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ServiceComponent;
 import org.dependencytrack.parser.cyclonedx.util.ModelConverter;
 import org.dependencytrack.persistence.QueryManager;
-import org.dependencytrack.persistence.jdbi.FindingDao;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
 
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class CycloneDXExporter {
@@ -51,6 +61,13 @@ public class CycloneDXExporter {
         VEX
     }
 
+    private static final Version VERSION = Version.VERSION_15;
+
+    /**
+     * Number of BOM elements that are loaded and converted at once during streaming exports.
+     */
+    private static final int STREAMING_CHUNK_SIZE = 500;
+
     private final QueryManager qm;
     private final CycloneDXExporter.Variant variant;
 
@@ -62,12 +79,10 @@ public class CycloneDXExporter {
     public Bom create(final Project project) {
         final List<Component> components = qm.getAllComponents(project);
         final List<ServiceComponent> services = qm.getAllServiceComponents(project);
-        final List<Finding> findings = switch (variant) {
-            case INVENTORY_WITH_VULNERABILITIES, VDR, VEX -> withJdbiHandle(handle ->
-                    handle.attach(FindingDao.class).getFindings(project.getId(), true));
-            default -> null;
-        };
-        return create(components, services, findings, project);
+        final CycloneDXExportData exportData = Variant.INVENTORY != variant
+                ? CycloneDXExportData.load(project.getId())
+                : null;
+        return create(components, services, exportData, project);
     }
 
     public Bom create(final Component component) {
@@ -76,10 +91,10 @@ public class CycloneDXExporter {
         return create(components, null, null, null);
     }
 
-    private Bom create(List<Component>components, final List<ServiceComponent> services, final List<Finding> findings, final Project project) {
-        if (Variant.VDR == variant) {
+    private Bom create(List<Component>components, final List<ServiceComponent> services, final CycloneDXExportData exportData, final Project project) {
+        if (Variant.VDR == variant && exportData != null) {
             components = components.stream()
-                    .filter(component -> !component.getVulnerabilities().isEmpty())
+                    .filter(component -> exportData.isVulnerable(component.getUuid()))
                     .toList();
         }
         final List<org.cyclonedx.model.Component> cycloneComponents = (Variant.VEX != variant && components != null) ? components.stream().map(component -> ModelConverter.convert(qm, component)).collect(Collectors.toList()) : null;
@@ -90,7 +105,9 @@ public class CycloneDXExporter {
         bom.setMetadata(ModelConverter.createMetadata(project));
         bom.setComponents(cycloneComponents);
         bom.setServices(cycloneServices);
-        bom.setVulnerabilities(ModelConverter.generateVulnerabilities(qm, variant, findings));
+        bom.setVulnerabilities(exportData != null
+                ? exportData.vulnerabilities(variant, project.getUuid()).toList()
+                : Collections.emptyList());
         if (cycloneComponents != null) {
             bom.setDependencies(ModelConverter.generateDependencies(project, components));
         }
@@ -101,9 +118,253 @@ public class CycloneDXExporter {
         // TODO: The output version should be user-controllable.
 
         if (Format.JSON == format) {
-            return BomGeneratorFactory.createJson(Version.VERSION_15, bom).toJsonString();
+            return BomGeneratorFactory.createJson(VERSION, bom).toJsonString();
         } else {
-            return BomGeneratorFactory.createXml(Version.VERSION_15, bom).toXmlString();
+            return BomGeneratorFactory.createXml(VERSION, bom).toXmlString();
+        }
+    }
+
+    /**
+     * A {@link Project} export of which everything but the potentially large collections of components,
+     * services, dependencies, and vulnerabilities has been loaded.
+     *
+     * @see #prepare(Project)
+     * @since 5.6.0
+     */
+    public static final class PreparedExport {
+
+        private final long projectId;
+        private final String projectUuid;
+        private final String projectDirectDependencies;
+        private final Bom headerBom;
+        private final CycloneDXExportData exportData;
+
+        private PreparedExport(
+                final long projectId,
+                final String projectUuid,
+                final String projectDirectDependencies,
+                final Bom headerBom,
+                final CycloneDXExportData exportData) {
+            this.projectId = projectId;
+            this.projectUuid = projectUuid;
+            this.projectDirectDependencies = projectDirectDependencies;
+            this.headerBom = headerBom;
+            this.exportData = exportData;
+        }
+
+    }
+
+    /**
+     * Prepare the export of a {@link Project}, such that {@link #export(PreparedExport, Format, OutputStream)}
+     * only has to load and write the elements of the BOM.
+     * <p>
+     * Everything that can fail independently of the BOM's elements happens here. When the export is written
+     * to a response, this should be called before the response is committed, so that failures can still
+     * be reported to the client.
+     *
+     * @param project The {@link Project} to export
+     * @return The {@link PreparedExport}
+     * @since 5.6.0
+     */
+    public PreparedExport prepare(final Project project) {
+        final var headerBom = new Bom();
+        headerBom.setSerialNumber("urn:uuid:" + UUID.randomUUID());
+        headerBom.setVersion(1);
+        headerBom.setMetadata(ModelConverter.createMetadata(project));
+
+        return new PreparedExport(
+                project.getId(),
+                project.getUuid().toString(),
+                project.getDirectDependencies(),
+                headerBom,
+                Variant.INVENTORY != variant
+                        ? CycloneDXExportData.load(project.getId())
+                        : null);
+    }
+
+    /**
+     * Export a {@link Project} as CycloneDX BOM, writing it to a given {@link OutputStream} as it is being created.
+     *
+     * @param project      The {@link Project} to export
+     * @param format       The {@link Format} to export in
+     * @param outputStream The {@link OutputStream} to write to; Will not be closed
+     * @see #export(PreparedExport, Format, OutputStream)
+     * @since 5.6.0
+     */
+    public void export(final Project project, final Format format, final OutputStream outputStream) throws IOException {
+        export(prepare(project), format, outputStream);
+    }
+
+    /**
+     * Export a {@link PreparedExport} as CycloneDX BOM, writing it to a given {@link OutputStream} as it is being created.
+     * <p>
+     * Produces the same document as {@link #export(Bom, Format)} with {@link #create(Project)}, but only ever
+     * holds a chunk of {@value #STREAMING_CHUNK_SIZE} components, services, dependencies, or vulnerabilities
+     * in memory. Loaded objects are evicted from the {@link PersistenceManager} after each chunk, so the
+     * {@link QueryManager} should not be shared with other operations.
+     * <p>
+     * When an exception is thrown, the document written so far is incomplete.
+     *
+     * @param export       The {@link PreparedExport} to export
+     * @param format       The {@link Format} to export in
+     * @param outputStream The {@link OutputStream} to write to; Will not be closed
+     * @since 5.6.0
+     */
+    public void export(final PreparedExport export, final Format format, final OutputStream outputStream) throws IOException {
+        final StreamingBomWriter writer = StreamingBomWriter.create(format, VERSION, outputStream);
+        writer.writeHeader(export.headerBom);
+
+        if (Variant.VEX != variant) {
+            final Set<String> componentUuids = streamComponents(export.projectId, export.exportData, writer);
+            streamServices(qm.getObjectById(Project.class, export.projectId), writer);
+            streamDependencies(export.projectId, export.projectUuid, export.projectDirectDependencies, componentUuids, writer);
+        }
+
+        if (export.exportData != null) {
+            streamVulnerabilities(export.exportData, UUID.fromString(export.projectUuid), writer);
+        }
+
+        writer.finish();
+    }
+
+    private Set<String> streamComponents(
+            final long projectId,
+            final CycloneDXExportData exportData,
+            final StreamingBomWriter writer) throws IOException {
+        // Fetch only IDs upfront, in the same order that QueryManager#getAllComponents uses.
+        final List<Long> componentIds = withJdbiHandle(handle -> handle.createQuery(/* language=SQL */ """
+                        SELECT "ID"
+                          FROM "COMPONENT"
+                         WHERE "PROJECT_ID" = :projectId
+                         ORDER BY "NAME", "ID"
+                        """)
+                .bind("projectId", projectId)
+                .mapTo(Long.class)
+                .list());
+
+        final PersistenceManager pm = qm.getPersistenceManager();
+        final var componentUuids = new HashSet<String>();
+        for (int i = 0; i < componentIds.size(); i += STREAMING_CHUNK_SIZE) {
+            final List<Long> chunkIds = componentIds.subList(i, Math.min(i + STREAMING_CHUNK_SIZE, componentIds.size()));
+
+            final Query<Component> query = pm.newQuery(Component.class, ":ids.contains(id)");
+            query.getFetchPlan().setMaxFetchDepth(2);
+            query.setOrdering("name asc, id asc");
+            query.setParameters(chunkIds);
+            final List<Component> components;
+            try {
+                components = List.copyOf(query.executeList());
+            } finally {
+                query.closeAll();
+            }
+
+            final List<org.cyclonedx.model.Component> cdxComponents = new ArrayList<>(components.size());
+            for (final Component component : components) {
+                if (Variant.VDR == variant && !exportData.isVulnerable(component.getUuid())) {
+                    continue;
+                }
+
+                componentUuids.add(component.getUuid().toString());
+                cdxComponents.add(ModelConverter.convert(qm, component));
+            }
+
+            final var chunkBom = new Bom();
+            chunkBom.setComponents(cdxComponents);
+            writer.writeSection(StreamingBomWriter.Section.COMPONENTS, chunkBom);
+
+            pm.evictAll();
+        }
+
+        return componentUuids;
+    }
+
+    private void streamServices(final Project project, final StreamingBomWriter writer) throws IOException {
+        final List<ServiceComponent> services = qm.getAllServiceComponents(project);
+        for (int i = 0; i < services.size(); i += STREAMING_CHUNK_SIZE) {
+            final var chunkBom = new Bom();
+            chunkBom.setServices(services.subList(i, Math.min(i + STREAMING_CHUNK_SIZE, services.size())).stream()
+                    .map(service -> ModelConverter.convert(qm, service))
+                    .collect(Collectors.toList()));
+            writer.writeSection(StreamingBomWriter.Section.SERVICES, chunkBom);
+        }
+
+        qm.getPersistenceManager().evictAll();
+    }
+
+    private void streamDependencies(
+            final long projectId,
+            final String projectUuid,
+            final String projectDirectDependencies,
+            final Set<String> componentUuids,
+            final StreamingBomWriter writer) throws IOException {
+        final var dependencies = new ArrayList<Dependency>(STREAMING_CHUNK_SIZE);
+        dependencies.add(ModelConverter.generateDependency(projectUuid, projectDirectDependencies, componentUuids));
+
+        try (final Handle jdbiHandle = openJdbiHandle()) {
+            // Fetching with a cursor requires auto-commit to be disabled.
+            jdbiHandle.begin();
+            try (final ResultIterator<Dependency> dependencyIterator = jdbiHandle.createQuery(/* language=SQL */ """
+                            SELECT "UUID"
+                                 , "DIRECT_DEPENDENCIES"
+                              FROM "COMPONENT"
+                             WHERE "PROJECT_ID" = :projectId
+                             ORDER BY "NAME", "ID"
+                            """)
+                    .bind("projectId", projectId)
+                    .setFetchSize(STREAMING_CHUNK_SIZE)
+                    .map((rs, ctx) -> {
+                        final String componentUuid = rs.getString("UUID");
+                        if (!componentUuids.contains(componentUuid)) {
+                            return null;
+                        }
+
+                        return ModelConverter.generateDependency(componentUuid, rs.getString("DIRECT_DEPENDENCIES"), componentUuids);
+                    })
+                    .iterator()) {
+                while (dependencyIterator.hasNext()) {
+                    final Dependency dependency = dependencyIterator.next();
+                    if (dependency != null) {
+                        dependencies.add(dependency);
+                    }
+
+                    if (dependencies.size() >= STREAMING_CHUNK_SIZE) {
+                        writeDependencies(dependencies, writer);
+                    }
+                }
+            } finally {
+                jdbiHandle.rollback();
+            }
+        }
+
+        writeDependencies(dependencies, writer);
+    }
+
+    private static void writeDependencies(final List<Dependency> dependencies, final StreamingBomWriter writer) throws IOException {
+        if (dependencies.isEmpty()) {
+            return;
+        }
+
+        final var chunkBom = new Bom();
+        chunkBom.setDependencies(new ArrayList<>(dependencies));
+        writer.writeSection(StreamingBomWriter.Section.DEPENDENCIES, chunkBom);
+        dependencies.clear();
+    }
+
+    private void streamVulnerabilities(
+            final CycloneDXExportData exportData,
+            final UUID projectUuid,
+            final StreamingBomWriter writer) throws IOException {
+        final Iterator<org.cyclonedx.model.vulnerability.Vulnerability> vulnerabilityIterator =
+                exportData.vulnerabilities(variant, projectUuid).iterator();
+        while (vulnerabilityIterator.hasNext()) {
+            final var vulnerabilities = new ArrayList<org.cyclonedx.model.vulnerability.Vulnerability>(STREAMING_CHUNK_SIZE);
+            while (vulnerabilityIterator.hasNext() && vulnerabilities.size() < STREAMING_CHUNK_SIZE) {
+                vulnerabilities.add(vulnerabilityIterator.next());
+            }
+
+            final var chunkBom = new Bom();
+            chunkBom.setVulnerabilities(vulnerabilities);
+            writer.writeSection(StreamingBomWriter.Section.VULNERABILITIES, chunkBom);
         }
     }
 
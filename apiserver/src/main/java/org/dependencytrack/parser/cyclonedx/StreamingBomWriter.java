@@ -0,0 +1,462 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter.Inclusion;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+import org.codehaus.stax2.XMLStreamWriter2;
+import org.codehaus.stax2.util.StreamWriter2Delegate;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.generators.xml.BomXmlGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.BomReference;
+import org.cyclonedx.util.mixin.MixInBomReference;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes a CycloneDX BOM to an {@link OutputStream} incrementally, without requiring
+ * the entire {@link Bom} object model to be held in memory.
+ * <p>
+ * Serialization is delegated to the {@link ObjectMapper}s of cyclonedx-core-java, such that the output
+ * is equivalent to that of {@link CycloneDXExporter#export(Bom, CycloneDXExporter.Format)}. Each chunk is
+ * serialized directly to the output, while a filter drops all tokens that lie outside the {@link Section}
+ * being written. Only the elements of the chunk currently being written are held in memory.
+ * <p>
+ * Usage: {@link #writeHeader(Bom)} once, {@link #writeSection(Section, Bom)} any number of times,
+ * and finally {@link #finish()}. Sections must be written in the order in which they are declared
+ * in {@link Section}, and all chunks of a section must be written consecutively.
+ * <p>
+ * When writing fails, the document is left incomplete. It must not be finished in that case.
+ *
+ * @since 5.6.0
+ */
+abstract class StreamingBomWriter {
+
+    enum Section {
+
+        COMPONENTS("components", Bom::getComponents),
+        SERVICES("services", Bom::getServices),
+        DEPENDENCIES("dependencies", Bom::getDependencies),
+        VULNERABILITIES("vulnerabilities", Bom::getVulnerabilities);
+
+        private final String elementName;
+        private final Function<Bom, List<?>> elementsAccessor;
+
+        Section(final String elementName, final Function<Bom, List<?>> elementsAccessor) {
+            this.elementName = elementName;
+            this.elementsAccessor = elementsAccessor;
+        }
+
+        private boolean isEmptyIn(final Bom bom) {
+            final List<?> elements = elementsAccessor.apply(bom);
+            return elements == null || elements.isEmpty();
+        }
+
+    }
+
+    Section currentSection;
+
+    static StreamingBomWriter create(
+            final CycloneDXExporter.Format format,
+            final Version version,
+            final OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case JSON -> new Json(version, outputStream);
+            case XML -> new Xml(version, outputStream);
+        };
+    }
+
+    /**
+     * Write all elements of a given {@link Bom} that are not part of any {@link Section}.
+     *
+     * @param bom The {@link Bom} holding serial number, version, and metadata
+     */
+    abstract void writeHeader(final Bom bom) throws IOException;
+
+    /**
+     * Write a chunk of elements of a given {@link Section}.
+     *
+     * @param section The {@link Section} to write
+     * @param chunk   A {@link Bom} holding only the chunk of elements to write
+     */
+    abstract void writeSection(final Section section, final Bom chunk) throws IOException;
+
+    /**
+     * Close all open elements and flush the output.
+     * <p>
+     * The underlying {@link OutputStream} is not closed.
+     */
+    abstract void finish() throws IOException;
+
+    private static final class Json extends StreamingBomWriter {
+
+        /**
+         * Includes all elements of an array, but not the array itself.
+         */
+        private static final TokenFilter ELEMENTS_FILTER = new TokenFilter() {
+
+            @Override
+            public TokenFilter includeElement(final int index) {
+                return TokenFilter.INCLUDE_ALL;
+            }
+
+        };
+
+        private final Version version;
+        private final ObjectMapper mapper;
+        private final JsonGenerator generator;
+
+        private Json(final Version version, final OutputStream outputStream) throws IOException {
+            this.version = version;
+            this.mapper = new MapperAccessor(new Bom(), version).mapper();
+            this.mapper.addMixIn(BomReference.class, MixInBomReference.class);
+            this.generator = mapper.getFactory()
+                    .createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        void writeHeader(final Bom bom) throws IOException {
+            // Populates bomFormat and specVersion of the BOM.
+            new MapperAccessor(bom, version);
+
+            generator.writeStartObject();
+            mapper.writeValue(new RootUnwrappingGenerator(generator), bom);
+        }
+
+        @Override
+        void writeSection(final Section section, final Bom chunk) throws IOException {
+            if (section.isEmptyIn(chunk)) {
+                return;
+            }
+
+            if (currentSection != section) {
+                if (currentSection != null) {
+                    generator.writeEndArray();
+                }
+
+                generator.writeArrayFieldStart(section.elementName);
+                currentSection = section;
+            }
+
+            mapper.writeValue(filtered(new TokenFilter() {
+
+                @Override
+                public TokenFilter includeProperty(final String name) {
+                    return section.elementName.equals(name) ? ELEMENTS_FILTER : null;
+                }
+
+            }), chunk);
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (currentSection != null) {
+                generator.writeEndArray();
+            }
+
+            generator.writeEndObject();
+            generator.close();
+        }
+
+        private JsonGenerator filtered(final TokenFilter filter) {
+            return new FilteringGeneratorDelegate(generator, filter, Inclusion.ONLY_INCLUDE_ALL, true);
+        }
+
+        /**
+         * A {@link JsonGenerator} that writes the fields of the root object, but not the root object itself.
+         */
+        private static final class RootUnwrappingGenerator extends JsonGeneratorDelegate {
+
+            private int objectDepth;
+
+            private RootUnwrappingGenerator(final JsonGenerator delegate) {
+                super(delegate, false);
+            }
+
+            @Override
+            public void writeStartObject() throws IOException {
+                if (objectDepth++ > 0) {
+                    super.writeStartObject();
+                }
+            }
+
+            @Override
+            public void writeStartObject(final Object forValue) throws IOException {
+                if (objectDepth++ > 0) {
+                    super.writeStartObject(forValue);
+                }
+            }
+
+            @Override
+            public void writeStartObject(final Object forValue, final int size) throws IOException {
+                if (objectDepth++ > 0) {
+                    super.writeStartObject(forValue, size);
+                }
+            }
+
+            @Override
+            public void writeEndObject() throws IOException {
+                if (--objectDepth > 0) {
+                    super.writeEndObject();
+                }
+            }
+
+        }
+
+        private static final class MapperAccessor extends BomJsonGenerator {
+
+            private MapperAccessor(final Bom bom, final Version version) {
+                super(bom, version);
+            }
+
+            private ObjectMapper mapper() {
+                return mapper;
+            }
+
+        }
+
+    }
+
+    private static final class Xml extends StreamingBomWriter {
+
+        private final Version version;
+        private final ObjectMapper mapper;
+        private final XmlFactory xmlFactory;
+        private final XMLStreamWriter2 writer;
+
+        private Xml(final Version version, final OutputStream outputStream) throws IOException {
+            this.version = version;
+            this.mapper = new MapperAccessor(new Bom(), version).mapper();
+            this.xmlFactory = (XmlFactory) mapper.getFactory();
+            try {
+                this.writer = (XMLStreamWriter2) xmlFactory.getXMLOutputFactory()
+                        .createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        void writeHeader(final Bom bom) throws IOException {
+            // The namespace is written as regular attribute of the root element.
+            bom.setXmlns(version.getNamespace());
+
+            try {
+                writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+                serialize(bom, new ChunkWriter(null, false));
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        void writeSection(final Section section, final Bom chunk) throws IOException {
+            if (section.isEmptyIn(chunk)) {
+                return;
+            }
+
+            try {
+                final boolean openSection = currentSection != section;
+                if (openSection && currentSection != null) {
+                    writer.writeEndElement();
+                }
+
+                serialize(chunk, new ChunkWriter(section, openSection));
+                currentSection = section;
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        void finish() throws IOException {
+            try {
+                if (currentSection != null) {
+                    writer.writeEndElement();
+                }
+
+                writer.writeEndElement();
+                writer.writeEndDocument();
+                writer.flush();
+                writer.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        private void serialize(final Bom bom, final ChunkWriter chunkWriter) throws IOException {
+            mapper.writeValue(xmlFactory.createGenerator(chunkWriter), bom);
+        }
+
+        private XMLStreamWriter2 createDiscardingWriter() throws XMLStreamException {
+            return (XMLStreamWriter2) xmlFactory.getXMLOutputFactory()
+                    .createXMLStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8.name());
+        }
+
+        /**
+         * An {@link XMLStreamWriter2} that forwards only the parts of a serialized {@link Bom} to the output
+         * that belong to a given {@link Section}, and discards everything else.
+         * <p>
+         * Writes are dispatched per element: All writes between the start and end of an element go to the
+         * same target, which allows typed values and attributes to be handled without inspecting them.
+         * The root element is at depth 1, section elements are at depth 2, and section items at depth 3.
+         */
+        private final class ChunkWriter extends StreamWriter2Delegate {
+
+            private final Section section;
+            private final boolean openSection;
+            private final XMLStreamWriter2 discardingWriter;
+            private boolean inSection;
+            private int depth;
+
+            /**
+             * @param section     The {@link Section} to forward, or {@code null} to forward everything
+             *                    but the end of the root element
+             * @param openSection Whether the start of the section element shall be forwarded
+             */
+            private ChunkWriter(final Section section, final boolean openSection) throws XMLStreamException {
+                super(writer);
+                this.section = section;
+                this.openSection = openSection;
+                this.discardingWriter = section != null ? createDiscardingWriter() : null;
+                setParent(section != null ? discardingWriter : writer);
+            }
+
+            @Override
+            public void writeStartElement(final String localName) throws XMLStreamException {
+                onStartElement(localName);
+                super.writeStartElement(localName);
+                if (isSectionStart()) {
+                    writer.writeStartElement(localName);
+                }
+            }
+
+            @Override
+            public void writeStartElement(final String namespaceURI, final String localName) throws XMLStreamException {
+                onStartElement(localName);
+                super.writeStartElement(namespaceURI, localName);
+                if (isSectionStart()) {
+                    writer.writeStartElement(namespaceURI, localName);
+                }
+            }
+
+            @Override
+            public void writeStartElement(final String prefix, final String localName, final String namespaceURI) throws XMLStreamException {
+                onStartElement(localName);
+                super.writeStartElement(prefix, localName, namespaceURI);
+                if (isSectionStart()) {
+                    writer.writeStartElement(prefix, localName, namespaceURI);
+                }
+            }
+
+            @Override
+            public void writeEmptyElement(final String localName) throws XMLStreamException {
+                selectTarget(depth + 1);
+                super.writeEmptyElement(localName);
+            }
+
+            @Override
+            public void writeEmptyElement(final String namespaceURI, final String localName) throws XMLStreamException {
+                selectTarget(depth + 1);
+                super.writeEmptyElement(namespaceURI, localName);
+            }
+
+            @Override
+            public void writeEmptyElement(final String prefix, final String localName, final String namespaceURI) throws XMLStreamException {
+                selectTarget(depth + 1);
+                super.writeEmptyElement(prefix, localName, namespaceURI);
+            }
+
+            @Override
+            public void writeEndElement() throws XMLStreamException {
+                if (section == null && depth == 1) {
+                    // Keep the root element open, sections are written into it.
+                    depth--;
+                    return;
+                }
+
+                selectTarget(depth);
+                super.writeEndElement();
+                selectTarget(--depth);
+            }
+
+            @Override
+            public void writeEndDocument() {
+                // The document is ended by StreamingBomWriter#finish.
+            }
+
+            @Override
+            public void close() {
+                // The output is closed by StreamingBomWriter#finish.
+            }
+
+            @Override
+            public void closeCompletely() {
+                // The output is closed by StreamingBomWriter#finish.
+            }
+
+            private void onStartElement(final String localName) {
+                if (++depth == 2 && section != null) {
+                    inSection = section.elementName.equals(localName);
+                }
+
+                selectTarget(depth);
+            }
+
+            private boolean isSectionStart() {
+                return section != null && openSection && inSection && depth == 2;
+            }
+
+            private void selectTarget(final int elementDepth) {
+                final boolean forward = section == null || (inSection && elementDepth >= 3);
+                setParent(forward ? writer : discardingWriter);
+            }
+
+        }
+
+        private static final class MapperAccessor extends BomXmlGenerator {
+
+            private MapperAccessor(final Bom bom, final Version version) {
+                super(bom, version);
+            }
+
+            private ObjectMapper mapper() {
+                return mapper;
+            }
+
+        }
+
+    }
+
+}
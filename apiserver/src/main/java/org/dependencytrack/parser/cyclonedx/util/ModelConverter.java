@@ -46,7 +46,6 @@ import org.dependencytrack.model.ComponentProperty;
 import org.dependencytrack.model.Cwe;
 import org.dependencytrack.model.DataClassification;
 import org.dependencytrack.model.ExternalReference;
-import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.OrganizationalContact;
 import org.dependencytrack.model.OrganizationalEntity;
 import org.dependencytrack.model.Project;
@@ -927,11 +926,22 @@ public class ModelConverter {
         return cycloneService;
     }
 
-    public static org.cyclonedx.model.vulnerability.Vulnerability convert(final QueryManager qm, final CycloneDXExporter.Variant variant,
-                                                                          final Finding finding) {
-        final Component component = qm.getObjectByUuid(Component.class, finding.getComponent().get("uuid").toString());
-        final Project project = component.getProject();
-        final Vulnerability vulnerability = qm.getObjectByUuid(Vulnerability.class, finding.getVulnerability().get("uuid").toString());
+    /**
+     * Converts a finding to a CycloneDX {@link org.cyclonedx.model.vulnerability.Vulnerability}.
+     *
+     * @param variant       The {@link CycloneDXExporter.Variant} being exported
+     * @param vulnerability The {@link Vulnerability} of the finding
+     * @param componentUuid UUID of the {@link Component} of the finding
+     * @param projectUuid   UUID of the {@link Project} of the finding
+     * @param analysis      The {@link Analysis} of the finding, or {@code null} when it has not been analyzed
+     * @return The CycloneDX representation of the finding
+     * @since 5.6.0
+     */
+    public static org.cyclonedx.model.vulnerability.Vulnerability convert(final CycloneDXExporter.Variant variant,
+                                                                          final Vulnerability vulnerability,
+                                                                          final UUID componentUuid,
+                                                                          final UUID projectUuid,
+                                                                          final Analysis analysis) {
 
         final org.cyclonedx.model.vulnerability.Vulnerability cdxVulnerability = new org.cyclonedx.model.vulnerability.Vulnerability();
         cdxVulnerability.setBomRef(vulnerability.getUuid().toString());
@@ -1008,22 +1018,18 @@ public class ModelConverter {
         if (CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES == variant || CycloneDXExporter.Variant.VDR == variant) {
             final List<org.cyclonedx.model.vulnerability.Vulnerability.Affect> affects = new ArrayList<>();
             final org.cyclonedx.model.vulnerability.Vulnerability.Affect affect = new org.cyclonedx.model.vulnerability.Vulnerability.Affect();
-            affect.setRef(component.getUuid().toString());
+            affect.setRef(componentUuid.toString());
             affects.add(affect);
             cdxVulnerability.setAffects(affects);
-        } else if (CycloneDXExporter.Variant.VEX == variant && project != null) {
+        } else if (CycloneDXExporter.Variant.VEX == variant && projectUuid != null) {
             final List<org.cyclonedx.model.vulnerability.Vulnerability.Affect> affects = new ArrayList<>();
             final org.cyclonedx.model.vulnerability.Vulnerability.Affect affect = new org.cyclonedx.model.vulnerability.Vulnerability.Affect();
-            affect.setRef(project.getUuid().toString());
+            affect.setRef(projectUuid.toString());
             affects.add(affect);
             cdxVulnerability.setAffects(affects);
         }
 
         if (CycloneDXExporter.Variant.VEX == variant || CycloneDXExporter.Variant.VDR == variant) {
-            final Analysis analysis = qm.getAnalysis(
-                    qm.getObjectByUuid(Component.class, component.getUuid()),
-                    qm.getObjectByUuid(Vulnerability.class, vulnerability.getUuid())
-            );
             if (analysis != null) {
                 final org.cyclonedx.model.vulnerability.Vulnerability.Analysis cdxAnalysis = new org.cyclonedx.model.vulnerability.Vulnerability.Analysis();
                 if (analysis.getAnalysisResponse() != null) {
@@ -1061,21 +1067,39 @@ public class ModelConverter {
             return Collections.emptyList();
         }
 
+        final Set<String> componentUuids = components.stream()
+                .map(Component::getUuid)
+                .map(UUID::toString)
+                .collect(Collectors.toSet());
+
         final var dependencies = new ArrayList<Dependency>();
-        final var rootDependency = new Dependency(project.getUuid().toString());
-        rootDependency.setDependencies(convertDirectDependencies(project.getDirectDependencies(), components));
-        dependencies.add(rootDependency);
+        dependencies.add(generateDependency(project.getUuid().toString(), project.getDirectDependencies(), componentUuids));
 
         for (final Component component : components) {
-            final var dependency = new Dependency(component.getUuid().toString());
-            dependency.setDependencies(convertDirectDependencies(component.getDirectDependencies(), components));
-            dependencies.add(dependency);
+            dependencies.add(generateDependency(component.getUuid().toString(), component.getDirectDependencies(), componentUuids));
         }
 
         return dependencies;
     }
 
-    private static List<Dependency> convertDirectDependencies(final String directDependenciesRaw, final List<Component> components) {
+    /**
+     * Converts {@link Project#getDirectDependencies()} or {@link Component#getDirectDependencies()}
+     * references to a node of a CycloneDX dependency graph.
+     *
+     * @param bomRef                The BOM ref of the {@link Project} or {@link Component}
+     * @param directDependenciesRaw The raw direct dependencies of the {@link Project} or {@link Component}
+     * @param componentUuids        UUIDs of all {@link Component}s in the graph; References to other
+     *                              {@link Component}s are omitted
+     * @return The CycloneDX representation of the dependency graph node
+     * @since 5.6.0
+     */
+    public static Dependency generateDependency(final String bomRef, final String directDependenciesRaw, final Set<String> componentUuids) {
+        final var dependency = new Dependency(bomRef);
+        dependency.setDependencies(convertDirectDependencies(directDependenciesRaw, componentUuids));
+        return dependency;
+    }
+
+    private static List<Dependency> convertDirectDependencies(final String directDependenciesRaw, final Set<String> componentUuids) {
         if (directDependenciesRaw == null || directDependenciesRaw.isBlank()) {
             return Collections.emptyList();
         }
@@ -1088,7 +1112,7 @@ public class ModelConverter {
             for (final JsonValue directDependency : directDependenciesJsonArray) {
                 if (directDependency instanceof final JsonObject directDependencyObject) {
                     final String componentUuid = directDependencyObject.getString("uuid", null);
-                    if (componentUuid != null && components.stream().map(Component::getUuid).map(UUID::toString).anyMatch(componentUuid::equals)) {
+                    if (componentUuid != null && componentUuids.contains(componentUuid)) {
                         dependencies.add(new Dependency(directDependencyObject.getString("uuid")));
                     }
                 }
@@ -1274,19 +1298,4 @@ public class ModelConverter {
                 return AnalysisJustification.NOT_SET;
         }
     }
-
-    public static List<org.cyclonedx.model.vulnerability.Vulnerability> generateVulnerabilities(
-            final QueryManager qm,
-            final CycloneDXExporter.Variant variant,
-            final List<Finding> findings
-    ) {
-        if (findings == null) {
-            return Collections.emptyList();
-        }
-        final var vulnerabilitiesSeen = new HashSet<org.cyclonedx.model.vulnerability.Vulnerability>();
-        return findings.stream()
-                .map(finding -> convert(qm, variant, finding))
-                .filter(vulnerabilitiesSeen::add)
-                .toList();
-    }
 }
@@ -19,6 +19,7 @@
 package org.dependencytrack.persistence;
 
 import org.dependencytrack.model.Epss;
+import org.dependencytrack.persistence.jdbi.EpssDao;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
 import static org.dependencytrack.util.PersistenceUtil.applyIfChanged;
 
 final class EpssQueryManager extends QueryManager implements IQueryManager {
@@ -59,13 +61,11 @@ final class EpssQueryManager extends QueryManager implements IQueryManager {
     /**
      * Synchronizes a batch of Epss records.
      * @param epssList the batch of Epss records to synchronize
+     * @return the number of created and updated Epss records
+     * @see EpssDao#synchronizeAll(java.util.Collection)
      */
-    public void synchronizeAllEpss(List<Epss> epssList) {
-        runInTransaction(() -> {
-            for (final Epss epss : epssList) {
-                synchronizeEpss(epss);
-            }
-        });
+    public EpssDao.SynchronizationResult synchronizeAllEpss(List<Epss> epssList) {
+        return inJdbiTransaction(handle -> handle.attach(EpssDao.class).synchronizeAll(epssList));
     }
 
     private Epss updateEpss(Epss epss) {
@@ -32,6 +32,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 
 public class IntegrityMetaQueryManager extends QueryManager implements IQueryManager {
@@ -164,13 +165,25 @@ public class IntegrityMetaQueryManager extends QueryManager implements IQueryMan
     /**
      * Returns the list of purls in IntegrityMetaComponent which are not yet processed.
      *
+     * @param lastId ID of the last record of the previous page, or {@code null} for the first page
      * @return the list of purls
      */
-    public List<IntegrityMetaComponent> fetchNextPurlsPage(long offset) {
-        try (final Query<IntegrityMetaComponent> query =
-                     pm.newQuery(IntegrityMetaComponent.class, "status == null || (status == :inProgress && lastFetch < :latest)")) {
-            query.setParameters(FetchStatus.IN_PROGRESS, Date.from(Instant.now().minus(1, ChronoUnit.HOURS)));
-            query.setRange(offset, offset + 5000);
+    public List<IntegrityMetaComponent> fetchNextPurlsPage(final Long lastId) {
+        // Page through the records using their ID, rather than an offset. Processed records
+        // are updated to no longer match the filter, which would cause an offset to skip records.
+        var filter = "(status == null || (status == :inProgress && lastFetch < :latest))";
+        final var params = new HashMap<String, Object>();
+        params.put("inProgress", FetchStatus.IN_PROGRESS);
+        params.put("latest", Date.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+        if (lastId != null) {
+            filter += " && id > :lastId";
+            params.put("lastId", lastId);
+        }
+
+        try (final Query<IntegrityMetaComponent> query = pm.newQuery(IntegrityMetaComponent.class, filter)) {
+            query.setNamedParameters(params);
+            query.setOrdering("id ASC");
+            query.setRange(0, 5000);
             query.setResult("id, purl");
             return List.copyOf(query.executeResultList(IntegrityMetaComponent.class));
         } catch (Exception e) {
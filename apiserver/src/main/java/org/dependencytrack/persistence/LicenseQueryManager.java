@@ -160,6 +160,7 @@ final class LicenseQueryManager extends QueryManager implements IQueryManager {
         if (result == null) {
             result = createLicense(license, commitIndex);
         }
+        invalidateLicenseRegistry();
         return result;
     }
 
@@ -172,6 +173,7 @@ final class LicenseQueryManager extends QueryManager implements IQueryManager {
     public License createCustomLicense(License license, boolean commitIndex) {
         license.setCustomLicense(true);
         final License result = persist(license);
+        invalidateLicenseRegistry();
         return result;
     }
 
@@ -198,8 +200,22 @@ final class LicenseQueryManager extends QueryManager implements IQueryManager {
         final Query<PolicyCondition> query = pm.newQuery(PolicyCondition.class, "subject == :subject && value == :value");
         List<PolicyCondition> policyConditions = (List<PolicyCondition>)query.execute(PolicyCondition.Subject.LICENSE ,license.getUuid().toString());
         delete(license);
+        invalidateLicenseRegistry();
         for (PolicyCondition policyCondition : policyConditions) {
             deletePolicyCondition(policyCondition);
         }
     }
+
+    /**
+     * Invalidates the {@link LicenseRegistry}, unless a transaction is active.
+     * <p>
+     * The registry is rebuilt on a separate connection, which would not see the
+     * uncommitted modification. Callers that modify licenses in a transaction must
+     * invalidate the registry once the transaction has been committed.
+     */
+    private void invalidateLicenseRegistry() {
+        if (!pm.currentTransaction().isActive()) {
+            LicenseRegistry.getInstance().invalidate();
+        }
+    }
 }
@@ -0,0 +1,240 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.model.License;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * A process-wide registry of {@link License}s, which allows for licenses to be resolved
+ * by their SPDX ID or name without querying the database.
+ * <p>
+ * The registry only holds immutable indexes of license IDs. It is rebuilt lazily
+ * after it has been {@link #invalidate() invalidated}, or when it is older than
+ * {@link ConfigKey#LICENSE_REGISTRY_MAX_AGE_DURATION}. The latter bounds for how long
+ * modifications performed by other instances may go unnoticed.
+ * <p>
+ * Callers must not treat a miss as authoritative, since the license may have been
+ * created by another instance. They should fall back to a database lookup instead,
+ * and invalidate the registry if that lookup yields a license.
+ *
+ * @since 5.6.0
+ */
+public final class LicenseRegistry {
+
+    record Entry(long id, String licenseId, String name, boolean isCustomLicense) {
+    }
+
+    private record RankedId(long id, int rank) {
+    }
+
+    private record Snapshot(
+            Map<String, RankedId> idByLicenseId,
+            Map<String, RankedId> idByName,
+            Map<String, RankedId> customIdByName,
+            long generation,
+            long createdAtNanos) {
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(LicenseRegistry.class);
+    private static final LicenseRegistry INSTANCE = new LicenseRegistry(
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.LICENSE_REGISTRY_MAX_AGE_DURATION)),
+            LicenseRegistry::loadEntries);
+
+    private final Duration maxAge;
+    private final Supplier<List<Entry>> entriesLoader;
+    private final AtomicReference<Snapshot> snapshotRef = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final Counter rebuildsCounter;
+
+    LicenseRegistry(final Duration maxAge, final Supplier<List<Entry>> entriesLoader) {
+        this.maxAge = maxAge;
+        this.entriesLoader = entriesLoader;
+        this.hitsCounter = Counter.builder("license_registry_lookups")
+                .description("Number of license lookups performed against the license registry")
+                .tag("result", "hit")
+                .register(Metrics.getRegistry());
+        this.missesCounter = Counter.builder("license_registry_lookups")
+                .description("Number of license lookups performed against the license registry")
+                .tag("result", "miss")
+                .register(Metrics.getRegistry());
+        this.rebuildsCounter = Counter.builder("license_registry_rebuilds")
+                .description("Number of times the license registry was rebuilt from the database")
+                .register(Metrics.getRegistry());
+    }
+
+    public static LicenseRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolve the ID of a {@link License} whose SPDX ID or name matches a given value.
+     * <p>
+     * Behaves like {@link LicenseQueryManager#getLicenseByIdOrName(String)}: If multiple
+     * licenses match, the one with the lowest SPDX ID is chosen.
+     *
+     * @param licenseIdOrName The SPDX ID or name to resolve
+     * @return The ID of the matching {@link License}, or {@code null} when no license matched
+     */
+    public Long resolveIdByIdOrName(final String licenseIdOrName) {
+        final Snapshot snapshot = getSnapshot();
+
+        final RankedId byLicenseId = snapshot.idByLicenseId().get(licenseIdOrName);
+        final RankedId byName = snapshot.idByName().get(licenseIdOrName);
+
+        final RankedId match;
+        if (byLicenseId == null || byName == null) {
+            match = byLicenseId != null ? byLicenseId : byName;
+        } else {
+            match = byLicenseId.rank() <= byName.rank() ? byLicenseId : byName;
+        }
+
+        return recordLookup(match);
+    }
+
+    /**
+     * Resolve the ID of a custom {@link License} whose name matches a given value.
+     * <p>
+     * Behaves like {@link LicenseQueryManager#getCustomLicenseByName(String)}.
+     *
+     * @param licenseName The name to resolve
+     * @return The ID of the matching {@link License}, or {@code null} when no license matched
+     */
+    public Long resolveCustomLicenseIdByName(final String licenseName) {
+        return recordLookup(getSnapshot().customIdByName().get(licenseName));
+    }
+
+    /**
+     * Invalidate the registry, causing it to be rebuilt upon the next lookup.
+     * <p>
+     * Must be called after modifications to licenses have been committed.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshotRef.set(null);
+    }
+
+    private Long recordLookup(final RankedId match) {
+        if (match == null) {
+            missesCounter.increment();
+            return null;
+        }
+
+        hitsCounter.increment();
+        return match.id();
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot snapshot = snapshotRef.get();
+        if (isUsable(snapshot)) {
+            return snapshot;
+        }
+
+        rebuildLock.lock();
+        try {
+            snapshot = snapshotRef.get();
+            if (isUsable(snapshot)) {
+                return snapshot;
+            }
+
+            // Capture the generation before loading, so that invalidations
+            // happening while the registry is being rebuilt are not lost.
+            final long snapshotGeneration = generation.get();
+            snapshot = createSnapshot(entriesLoader.get(), snapshotGeneration);
+            snapshotRef.set(snapshot);
+            rebuildsCounter.increment();
+            LOGGER.debug("Rebuilt license registry with %d licenses".formatted(snapshot.idByLicenseId().size()));
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isUsable(final Snapshot snapshot) {
+        return snapshot != null
+               && snapshot.generation() == generation.get()
+               && (System.nanoTime() - snapshot.createdAtNanos()) < maxAge.toNanos();
+    }
+
+    private static Snapshot createSnapshot(final List<Entry> entries, final long generation) {
+        final var idByLicenseId = new HashMap<String, RankedId>();
+        final var idByName = new HashMap<String, RankedId>();
+        final var customIdByName = new HashMap<String, RankedId>();
+
+        // Entries are ordered by SPDX ID, so the first entry
+        // for any given key is the one the database would have picked.
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            final var rankedId = new RankedId(entry.id(), i);
+
+            if (entry.licenseId() != null) {
+                idByLicenseId.putIfAbsent(entry.licenseId(), rankedId);
+            }
+            if (entry.name() != null) {
+                idByName.putIfAbsent(entry.name(), rankedId);
+                if (entry.isCustomLicense()) {
+                    customIdByName.putIfAbsent(entry.name(), rankedId);
+                }
+            }
+        }
+
+        return new Snapshot(
+                Map.copyOf(idByLicenseId),
+                Map.copyOf(idByName),
+                Map.copyOf(customIdByName),
+                generation,
+                System.nanoTime());
+    }
+
+    private static List<Entry> loadEntries() {
+        return withJdbiHandle(handle -> handle.createQuery(/* language=SQL */ """
+                        SELECT "ID"
+                             , "LICENSEID"
+                             , "NAME"
+                             , COALESCE("ISCUSTOMLICENSE", FALSE)
+                          FROM "LICENSE"
+                         ORDER BY "LICENSEID", "ID"
+                        """)
+                .map((rs, ctx) -> new Entry(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getBoolean(4)))
+                .list());
+    }
+
+}
@@ -26,46 +26,33 @@ import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
 import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.github.packageurl.PackageURL;
 import org.apache.commons.collections4.CollectionUtils;
 import org.datanucleus.api.jdo.JDOQuery;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
-import org.dependencytrack.model.Analysis;
-import org.dependencytrack.model.AnalysisComment;
 import org.dependencytrack.model.Classifier;
-import org.dependencytrack.model.Component;
-import org.dependencytrack.model.ComponentOccurrence;
-import org.dependencytrack.model.ComponentProperty;
 import org.dependencytrack.model.ConfigPropertyConstants;
-import org.dependencytrack.model.FindingAttribution;
-import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetadata;
 import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.model.ProjectVersion;
-import org.dependencytrack.model.ServiceComponent;
 import org.dependencytrack.model.Tag;
-import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.persistence.jdbi.MetricsDao;
+import org.dependencytrack.persistence.jdbi.ProjectCloneDao;
+import org.jdbi.v3.core.Handle;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import javax.jdo.metadata.MemberMetadata;
 import javax.jdo.metadata.TypeMetadata;
-import java.io.IOException;
 import java.security.Principal;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -73,10 +60,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNullElse;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.createLocalJdbi;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistentAll;
@@ -361,10 +350,10 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             final boolean includeAuditHistory,
             final boolean includeACL,
             final boolean includePolicyViolations,
-            final boolean makeCloneLatest
+            final boolean makeCloneLatest,
+            final Consumer<String> progressListener
     ) {
         final AtomicReference<Project> oldLatestProject = new AtomicReference<>();
-        final var jsonMapper = new JsonMapper();
         return callInTransaction(() -> {
             final Project source = getObjectByUuid(Project.class, from, Project.FetchGroup.ALL.name());
             if (source == null) {
@@ -437,210 +426,81 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
                 }
             }
 
-            final var projectDirectDepsSourceComponentUuids = new HashSet<UUID>();
-            if (project.getDirectDependencies() != null) {
-                projectDirectDepsSourceComponentUuids.addAll(
-                        parseDirectDependenciesUuids(jsonMapper, project.getDirectDependencies()));
-            }
-
-            final var clonedComponentById = new HashMap<Long, Component>();
-            final var clonedComponentBySourceComponentId = new HashMap<Long, Component>();
-            final var directDepsSourceComponentUuidsByClonedComponentId = new HashMap<Long, Set<UUID>>();
-            final var clonedComponentUuidBySourceComponentUuid = new HashMap<UUID, UUID>();
-
-            if (includeComponents) {
-                final List<Component> sourceComponents = getAllComponents(source);
-                if (sourceComponents != null) {
-                    for (final Component sourceComponent : sourceComponents) {
-                        final Component clonedComponent = cloneComponent(sourceComponent, project, false);
-
-                        if (sourceComponent.getOccurrences() != null && !sourceComponent.getOccurrences().isEmpty()) {
-                            final var clonedOccurrences = new HashSet<ComponentOccurrence>(sourceComponent.getOccurrences().size());
-                            for (final ComponentOccurrence sourceOccurrence : sourceComponent.getOccurrences()) {
-                                final var clonedOccurrence = new ComponentOccurrence();
-                                clonedOccurrence.setComponent(clonedComponent);
-                                clonedOccurrence.setLocation(sourceOccurrence.getLocation());
-                                clonedOccurrence.setLine(sourceOccurrence.getLine());
-                                clonedOccurrence.setOffset(sourceOccurrence.getOffset());
-                                clonedOccurrence.setSymbol(sourceOccurrence.getSymbol());
-                                clonedOccurrence.setCreatedAt(sourceOccurrence.getCreatedAt());
-                                clonedOccurrences.add(clonedOccurrence);
-                            }
-
-                            persist(clonedOccurrences);
-                            clonedComponent.setOccurrences(clonedOccurrences);
-                        }
-
-                        if (sourceComponent.getProperties() != null && !sourceComponent.getProperties().isEmpty()) {
-                            final var clonedProperties = new ArrayList<ComponentProperty>(sourceComponent.getProperties().size());
-                            for (final ComponentProperty sourceProperty : sourceComponent.getProperties()) {
-                                final ComponentProperty clonedProperty = new ComponentProperty();
-                                clonedProperty.setComponent(clonedComponent);
-                                clonedProperty.setPropertyType(sourceProperty.getPropertyType());
-                                clonedProperty.setGroupName(sourceProperty.getGroupName());
-                                clonedProperty.setPropertyName(sourceProperty.getPropertyName());
-                                clonedProperty.setPropertyValue(sourceProperty.getPropertyValue());
-                                clonedProperty.setDescription(sourceProperty.getDescription());
-                                clonedProperties.add(clonedProperty);
-                            }
-
-                            persist(clonedProperties);
-                            clonedComponent.setProperties(clonedProperties);
-                        }
-
-                        // Add vulnerabilties and finding attribution from the source component to the cloned component
-                        for (Vulnerability vuln : sourceComponent.getVulnerabilities()) {
-                            final FindingAttribution sourceAttribution = this.getFindingAttribution(vuln, sourceComponent);
-                            this.addVulnerability(vuln, clonedComponent, sourceAttribution.getAnalyzerIdentity(), sourceAttribution.getAlternateIdentifier(),
-                                    sourceAttribution.getReferenceUrl(), sourceAttribution.getAttributedOn());
-                        }
-
-                        clonedComponentById.put(clonedComponent.getId(), clonedComponent);
-                        clonedComponentBySourceComponentId.put(sourceComponent.getId(), clonedComponent);
-                        clonedComponentUuidBySourceComponentUuid.put(sourceComponent.getUuid(), clonedComponent.getUuid());
-
-                        if (clonedComponent.getDirectDependencies() != null) {
-                            final Set<UUID> directDepsUuids = parseDirectDependenciesUuids(jsonMapper, clonedComponent.getDirectDependencies());
-                            if (!directDepsUuids.isEmpty()) {
-                                directDepsSourceComponentUuidsByClonedComponentId.put(clonedComponent.getId(), directDepsUuids);
-                            }
-                        }
-                    }
+            if (includeACL) {
+                Set<Team> accessTeams = source.getAccessTeams();
+                if (!CollectionUtils.isEmpty(accessTeams)) {
+                    project.setAccessTeams(new HashSet<>(accessTeams));
                 }
             }
 
-            if (!projectDirectDepsSourceComponentUuids.isEmpty()) {
-                String directDependencies = project.getDirectDependencies();
-                for (final UUID sourceComponentUuid : projectDirectDepsSourceComponentUuids) {
-                    final UUID clonedComponentUuid = clonedComponentUuidBySourceComponentUuid.get(sourceComponentUuid);
-                    if (clonedComponentUuid != null) {
-                        directDependencies = directDependencies.replace(
-                                sourceComponentUuid.toString(), clonedComponentUuid.toString());
-                    } else {
-                        // NB: This may happen when the source project itself is a clone,
-                        // and it was cloned before DT v4.12.0.
-                        // https://github.com/DependencyTrack/dependency-track/pull/4171
-                        LOGGER.warn("""
-                                The source project's directDependencies refer to a component with UUID \
-                                %s, which does not exist in the project. The cloned project's dependency graph \
-                                may be broken as a result. A BOM upload will resolve the issue.\
-                                """.formatted(sourceComponentUuid));
-                    }
-                }
-
-                project.setDirectDependencies(directDependencies);
+            if (!includeComponents && !includeServices) {
+                return project;
             }
 
-            for (final long componentId : directDepsSourceComponentUuidsByClonedComponentId.keySet()) {
-                final Component component = clonedComponentById.get(componentId);
-                final Set<UUID> sourceComponentUuids = directDepsSourceComponentUuidsByClonedComponentId.get(componentId);
+            // The JDO connection must not be used by DataNucleus while it is borrowed by JDBI.
+            pm.flush();
 
-                String directDependencies = component.getDirectDependencies();
-                for (final UUID sourceComponentUuid : sourceComponentUuids) {
-                    final UUID clonedComponentUuid = clonedComponentUuidBySourceComponentUuid.get(sourceComponentUuid);
-                    if (clonedComponentUuid != null) {
-                        directDependencies = directDependencies.replace(
-                                sourceComponentUuid.toString(), clonedComponentUuid.toString());
-                    } else {
-                        LOGGER.warn("""
-                                The directDependencies of component %s refer to a component with UUID \
-                                %s, which does not exist in the source project. The cloned project's dependency graph \
-                                may be broken as a result. A BOM upload will resolve the issue.\
-                                """.formatted(component, sourceComponentUuid));
-                    }
-                }
+            try (final Handle jdbiHandle = createLocalJdbi(this).open()) {
+                final var dao = jdbiHandle.attach(ProjectCloneDao.class);
 
-                component.setDirectDependencies(directDependencies);
-            }
+                if (includeComponents) {
+                    dao.createComponentMappingTable();
+                    dao.mapComponents(source.getId());
+                    final int componentsCloned = dao.cloneComponents(project.getId());
+                    dao.cloneComponentOccurrences();
+                    dao.cloneComponentProperties();
+                    progressListener.accept("%d components".formatted(componentsCloned));
 
-            if (includeServices) {
-                final List<ServiceComponent> sourceServices = getAllServiceComponents(source);
-                if (sourceServices != null) {
-                    for (final ServiceComponent sourceService : sourceServices) {
-                        cloneServiceComponent(sourceService, project, false);
+                    dao.cloneComponentVulnerabilities();
+                    final int findingsCloned = dao.cloneFindingAttributions(project.getId());
+                    progressListener.accept("%d findings".formatted(findingsCloned));
+
+                    final List<String> danglingDirectDependencies = dao.getDanglingDirectDependencies(project.getId());
+                    if (!danglingDirectDependencies.isEmpty()) {
+                        // NB: This may happen when the source project itself is a clone,
+                        // and it was cloned before DT v4.12.0.
+                        // https://github.com/DependencyTrack/dependency-track/pull/4171
+                        LOGGER.warn("""
+                                The directDependencies of the source project or its components refer to components \
+                                with UUIDs %s, which do not exist in the source project. The cloned project's \
+                                dependency graph may be broken as a result. A BOM upload will resolve the issue.\
+                                """.formatted(danglingDirectDependencies));
                     }
+                    dao.rewriteComponentDirectDependencies(project.getId());
+                    dao.rewriteProjectDirectDependencies(project.getId());
+                    progressListener.accept("dependency graph");
                 }
-            }
 
-            if (includeAuditHistory && includeComponents) {
-                final List<Analysis> analyses = super.getAnalyses(source);
-                if (analyses != null) {
-                    for (final Analysis sourceAnalysis : analyses) {
-                        Analysis analysis = new Analysis();
-                        analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
-                        final Component clonedComponent = clonedComponentBySourceComponentId.get(sourceAnalysis.getComponent().getId());
-                        if (clonedComponent == null) {
-                            break;
-                        }
-                        analysis.setComponent(clonedComponent);
-                        analysis.setVulnerability(sourceAnalysis.getVulnerability());
-                        analysis.setSuppressed(sourceAnalysis.isSuppressed());
-                        analysis.setAnalysisResponse(sourceAnalysis.getAnalysisResponse());
-                        analysis.setAnalysisJustification(sourceAnalysis.getAnalysisJustification());
-                        analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
-                        analysis.setAnalysisDetails(sourceAnalysis.getAnalysisDetails());
-                        analysis.setVulnerabilityPolicyId(sourceAnalysis.getVulnerabilityPolicyId());
-                        analysis = persist(analysis);
-                        if (sourceAnalysis.getAnalysisComments() != null) {
-                            for (final AnalysisComment sourceComment : sourceAnalysis.getAnalysisComments()) {
-                                final AnalysisComment analysisComment = new AnalysisComment();
-                                analysisComment.setAnalysis(analysis);
-                                analysisComment.setTimestamp(sourceComment.getTimestamp());
-                                analysisComment.setComment(sourceComment.getComment());
-                                analysisComment.setCommenter(sourceComment.getCommenter());
-                                persist(analysisComment);
-                            }
-                        }
-                    }
+                if (includeServices) {
+                    dao.createServiceMappingTable();
+                    dao.mapServices(source.getId());
+                    final int servicesCloned = dao.cloneServices(project.getId());
+                    dao.cloneServiceVulnerabilities();
+                    progressListener.accept("%d services".formatted(servicesCloned));
                 }
-            }
 
-            if (includeACL) {
-                Set<Team> accessTeams = source.getAccessTeams();
-                if (!CollectionUtils.isEmpty(accessTeams)) {
-                    project.setAccessTeams(new HashSet<>(accessTeams));
+                if (includeAuditHistory && includeComponents) {
+                    final int analysesCloned = dao.cloneAnalyses(project.getId());
+                    dao.cloneAnalysisComments(project.getId());
+                    progressListener.accept("%d analyses".formatted(analysesCloned));
                 }
-            }
 
-            if (includeComponents && includePolicyViolations) {
-                final List<PolicyViolation> sourcePolicyViolations = getAllPolicyViolations(source);
-                if (sourcePolicyViolations != null) {
-                    for (final PolicyViolation policyViolation : sourcePolicyViolations) {
-                        final Component destinationComponent = clonedComponentBySourceComponentId.get(policyViolation.getComponent().getId());
-                        final PolicyViolation clonedPolicyViolation = clonePolicyViolation(policyViolation, destinationComponent);
-                        persist(clonedPolicyViolation);
-                    }
+                if (includeComponents && includePolicyViolations) {
+                    dao.createPolicyViolationMappingTable();
+                    dao.mapPolicyViolations();
+                    final int policyViolationsCloned = dao.clonePolicyViolations(project.getId());
+                    dao.cloneViolationAnalyses(project.getId());
+                    dao.cloneViolationAnalysisComments();
+                    progressListener.accept("%d policy violations".formatted(policyViolationsCloned));
                 }
             }
 
+            // Direct dependencies of the project were rewritten behind DataNucleus' back.
+            pm.refresh(project);
             return project;
         });
     }
 
-    private static Set<UUID> parseDirectDependenciesUuids(
-            final JsonMapper jsonMapper,
-            final String directDependencies) throws IOException {
-        final var uuids = new HashSet<UUID>();
-        try (final JsonParser jsonParser = jsonMapper.createParser(directDependencies)) {
-            JsonToken currentToken = jsonParser.nextToken();
-            if (currentToken != JsonToken.START_ARRAY) {
-                throw new IllegalArgumentException("""
-                        Expected directDependencies to be a JSON array, \
-                        but encountered token: %s""".formatted(currentToken));
-            }
-
-            while (jsonParser.nextToken() != null) {
-                if (jsonParser.currentToken() == JsonToken.FIELD_NAME
-                    && "uuid".equals(jsonParser.currentName())
-                    && jsonParser.nextToken() == JsonToken.VALUE_STRING) {
-                    uuids.add(UUID.fromString(jsonParser.getValueAsString()));
-                }
-            }
-        }
-
-        return uuids;
-    }
-
     /**
      * Creates a key/value pair (ProjectProperty) for the specified Project.
      *
@@ -773,14 +633,12 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
                 query = pm.newQuery(Query.SQL, /* language=SQL */ """
                                 SELECT EXISTS(
                                   SELECT 1
-                                    FROM "PROJECT_ACCESS_TEAMS" AS pat
-                                   INNER JOIN "PROJECT_HIERARCHY" AS ph
-                                      ON ph."PARENT_PROJECT_ID" = pat."PROJECT_ID"
-                                   WHERE pat."TEAM_ID" = ANY(?)
-                                     AND ph."CHILD_PROJECT_ID" = ?
+                                    FROM "TEAM_PROJECT_EFFECTIVE_ACCESS" AS tpea
+                                   WHERE tpea."PROJECT_ID" = ?
+                                     AND tpea."TEAM_ID" = ANY(?)
                                 )
                                 """)
-                        .setParameters(teamIds.toArray(Long[]::new), project.getId());
+                        .setParameters(project.getId(), teamIds.toArray(Long[]::new));
             }
             default -> {
                 return false;
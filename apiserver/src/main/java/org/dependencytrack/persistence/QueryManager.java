@@ -90,6 +90,7 @@ import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.publisher.PublisherClass;
 import org.dependencytrack.persistence.jdbi.EffectivePermissionDao;
+import org.dependencytrack.persistence.jdbi.EpssDao;
 import org.dependencytrack.persistence.jdbi.JdbiFactory;
 import org.dependencytrack.resources.v1.vo.DependencyGraphResponse;
 import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
@@ -114,6 +115,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
@@ -586,8 +588,23 @@ public class QueryManager extends AlpineQueryManager {
     public Project clone(UUID from, String newVersion, boolean includeTags, boolean includeProperties,
                          boolean includeComponents, boolean includeServices, boolean includeAuditHistory,
                          boolean includeACL, boolean includePolicyViolations, boolean makeCloneLatest) {
+        return clone(from, newVersion, includeTags, includeProperties, includeComponents, includeServices,
+                includeAuditHistory, includeACL, includePolicyViolations, makeCloneLatest, progress -> {});
+    }
+
+    /**
+     * Clones a project.
+     * <p>
+     * {@code progressListener} is called with a short description of each completed phase of the clone,
+     * e.g. {@code 42 components}. It is called while the clone transaction is still ongoing.
+     */
+    public Project clone(UUID from, String newVersion, boolean includeTags, boolean includeProperties,
+                         boolean includeComponents, boolean includeServices, boolean includeAuditHistory,
+                         boolean includeACL, boolean includePolicyViolations, boolean makeCloneLatest,
+                         Consumer<String> progressListener) {
         return getProjectQueryManager().clone(from, newVersion, includeTags, includeProperties,
-                includeComponents, includeServices, includeAuditHistory, includeACL, includePolicyViolations, makeCloneLatest);
+                includeComponents, includeServices, includeAuditHistory, includeACL, includePolicyViolations,
+                makeCloneLatest, progressListener);
     }
 
     public ProjectProperty createProjectProperty(final Project project, final String groupName, final String propertyName,
@@ -1020,6 +1037,10 @@ public class QueryManager extends AlpineQueryManager {
         return getVulnerabilityQueryManager().synchronizeVulnerabilityAlias(alias);
     }
 
+    public List<VulnerabilityAlias> synchronizeVulnerabilityAliases(Collection<VulnerabilityAlias> aliases) {
+        return getVulnerabilityQueryManager().synchronizeVulnerabilityAliases(aliases);
+    }
+
     public List<VulnerabilityAlias> getVulnerabilityAliases(Vulnerability vulnerability) {
         return getVulnerabilityQueryManager().getVulnerabilityAliases(vulnerability);
     }
@@ -1264,12 +1285,12 @@ public class QueryManager extends AlpineQueryManager {
         return getTagQueryManager().getTaggedPolicies(tagName);
     }
 
-    public void tagPolicies(final String tagName, final Collection<String> policyUuids) {
-        getTagQueryManager().tagPolicies(tagName, policyUuids);
+    public List<UUID> tagPolicies(final String tagName, final Collection<String> policyUuids) {
+        return getTagQueryManager().tagPolicies(tagName, policyUuids);
     }
 
-    public void untagPolicies(final String tagName, final Collection<String> policyUuids) {
-        getTagQueryManager().untagPolicies(tagName, policyUuids);
+    public List<UUID> untagPolicies(final String tagName, final Collection<String> policyUuids) {
+        return getTagQueryManager().untagPolicies(tagName, policyUuids);
     }
 
     public PaginatedResult getTagsForPolicy(String policyUuid) {
@@ -1573,8 +1594,8 @@ public class QueryManager extends AlpineQueryManager {
         return getIntegrityMetaQueryManager().getIntegrityMetaComponentCount();
     }
 
-    public List<IntegrityMetaComponent> fetchNextPurlsPage(long offset) {
-        return getIntegrityMetaQueryManager().fetchNextPurlsPage(offset);
+    public List<IntegrityMetaComponent> fetchNextPurlsPage(final Long lastId) {
+        return getIntegrityMetaQueryManager().fetchNextPurlsPage(lastId);
     }
 
     public void batchUpdateIntegrityMetaComponent(List<IntegrityMetaComponent> purls) {
@@ -1607,8 +1628,8 @@ public class QueryManager extends AlpineQueryManager {
         return getEpssQueryManager().synchronizeEpss(epss);
     }
 
-    public void synchronizeAllEpss(List<Epss> epssList) {
-        getEpssQueryManager().synchronizeAllEpss(epssList);
+    public EpssDao.SynchronizationResult synchronizeAllEpss(List<Epss> epssList) {
+        return getEpssQueryManager().synchronizeAllEpss(epssList);
     }
 
     public Epss getEpssByCveId(String cveId) {
@@ -1710,11 +1731,9 @@ public class QueryManager extends AlpineQueryManager {
                 conditionTemplate = /* language=SQL */ """
                         EXISTS(
                           SELECT 1
-                            FROM "PROJECT_ACCESS_TEAMS" AS pat
-                           INNER JOIN "PROJECT_HIERARCHY" AS ph
-                              ON ph."PARENT_PROJECT_ID" = pat."PROJECT_ID"
-                           WHERE pat."TEAM_ID" = ANY(:projectAclTeamIds)
-                             AND ph."CHILD_PROJECT_ID" = "%s"."ID"
+                            FROM "TEAM_PROJECT_EFFECTIVE_ACCESS" AS tpea
+                           WHERE tpea."PROJECT_ID" = "%s"."ID"
+                             AND tpea."TEAM_ID" = ANY(:projectAclTeamIds)
                         )
                         """;
             }
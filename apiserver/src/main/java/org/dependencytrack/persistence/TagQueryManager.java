@@ -468,8 +468,8 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
      * @since 4.12.0
      */
     @Override
-    public void tagPolicies(final String tagName, final Collection<String> policyUuids) {
-        runInTransaction(() -> {
+    public List<UUID> tagPolicies(final String tagName, final Collection<String> policyUuids) {
+        return callInTransaction(() -> {
             final Tag tag = getTagByName(tagName);
             if (tag == null) {
                 throw new NoSuchElementException("A tag with name %s does not exist".formatted(tagName));
@@ -480,9 +480,13 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
             policiesQuery.setParameters(policyUuids);
             final List<Policy> policies = executeAndCloseList(policiesQuery);
 
+            final var modifiedPolicyUuids = new ArrayList<UUID>(policies.size());
             for (final Policy policy : policies) {
                 bind(policy, List.of(tag), /* keepExisting */ true);
+                modifiedPolicyUuids.add(policy.getUuid());
             }
+
+            return modifiedPolicyUuids;
         });
     }
 
@@ -490,8 +494,8 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
      * @since 4.12.0
      */
     @Override
-    public void untagPolicies(final String tagName, final Collection<String> policyUuids) {
-        runInTransaction(() -> {
+    public List<UUID> untagPolicies(final String tagName, final Collection<String> policyUuids) {
+        return callInTransaction(() -> {
             final Tag tag = getTagByName(tagName);
             if (tag == null) {
                 throw new NoSuchElementException("A tag with name %s does not exist".formatted(tagName));
@@ -502,13 +506,18 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
             policiesQuery.setParameters(policyUuids);
             final List<Policy> policies = executeAndCloseList(policiesQuery);
 
+            final var modifiedPolicyUuids = new ArrayList<UUID>(policies.size());
             for (final Policy policy : policies) {
                 if (policy.getTags() == null || policy.getTags().isEmpty()) {
                     continue;
                 }
 
-                policy.getTags().remove(tag);
+                if (policy.getTags().remove(tag)) {
+                    modifiedPolicyUuids.add(policy.getUuid());
+                }
             }
+
+            return modifiedPolicyUuids;
         });
     }
 
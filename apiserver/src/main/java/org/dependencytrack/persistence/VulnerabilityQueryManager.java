@@ -33,6 +33,7 @@ import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.model.VulnerableSoftware;
+import org.dependencytrack.persistence.jdbi.VulnerabilityAliasDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao.AffectedProjectCountRow;
 import org.jdbi.v3.core.Handle;
@@ -42,7 +43,6 @@ import javax.jdo.Query;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -53,6 +53,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
@@ -470,123 +471,38 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         return excludeClause;
     }
 
-    public synchronized VulnerabilityAlias synchronizeVulnerabilityAlias(final VulnerabilityAlias alias) {
-        return callInTransaction(() -> {
-            // Query existing aliases that match AT LEAST ONE identifier of the given alias.
-            //
-            // For each data source, we want to know the existing aliases where the respective identifier either:
-            //   1. matches, or
-            //   2. is not set (is null)
-            //
-            // Given the existing alias:
-            //   {cveId: "CVE-123", ghsaId: "GHSA-123"}
-            // The logic allows us to merge it with this incoming alias:
-            //   {cveId: "CVE-123", sonatypeId: "OSSINDEX-123"}
-            // Forming the final result of:
-            //   {cveId: "CVE-123", ghsaId: "GHSA-123", sonatypeId: "OSSINDEX-123"}
-            // Because CVE-123 aliases GHSA-123, and CVE-123 aliases OSSINDEX-123, we can infer that GHSA-123 aliases OSSINDEX-123.
-            //
-            // If the given alias has both a CVE and a GHSA ID, the final query will look like this:
-            //   (cveId == :cveId || cveId == null) && (ghsaId == :ghsaId || ghsaId == null)
-            //      && (cveId != null || ghsaId != null)
-            //
-            // Note that this logic only works for "true" aliases, not for "related" vulnerabilities.
-            // Some data sources will provide advisories, which combine multiple vulnerabilities into one,
-            // but still advertise them as aliases. See https://github.com/google/osv.dev/issues/888 for example.
-            var filter = "";
-            var mustMatchAnyFilter = "";
-            final var params = new HashMap<String, Object>();
-            if (alias.getCveId() != null) {
-                filter += "(cveId == :cveId || cveId == null)";
-                mustMatchAnyFilter += "cveId != null";
-                params.put("cveId", alias.getCveId());
-            }
-            if (alias.getSonatypeId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(sonatypeId == :sonatypeId || sonatypeId == null)";
-                mustMatchAnyFilter += "sonatypeId != null";
-                params.put("sonatypeId", alias.getSonatypeId());
-            }
-            if (alias.getGhsaId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(ghsaId == :ghsaId || ghsaId == null)";
-                mustMatchAnyFilter += "ghsaId != null";
-                params.put("ghsaId", alias.getGhsaId());
-            }
-            if (alias.getOsvId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(osvId == :osvId || osvId == null)";
-                mustMatchAnyFilter += "osvId != null";
-                params.put("osvId", alias.getOsvId());
-            }
-            if (alias.getSnykId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(snykId == :snykId || snykId == null)";
-                mustMatchAnyFilter += "snykId != null";
-                params.put("snykId", alias.getSnykId());
-            }
-            if (alias.getGsdId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(gsdId == :gsdId || gsdId == null)";
-                mustMatchAnyFilter += "gsdId != null";
-                params.put("gsdId", alias.getGsdId());
-            }
-            if (alias.getVulnDbId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(vulnDbId == :vulnDbId || vulnDbId == null)";
-                mustMatchAnyFilter += "vulnDbId != null";
-                params.put("vulnDbId", alias.getVulnDbId());
-            }
-            if (alias.getInternalId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(internalId == :internalId || internalId == null)";
-                mustMatchAnyFilter += "internalId != null";
-                params.put("internalId", alias.getInternalId());
-            }
-            filter += " && (" + mustMatchAnyFilter + ")";
-            final Query<VulnerabilityAlias> query = pm.newQuery(VulnerabilityAlias.class);
-            query.setFilter(filter);
-            query.setNamedParameters(params);
-            final List<VulnerabilityAlias> candidates = query.executeList();
-            if (candidates.isEmpty()) {
-                // No matches at all; Create new alias.
-                return pm.makePersistent(alias);
-            }
-
-            final VulnerabilityAlias bestMatch;
-            if (candidates.size() > 1) {
-                // In case there are multiple candidates, find candidate with most matching identifiers.
-                bestMatch = candidates.stream()
-                        .max(Comparator.comparingInt(alias::computeMatches))
-                        .get(); // Safe because we checked candidates for emptiness before.
-            } else {
-                bestMatch = candidates.get(0);
-            }
+    public VulnerabilityAlias synchronizeVulnerabilityAlias(final VulnerabilityAlias alias) {
+        return synchronizeVulnerabilityAliases(List.of(alias)).getFirst();
+    }
 
-            bestMatch.copyFieldsFrom(alias);
-            return bestMatch;
-        });
+    /**
+     * Synchronize a batch of {@link VulnerabilityAlias}es with the datastore.
+     * <p>
+     * For each of the given aliases, existing aliases that match AT LEAST ONE identifier are queried.
+     * For each data source, we want to know the existing aliases where the respective identifier either:
+     * <ol>
+     *   <li>matches, or</li>
+     *   <li>is not set (is null)</li>
+     * </ol>
+     * Given the existing alias {@code {cveId: "CVE-123", ghsaId: "GHSA-123"}}, the logic allows us to merge it
+     * with the incoming alias {@code {cveId: "CVE-123", sonatypeId: "OSSINDEX-123"}}, forming the final result of
+     * {@code {cveId: "CVE-123", ghsaId: "GHSA-123", sonatypeId: "OSSINDEX-123"}}. Because CVE-123 aliases GHSA-123,
+     * and CVE-123 aliases OSSINDEX-123, we can infer that GHSA-123 aliases OSSINDEX-123.
+     * <p>
+     * Note that this logic only works for "true" aliases, not for "related" vulnerabilities.
+     * Some data sources will provide advisories, which combine multiple vulnerabilities into one,
+     * but still advertise them as aliases. See https://github.com/google/osv.dev/issues/888 for example.
+     * <p>
+     * Synchronization happens in a dedicated transaction, and is safe to be performed concurrently,
+     * including across multiple instances. See {@link VulnerabilityAliasDao#synchronizeAll(Collection)}.
+     *
+     * @param aliases The {@link VulnerabilityAlias}es to synchronize
+     * @return The synchronized {@link VulnerabilityAlias}es, in the same order as {@code aliases}.
+     * The returned objects are not managed by the {@link PersistenceManager}.
+     * @since 5.6.0
+     */
+    public List<VulnerabilityAlias> synchronizeVulnerabilityAliases(final Collection<VulnerabilityAlias> aliases) {
+        return inJdbiTransaction(handle -> handle.attach(VulnerabilityAliasDao.class).synchronizeAll(aliases));
     }
 
     @SuppressWarnings("unchecked")
@@ -38,6 +38,7 @@ import java.util.Set;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_FILTER_PARAMETER;
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_KEYSET_PAGINATION;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_ORDER_BY_CLAUSE;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_PROJECT_ACL_CONDITION;
@@ -55,6 +56,10 @@ import static org.jdbi.v3.core.generic.GenericTypes.parameterizeClass;
  * </ul>
  * based on a provided {@link AlpineRequest}.
  * <p>
+ * Queries that page through results using a keyset, and define {@value JdbiAttributes#ATTRIBUTE_API_KEYSET_PAGINATION}
+ * as {@code true}, are only limited in the number of results, but never offset. Restricting the result
+ * to rows after the keyset is the responsibility of the respective query.
+ * <p>
  * The functionality provided by this customizer is equivalent to these JDO counterparts:
  * <ul>
  *     <li>{@link org.dependencytrack.persistence.QueryManager#decorate(Query)}</li>
@@ -70,11 +75,9 @@ class ApiRequestStatementCustomizer implements StatementCustomizer {
     static final String TEMPLATE_PROJECT_ACL_CONDITION = /* language=SQL */ """
             EXISTS(
               SELECT 1
-                FROM "PROJECT_ACCESS_TEAMS" AS pat
-               INNER JOIN "PROJECT_HIERARCHY" AS ph
-                  ON ph."PARENT_PROJECT_ID" = pat."PROJECT_ID"
-               WHERE pat."TEAM_ID" = ANY(:projectAclTeamIds)
-                 AND ph."CHILD_PROJECT_ID" = %s
+                FROM "TEAM_PROJECT_EFFECTIVE_ACCESS" AS tpea
+               WHERE tpea."PROJECT_ID" = %s
+                 AND tpea."TEAM_ID" = ANY(:projectAclTeamIds)
             )
             """;
     static final String TEMPLATE_USER_PROJECT_ACL_CONDITION = /* language=SQL */ """
@@ -187,8 +190,12 @@ class ApiRequestStatementCustomizer implements StatementCustomizer {
         if (apiRequest != null
             && apiRequest.getPagination() != null
             && apiRequest.getPagination().isPaginated()) {
-            ctx.define(ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE, "OFFSET :paginationOffset FETCH NEXT :paginationLimit ROWS ONLY");
-            ctx.getBinding().addNamed("paginationOffset", apiRequest.getPagination().getOffset());
+            if (Boolean.TRUE.equals(ctx.getAttribute(ATTRIBUTE_API_KEYSET_PAGINATION))) {
+                ctx.define(ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE, "FETCH NEXT :paginationLimit ROWS ONLY");
+            } else {
+                ctx.define(ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE, "OFFSET :paginationOffset FETCH NEXT :paginationLimit ROWS ONLY");
+                ctx.getBinding().addNamed("paginationOffset", apiRequest.getPagination().getOffset());
+            }
             ctx.getBinding().addNamed("paginationLimit", apiRequest.getPagination().getLimit());
         }
     }
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
+import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.Vulnerability;
+import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based queries backing the export of projects as CycloneDX BOM, VDR, or VEX.
+ *
+ * @since 5.6.0
+ */
+public interface BomExportDao {
+
+    /**
+     * A finding of a project, and its analysis if any.
+     * <p>
+     * Unlike {@link FindingDao.FindingRow}, vulnerability details are not included,
+     * as they are commonly shared by many findings. They can be retrieved via
+     * {@link #getVulnerabilitiesByProject(long)} instead.
+     */
+    record FindingEdge(
+            UUID componentUuid,
+            long vulnerabilityId,
+            AnalysisState analysisState,
+            AnalysisJustification analysisJustification,
+            AnalysisResponse analysisResponse,
+            String analysisDetails
+    ) {
+    }
+
+    /**
+     * Retrieve all findings of a project, including suppressed ones,
+     * in the same order as {@link FindingDao#getFindings(long, boolean)}.
+     */
+    @SqlQuery("""
+            SELECT "C"."UUID" AS "componentUuid"
+                 , "CV"."VULNERABILITY_ID" AS "vulnerabilityId"
+                 , "A"."STATE" AS "analysisState"
+                 , "A"."JUSTIFICATION" AS "analysisJustification"
+                 , "A"."RESPONSE" AS "analysisResponse"
+                 , "A"."DETAILS" AS "analysisDetails"
+              FROM "COMPONENT" AS "C"
+             INNER JOIN "COMPONENTS_VULNERABILITIES" AS "CV"
+                ON "CV"."COMPONENT_ID" = "C"."ID"
+             INNER JOIN "FINDINGATTRIBUTION" AS "FA"
+                ON "FA"."COMPONENT_ID" = "C"."ID"
+               AND "FA"."VULNERABILITY_ID" = "CV"."VULNERABILITY_ID"
+              LEFT JOIN "ANALYSIS" AS "A"
+                ON "A"."COMPONENT_ID" = "C"."ID"
+               AND "A"."VULNERABILITY_ID" = "CV"."VULNERABILITY_ID"
+               AND "A"."PROJECT_ID" = "C"."PROJECT_ID"
+             WHERE "C"."PROJECT_ID" = :projectId
+             ORDER BY "FA"."ID"
+            """)
+    @RegisterConstructorMapper(FindingEdge.class)
+    List<FindingEdge> getFindingEdgesByProject(@Bind long projectId);
+
+    /**
+     * Retrieve all distinct {@link Vulnerability}s affecting components of a project.
+     * <p>
+     * Only fields required for the export are populated.
+     */
+    @SqlQuery("""
+            SELECT "V"."ID"
+                 , "V"."UUID"
+                 , "V"."VULNID"
+                 , "V"."SOURCE"
+                 , "V"."DESCRIPTION"
+                 , "V"."RECOMMENDATION"
+                 , "V"."CREATED"
+                 , "V"."PUBLISHED"
+                 , "V"."UPDATED"
+                 , CAST(STRING_TO_ARRAY("V"."CWES", ',') AS INT[]) AS "CWES"
+                 , "V"."CVSSV2BASESCORE"
+                 , "V"."CVSSV2VECTOR"
+                 , "V"."CVSSV3BASESCORE"
+                 , "V"."CVSSV3VECTOR"
+                 , "V"."OWASPRRLIKELIHOODSCORE"
+                 , "V"."OWASPRRTECHNICALIMPACTSCORE"
+                 , "V"."OWASPRRBUSINESSIMPACTSCORE"
+                 , "V"."OWASPRRVECTOR"
+                 , "V"."SEVERITY"
+              FROM "VULNERABILITY" AS "V"
+             WHERE "V"."ID" IN (
+                     SELECT "CV"."VULNERABILITY_ID"
+                       FROM "COMPONENTS_VULNERABILITIES" AS "CV"
+                      INNER JOIN "COMPONENT" AS "C"
+                         ON "C"."ID" = "CV"."COMPONENT_ID"
+                      WHERE "C"."PROJECT_ID" = :projectId
+                   )
+            """)
+    @RegisterBeanMapper(Vulnerability.class)
+    List<Vulnerability> getVulnerabilitiesByProject(@Bind long projectId);
+
+}
@@ -0,0 +1,667 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
+import org.apache.commons.lang3.SerializationUtils;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.ComponentOccurrence;
+import org.dependencytrack.model.ComponentProperty;
+import org.dependencytrack.persistence.converter.OrganizationalContactsJsonConverter;
+import org.dependencytrack.persistence.converter.OrganizationalEntityJsonConverter;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based reconciliation of BOM components with the {@code COMPONENT},
+ * {@code COMPONENT_OCCURRENCE}, and {@code COMPONENT_PROPERTY} tables.
+ * <p>
+ * Incoming components are staged in a temporary table, which is then diffed
+ * against existing components of the project by identity. This allows for
+ * components to be created, updated, and deleted with a constant number of
+ * queries, regardless of how many components a BOM contains.
+ * <p>
+ * Must be used in the same transaction as the rest of the BOM processing,
+ * i.e. via {@link JdbiFactory#createLocalJdbi(org.dependencytrack.persistence.QueryManager)}.
+ *
+ * @since 5.6.0
+ */
+public interface BomUploadProcessingDao extends SqlObject {
+
+    /**
+     * @param ordinal Position of the component in the list of staged components.
+     * @param id      ID of the persistent component.
+     * @param uuid    UUID of the persistent component.
+     * @param isNew   Whether the component was newly created.
+     */
+    record StagedComponent(int ordinal, long id, UUID uuid, boolean isNew) {
+    }
+
+    @SqlUpdate("""
+            CREATE TEMPORARY TABLE "TMP_BOM_UPLOAD_COMPONENT" (
+              "ORDINAL" INT PRIMARY KEY
+            , "ID" BIGINT
+            , "UUID" UUID NOT NULL
+            , "IS_NEW" BOOLEAN NOT NULL DEFAULT FALSE
+            , "AUTHORS" TEXT
+            , "PUBLISHER" TEXT
+            , "SUPPLIER" TEXT
+            , "CLASSIFIER" TEXT
+            , "GROUP" TEXT
+            , "NAME" TEXT NOT NULL
+            , "VERSION" TEXT
+            , "DESCRIPTION" TEXT
+            , "COPYRIGHT" TEXT
+            , "CPE" TEXT
+            , "PURL" TEXT
+            , "PURLCOORDINATES" TEXT
+            , "SWIDTAGID" TEXT
+            , "MD5" TEXT
+            , "SHA1" TEXT
+            , "SHA_256" TEXT
+            , "SHA_384" TEXT
+            , "SHA_512" TEXT
+            , "SHA3_256" TEXT
+            , "SHA3_384" TEXT
+            , "SHA3_512" TEXT
+            , "BLAKE2B_256" TEXT
+            , "BLAKE2B_384" TEXT
+            , "BLAKE2B_512" TEXT
+            , "BLAKE3" TEXT
+            , "LICENSE_ID" BIGINT
+            , "LICENSE" TEXT
+            , "LICENSE_URL" TEXT
+            , "LICENSE_EXPRESSION" TEXT
+            , "INTERNAL" BOOLEAN
+            , "EXTERNAL_REFERENCES" BYTEA
+            ) ON COMMIT DROP
+            """)
+    void createComponentStagingTable();
+
+    @SqlUpdate("""
+            INSERT INTO "TMP_BOM_UPLOAD_COMPONENT" (
+              "ORDINAL", "UUID", "AUTHORS", "PUBLISHER", "SUPPLIER", "CLASSIFIER", "GROUP", "NAME", "VERSION"
+            , "DESCRIPTION", "COPYRIGHT", "CPE", "PURL", "PURLCOORDINATES", "SWIDTAGID", "MD5", "SHA1"
+            , "SHA_256", "SHA_384", "SHA_512", "SHA3_256", "SHA3_384", "SHA3_512", "BLAKE2B_256"
+            , "BLAKE2B_384", "BLAKE2B_512", "BLAKE3", "LICENSE_ID", "LICENSE", "LICENSE_URL"
+            , "LICENSE_EXPRESSION", "INTERNAL", "EXTERNAL_REFERENCES"
+            )
+            SELECT "ORDINAL", "UUID", "AUTHORS", "PUBLISHER", "SUPPLIER", "CLASSIFIER", "GROUP", "NAME", "VERSION"
+                 , "DESCRIPTION", "COPYRIGHT", "CPE", "PURL", "PURLCOORDINATES", "SWIDTAGID", "MD5", "SHA1"
+                 , "SHA_256", "SHA_384", "SHA_512", "SHA3_256", "SHA3_384", "SHA3_512", "BLAKE2B_256"
+                 , "BLAKE2B_384", "BLAKE2B_512", "BLAKE3", "LICENSE_ID", "LICENSE", "LICENSE_URL"
+                 , "LICENSE_EXPRESSION", "INTERNAL", DECODE("EXTERNAL_REFERENCES", 'base64')
+              FROM UNNEST(
+                     :ordinals, :uuids, :authors, :publishers, :suppliers, :classifiers, :groups, :names, :versions
+                   , :descriptions, :copyrights, :cpes, :purls, :purlCoordinates, :swidTagIds, :md5s, :sha1s
+                   , :sha256s, :sha384s, :sha512s, :sha3_256s, :sha3_384s, :sha3_512s, :blake2b_256s
+                   , :blake2b_384s, :blake2b_512s, :blake3s, :licenseIds, :licenses, :licenseUrls
+                   , :licenseExpressions, :internals, :externalReferences
+                   ) AS t(
+                     "ORDINAL", "UUID", "AUTHORS", "PUBLISHER", "SUPPLIER", "CLASSIFIER", "GROUP", "NAME", "VERSION"
+                   , "DESCRIPTION", "COPYRIGHT", "CPE", "PURL", "PURLCOORDINATES", "SWIDTAGID", "MD5", "SHA1"
+                   , "SHA_256", "SHA_384", "SHA_512", "SHA3_256", "SHA3_384", "SHA3_512", "BLAKE2B_256"
+                   , "BLAKE2B_384", "BLAKE2B_512", "BLAKE3", "LICENSE_ID", "LICENSE", "LICENSE_URL"
+                   , "LICENSE_EXPRESSION", "INTERNAL", "EXTERNAL_REFERENCES"
+                   )
+            """)
+    int stageComponents(
+            @Bind List<Integer> ordinals,
+            @Bind List<UUID> uuids,
+            @Bind List<String> authors,
+            @Bind List<String> publishers,
+            @Bind List<String> suppliers,
+            @Bind List<String> classifiers,
+            @Bind List<String> groups,
+            @Bind List<String> names,
+            @Bind List<String> versions,
+            @Bind List<String> descriptions,
+            @Bind List<String> copyrights,
+            @Bind List<String> cpes,
+            @Bind List<String> purls,
+            @Bind List<String> purlCoordinates,
+            @Bind List<String> swidTagIds,
+            @Bind List<String> md5s,
+            @Bind List<String> sha1s,
+            @Bind List<String> sha256s,
+            @Bind List<String> sha384s,
+            @Bind List<String> sha512s,
+            @Bind List<String> sha3_256s,
+            @Bind List<String> sha3_384s,
+            @Bind List<String> sha3_512s,
+            @Bind List<String> blake2b_256s,
+            @Bind List<String> blake2b_384s,
+            @Bind List<String> blake2b_512s,
+            @Bind List<String> blake3s,
+            @Bind List<Long> licenseIds,
+            @Bind List<String> licenses,
+            @Bind List<String> licenseUrls,
+            @Bind List<String> licenseExpressions,
+            @Bind List<Boolean> internals,
+            @Bind List<String> externalReferences);
+
+    /**
+     * Stage the given components. Each component is identified by its position in {@code components}.
+     *
+     * @param components The {@link Component}s to stage.
+     */
+    default void stageComponents(final List<Component> components) {
+        final var contactsConverter = new OrganizationalContactsJsonConverter();
+        final var entityConverter = new OrganizationalEntityJsonConverter();
+
+        final int size = components.size();
+        final var ordinals = new ArrayList<Integer>(size);
+        final var uuids = new ArrayList<UUID>(size);
+        final var authors = new ArrayList<String>(size);
+        final var publishers = new ArrayList<String>(size);
+        final var suppliers = new ArrayList<String>(size);
+        final var classifiers = new ArrayList<String>(size);
+        final var groups = new ArrayList<String>(size);
+        final var names = new ArrayList<String>(size);
+        final var versions = new ArrayList<String>(size);
+        final var descriptions = new ArrayList<String>(size);
+        final var copyrights = new ArrayList<String>(size);
+        final var cpes = new ArrayList<String>(size);
+        final var purls = new ArrayList<String>(size);
+        final var purlCoordinates = new ArrayList<String>(size);
+        final var swidTagIds = new ArrayList<String>(size);
+        final var md5s = new ArrayList<String>(size);
+        final var sha1s = new ArrayList<String>(size);
+        final var sha256s = new ArrayList<String>(size);
+        final var sha384s = new ArrayList<String>(size);
+        final var sha512s = new ArrayList<String>(size);
+        final var sha3_256s = new ArrayList<String>(size);
+        final var sha3_384s = new ArrayList<String>(size);
+        final var sha3_512s = new ArrayList<String>(size);
+        final var blake2b_256s = new ArrayList<String>(size);
+        final var blake2b_384s = new ArrayList<String>(size);
+        final var blake2b_512s = new ArrayList<String>(size);
+        final var blake3s = new ArrayList<String>(size);
+        final var licenseIds = new ArrayList<Long>(size);
+        final var licenses = new ArrayList<String>(size);
+        final var licenseUrls = new ArrayList<String>(size);
+        final var licenseExpressions = new ArrayList<String>(size);
+        final var internals = new ArrayList<Boolean>(size);
+        final var externalReferences = new ArrayList<String>(size);
+
+        for (int i = 0; i < size; i++) {
+            final Component component = components.get(i);
+            ordinals.add(i);
+            uuids.add(UUID.randomUUID());
+            authors.add(contactsConverter.convertToDatastore(component.getAuthors()));
+            publishers.add(component.getPublisher());
+            suppliers.add(entityConverter.convertToDatastore(component.getSupplier()));
+            classifiers.add(component.getClassifier() != null ? component.getClassifier().name() : null);
+            groups.add(component.getGroup());
+            names.add(component.getName());
+            versions.add(component.getVersion());
+            descriptions.add(component.getDescription());
+            copyrights.add(component.getCopyright());
+            cpes.add(component.getCpe());
+            purls.add(component.getPurl() != null ? component.getPurl().canonicalize() : null);
+            purlCoordinates.add(component.getPurlCoordinates() != null ? component.getPurlCoordinates().canonicalize() : null);
+            swidTagIds.add(component.getSwidTagId());
+            md5s.add(component.getMd5());
+            sha1s.add(component.getSha1());
+            sha256s.add(component.getSha256());
+            sha384s.add(component.getSha384());
+            sha512s.add(component.getSha512());
+            sha3_256s.add(component.getSha3_256());
+            sha3_384s.add(component.getSha3_384());
+            sha3_512s.add(component.getSha3_512());
+            blake2b_256s.add(component.getBlake2b_256());
+            blake2b_384s.add(component.getBlake2b_384());
+            blake2b_512s.add(component.getBlake2b_512());
+            blake3s.add(component.getBlake3());
+            licenseIds.add(component.getResolvedLicense() != null ? component.getResolvedLicense().getId() : null);
+            licenses.add(component.getLicense());
+            licenseUrls.add(component.getLicenseUrl());
+            licenseExpressions.add(component.getLicenseExpression());
+            internals.add(component.isInternal());
+
+            // External references are stored in Java serialization format,
+            // consistent with how DataNucleus handles @Serialized fields.
+            externalReferences.add(component.getExternalReferences() != null
+                    ? Base64.getEncoder().encodeToString(SerializationUtils.serialize((Serializable) component.getExternalReferences()))
+                    : null);
+        }
+
+        stageComponents(ordinals, uuids, authors, publishers, suppliers, classifiers, groups, names, versions,
+                descriptions, copyrights, cpes, purls, purlCoordinates, swidTagIds, md5s, sha1s, sha256s, sha384s,
+                sha512s, sha3_256s, sha3_384s, sha3_512s, blake2b_256s, blake2b_384s, blake2b_512s, blake3s,
+                licenseIds, licenses, licenseUrls, licenseExpressions, internals, externalReferences);
+        getHandle().execute("ANALYZE \"TMP_BOM_UPLOAD_COMPONENT\"");
+    }
+
+    /**
+     * Match staged components with existing components of a project by their identity.
+     * <p>
+     * The identity is equivalent to that of {@link org.dependencytrack.model.ComponentIdentity},
+     * such that bulk processing yields the same matches as non-bulk processing. Like the latter,
+     * package URL coordinates are not compared explicitly, since they are derived from the package URL.
+     * <p>
+     * Should multiple existing components match the same identity, the one created first wins.
+     * The remaining ones will not be matched, and are thus subject to deletion.
+     *
+     * @param projectId ID of the project.
+     * @return Number of matched components.
+     */
+    @SqlUpdate("""
+            UPDATE "TMP_BOM_UPLOAD_COMPONENT" AS "STAGED"
+               SET "ID" = "MATCHED"."ID"
+                 , "UUID" = "MATCHED"."UUID"
+              FROM (
+                SELECT DISTINCT ON ("CANDIDATE"."ID")
+                       "CANDIDATE".*
+                  FROM (
+                    SELECT DISTINCT ON ("STAGED"."ORDINAL")
+                           "STAGED"."ORDINAL"
+                         , "COMPONENT"."ID"
+                         , "COMPONENT"."UUID"
+                      FROM "TMP_BOM_UPLOAD_COMPONENT" AS "STAGED"
+                     INNER JOIN "COMPONENT"
+                        ON "COMPONENT"."PROJECT_ID" = :projectId
+                       AND "COMPONENT"."NAME" = "STAGED"."NAME"
+                       AND "COMPONENT"."GROUP" IS NOT DISTINCT FROM "STAGED"."GROUP"
+                       AND "COMPONENT"."VERSION" IS NOT DISTINCT FROM "STAGED"."VERSION"
+                       AND "COMPONENT"."PURL" IS NOT DISTINCT FROM "STAGED"."PURL"
+                       AND "COMPONENT"."CPE" IS NOT DISTINCT FROM "STAGED"."CPE"
+                       AND "COMPONENT"."SWIDTAGID" IS NOT DISTINCT FROM "STAGED"."SWIDTAGID"
+                     ORDER BY "STAGED"."ORDINAL", "COMPONENT"."ID"
+                  ) AS "CANDIDATE"
+                 ORDER BY "CANDIDATE"."ID", "CANDIDATE"."ORDINAL"
+              ) AS "MATCHED"
+             WHERE "STAGED"."ORDINAL" = "MATCHED"."ORDINAL"
+            """)
+    int matchStagedComponents(@Bind long projectId);
+
+    /**
+     * Update existing components from their staged counterparts, if any of their fields changed.
+     *
+     * @return Number of updated components.
+     */
+    @SqlUpdate("""
+            UPDATE "COMPONENT"
+               SET "AUTHORS" = "STAGED"."AUTHORS"
+                 , "PUBLISHER" = "STAGED"."PUBLISHER"
+                 , "SUPPLIER" = "STAGED"."SUPPLIER"
+                 , "CLASSIFIER" = "STAGED"."CLASSIFIER"
+                 , "GROUP" = "STAGED"."GROUP"
+                 , "NAME" = "STAGED"."NAME"
+                 , "VERSION" = "STAGED"."VERSION"
+                 , "DESCRIPTION" = "STAGED"."DESCRIPTION"
+                 , "COPYRIGHT" = "STAGED"."COPYRIGHT"
+                 , "CPE" = "STAGED"."CPE"
+                 , "PURL" = "STAGED"."PURL"
+                 , "PURLCOORDINATES" = "STAGED"."PURLCOORDINATES"
+                 , "SWIDTAGID" = "STAGED"."SWIDTAGID"
+                 , "MD5" = "STAGED"."MD5"
+                 , "SHA1" = "STAGED"."SHA1"
+                 , "SHA_256" = "STAGED"."SHA_256"
+                 , "SHA_384" = "STAGED"."SHA_384"
+                 , "SHA_512" = "STAGED"."SHA_512"
+                 , "SHA3_256" = "STAGED"."SHA3_256"
+                 , "SHA3_384" = "STAGED"."SHA3_384"
+                 , "SHA3_512" = "STAGED"."SHA3_512"
+                 , "BLAKE2B_256" = "STAGED"."BLAKE2B_256"
+                 , "BLAKE2B_384" = "STAGED"."BLAKE2B_384"
+                 , "BLAKE2B_512" = "STAGED"."BLAKE2B_512"
+                 , "BLAKE3" = "STAGED"."BLAKE3"
+                 , "LICENSE_ID" = "STAGED"."LICENSE_ID"
+                 , "LICENSE" = "STAGED"."LICENSE"
+                 , "LICENSE_URL" = "STAGED"."LICENSE_URL"
+                 , "LICENSE_EXPRESSION" = "STAGED"."LICENSE_EXPRESSION"
+                 , "INTERNAL" = "STAGED"."INTERNAL"
+                 , "EXTERNAL_REFERENCES" = "STAGED"."EXTERNAL_REFERENCES"
+              FROM "TMP_BOM_UPLOAD_COMPONENT" AS "STAGED"
+             WHERE "COMPONENT"."ID" = "STAGED"."ID"
+               AND (
+                     "COMPONENT"."AUTHORS", "COMPONENT"."PUBLISHER", "COMPONENT"."SUPPLIER", "COMPONENT"."CLASSIFIER"
+                   , "COMPONENT"."GROUP", "COMPONENT"."NAME", "COMPONENT"."VERSION", "COMPONENT"."DESCRIPTION"
+                   , "COMPONENT"."COPYRIGHT", "COMPONENT"."CPE", "COMPONENT"."PURL", "COMPONENT"."SWIDTAGID"
+                   , "COMPONENT"."MD5", "COMPONENT"."SHA1", "COMPONENT"."SHA_256", "COMPONENT"."SHA_384"
+                   , "COMPONENT"."SHA_512", "COMPONENT"."SHA3_256", "COMPONENT"."SHA3_384", "COMPONENT"."SHA3_512"
+                   , "COMPONENT"."BLAKE2B_256", "COMPONENT"."BLAKE2B_384", "COMPONENT"."BLAKE2B_512"
+                   , "COMPONENT"."BLAKE3", "COMPONENT"."LICENSE_ID", "COMPONENT"."LICENSE", "COMPONENT"."LICENSE_URL"
+                   , "COMPONENT"."LICENSE_EXPRESSION", COALESCE("COMPONENT"."INTERNAL", FALSE)
+                   , "COMPONENT"."EXTERNAL_REFERENCES"
+                   ) IS DISTINCT FROM (
+                     "STAGED"."AUTHORS", "STAGED"."PUBLISHER", "STAGED"."SUPPLIER", "STAGED"."CLASSIFIER"
+                   , "STAGED"."GROUP", "STAGED"."NAME", "STAGED"."VERSION", "STAGED"."DESCRIPTION"
+                   , "STAGED"."COPYRIGHT", "STAGED"."CPE", "STAGED"."PURL", "STAGED"."SWIDTAGID"
+                   , "STAGED"."MD5", "STAGED"."SHA1", "STAGED"."SHA_256", "STAGED"."SHA_384"
+                   , "STAGED"."SHA_512", "STAGED"."SHA3_256", "STAGED"."SHA3_384", "STAGED"."SHA3_512"
+                   , "STAGED"."BLAKE2B_256", "STAGED"."BLAKE2B_384", "STAGED"."BLAKE2B_512"
+                   , "STAGED"."BLAKE3", "STAGED"."LICENSE_ID", "STAGED"."LICENSE", "STAGED"."LICENSE_URL"
+                   , "STAGED"."LICENSE_EXPRESSION", "STAGED"."INTERNAL"
+                   , "STAGED"."EXTERNAL_REFERENCES"
+                   )
+            """)
+    int updateChangedComponents();
+
+    /**
+     * Create components for all staged components that could not be matched to an existing component.
+     *
+     * @param projectId ID of the project.
+     * @return Number of created components.
+     */
+    @SqlUpdate("""
+            WITH "CREATED" AS (
+              INSERT INTO "COMPONENT" (
+                "PROJECT_ID", "UUID", "AUTHORS", "PUBLISHER", "SUPPLIER", "CLASSIFIER", "GROUP", "NAME", "VERSION"
+              , "DESCRIPTION", "COPYRIGHT", "CPE", "PURL", "PURLCOORDINATES", "SWIDTAGID", "MD5", "SHA1"
+              , "SHA_256", "SHA_384", "SHA_512", "SHA3_256", "SHA3_384", "SHA3_512", "BLAKE2B_256"
+              , "BLAKE2B_384", "BLAKE2B_512", "BLAKE3", "LICENSE_ID", "LICENSE", "LICENSE_URL"
+              , "LICENSE_EXPRESSION", "INTERNAL", "EXTERNAL_REFERENCES"
+              )
+              SELECT :projectId, "UUID", "AUTHORS", "PUBLISHER", "SUPPLIER", "CLASSIFIER", "GROUP", "NAME", "VERSION"
+                   , "DESCRIPTION", "COPYRIGHT", "CPE", "PURL", "PURLCOORDINATES", "SWIDTAGID", "MD5", "SHA1"
+                   , "SHA_256", "SHA_384", "SHA_512", "SHA3_256", "SHA3_384", "SHA3_512", "BLAKE2B_256"
+                   , "BLAKE2B_384", "BLAKE2B_512", "BLAKE3", "LICENSE_ID", "LICENSE", "LICENSE_URL"
+                   , "LICENSE_EXPRESSION", "INTERNAL", "EXTERNAL_REFERENCES"
+                FROM "TMP_BOM_UPLOAD_COMPONENT"
+               WHERE "ID" IS NULL
+               ORDER BY "ORDINAL"
+              RETURNING "ID", "UUID"
+            )
+            UPDATE "TMP_BOM_UPLOAD_COMPONENT" AS "STAGED"
+               SET "ID" = "CREATED"."ID"
+                 , "IS_NEW" = TRUE
+              FROM "CREATED"
+             WHERE "STAGED"."UUID" = "CREATED"."UUID"
+            """)
+    int createUnmatchedComponents(@Bind long projectId);
+
+    @SqlQuery("""
+            SELECT "ORDINAL"
+                 , "ID"
+                 , "UUID"
+                 , "IS_NEW"
+              FROM "TMP_BOM_UPLOAD_COMPONENT"
+             ORDER BY "ORDINAL"
+            """)
+    @RegisterConstructorMapper(StagedComponent.class)
+    List<StagedComponent> getStagedComponents();
+
+    /**
+     * @param projectId ID of the project.
+     * @return IDs of components of the project that do not have a staged counterpart.
+     */
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :projectId
+               AND NOT EXISTS (
+                 SELECT 1
+                   FROM "TMP_BOM_UPLOAD_COMPONENT" AS "STAGED"
+                  WHERE "STAGED"."ID" = "COMPONENT"."ID"
+               )
+            """)
+    List<Long> getIdsOfUnstagedComponents(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "COMPONENT_PROPERTY"
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM (
+                   SELECT "COMPONENT_PROPERTY"."ID"
+                        , ROW_NUMBER() OVER (
+                            PARTITION BY "COMPONENT_ID", "GROUPNAME", "PROPERTYNAME", "PROPERTYVALUE"
+                            ORDER BY "COMPONENT_PROPERTY"."ID"
+                          ) AS "ROW_NUMBER"
+                        , EXISTS (
+                            SELECT 1
+                              FROM UNNEST(:componentIds, :groupNames, :propertyNames, :propertyValues)
+                                AS t("COMPONENT_ID", "GROUPNAME", "PROPERTYNAME", "PROPERTYVALUE")
+                             WHERE t."COMPONENT_ID" = "COMPONENT_PROPERTY"."COMPONENT_ID"
+                               AND t."GROUPNAME" IS NOT DISTINCT FROM "COMPONENT_PROPERTY"."GROUPNAME"
+                               AND t."PROPERTYNAME" = "COMPONENT_PROPERTY"."PROPERTYNAME"
+                               AND t."PROPERTYVALUE" IS NOT DISTINCT FROM "COMPONENT_PROPERTY"."PROPERTYVALUE"
+                          ) AS "IS_INCOMING"
+                     FROM "COMPONENT_PROPERTY"
+                    WHERE "COMPONENT_ID" = ANY(:allComponentIds)
+                 ) AS "EXISTING"
+                WHERE "ROW_NUMBER" > 1
+                   OR NOT "IS_INCOMING"
+             )
+            """)
+    int deleteStaleComponentProperties(
+            @Bind List<Long> allComponentIds,
+            @Bind List<Long> componentIds,
+            @Bind List<String> groupNames,
+            @Bind List<String> propertyNames,
+            @Bind List<String> propertyValues);
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENT_PROPERTY" (
+              "COMPONENT_ID", "GROUPNAME", "PROPERTYNAME", "PROPERTYVALUE", "PROPERTYTYPE", "DESCRIPTION", "UUID"
+            )
+            SELECT t."COMPONENT_ID", t."GROUPNAME", t."PROPERTYNAME", t."PROPERTYVALUE"
+                 , t."PROPERTYTYPE", t."DESCRIPTION", t."UUID"
+              FROM UNNEST(:componentIds, :groupNames, :propertyNames, :propertyValues, :propertyTypes, :descriptions, :uuids)
+                AS t("COMPONENT_ID", "GROUPNAME", "PROPERTYNAME", "PROPERTYVALUE", "PROPERTYTYPE", "DESCRIPTION", "UUID")
+             WHERE NOT EXISTS (
+               SELECT 1
+                 FROM "COMPONENT_PROPERTY"
+                WHERE "COMPONENT_PROPERTY"."COMPONENT_ID" = t."COMPONENT_ID"
+                  AND "COMPONENT_PROPERTY"."GROUPNAME" IS NOT DISTINCT FROM t."GROUPNAME"
+                  AND "COMPONENT_PROPERTY"."PROPERTYNAME" = t."PROPERTYNAME"
+                  AND "COMPONENT_PROPERTY"."PROPERTYVALUE" IS NOT DISTINCT FROM t."PROPERTYVALUE"
+             )
+            """)
+    int createMissingComponentProperties(
+            @Bind List<Long> componentIds,
+            @Bind List<String> groupNames,
+            @Bind List<String> propertyNames,
+            @Bind List<String> propertyValues,
+            @Bind List<String> propertyTypes,
+            @Bind List<String> descriptions,
+            @Bind List<UUID> uuids);
+
+    /**
+     * Synchronize properties of the given components, such that they match
+     * the properties of the respective {@link Component} objects.
+     * <p>
+     * Properties are identified by their group, name, and value.
+     * Existing properties that are no longer present are deleted,
+     * as are duplicates of existing properties.
+     *
+     * @param components The {@link Component}s to synchronize properties for. IDs must be populated.
+     */
+    default void synchronizeComponentProperties(final Collection<Component> components) {
+        final var allComponentIds = new ArrayList<Long>(components.size());
+        final var componentIds = new ArrayList<Long>();
+        final var groupNames = new ArrayList<String>();
+        final var propertyNames = new ArrayList<String>();
+        final var propertyValues = new ArrayList<String>();
+        final var propertyTypes = new ArrayList<String>();
+        final var descriptions = new ArrayList<String>();
+        final var uuids = new ArrayList<UUID>();
+
+        for (final Component component : components) {
+            allComponentIds.add(component.getId());
+            if (component.getProperties() == null) {
+                continue;
+            }
+
+            final var identitiesSeen = new HashSet<ComponentProperty.Identity>();
+            for (final ComponentProperty property : component.getProperties()) {
+                if (!identitiesSeen.add(new ComponentProperty.Identity(property))) {
+                    continue;
+                }
+
+                componentIds.add(component.getId());
+                groupNames.add(property.getGroupName());
+                propertyNames.add(property.getPropertyName());
+                propertyValues.add(property.getPropertyValue());
+                propertyTypes.add(property.getPropertyType() != null ? property.getPropertyType().name() : null);
+                descriptions.add(property.getDescription());
+                uuids.add(UUID.randomUUID());
+            }
+        }
+
+        if (allComponentIds.isEmpty()) {
+            return;
+        }
+
+        deleteStaleComponentProperties(allComponentIds, componentIds, groupNames, propertyNames, propertyValues);
+        if (!componentIds.isEmpty()) {
+            createMissingComponentProperties(componentIds, groupNames, propertyNames, propertyValues, propertyTypes, descriptions, uuids);
+        }
+    }
+
+    @SqlUpdate("""
+            DELETE
+              FROM "COMPONENT_OCCURRENCE"
+             WHERE "COMPONENT_ID" = ANY(:allComponentIds)
+               AND NOT EXISTS (
+                 SELECT 1
+                   FROM UNNEST(:componentIds, :locations, :lines, :offsets, :symbols)
+                     AS t("COMPONENT_ID", "LOCATION", "LINE", "OFFSET", "SYMBOL")
+                  WHERE t."COMPONENT_ID" = "COMPONENT_OCCURRENCE"."COMPONENT_ID"
+                    AND t."LOCATION" = "COMPONENT_OCCURRENCE"."LOCATION"
+                    AND t."LINE" IS NOT DISTINCT FROM "COMPONENT_OCCURRENCE"."LINE"
+                    AND t."OFFSET" IS NOT DISTINCT FROM "COMPONENT_OCCURRENCE"."OFFSET"
+                    AND t."SYMBOL" IS NOT DISTINCT FROM "COMPONENT_OCCURRENCE"."SYMBOL"
+               )
+            """)
+    int deleteStaleComponentOccurrences(
+            @Bind List<Long> allComponentIds,
+            @Bind List<Long> componentIds,
+            @Bind List<String> locations,
+            @Bind List<Integer> lines,
+            @Bind List<Integer> offsets,
+            @Bind List<String> symbols);
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENT_OCCURRENCE" (
+              "ID", "COMPONENT_ID", "LOCATION", "LINE", "OFFSET", "SYMBOL"
+            )
+            SELECT t."ID", t."COMPONENT_ID", t."LOCATION", t."LINE", t."OFFSET", t."SYMBOL"
+              FROM UNNEST(:ids, :componentIds, :locations, :lines, :offsets, :symbols)
+                AS t("ID", "COMPONENT_ID", "LOCATION", "LINE", "OFFSET", "SYMBOL")
+             WHERE NOT EXISTS (
+               SELECT 1
+                 FROM "COMPONENT_OCCURRENCE"
+                WHERE "COMPONENT_OCCURRENCE"."COMPONENT_ID" = t."COMPONENT_ID"
+                  AND "COMPONENT_OCCURRENCE"."LOCATION" = t."LOCATION"
+                  AND "COMPONENT_OCCURRENCE"."LINE" IS NOT DISTINCT FROM t."LINE"
+                  AND "COMPONENT_OCCURRENCE"."OFFSET" IS NOT DISTINCT FROM t."OFFSET"
+                  AND "COMPONENT_OCCURRENCE"."SYMBOL" IS NOT DISTINCT FROM t."SYMBOL"
+             )
+            """)
+    int createMissingComponentOccurrences(
+            @Bind List<UUID> ids,
+            @Bind List<Long> componentIds,
+            @Bind List<String> locations,
+            @Bind List<Integer> lines,
+            @Bind List<Integer> offsets,
+            @Bind List<String> symbols);
+
+    /**
+     * Synchronize occurrences of the given components, such that they match
+     * the occurrences of the respective {@link Component} objects.
+     * <p>
+     * Occurrences are identified by their location, line, offset, and symbol.
+     *
+     * @param components The {@link Component}s to synchronize occurrences for. IDs must be populated.
+     */
+    default void synchronizeComponentOccurrences(final Collection<Component> components) {
+        final TimeBasedEpochRandomGenerator idGenerator = Generators.timeBasedEpochRandomGenerator();
+
+        final var allComponentIds = new ArrayList<Long>(components.size());
+        final var ids = new ArrayList<UUID>();
+        final var componentIds = new ArrayList<Long>();
+        final var locations = new ArrayList<String>();
+        final var lines = new ArrayList<Integer>();
+        final var offsets = new ArrayList<Integer>();
+        final var symbols = new ArrayList<String>();
+
+        for (final Component component : components) {
+            allComponentIds.add(component.getId());
+            if (component.getOccurrences() == null) {
+                continue;
+            }
+
+            final var identitiesSeen = new HashSet<ComponentOccurrence.Identity>();
+            for (final ComponentOccurrence occurrence : component.getOccurrences()) {
+                if (!identitiesSeen.add(ComponentOccurrence.Identity.of(occurrence))) {
+                    continue;
+                }
+
+                ids.add(idGenerator.generate());
+                componentIds.add(component.getId());
+                locations.add(occurrence.getLocation());
+                lines.add(occurrence.getLine());
+                offsets.add(occurrence.getOffset());
+                symbols.add(occurrence.getSymbol());
+            }
+        }
+
+        if (allComponentIds.isEmpty()) {
+            return;
+        }
+
+        deleteStaleComponentOccurrences(allComponentIds, componentIds, locations, lines, offsets, symbols);
+        if (!componentIds.isEmpty()) {
+            createMissingComponentOccurrences(ids, componentIds, locations, lines, offsets, symbols);
+        }
+    }
+
+    @SqlUpdate("""
+            UPDATE "COMPONENT"
+               SET "DIRECT_DEPENDENCIES" = CAST(t."DIRECT_DEPENDENCIES" AS JSONB)
+              FROM UNNEST(:ids, :directDependencies) AS t("ID", "DIRECT_DEPENDENCIES")
+             WHERE "COMPONENT"."ID" = t."ID"
+               AND "COMPONENT"."DIRECT_DEPENDENCIES" IS DISTINCT FROM CAST(t."DIRECT_DEPENDENCIES" AS JSONB)
+            """)
+    int updateDirectDependencies(@Bind List<Long> ids, @Bind List<String> directDependencies);
+
+    /**
+     * Update the direct dependencies of the given components, if they changed.
+     *
+     * @param components The {@link Component}s to update. IDs must be populated.
+     */
+    default void updateDirectDependencies(final Collection<Component> components) {
+        final var ids = new ArrayList<Long>(components.size());
+        final var directDependencies = new ArrayList<String>(components.size());
+        for (final Component component : components) {
+            ids.add(component.getId());
+            directDependencies.add(component.getDirectDependencies());
+        }
+
+        if (!ids.isEmpty()) {
+            updateDirectDependencies(ids, directDependencies);
+        }
+    }
+
+}
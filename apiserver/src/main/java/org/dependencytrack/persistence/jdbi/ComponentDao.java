@@ -20,7 +20,9 @@ package org.dependencytrack.persistence.jdbi;
 
 import org.dependencytrack.model.ComponentOccurrence;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.customizer.AllowUnusedBindings;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
@@ -47,6 +49,7 @@ public interface ComponentDao {
 
     @SqlQuery(/* language=InjectedFreeMarker */ """
             <#-- @ftlvariable name="apiFilterParameter" type="String" -->
+            <#-- @ftlvariable name="apiKeysetPagination" type="Boolean" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             SELECT "COMPONENT_OCCURRENCE"."ID"
                  , "LOCATION"
@@ -54,7 +57,11 @@ public interface ComponentDao {
                  , "OFFSET"
                  , "SYMBOL"
                  , "CREATED_AT"
+            <#if apiKeysetPagination>
+                 , NULL AS "TOTAL_COUNT"
+            <#else>
                  , COUNT(*) OVER() AS "TOTAL_COUNT"
+            </#if>
               FROM "COMPONENT"
              INNER JOIN "COMPONENT_OCCURRENCE"
                 ON "COMPONENT_OCCURRENCE"."COMPONENT_ID" = "COMPONENT"."ID"
@@ -62,11 +69,37 @@ public interface ComponentDao {
             <#if apiFilterParameter??>
                AND LOWER("LOCATION") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
             </#if>
+            <#if apiKeysetPagination>
+               AND ("LOCATION", "COMPONENT_OCCURRENCE"."ID") > (:afterLocation, :afterId)
+            </#if>
             ORDER BY "LOCATION", "COMPONENT_OCCURRENCE"."ID"
             ${apiOffsetLimitClause!}
             """)
+    @AllowUnusedBindings
     @RegisterBeanMapper(ComponentOccurrence.class)
-    List<ComponentOccurrence> getOccurrences(@Bind UUID componentUuid);
+    List<ComponentOccurrence> getOccurrences(
+            @Bind UUID componentUuid,
+            @Define(JdbiAttributes.ATTRIBUTE_API_KEYSET_PAGINATION) boolean keysetPagination,
+            @Bind String afterLocation,
+            @Bind UUID afterId);
+
+    default List<ComponentOccurrence> getOccurrences(final UUID componentUuid) {
+        return getOccurrences(componentUuid, false, null, null);
+    }
+
+    /**
+     * Returns the occurrences of a component that are ordered after a given occurrence,
+     * without computing the total number of occurrences.
+     *
+     * @param componentUuid {@link UUID} of the component
+     * @param afterLocation Location of the last occurrence of the previous page
+     * @param afterId       ID of the last occurrence of the previous page
+     * @return A {@link List} of {@link ComponentOccurrence}s, ordered by their location and ID
+     * @since 5.6.0
+     */
+    default List<ComponentOccurrence> getOccurrencesAfter(final UUID componentUuid, final String afterLocation, final UUID afterId) {
+        return getOccurrences(componentUuid, true, afterLocation, afterId);
+    }
 
     @SqlQuery("""
             SELECT "ID" FROM "COMPONENT" WHERE "UUID" = :componentUuid
@@ -24,6 +24,9 @@ import org.dependencytrack.model.IntegrityMatchStatus;
 import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
 import org.jdbi.v3.core.statement.Query;
 import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import java.time.Instant;
@@ -38,6 +41,18 @@ import java.util.stream.Collectors;
  */
 public interface ComponentMetaDao extends SqlObject {
 
+    record IntegrityCheckCandidateRecord(
+            long componentId,
+            String componentMd5,
+            String componentSha1,
+            String componentSha256,
+            String componentSha512,
+            String metaMd5,
+            String metaSha1,
+            String metaSha256,
+            String metaSha512) {
+    }
+
     record ComponentMetaInfoRecord(
             UUID componentUuid,
             String purl,
@@ -100,4 +115,134 @@ public interface ComponentMetaDao extends SqlObject {
             """)
     int deleteOrphanRepositoryMetaComponents();
 
+    /**
+     * Update existing {@code INTEGRITY_META_COMPONENT} records, unless they have been
+     * {@link org.dependencytrack.model.FetchStatus#PROCESSED} already.
+     * <p>
+     * Hashes of {@link org.dependencytrack.model.FetchStatus#PROCESSED} results only
+     * overwrite existing hashes if they are not {@code null}. For all other results,
+     * existing hashes are cleared.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            UPDATE "INTEGRITY_META_COMPONENT"
+               SET "MD5" = CASE WHEN t."STATUS" = 'PROCESSED' THEN COALESCE(t."MD5", "INTEGRITY_META_COMPONENT"."MD5") END
+                 , "SHA1" = CASE WHEN t."STATUS" = 'PROCESSED' THEN COALESCE(t."SHA1", "INTEGRITY_META_COMPONENT"."SHA1") END
+                 , "SHA256" = CASE WHEN t."STATUS" = 'PROCESSED' THEN COALESCE(t."SHA256", "INTEGRITY_META_COMPONENT"."SHA256") END
+                 , "SHA512" = CASE WHEN t."STATUS" = 'PROCESSED' THEN COALESCE(t."SHA512", "INTEGRITY_META_COMPONENT"."SHA512") END
+                 , "PUBLISHED_AT" = CASE WHEN t."STATUS" = 'PROCESSED'
+                                         THEN TO_TIMESTAMP(t."PUBLISHED_AT" / 1000.0)
+                                         ELSE "INTEGRITY_META_COMPONENT"."PUBLISHED_AT"
+                                    END
+                 , "REPOSITORY_URL" = t."REPOSITORY_URL"
+                 , "STATUS" = t."STATUS"
+                 , "LAST_FETCH" = NOW()
+              FROM UNNEST(:purls, :md5s, :sha1s, :sha256s, :sha512s, :publishedAts, :repositoryUrls, :statuses)
+                AS t("PURL", "MD5", "SHA1", "SHA256", "SHA512", "PUBLISHED_AT", "REPOSITORY_URL", "STATUS")
+             WHERE "INTEGRITY_META_COMPONENT"."PURL" = t."PURL"
+               AND "INTEGRITY_META_COMPONENT"."STATUS" IS DISTINCT FROM 'PROCESSED'
+            """)
+    int updateIntegrityMetaComponents(
+            @Bind List<String> purls,
+            @Bind List<String> md5s,
+            @Bind List<String> sha1s,
+            @Bind List<String> sha256s,
+            @Bind List<String> sha512s,
+            @Bind List<Long> publishedAts,
+            @Bind List<String> repositoryUrls,
+            @Bind List<String> statuses);
+
+    /**
+     * Fetch the hashes of components and their integrity metadata.
+     * <p>
+     * Where a component UUID is provided, only the component with that UUID is considered.
+     * Otherwise, all components with the given PURL are considered.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT c."ID" AS "COMPONENT_ID"
+                 , c."MD5" AS "COMPONENT_MD5"
+                 , c."SHA1" AS "COMPONENT_SHA1"
+                 , c."SHA_256" AS "COMPONENT_SHA256"
+                 , c."SHA_512" AS "COMPONENT_SHA512"
+                 , imc."MD5" AS "META_MD5"
+                 , imc."SHA1" AS "META_SHA1"
+                 , imc."SHA256" AS "META_SHA256"
+                 , imc."SHA512" AS "META_SHA512"
+              FROM UNNEST(:purls, :componentUuids) AS t("PURL", "COMPONENT_UUID")
+             INNER JOIN "INTEGRITY_META_COMPONENT" AS imc
+                ON imc."PURL" = t."PURL"
+             INNER JOIN "COMPONENT" AS c
+                ON c."UUID" = t."COMPONENT_UUID"
+             UNION ALL
+            SELECT c."ID"
+                 , c."MD5"
+                 , c."SHA1"
+                 , c."SHA_256"
+                 , c."SHA_512"
+                 , imc."MD5"
+                 , imc."SHA1"
+                 , imc."SHA256"
+                 , imc."SHA512"
+              FROM UNNEST(:purls, :componentUuids) AS t("PURL", "COMPONENT_UUID")
+             INNER JOIN "INTEGRITY_META_COMPONENT" AS imc
+                ON imc."PURL" = t."PURL"
+             INNER JOIN "COMPONENT" AS c
+                ON c."PURL" = imc."PURL"
+             WHERE t."COMPONENT_UUID" IS NULL
+            """)
+    @RegisterConstructorMapper(IntegrityCheckCandidateRecord.class)
+    List<IntegrityCheckCandidateRecord> getIntegrityCheckCandidates(
+            @Bind List<String> purls,
+            @Bind List<UUID> componentUuids);
+
+    /**
+     * Create or update {@code INTEGRITY_ANALYSIS} records for the given components.
+     * <p>
+     * {@code INTEGRITY_ANALYSIS} does not have a unique constraint on {@code COMPONENT_ID},
+     * so existing records are updated first, and only records for the remaining components are created.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            WITH "INCOMING" AS (
+              SELECT *
+                FROM UNNEST(:componentIds, :integrityCheckStatuses, :md5Statuses, :sha1Statuses, :sha256Statuses, :sha512Statuses)
+                  AS t("COMPONENT_ID", "INTEGRITY_CHECK_STATUS", "MD5_HASH_MATCH_STATUS", "SHA1_HASH_MATCH_STATUS", "SHA256_HASH_MATCH_STATUS", "SHA512_HASH_MATCH_STATUS")
+            ),
+            "UPDATED" AS (
+              UPDATE "INTEGRITY_ANALYSIS"
+                 SET "INTEGRITY_CHECK_STATUS" = "INCOMING"."INTEGRITY_CHECK_STATUS"
+                   , "MD5_HASH_MATCH_STATUS" = "INCOMING"."MD5_HASH_MATCH_STATUS"
+                   , "SHA1_HASH_MATCH_STATUS" = "INCOMING"."SHA1_HASH_MATCH_STATUS"
+                   , "SHA256_HASH_MATCH_STATUS" = "INCOMING"."SHA256_HASH_MATCH_STATUS"
+                   , "SHA512_HASH_MATCH_STATUS" = "INCOMING"."SHA512_HASH_MATCH_STATUS"
+                   , "UPDATED_AT" = NOW()
+                FROM "INCOMING"
+               WHERE "INTEGRITY_ANALYSIS"."COMPONENT_ID" = "INCOMING"."COMPONENT_ID"
+              RETURNING "INTEGRITY_ANALYSIS"."COMPONENT_ID"
+            )
+            INSERT INTO "INTEGRITY_ANALYSIS"
+              ( "COMPONENT_ID", "INTEGRITY_CHECK_STATUS", "MD5_HASH_MATCH_STATUS", "SHA1_HASH_MATCH_STATUS"
+              , "SHA256_HASH_MATCH_STATUS", "SHA512_HASH_MATCH_STATUS", "UPDATED_AT" )
+            SELECT "COMPONENT_ID"
+                 , "INTEGRITY_CHECK_STATUS"
+                 , "MD5_HASH_MATCH_STATUS"
+                 , "SHA1_HASH_MATCH_STATUS"
+                 , "SHA256_HASH_MATCH_STATUS"
+                 , "SHA512_HASH_MATCH_STATUS"
+                 , NOW()
+              FROM "INCOMING"
+             WHERE "COMPONENT_ID" NOT IN (SELECT "COMPONENT_ID" FROM "UPDATED")
+            """)
+    void upsertIntegrityAnalyses(
+            @Bind List<Long> componentIds,
+            @Bind List<String> integrityCheckStatuses,
+            @Bind List<String> md5Statuses,
+            @Bind List<String> sha1Statuses,
+            @Bind List<String> sha256Statuses,
+            @Bind List<String> sha512Statuses);
+
 }
@@ -33,7 +33,9 @@ import java.lang.reflect.Method;
 import java.sql.PreparedStatement;
 
 import static org.dependencytrack.persistence.jdbi.ApiRequestStatementCustomizer.PARAMETER_PROJECT_ACL_TEAM_IDS;
+import static org.dependencytrack.persistence.jdbi.ApiRequestStatementCustomizer.PARAMETER_USER_ID;
 import static org.dependencytrack.persistence.jdbi.ApiRequestStatementCustomizer.TEMPLATE_PROJECT_ACL_CONDITION;
+import static org.dependencytrack.persistence.jdbi.ApiRequestStatementCustomizer.TEMPLATE_USER_PROJECT_ACL_CONDITION;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_PROJECT_ACL_CONDITION;
 
 /**
@@ -114,6 +116,9 @@ public @interface DefineApiProjectAclCondition {
                 // so it's not a trivial TRUE or FALSE. Re-use those bindings by defining
                 // a new condition, using the chosen project table alias.
                 ctx.define(attributeName, TEMPLATE_PROJECT_ACL_CONDITION.formatted(projectIdColumn));
+            } else if (ctx.getBinding().findForName(PARAMETER_USER_ID, ctx).isPresent()) {
+                // Same as above, but for conditions based on the effective permissions of a user.
+                ctx.define(attributeName, TEMPLATE_USER_PROJECT_ACL_CONDITION.formatted(projectIdColumn));
             } else {
                 // Likely a trivial TRUE or FALSE; Just re-use it.
                 ctx.define(attributeName, aclCondition);
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.Epss;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+
+/**
+ * @since 5.6.0
+ */
+public interface EpssDao extends SqlObject {
+
+    record SynchronizationResult(long created, long updated) {
+    }
+
+    /**
+     * Synchronize a batch of {@link Epss} records with the database.
+     * <p>
+     * Records are streamed into a temporary staging table using {@code COPY}, and merged into
+     * the {@code EPSS} table with a single statement. Existing records are only updated when
+     * their score or percentile changed. When a CVE occurs multiple times in {@code epssRecords},
+     * the last occurrence wins.
+     * <p>
+     * Must be called within an active transaction.
+     *
+     * @param epssRecords The {@link Epss} records to synchronize
+     * @return A {@link SynchronizationResult} holding the number of created and updated records
+     */
+    default SynchronizationResult synchronizeAll(final Collection<Epss> epssRecords) {
+        if (epssRecords == null || epssRecords.isEmpty()) {
+            return new SynchronizationResult(0, 0);
+        }
+        if (!getHandle().isInTransaction()) {
+            throw new IllegalStateException("EPSS records can only be synchronized in a transaction");
+        }
+
+        final var epssRecordByCve = new LinkedHashMap<String, Epss>(epssRecords.size());
+        for (final Epss epss : epssRecords) {
+            epssRecordByCve.put(epss.getCve(), epss);
+        }
+
+        createStagingTable();
+        truncateStagingTable();
+        copyIntoStagingTable(epssRecordByCve.values());
+        return mergeStagingTable();
+    }
+
+    @SqlUpdate("""
+            CREATE TEMPORARY TABLE IF NOT EXISTS "EPSS_STAGING" (
+              "CVE" TEXT NOT NULL
+            , "SCORE" NUMERIC
+            , "PERCENTILE" NUMERIC
+            ) ON COMMIT DELETE ROWS
+            """)
+    void createStagingTable();
+
+    @SqlUpdate("""
+            TRUNCATE TABLE "EPSS_STAGING"
+            """)
+    void truncateStagingTable();
+
+    /**
+     * Stream {@link Epss} records into the staging table using {@code COPY}.
+     * <p>
+     * {@code COPY} bypasses the per-statement overhead of (batched) {@code INSERT}s,
+     * and is thus significantly faster for large amounts of records. Records are written
+     * to the connection as they are encoded, without buffering the entire batch in memory.
+     *
+     * @param epssRecords The {@link Epss} records to copy
+     */
+    default void copyIntoStagingTable(final Collection<Epss> epssRecords) {
+        try {
+            final PGConnection pgConnection = getHandle().getConnection().unwrap(PGConnection.class);
+            try (final var copyOutputStream = new PGCopyOutputStream(pgConnection, """
+                    COPY "EPSS_STAGING" ("CVE", "SCORE", "PERCENTILE") FROM STDIN (FORMAT CSV)
+                    """);
+                 final var writer = new BufferedWriter(new OutputStreamWriter(copyOutputStream, StandardCharsets.UTF_8))) {
+                for (final Epss epss : epssRecords) {
+                    // NB: Unquoted empty values are interpreted as NULL.
+                    writer.write('"');
+                    writer.write(epss.getCve().replace("\"", "\"\""));
+                    writer.write('"');
+                    writer.write(',');
+                    writer.write(epss.getScore() != null ? epss.getScore().toPlainString() : "");
+                    writer.write(',');
+                    writer.write(epss.getPercentile() != null ? epss.getPercentile().toPlainString() : "");
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Failed to copy EPSS records into staging table", e);
+        }
+    }
+
+    @SqlQuery("""
+            WITH "CTE_MERGED" AS (
+              INSERT INTO "EPSS" ("CVE", "SCORE", "PERCENTILE")
+              SELECT "CVE", "SCORE", "PERCENTILE"
+                FROM "EPSS_STAGING"
+              ON CONFLICT ("CVE") DO UPDATE
+              SET "SCORE" = EXCLUDED."SCORE"
+                , "PERCENTILE" = EXCLUDED."PERCENTILE"
+              WHERE "EPSS"."SCORE" IS DISTINCT FROM EXCLUDED."SCORE"
+                 OR "EPSS"."PERCENTILE" IS DISTINCT FROM EXCLUDED."PERCENTILE"
+              -- The system column xmax is zero for newly inserted rows.
+              RETURNING (xmax = 0) AS "IS_CREATED"
+            )
+            SELECT COUNT(*) FILTER (WHERE "IS_CREATED") AS "created"
+                 , COUNT(*) FILTER (WHERE NOT "IS_CREATED") AS "updated"
+              FROM "CTE_MERGED"
+            """)
+    @RegisterConstructorMapper(SynchronizationResult.class)
+    SynchronizationResult mergeStagingTable();
+
+}
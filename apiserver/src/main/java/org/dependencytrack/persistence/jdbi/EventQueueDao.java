@@ -0,0 +1,193 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data access for the {@code EVENT_QUEUE} table, which backs durable processing of events.
+ * <p>
+ * Events are claimed using {@code SELECT ... FOR UPDATE SKIP LOCKED}, such that multiple
+ * instances can poll the queue concurrently without blocking each other, or claiming
+ * the same event twice. Claimed events are hidden from other pollers until their
+ * visibility timeout elapses.
+ *
+ * @since 5.6.0
+ */
+public interface EventQueueDao extends SqlObject {
+
+    record QueuedEvent(
+            long id,
+            String eventType,
+            String subscriber,
+            UUID chainIdentifier,
+            String payload,
+            int attempts,
+            UUID leaseId) {
+    }
+
+    /**
+     * Enqueue an event.
+     * <p>
+     * When {@code coalescingKey} is not {@code null}, and an event with the same type, subscriber,
+     * and coalescing key is already pending and was never attempted, no new event is enqueued.
+     * Events of tracked workflows are never coalesced, since completion of each of them
+     * must be reflected in the state of their respective workflow.
+     *
+     * @param eventType       Type of the event
+     * @param subscriber      Type of the subscriber to inform of the event
+     * @param chainIdentifier Chain identifier of the event
+     * @param coalescingKey   Key to coalesce equivalent pending events by, or {@code null}
+     * @param payload         JSON representation of the event
+     * @return {@code true} when the event was enqueued, or {@code false} when it was coalesced
+     */
+    @SqlUpdate("""
+            INSERT INTO "EVENT_QUEUE" ("EVENT_TYPE", "SUBSCRIBER", "CHAIN_IDENTIFIER", "COALESCING_KEY", "PAYLOAD")
+            VALUES (
+              :eventType
+            , :subscriber
+            , :chainIdentifier
+            , CASE
+                WHEN EXISTS (SELECT 1 FROM "WORKFLOW_STATE" WHERE "TOKEN" = :chainIdentifier)
+                THEN NULL
+                ELSE CAST(:coalescingKey AS TEXT)
+              END
+            , CAST(:payload AS JSONB)
+            )
+            ON CONFLICT ("EVENT_TYPE", "SUBSCRIBER", "COALESCING_KEY") WHERE "ATTEMPTS" = 0
+            DO NOTHING
+            """)
+    boolean enqueue(
+            @Bind String eventType,
+            @Bind String subscriber,
+            @Bind UUID chainIdentifier,
+            @Bind String coalescingKey,
+            @Bind String payload);
+
+    /**
+     * Claim up to {@code limit} visible events of a given type.
+     * <p>
+     * Claimed events are assigned {@code leaseId}, their number of attempts is incremented,
+     * and they are hidden from other pollers for {@code visibilityTimeout}.
+     *
+     * @param eventType         Type of the events to claim
+     * @param limit             Maximum number of events to claim
+     * @param leaseId           ID of the lease to claim the events with
+     * @param visibilityTimeout Duration for which claimed events are hidden from other pollers
+     * @return The claimed events, in the order in which they were enqueued
+     */
+    @SqlQuery("""
+            WITH "CTE_CLAIMABLE" AS (
+              SELECT "ID"
+                FROM "EVENT_QUEUE"
+               WHERE "EVENT_TYPE" = :eventType
+                 AND "VISIBLE_AT" <= NOW()
+               ORDER BY "ID"
+               LIMIT :limit
+                 FOR UPDATE
+                SKIP LOCKED
+            )
+            UPDATE "EVENT_QUEUE"
+               SET "ATTEMPTS" = "EVENT_QUEUE"."ATTEMPTS" + 1
+                 , "LEASE_ID" = :leaseId
+                 , "VISIBLE_AT" = NOW() + :visibilityTimeout
+              FROM "CTE_CLAIMABLE"
+             WHERE "EVENT_QUEUE"."ID" = "CTE_CLAIMABLE"."ID"
+            RETURNING "EVENT_QUEUE"."ID" AS "id"
+                    , "EVENT_QUEUE"."EVENT_TYPE" AS "eventType"
+                    , "EVENT_QUEUE"."SUBSCRIBER" AS "subscriber"
+                    , "EVENT_QUEUE"."CHAIN_IDENTIFIER" AS "chainIdentifier"
+                    , CAST("EVENT_QUEUE"."PAYLOAD" AS TEXT) AS "payload"
+                    , "EVENT_QUEUE"."ATTEMPTS" AS "attempts"
+                    , "EVENT_QUEUE"."LEASE_ID" AS "leaseId"
+            """)
+    @RegisterConstructorMapper(QueuedEvent.class)
+    List<QueuedEvent> claim(
+            @Bind String eventType,
+            @Bind int limit,
+            @Bind UUID leaseId,
+            @Bind Duration visibilityTimeout);
+
+    /**
+     * Extend the visibility timeout of claimed events, for as long as their leases are still held.
+     *
+     * @param ids               IDs of the events
+     * @param leaseIds          Lease IDs of the events, in the same order as {@code ids}
+     * @param visibilityTimeout Duration for which the events shall remain hidden from other pollers
+     * @return Number of events for which the visibility timeout was extended
+     */
+    @SqlUpdate("""
+            UPDATE "EVENT_QUEUE"
+               SET "VISIBLE_AT" = NOW() + :visibilityTimeout
+              FROM UNNEST(:ids, :leaseIds) AS t("ID", "LEASE_ID")
+             WHERE "EVENT_QUEUE"."ID" = t."ID"
+               AND "EVENT_QUEUE"."LEASE_ID" = t."LEASE_ID"
+            """)
+    int extendLeases(@Bind List<Long> ids, @Bind List<UUID> leaseIds, @Bind Duration visibilityTimeout);
+
+    /**
+     * Delete a claimed event, for as long as its lease is still held.
+     *
+     * @param id      ID of the event
+     * @param leaseId Lease ID of the event
+     * @return {@code true} when the event was deleted, otherwise {@code false}
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "EVENT_QUEUE"
+             WHERE "ID" = :id
+               AND "LEASE_ID" = :leaseId
+            """)
+    boolean delete(@Bind long id, @Bind UUID leaseId);
+
+    /**
+     * Release a claimed event, such that it becomes visible again after {@code delay}.
+     *
+     * @param id      ID of the event
+     * @param leaseId Lease ID of the event
+     * @param delay   Duration after which the event becomes visible again
+     * @return {@code true} when the event was released, otherwise {@code false}
+     */
+    @SqlUpdate("""
+            UPDATE "EVENT_QUEUE"
+               SET "LEASE_ID" = NULL
+                 , "VISIBLE_AT" = NOW() + :delay
+             WHERE "ID" = :id
+               AND "LEASE_ID" = :leaseId
+            """)
+    boolean release(@Bind long id, @Bind UUID leaseId, @Bind Duration delay);
+
+    @SqlQuery("""
+            SELECT EXISTS (
+              SELECT 1
+                FROM "EVENT_QUEUE"
+               WHERE "CHAIN_IDENTIFIER" = :chainIdentifier
+            )
+            """)
+    boolean existsByChainIdentifier(@Bind UUID chainIdentifier);
+
+}
@@ -83,6 +83,7 @@ public interface FindingDao {
             String reference_url,
             AnalysisState analysisState,
             boolean suppressed,
+            long attributionId,
             long totalCount
     ) {
     }
@@ -103,6 +104,7 @@ public interface FindingDao {
     }
 
     @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="apiKeysetPagination" type="Boolean" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             SELECT "PROJECT"."UUID" AS "projectUuid"
                  , "PROJECT"."NAME" AS "projectName"
@@ -167,7 +169,12 @@ public interface FindingDao {
                  , "FINDINGATTRIBUTION"."REFERENCE_URL"
                  , "A"."STATE" AS "analysisState"
                  , "A"."SUPPRESSED"
+                 , "FINDINGATTRIBUTION"."ID" AS "attributionId"
+            <#if apiKeysetPagination>
+                 , NULL AS "totalCount"
+            <#else>
                  , COUNT(*) OVER() AS "totalCount"
+            </#if>
               FROM "COMPONENT"
              INNER JOIN "COMPONENTS_VULNERABILITIES"
                 ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
@@ -187,11 +194,43 @@ public interface FindingDao {
              WHERE "COMPONENT"."PROJECT_ID" = :projectId
                AND (:includeSuppressed OR "A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")
                AND (:hasAnalysis IS NULL OR ("A"."ID" IS NOT NULL) = :hasAnalysis)
+            <#if apiKeysetPagination>
+               AND "FINDINGATTRIBUTION"."ID" > :afterAttributionId
+            </#if>
              ORDER BY "FINDINGATTRIBUTION"."ID"
              ${apiOffsetLimitClause!}
             """)
+    @AllowUnusedBindings
     @RegisterConstructorMapper(FindingRow.class)
-    List<FindingRow> getFindingsByProject(@Bind long projectId, @Bind boolean includeSuppressed, @Bind Boolean hasAnalysis);
+    List<FindingRow> getFindingsByProject(
+            @Bind long projectId,
+            @Bind boolean includeSuppressed,
+            @Bind Boolean hasAnalysis,
+            @Define(JdbiAttributes.ATTRIBUTE_API_KEYSET_PAGINATION) boolean keysetPagination,
+            @Bind Long afterAttributionId);
+
+    default List<FindingRow> getFindingsByProject(final long projectId, final boolean includeSuppressed, final Boolean hasAnalysis) {
+        return getFindingsByProject(projectId, includeSuppressed, hasAnalysis, false, null);
+    }
+
+    /**
+     * Returns the findings of a project that were attributed after a given finding attribution,
+     * without computing the total number of findings.
+     *
+     * @param projectId          ID of the project
+     * @param includeSuppressed  Whether to include suppressed findings
+     * @param hasAnalysis        Whether to only include findings with, or without analysis, or {@code null} for both
+     * @param afterAttributionId ID of the attribution of the last finding of the previous page
+     * @return A {@link List} of {@link FindingRow}s, ordered by their attribution ID
+     * @since 5.6.0
+     */
+    default List<FindingRow> getFindingsByProjectAfter(
+            final long projectId,
+            final boolean includeSuppressed,
+            final Boolean hasAnalysis,
+            final long afterAttributionId) {
+        return getFindingsByProject(projectId, includeSuppressed, hasAnalysis, true, afterAttributionId);
+    }
 
     default List<Finding> getFindings(final long projectId, final boolean includeSuppressed) {
         List<FindingRow> findingRows = getFindingsByProject(projectId, includeSuppressed, null);
@@ -270,6 +309,7 @@ public interface FindingDao {
                  , "FINDINGATTRIBUTION"."REFERENCE_URL"
                  , "A"."STATE" AS "analysisState"
                  , "A"."SUPPRESSED"
+                 , "FINDINGATTRIBUTION"."ID" AS "attributionId"
                  , COUNT(*) OVER() AS "totalCount"
               FROM "COMPONENT"
              INNER JOIN "COMPONENTS_VULNERABILITIES"
@@ -34,6 +34,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * @since 5.6.0
@@ -123,6 +124,74 @@ public interface MetricsDao extends SqlObject {
     @RegisterBeanMapper(DependencyMetrics.class)
     List<DependencyMetrics> getMostRecentDependencyMetrics(@Bind Collection<Long> componentIds);
 
+    /**
+     * Statement to record that metrics of components may have changed.
+     * <p>
+     * Takes the IDs of the components as single, positional {@code BIGINT[]} parameter,
+     * such that it can also be executed by writers operating on plain JDBC {@link java.sql.Connection}s.
+     *
+     * @see #recordComponentMetricsChanges(Collection)
+     */
+    String RECORD_COMPONENT_METRICS_CHANGES_STATEMENT = """
+            INSERT INTO "METRICS_CHANGELOG" ("COMPONENT_ID", "PROJECT_ID")
+            SELECT "ID"
+                 , "PROJECT_ID"
+              FROM "COMPONENT"
+             WHERE "ID" = ANY(?)
+            ON CONFLICT ("COMPONENT_ID") DO NOTHING
+            """;
+
+    /**
+     * Record that metrics of the given components may have changed,
+     * and need to be re-calculated during the next incremental metrics update.
+     *
+     * @param componentIds IDs of the components to record changes for
+     * @return Number of newly recorded changes
+     */
+    @SqlUpdate(RECORD_COMPONENT_METRICS_CHANGES_STATEMENT)
+    int recordComponentMetricsChanges(@Bind Collection<Long> componentIds);
+
+    /**
+     * Record that metrics of all components affected by a given vulnerability may have changed,
+     * e.g. because the severity of the vulnerability changed.
+     *
+     * @param vulnerabilityId ID of the vulnerability to record changes for
+     * @return Number of newly recorded changes
+     */
+    @SqlUpdate("""
+            INSERT INTO "METRICS_CHANGELOG" ("COMPONENT_ID", "PROJECT_ID")
+            SELECT "C"."ID"
+                 , "C"."PROJECT_ID"
+              FROM "COMPONENTS_VULNERABILITIES" AS "CV"
+             INNER JOIN "COMPONENT" AS "C"
+                ON "C"."ID" = "CV"."COMPONENT_ID"
+             WHERE "CV"."VULNERABILITY_ID" = :vulnerabilityId
+            ON CONFLICT ("COMPONENT_ID") DO NOTHING
+            """)
+    int recordVulnerabilityMetricsChanges(@Bind long vulnerabilityId);
+
+    /**
+     * Remove all recorded changes of a given project.
+     *
+     * @param projectUuid UUID of the project to remove changes for
+     * @return IDs of the components for which changes were recorded
+     */
+    @SqlQuery("""
+            DELETE
+              FROM "METRICS_CHANGELOG"
+             WHERE "PROJECT_ID" = (SELECT "ID" FROM "PROJECT" WHERE "UUID" = :projectUuid)
+            RETURNING "COMPONENT_ID"
+            """)
+    List<Long> claimComponentMetricsChanges(@Bind UUID projectUuid);
+
+    @SqlQuery("""
+            SELECT DISTINCT "PROJECT"."UUID"
+              FROM "METRICS_CHANGELOG"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "METRICS_CHANGELOG"."PROJECT_ID"
+            """)
+    List<UUID> getProjectUuidsWithComponentMetricsChanges();
+
     @SqlQuery("""
             SELECT inhrelid::regclass AS partition_name
             FROM pg_inherits
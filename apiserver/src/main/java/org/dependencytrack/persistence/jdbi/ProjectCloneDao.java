@@ -0,0 +1,351 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+
+/**
+ * Set-based cloning of a project's components, services, findings, audit trail,
+ * and policy violations.
+ * <p>
+ * Records of the source project are copied using {@code INSERT INTO ... SELECT} statements.
+ * The IDs and UUIDs of cloned components, services, and policy violations are tracked in
+ * temporary mapping tables, which subsequent statements join on to re-point references
+ * to the cloned records. This allows for projects to be cloned with a constant number
+ * of queries, regardless of how many components they contain.
+ * <p>
+ * Must be used in the same transaction as the creation of the cloned project,
+ * i.e. via {@link JdbiFactory#createLocalJdbi(org.dependencytrack.persistence.QueryManager)}.
+ *
+ * @since 5.6.0
+ */
+public interface ProjectCloneDao extends SqlObject {
+
+    @SqlUpdate("""
+            CREATE TEMPORARY TABLE "TMP_PROJECT_CLONE_COMPONENT" (
+              "SOURCE_ID" BIGINT PRIMARY KEY
+            , "SOURCE_UUID" UUID NOT NULL
+            , "CLONE_ID" BIGINT
+            , "CLONE_UUID" UUID NOT NULL UNIQUE
+            ) ON COMMIT DROP
+            """)
+    void createComponentMappingTable();
+
+    @SqlUpdate("""
+            INSERT INTO "TMP_PROJECT_CLONE_COMPONENT" ("SOURCE_ID", "SOURCE_UUID", "CLONE_UUID")
+            SELECT "ID", "UUID", GEN_RANDOM_UUID()
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :sourceProjectId
+            """)
+    int mapComponents(@Bind long sourceProjectId);
+
+    @SqlUpdate("""
+            WITH "CLONED" AS (
+              INSERT INTO "COMPONENT" (
+                "UUID", "PROJECT_ID", "GROUP", "NAME", "VERSION", "CLASSIFIER", "FILENAME", "EXTENSION"
+              , "MD5", "SHA1", "SHA_256", "SHA_384", "SHA_512", "SHA3_256", "SHA3_384", "SHA3_512"
+              , "BLAKE2B_256", "BLAKE2B_384", "BLAKE2B_512", "BLAKE3", "CPE", "PURL", "PURLCOORDINATES"
+              , "SWIDTAGID", "INTERNAL", "DESCRIPTION", "COPYRIGHT", "LICENSE", "LICENSE_EXPRESSION"
+              , "LICENSE_URL", "LICENSE_ID", "AUTHORS", "SUPPLIER", "DIRECT_DEPENDENCIES"
+              )
+              SELECT "MAPPING"."CLONE_UUID", :projectId, "GROUP", "NAME", "VERSION", "CLASSIFIER", "FILENAME", "EXTENSION"
+                   , "MD5", "SHA1", "SHA_256", "SHA_384", "SHA_512", "SHA3_256", "SHA3_384", "SHA3_512"
+                   , "BLAKE2B_256", "BLAKE2B_384", "BLAKE2B_512", "BLAKE3", "CPE", "PURL", "PURLCOORDINATES"
+                   , "SWIDTAGID", "INTERNAL", "DESCRIPTION", "COPYRIGHT", "LICENSE", "LICENSE_EXPRESSION"
+                   , "LICENSE_URL", "LICENSE_ID", "AUTHORS", "SUPPLIER", "DIRECT_DEPENDENCIES"
+                FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+               INNER JOIN "COMPONENT"
+                  ON "COMPONENT"."ID" = "MAPPING"."SOURCE_ID"
+              RETURNING "ID", "UUID"
+            )
+            UPDATE "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+               SET "CLONE_ID" = "CLONED"."ID"
+              FROM "CLONED"
+             WHERE "MAPPING"."CLONE_UUID" = "CLONED"."UUID"
+            """)
+    int cloneComponents(@Bind long projectId);
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENT_OCCURRENCE" (
+              "ID", "COMPONENT_ID", "LOCATION", "LINE", "OFFSET", "SYMBOL", "CREATED_AT"
+            )
+            SELECT GEN_RANDOM_UUID(), "MAPPING"."CLONE_ID", "LOCATION", "LINE", "OFFSET", "SYMBOL", "CREATED_AT"
+              FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+             INNER JOIN "COMPONENT_OCCURRENCE"
+                ON "COMPONENT_OCCURRENCE"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneComponentOccurrences();
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENT_PROPERTY" (
+              "UUID", "COMPONENT_ID", "GROUPNAME", "PROPERTYNAME", "PROPERTYVALUE", "PROPERTYTYPE", "DESCRIPTION"
+            )
+            SELECT GEN_RANDOM_UUID(), "MAPPING"."CLONE_ID", "GROUPNAME", "PROPERTYNAME", "PROPERTYVALUE"
+                 , "PROPERTYTYPE", "DESCRIPTION"
+              FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+             INNER JOIN "COMPONENT_PROPERTY"
+                ON "COMPONENT_PROPERTY"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneComponentProperties();
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENTS_VULNERABILITIES" ("COMPONENT_ID", "VULNERABILITY_ID")
+            SELECT "MAPPING"."CLONE_ID", "VULNERABILITY_ID"
+              FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+             INNER JOIN "COMPONENTS_VULNERABILITIES"
+                ON "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneComponentVulnerabilities();
+
+    @SqlUpdate("""
+            INSERT INTO "FINDINGATTRIBUTION" (
+              "UUID", "PROJECT_ID", "COMPONENT_ID", "VULNERABILITY_ID", "ANALYZERIDENTITY"
+            , "ALT_ID", "REFERENCE_URL", "ATTRIBUTED_ON"
+            )
+            SELECT GEN_RANDOM_UUID(), :projectId, "MAPPING"."CLONE_ID", "VULNERABILITY_ID", "ANALYZERIDENTITY"
+                 , "ALT_ID", "REFERENCE_URL", "ATTRIBUTED_ON"
+              FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+             INNER JOIN "FINDINGATTRIBUTION"
+                ON "FINDINGATTRIBUTION"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneFindingAttributions(@Bind long projectId);
+
+    /**
+     * Get the component UUIDs referenced by the direct dependencies of the cloned project,
+     * or its cloned components, that do not refer to a component of the source project.
+     * <p>
+     * Such references can not be re-pointed to a cloned component, and are retained as-is.
+     * <p>
+     * Must be called before the direct dependencies are rewritten.
+     *
+     * @param projectId ID of the cloned project
+     * @return The dangling UUIDs
+     */
+    @SqlQuery("""
+            SELECT DISTINCT "DEPENDENCY"."VALUE" ->> 'uuid'
+              FROM (SELECT "DIRECT_DEPENDENCIES"
+                      FROM "PROJECT"
+                     WHERE "ID" = :projectId
+                     UNION ALL
+                    SELECT "DIRECT_DEPENDENCIES"
+                      FROM "COMPONENT"
+                     WHERE "PROJECT_ID" = :projectId) AS "GRAPH"
+             CROSS JOIN JSONB_ARRAY_ELEMENTS(
+                          CASE WHEN JSONB_TYPEOF("GRAPH"."DIRECT_DEPENDENCIES") = 'array'
+                               THEN "GRAPH"."DIRECT_DEPENDENCIES"
+                               ELSE '[]'::JSONB
+                          END) AS "DEPENDENCY"("VALUE")
+             WHERE "DEPENDENCY"."VALUE" ->> 'uuid' IS NOT NULL
+               AND NOT EXISTS(
+                 SELECT 1
+                   FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+                  WHERE "MAPPING"."SOURCE_UUID"::TEXT = "DEPENDENCY"."VALUE" ->> 'uuid')
+            """)
+    List<String> getDanglingDirectDependencies(@Bind long projectId);
+
+    @SqlUpdate("""
+            UPDATE "COMPONENT"
+               SET "DIRECT_DEPENDENCIES" = (
+                 SELECT JSONB_AGG(
+                          CASE WHEN "MAPPING"."CLONE_UUID" IS NOT NULL
+                               THEN JSONB_SET("DEPENDENCY"."VALUE", '{uuid}', TO_JSONB("MAPPING"."CLONE_UUID"::TEXT))
+                               ELSE "DEPENDENCY"."VALUE"
+                          END
+                          ORDER BY "DEPENDENCY"."ORDINAL")
+                   FROM JSONB_ARRAY_ELEMENTS("COMPONENT"."DIRECT_DEPENDENCIES")
+                          WITH ORDINALITY AS "DEPENDENCY"("VALUE", "ORDINAL")
+                   LEFT JOIN "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+                     ON "MAPPING"."SOURCE_UUID"::TEXT = "DEPENDENCY"."VALUE" ->> 'uuid')
+             WHERE "PROJECT_ID" = :projectId
+               AND JSONB_TYPEOF("DIRECT_DEPENDENCIES") = 'array'
+               AND JSONB_ARRAY_LENGTH("DIRECT_DEPENDENCIES") > 0
+            """)
+    int rewriteComponentDirectDependencies(@Bind long projectId);
+
+    @SqlUpdate("""
+            UPDATE "PROJECT"
+               SET "DIRECT_DEPENDENCIES" = (
+                 SELECT JSONB_AGG(
+                          CASE WHEN "MAPPING"."CLONE_UUID" IS NOT NULL
+                               THEN JSONB_SET("DEPENDENCY"."VALUE", '{uuid}', TO_JSONB("MAPPING"."CLONE_UUID"::TEXT))
+                               ELSE "DEPENDENCY"."VALUE"
+                          END
+                          ORDER BY "DEPENDENCY"."ORDINAL")
+                   FROM JSONB_ARRAY_ELEMENTS("PROJECT"."DIRECT_DEPENDENCIES")
+                          WITH ORDINALITY AS "DEPENDENCY"("VALUE", "ORDINAL")
+                   LEFT JOIN "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+                     ON "MAPPING"."SOURCE_UUID"::TEXT = "DEPENDENCY"."VALUE" ->> 'uuid')
+             WHERE "ID" = :projectId
+               AND JSONB_TYPEOF("DIRECT_DEPENDENCIES") = 'array'
+               AND JSONB_ARRAY_LENGTH("DIRECT_DEPENDENCIES") > 0
+            """)
+    int rewriteProjectDirectDependencies(@Bind long projectId);
+
+    @SqlUpdate("""
+            CREATE TEMPORARY TABLE "TMP_PROJECT_CLONE_SERVICE" (
+              "SOURCE_ID" BIGINT PRIMARY KEY
+            , "CLONE_ID" BIGINT
+            , "CLONE_UUID" UUID NOT NULL UNIQUE
+            ) ON COMMIT DROP
+            """)
+    void createServiceMappingTable();
+
+    @SqlUpdate("""
+            INSERT INTO "TMP_PROJECT_CLONE_SERVICE" ("SOURCE_ID", "CLONE_UUID")
+            SELECT "ID", GEN_RANDOM_UUID()
+              FROM "SERVICECOMPONENT"
+             WHERE "PROJECT_ID" = :sourceProjectId
+            """)
+    int mapServices(@Bind long sourceProjectId);
+
+    @SqlUpdate("""
+            WITH "CLONED" AS (
+              INSERT INTO "SERVICECOMPONENT" (
+                "UUID", "PROJECT_ID", "PROVIDER_ID", "GROUP", "NAME", "VERSION", "DESCRIPTION", "ENDPOINTS"
+              , "AUTHENTICATED", "X_TRUST_BOUNDARY", "DATA", "EXTERNAL_REFERENCES", "TEXT"
+              )
+              SELECT "MAPPING"."CLONE_UUID", :projectId, "PROVIDER_ID", "GROUP", "NAME", "VERSION", "DESCRIPTION"
+                   , "ENDPOINTS", "AUTHENTICATED", "X_TRUST_BOUNDARY", "DATA", "EXTERNAL_REFERENCES", "TEXT"
+                FROM "TMP_PROJECT_CLONE_SERVICE" AS "MAPPING"
+               INNER JOIN "SERVICECOMPONENT"
+                  ON "SERVICECOMPONENT"."ID" = "MAPPING"."SOURCE_ID"
+              RETURNING "ID", "UUID"
+            )
+            UPDATE "TMP_PROJECT_CLONE_SERVICE" AS "MAPPING"
+               SET "CLONE_ID" = "CLONED"."ID"
+              FROM "CLONED"
+             WHERE "MAPPING"."CLONE_UUID" = "CLONED"."UUID"
+            """)
+    int cloneServices(@Bind long projectId);
+
+    @SqlUpdate("""
+            INSERT INTO "SERVICECOMPONENTS_VULNERABILITIES" ("SERVICECOMPONENT_ID", "VULNERABILITY_ID")
+            SELECT "MAPPING"."CLONE_ID", "VULNERABILITY_ID"
+              FROM "TMP_PROJECT_CLONE_SERVICE" AS "MAPPING"
+             INNER JOIN "SERVICECOMPONENTS_VULNERABILITIES"
+                ON "SERVICECOMPONENTS_VULNERABILITIES"."SERVICECOMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneServiceVulnerabilities();
+
+    @SqlUpdate("""
+            INSERT INTO "ANALYSIS" (
+              "PROJECT_ID", "COMPONENT_ID", "VULNERABILITY_ID", "STATE", "JUSTIFICATION", "RESPONSE"
+            , "DETAILS", "SUPPRESSED", "VULNERABILITY_POLICY_ID"
+            )
+            SELECT :projectId, "MAPPING"."CLONE_ID", "VULNERABILITY_ID", "STATE", "JUSTIFICATION", "RESPONSE"
+                 , "DETAILS", "SUPPRESSED", "VULNERABILITY_POLICY_ID"
+              FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+             INNER JOIN "ANALYSIS"
+                ON "ANALYSIS"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneAnalyses(@Bind long projectId);
+
+    @SqlUpdate("""
+            INSERT INTO "ANALYSISCOMMENT" ("ANALYSIS_ID", "COMMENT", "COMMENTER", "TIMESTAMP")
+            SELECT "CLONED_ANALYSIS"."ID", "ANALYSISCOMMENT"."COMMENT", "ANALYSISCOMMENT"."COMMENTER"
+                 , "ANALYSISCOMMENT"."TIMESTAMP"
+              FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+             INNER JOIN "ANALYSIS"
+                ON "ANALYSIS"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+             INNER JOIN "ANALYSISCOMMENT"
+                ON "ANALYSISCOMMENT"."ANALYSIS_ID" = "ANALYSIS"."ID"
+             INNER JOIN "ANALYSIS" AS "CLONED_ANALYSIS"
+                ON "CLONED_ANALYSIS"."PROJECT_ID" = :projectId
+               AND "CLONED_ANALYSIS"."COMPONENT_ID" = "MAPPING"."CLONE_ID"
+               AND "CLONED_ANALYSIS"."VULNERABILITY_ID" = "ANALYSIS"."VULNERABILITY_ID"
+            """)
+    int cloneAnalysisComments(@Bind long projectId);
+
+    @SqlUpdate("""
+            CREATE TEMPORARY TABLE "TMP_PROJECT_CLONE_POLICYVIOLATION" (
+              "SOURCE_ID" BIGINT PRIMARY KEY
+            , "CLONE_ID" BIGINT
+            , "CLONE_UUID" UUID NOT NULL UNIQUE
+            ) ON COMMIT DROP
+            """)
+    void createPolicyViolationMappingTable();
+
+    @SqlUpdate("""
+            INSERT INTO "TMP_PROJECT_CLONE_POLICYVIOLATION" ("SOURCE_ID", "CLONE_UUID")
+            SELECT "POLICYVIOLATION"."ID", GEN_RANDOM_UUID()
+              FROM "TMP_PROJECT_CLONE_COMPONENT" AS "MAPPING"
+             INNER JOIN "POLICYVIOLATION"
+                ON "POLICYVIOLATION"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int mapPolicyViolations();
+
+    @SqlUpdate("""
+            WITH "CLONED" AS (
+              INSERT INTO "POLICYVIOLATION" (
+                "UUID", "PROJECT_ID", "COMPONENT_ID", "POLICYCONDITION_ID", "TYPE", "TEXT", "TIMESTAMP"
+              )
+              SELECT "VIOLATION_MAPPING"."CLONE_UUID", :projectId, "COMPONENT_MAPPING"."CLONE_ID"
+                   , "POLICYCONDITION_ID", "TYPE", "TEXT", "TIMESTAMP"
+                FROM "TMP_PROJECT_CLONE_POLICYVIOLATION" AS "VIOLATION_MAPPING"
+               INNER JOIN "POLICYVIOLATION"
+                  ON "POLICYVIOLATION"."ID" = "VIOLATION_MAPPING"."SOURCE_ID"
+               INNER JOIN "TMP_PROJECT_CLONE_COMPONENT" AS "COMPONENT_MAPPING"
+                  ON "COMPONENT_MAPPING"."SOURCE_ID" = "POLICYVIOLATION"."COMPONENT_ID"
+              RETURNING "ID", "UUID"
+            )
+            UPDATE "TMP_PROJECT_CLONE_POLICYVIOLATION" AS "MAPPING"
+               SET "CLONE_ID" = "CLONED"."ID"
+              FROM "CLONED"
+             WHERE "MAPPING"."CLONE_UUID" = "CLONED"."UUID"
+            """)
+    int clonePolicyViolations(@Bind long projectId);
+
+    /**
+     * Clone the analyses of policy violations. Like {@link org.dependencytrack.persistence.PolicyQueryManager#cloneViolationAnalysis},
+     * an analysis in state {@code NOT_SET} is created for violations that have not been analyzed yet.
+     */
+    @SqlUpdate("""
+            INSERT INTO "VIOLATIONANALYSIS" ("PROJECT_ID", "COMPONENT_ID", "POLICYVIOLATION_ID", "STATE", "SUPPRESSED")
+            SELECT :projectId, "COMPONENT_MAPPING"."CLONE_ID", "VIOLATION_MAPPING"."CLONE_ID"
+                 , COALESCE("VIOLATIONANALYSIS"."STATE", 'NOT_SET'), COALESCE("VIOLATIONANALYSIS"."SUPPRESSED", FALSE)
+              FROM "TMP_PROJECT_CLONE_POLICYVIOLATION" AS "VIOLATION_MAPPING"
+             INNER JOIN "POLICYVIOLATION"
+                ON "POLICYVIOLATION"."ID" = "VIOLATION_MAPPING"."SOURCE_ID"
+             INNER JOIN "TMP_PROJECT_CLONE_COMPONENT" AS "COMPONENT_MAPPING"
+                ON "COMPONENT_MAPPING"."SOURCE_ID" = "POLICYVIOLATION"."COMPONENT_ID"
+              LEFT JOIN "VIOLATIONANALYSIS"
+                ON "VIOLATIONANALYSIS"."POLICYVIOLATION_ID" = "POLICYVIOLATION"."ID"
+            """)
+    int cloneViolationAnalyses(@Bind long projectId);
+
+    @SqlUpdate("""
+            INSERT INTO "VIOLATIONANALYSISCOMMENT" ("VIOLATIONANALYSIS_ID", "COMMENT", "COMMENTER", "TIMESTAMP")
+            SELECT "CLONED_ANALYSIS"."ID", "VIOLATIONANALYSISCOMMENT"."COMMENT", "VIOLATIONANALYSISCOMMENT"."COMMENTER"
+                 , "VIOLATIONANALYSISCOMMENT"."TIMESTAMP"
+              FROM "TMP_PROJECT_CLONE_POLICYVIOLATION" AS "MAPPING"
+             INNER JOIN "VIOLATIONANALYSIS"
+                ON "VIOLATIONANALYSIS"."POLICYVIOLATION_ID" = "MAPPING"."SOURCE_ID"
+             INNER JOIN "VIOLATIONANALYSISCOMMENT"
+                ON "VIOLATIONANALYSISCOMMENT"."VIOLATIONANALYSIS_ID" = "VIOLATIONANALYSIS"."ID"
+             INNER JOIN "VIOLATIONANALYSIS" AS "CLONED_ANALYSIS"
+                ON "CLONED_ANALYSIS"."POLICYVIOLATION_ID" = "MAPPING"."CLONE_ID"
+            """)
+    int cloneViolationAnalysisComments();
+
+}
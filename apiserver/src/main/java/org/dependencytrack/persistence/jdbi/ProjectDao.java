@@ -74,6 +74,7 @@ public interface ProjectDao {
             <#-- @ftlvariable name="parentUuidFilter" type="Boolean" -->
             <#-- @ftlvariable name="includeMetrics" type="Boolean" -->
             <#-- @ftlvariable name="apiFilterParameter" type="String" -->
+            <#-- @ftlvariable name="apiKeysetPagination" type="Boolean" -->
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
@@ -105,7 +106,11 @@ public interface ProjectDao {
             <#if includeMetrics>
                  , TO_JSONB("metrics") AS "metrics"
             </#if>
+            <#if apiKeysetPagination>
+                 , NULL AS "totalCount"
+            <#else>
                  , COUNT(*) OVER() AS "totalCount"
+            </#if>
               FROM "PROJECT"
             <#if includeMetrics>
               LEFT JOIN LATERAL (
@@ -172,14 +177,22 @@ public interface ProjectDao {
                AND (LOWER("PROJECT"."NAME") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
                     OR EXISTS (SELECT 1 FROM "TAG" WHERE "TAG"."NAME" = ${apiFilterParameter}))
             </#if>
-            <#if apiOrderByClause??>
+            <#if apiKeysetPagination>
+               AND ("PROJECT"."NAME" > :afterName
+                    OR ("PROJECT"."NAME" = :afterName
+                        AND ((CAST(:afterVersion AS TEXT) IS NULL AND "PROJECT"."VERSION" IS NOT NULL)
+                             OR "PROJECT"."VERSION" < :afterVersion
+                             OR ("PROJECT"."VERSION" IS NOT DISTINCT FROM :afterVersion AND "PROJECT"."ID" > :afterId))))
+            </#if>
+            <#if apiOrderByClause?? && !apiKeysetPagination>
               ${apiOrderByClause}
             <#else>
-             ORDER BY "name" ASC, "version" DESC
+             ORDER BY "name" ASC, "version" DESC, "id" ASC
             </#if>
             ${apiOffsetLimitClause!}
             """)
     @DefineNamedBindings
+    @AllowUnusedBindings
     @DefineApiProjectAclCondition(
             name = "apiParentProjectAclCondition",
             projectIdColumn = "\"PARENT_PROJECT\".\"ID\""
@@ -207,10 +220,55 @@ public interface ProjectDao {
             @Bind Boolean activeFilter,
             @Bind Boolean onlyRootFilter,
             @Bind UUID parentUuidFilter,
-            @Define boolean includeMetrics
+            @Define boolean includeMetrics,
+            @Define(JdbiAttributes.ATTRIBUTE_API_KEYSET_PAGINATION) boolean keysetPagination,
+            @Bind String afterName,
+            @Bind String afterVersion,
+            @Bind Long afterId
     );
 
+    default List<ConciseProjectListRow> getPageConcise(
+            final String nameFilter,
+            final String classifierFilter,
+            final String tagFilter,
+            final String teamFilter,
+            final Boolean activeFilter,
+            final Boolean onlyRootFilter,
+            final UUID parentUuidFilter,
+            final boolean includeMetrics) {
+        return getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter,
+                onlyRootFilter, parentUuidFilter, includeMetrics, false, null, null, null);
+    }
+
+    /**
+     * Returns the page of projects following a given project, without computing the total number of projects.
+     * <p>
+     * Projects are ordered by name, version (descending), and ID. Requested orderings are ignored.
+     *
+     * @param afterName    Name of the last project of the previous page
+     * @param afterVersion Version of the last project of the previous page
+     * @param afterId      ID of the last project of the previous page
+     * @return A {@link List} of {@link ConciseProjectListRow}s
+     * @since 5.6.0
+     */
+    default List<ConciseProjectListRow> getPageConciseAfter(
+            final String nameFilter,
+            final String classifierFilter,
+            final String tagFilter,
+            final String teamFilter,
+            final Boolean activeFilter,
+            final Boolean onlyRootFilter,
+            final UUID parentUuidFilter,
+            final boolean includeMetrics,
+            final String afterName,
+            final String afterVersion,
+            final long afterId) {
+        return getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter,
+                onlyRootFilter, parentUuidFilter, includeMetrics, true, afterName, afterVersion, afterId);
+    }
+
     record ConciseProjectListRow(
+            long id,
             UUID uuid,
             String group,
             String name,
@@ -258,6 +316,7 @@ public interface ProjectDao {
             <#-- @ftlvariable name="notAssignedToTeamWithUuid" type="String" -->
             <#-- @ftlvariable name="onlyRoot" type="Boolean" -->
             <#-- @ftlvariable name="apiFilterParameter" type="String" -->
+            <#-- @ftlvariable name="apiKeysetPagination" type="Boolean" -->
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
@@ -295,7 +354,11 @@ public interface ProjectDao {
                             ON "PROJECT_ACCESS_TEAMS"."TEAM_ID" = "TEAM"."ID"
                         WHERE "PROJECT_ACCESS_TEAMS"."PROJECT_ID" = "PROJECT"."ID"
                     ) AS "teamsJson"
+            <#if apiKeysetPagination>
+                 , NULL AS "totalCount"
+            <#else>
                  , COUNT(*) OVER() AS "totalCount"
+            </#if>
               FROM "PROJECT"
              WHERE ${apiProjectAclCondition}
             <#if nameFilter>
@@ -341,10 +404,17 @@ public interface ProjectDao {
                AND (LOWER("PROJECT"."NAME") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
                     OR EXISTS (SELECT 1 FROM "TAG" WHERE "TAG"."NAME" = ${apiFilterParameter}))
             </#if>
-            <#if apiOrderByClause??>
+            <#if apiKeysetPagination>
+               AND ("PROJECT"."NAME" > :afterName
+                    OR ("PROJECT"."NAME" = :afterName
+                        AND ((CAST(:afterVersion AS TEXT) IS NULL AND "PROJECT"."VERSION" IS NOT NULL)
+                             OR "PROJECT"."VERSION" < :afterVersion
+                             OR ("PROJECT"."VERSION" IS NOT DISTINCT FROM :afterVersion AND "PROJECT"."ID" > :afterId))))
+            </#if>
+            <#if apiOrderByClause?? && !apiKeysetPagination>
                 ${apiOrderByClause}
             <#else>
-                ORDER BY "name" ASC, "version" DESC
+                ORDER BY "name" ASC, "version" DESC, "id" ASC
             </#if>
             ${apiOffsetLimitClause!}
             """)
@@ -370,13 +440,41 @@ public interface ProjectDao {
             @Bind String teamFilter,
             @Bind String notAssignedToTeamWithUuid,
             @Define boolean excludeInactive,
-            @Define boolean onlyRoot
+            @Define boolean onlyRoot,
+            @Define(JdbiAttributes.ATTRIBUTE_API_KEYSET_PAGINATION) boolean keysetPagination,
+            @Bind String afterName,
+            @Bind String afterVersion,
+            @Bind Long afterId
     );
 
     default PaginatedResult getProjects(String nameFilter, String classifierFilter, String tagFilter, String teamFilter, String notAssignedToTeamWithUuid,
                                          boolean excludeInactive, boolean onlyRoot, boolean includeMetrics) {
-        final List<ProjectListRow> projectListRows = getProjects(nameFilter, classifierFilter, tagFilter, teamFilter, notAssignedToTeamWithUuid, excludeInactive, onlyRoot);
+        final List<ProjectListRow> projectListRows = getProjects(nameFilter, classifierFilter, tagFilter, teamFilter, notAssignedToTeamWithUuid,
+                excludeInactive, onlyRoot, false, null, null, null);
         final long totalCount = projectListRows.isEmpty() ? 0 : projectListRows.getFirst().totalCount();
+        return (new PaginatedResult()).objects(toProjects(projectListRows, includeMetrics)).total(totalCount);
+    }
+
+    /**
+     * Returns the page of projects following a given project, without computing the total number of projects.
+     * <p>
+     * Projects are ordered by name, version (descending), and ID. Requested orderings are ignored.
+     *
+     * @param afterName    Name of the last project of the previous page
+     * @param afterVersion Version of the last project of the previous page
+     * @param afterId      ID of the last project of the previous page
+     * @return A {@link List} of {@link Project}s
+     * @since 5.6.0
+     */
+    default List<Project> getProjectsAfter(String nameFilter, String classifierFilter, String tagFilter, String teamFilter, String notAssignedToTeamWithUuid,
+                                           boolean excludeInactive, boolean onlyRoot, boolean includeMetrics,
+                                           String afterName, String afterVersion, long afterId) {
+        final List<ProjectListRow> projectListRows = getProjects(nameFilter, classifierFilter, tagFilter, teamFilter, notAssignedToTeamWithUuid,
+                excludeInactive, onlyRoot, true, afterName, afterVersion, afterId);
+        return toProjects(projectListRows, includeMetrics);
+    }
+
+    private static List<Project> toProjects(final List<ProjectListRow> projectListRows, final boolean includeMetrics) {
         final List<Project> projects = projectListRows.stream()
                 .map(ProjectListRow::project)
                 .toList();
@@ -392,7 +490,7 @@ public interface ProjectDao {
                 }
             }
         }
-        return (new PaginatedResult()).objects(projects).total(totalCount);
+        return projects;
     }
 
     @SqlUpdate("""
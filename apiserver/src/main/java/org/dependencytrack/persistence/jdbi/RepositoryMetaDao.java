@@ -24,8 +24,10 @@ import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -59,4 +61,105 @@ public interface RepositoryMetaDao {
         }
         return getRepositoryMetaComponents(types, namespaces, names);
     }
+
+    @SqlUpdate("""
+            INSERT INTO "REPOSITORY_META_COMPONENT" AS "EXISTING"
+              ("REPOSITORY_TYPE", "NAMESPACE", "NAME", "LATEST_VERSION", "PUBLISHED", "LAST_CHECK")
+            SELECT t."REPOSITORY_TYPE"
+                 , t."NAMESPACE"
+                 , t."NAME"
+                 , t."LATEST_VERSION"
+                 , TO_TIMESTAMP(t."PUBLISHED" / 1000.0)
+                 , TO_TIMESTAMP(t."LAST_CHECK" / 1000.0)
+              FROM UNNEST(:types, :namespaces, :names, :latestVersions, :published, :lastChecks)
+                AS t("REPOSITORY_TYPE", "NAMESPACE", "NAME", "LATEST_VERSION", "PUBLISHED", "LAST_CHECK")
+             WHERE t."NAMESPACE" IS NOT NULL
+                ON CONFLICT ("REPOSITORY_TYPE", "NAMESPACE", "NAME") DO UPDATE
+               SET "LATEST_VERSION" = EXCLUDED."LATEST_VERSION"
+                 , "PUBLISHED" = COALESCE(EXCLUDED."PUBLISHED", "EXISTING"."PUBLISHED")
+                 , "LAST_CHECK" = EXCLUDED."LAST_CHECK"
+             WHERE "EXISTING"."LAST_CHECK" <= EXCLUDED."LAST_CHECK"
+            """)
+    int upsertAllWithNamespace(@Bind List<String> types,
+                               @Bind List<String> namespaces,
+                               @Bind List<String> names,
+                               @Bind List<String> latestVersions,
+                               @Bind List<Long> published,
+                               @Bind List<Long> lastChecks);
+
+    @SqlUpdate("""
+            INSERT INTO "REPOSITORY_META_COMPONENT" AS "EXISTING"
+              ("REPOSITORY_TYPE", "NAMESPACE", "NAME", "LATEST_VERSION", "PUBLISHED", "LAST_CHECK")
+            SELECT t."REPOSITORY_TYPE"
+                 , NULL
+                 , t."NAME"
+                 , t."LATEST_VERSION"
+                 , TO_TIMESTAMP(t."PUBLISHED" / 1000.0)
+                 , TO_TIMESTAMP(t."LAST_CHECK" / 1000.0)
+              FROM UNNEST(:types, :namespaces, :names, :latestVersions, :published, :lastChecks)
+                AS t("REPOSITORY_TYPE", "NAMESPACE", "NAME", "LATEST_VERSION", "PUBLISHED", "LAST_CHECK")
+             WHERE t."NAMESPACE" IS NULL
+                ON CONFLICT ("REPOSITORY_TYPE", "NAME") WHERE "NAMESPACE" IS NULL DO UPDATE
+               SET "LATEST_VERSION" = EXCLUDED."LATEST_VERSION"
+                 , "PUBLISHED" = COALESCE(EXCLUDED."PUBLISHED", "EXISTING"."PUBLISHED")
+                 , "LAST_CHECK" = EXCLUDED."LAST_CHECK"
+             WHERE "EXISTING"."LAST_CHECK" <= EXCLUDED."LAST_CHECK"
+            """)
+    int upsertAllWithoutNamespace(@Bind List<String> types,
+                                  @Bind List<String> namespaces,
+                                  @Bind List<String> names,
+                                  @Bind List<String> latestVersions,
+                                  @Bind List<Long> published,
+                                  @Bind List<Long> lastChecks);
+
+    /**
+     * Create or update the given {@link RepositoryMetaComponent}s.
+     * <p>
+     * Existing records are only updated if their {@code LAST_CHECK} timestamp is not
+     * newer than that of the incoming record, such that out-of-order results are discarded.
+     * The given collection must not contain multiple records with the same coordinates.
+     *
+     * @param metaComponents The {@link RepositoryMetaComponent}s to create or update
+     * @return Number of records created or updated
+     * @since 5.6.0
+     */
+    default int upsertAll(final Collection<RepositoryMetaComponent> metaComponents) {
+        if (metaComponents == null || metaComponents.isEmpty()) {
+            return 0;
+        }
+
+        final var types = new ArrayList<String>(metaComponents.size());
+        final var namespaces = new ArrayList<String>(metaComponents.size());
+        final var names = new ArrayList<String>(metaComponents.size());
+        final var latestVersions = new ArrayList<String>(metaComponents.size());
+        final var published = new ArrayList<Long>(metaComponents.size());
+        final var lastChecks = new ArrayList<Long>(metaComponents.size());
+        boolean hasNamespace = false;
+        boolean hasNoNamespace = false;
+        for (final RepositoryMetaComponent metaComponent : metaComponents) {
+            types.add(metaComponent.getRepositoryType().name());
+            namespaces.add(metaComponent.getNamespace());
+            names.add(metaComponent.getName());
+            latestVersions.add(metaComponent.getLatestVersion());
+            published.add(metaComponent.getPublished() != null ? metaComponent.getPublished().getTime() : null);
+            lastChecks.add(metaComponent.getLastCheck().getTime());
+            if (metaComponent.getNamespace() != null) {
+                hasNamespace = true;
+            } else {
+                hasNoNamespace = true;
+            }
+        }
+
+        // The unique constraint for records without namespace is enforced by
+        // a separate partial index, which requires a dedicated conflict target.
+        int modified = 0;
+        if (hasNamespace) {
+            modified += upsertAllWithNamespace(types, namespaces, names, latestVersions, published, lastChecks);
+        }
+        if (hasNoNamespace) {
+            modified += upsertAllWithoutNamespace(types, namespaces, names, latestVersions, published, lastChecks);
+        }
+
+        return modified;
+    }
 }
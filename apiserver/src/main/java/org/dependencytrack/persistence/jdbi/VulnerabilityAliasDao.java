@@ -0,0 +1,311 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.VulnerabilityAlias;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+public interface VulnerabilityAliasDao extends SqlObject {
+
+    /**
+     * Namespace of the advisory locks acquired by {@link #synchronizeAll(Collection)}.
+     */
+    int IDENTIFIER_LOCK_NAMESPACE = "VULNERABILITYALIAS".hashCode();
+
+    /**
+     * Synchronize a batch of {@link VulnerabilityAlias}es with the database.
+     * <p>
+     * Each alias is either merged into the existing alias that matches the most of its identifiers,
+     * or created if no such alias exists. Aliases are synchronized in the order they are given,
+     * such that later aliases of the batch observe the changes made by earlier ones.
+     * <p>
+     * Instead of serializing all synchronizations within a single JVM, concurrent synchronizations
+     * are coordinated through transaction-scoped advisory locks, which are keyed by the identifiers
+     * of the given aliases. Batches with disjoint identifiers can thus proceed in parallel, regardless
+     * of the instance they are executed on. Rows of existing aliases that may be merged into are locked
+     * with a single statement. All locks are acquired in a stable order to prevent deadlocks.
+     * <p>
+     * Must be called within an active transaction.
+     *
+     * @param aliases The {@link VulnerabilityAlias}es to synchronize
+     * @return The synchronized {@link VulnerabilityAlias}es, in the same order as {@code aliases}
+     * @throws IllegalArgumentException When any of the given aliases does not have any identifier
+     */
+    default List<VulnerabilityAlias> synchronizeAll(final Collection<VulnerabilityAlias> aliases) {
+        if (aliases == null || aliases.isEmpty()) {
+            return List.of();
+        }
+        if (!getHandle().isInTransaction()) {
+            throw new IllegalStateException("Vulnerability aliases can only be synchronized in a transaction");
+        }
+
+        final var cveIds = new HashSet<String>();
+        final var ghsaIds = new HashSet<String>();
+        final var gsdIds = new HashSet<String>();
+        final var internalIds = new HashSet<String>();
+        final var osvIds = new HashSet<String>();
+        final var snykIds = new HashSet<String>();
+        final var sonatypeIds = new HashSet<String>();
+        final var vulnDbIds = new HashSet<String>();
+        final var lockKeys = new TreeSet<Integer>();
+        for (final VulnerabilityAlias alias : aliases) {
+            final var aliasLockKeys = new ArrayList<String>();
+            if (alias.getCveId() != null) {
+                cveIds.add(alias.getCveId());
+                aliasLockKeys.add("CVE_ID|" + alias.getCveId());
+            }
+            if (alias.getGhsaId() != null) {
+                ghsaIds.add(alias.getGhsaId());
+                aliasLockKeys.add("GHSA_ID|" + alias.getGhsaId());
+            }
+            if (alias.getGsdId() != null) {
+                gsdIds.add(alias.getGsdId());
+                aliasLockKeys.add("GSD_ID|" + alias.getGsdId());
+            }
+            if (alias.getInternalId() != null) {
+                internalIds.add(alias.getInternalId());
+                aliasLockKeys.add("INTERNAL_ID|" + alias.getInternalId());
+            }
+            if (alias.getOsvId() != null) {
+                osvIds.add(alias.getOsvId());
+                aliasLockKeys.add("OSV_ID|" + alias.getOsvId());
+            }
+            if (alias.getSnykId() != null) {
+                snykIds.add(alias.getSnykId());
+                aliasLockKeys.add("SNYK_ID|" + alias.getSnykId());
+            }
+            if (alias.getSonatypeId() != null) {
+                sonatypeIds.add(alias.getSonatypeId());
+                aliasLockKeys.add("SONATYPE_ID|" + alias.getSonatypeId());
+            }
+            if (alias.getVulnDbId() != null) {
+                vulnDbIds.add(alias.getVulnDbId());
+                aliasLockKeys.add("VULNDB_ID|" + alias.getVulnDbId());
+            }
+            if (aliasLockKeys.isEmpty()) {
+                throw new IllegalArgumentException("Alias does not have any identifier: " + alias);
+            }
+
+            aliasLockKeys.stream().map(String::hashCode).forEach(lockKeys::add);
+        }
+
+        acquireIdentifierLocks(IDENTIFIER_LOCK_NAMESPACE, lockKeys);
+
+        // Lock all existing aliases the batch may be merged into at once, and in a stable order.
+        // Locking them one alias at a time would risk deadlocks with writers
+        // that do not coordinate through the identifier locks.
+        lockCandidates(cveIds, ghsaIds, gsdIds, internalIds, osvIds, snykIds, sonatypeIds, vulnDbIds);
+
+        final var syncedAliases = new ArrayList<VulnerabilityAlias>(aliases.size());
+        for (final VulnerabilityAlias alias : aliases) {
+            syncedAliases.add(synchronize(alias));
+        }
+
+        return syncedAliases;
+    }
+
+    /**
+     * Synchronize a single {@link VulnerabilityAlias} with the database.
+     * <p>
+     * Callers must hold the identifier locks of the alias, and the row locks of its
+     * candidates, see {@link #synchronizeAll(Collection)}.
+     */
+    default VulnerabilityAlias synchronize(final VulnerabilityAlias alias) {
+        // Query existing aliases where, for each identifier of the given alias, the respective identifier either:
+        //   1. matches, or
+        //   2. is not set (is null)
+        // See VulnerabilityQueryManager#synchronizeVulnerabilityAliases for a more thorough explanation.
+        final List<VulnerabilityAlias> candidates = getCandidates(
+                alias.getCveId(), alias.getGhsaId(), alias.getGsdId(), alias.getInternalId(),
+                alias.getOsvId(), alias.getSnykId(), alias.getSonatypeId(), alias.getVulnDbId());
+        if (candidates.isEmpty()) {
+            return createAlias(UUID.randomUUID(),
+                    alias.getCveId(), alias.getGhsaId(), alias.getGsdId(), alias.getInternalId(),
+                    alias.getOsvId(), alias.getSnykId(), alias.getSonatypeId(), alias.getVulnDbId());
+        }
+
+        // In case there are multiple candidates, find candidate with most matching identifiers.
+        // Candidates are ordered by ID, and Stream#max retains the first of multiple equal elements.
+        final VulnerabilityAlias bestMatch = candidates.stream()
+                .max(Comparator.comparingInt(alias::computeMatches))
+                .get(); // Safe because we checked candidates for emptiness before.
+
+        return mergeIntoAlias(bestMatch.getId(),
+                alias.getCveId(), alias.getGhsaId(), alias.getGsdId(), alias.getInternalId(),
+                alias.getOsvId(), alias.getSnykId(), alias.getSonatypeId(), alias.getVulnDbId());
+    }
+
+    /**
+     * Acquire transaction-scoped advisory locks with the given keys.
+     * <p>
+     * Uses the two-key form of advisory locks, which does not overlap with the single-key form
+     * used by {@link org.dependencytrack.persistence.QueryManager#tryAcquireAdvisoryLock(String)}.
+     * Locks are acquired one after another, in the order of {@code lockKeys}.
+     *
+     * @param namespace Namespace of the locks
+     * @param lockKeys  Keys of the locks to acquire
+     * @return Keys of the acquired locks
+     * @see <a href="https://www.postgresql.org/docs/current/explicit-locking.html#ADVISORY-LOCKS">Advisory lock docs</a>
+     */
+    @SqlQuery("""
+            SELECT "LOCK_KEY"
+              FROM UNNEST(:lockKeys) AS "LOCK_KEY"
+             CROSS JOIN LATERAL PG_ADVISORY_XACT_LOCK(:namespace, "LOCK_KEY")
+            """)
+    List<Integer> acquireIdentifierLocks(@Bind int namespace, @Bind Collection<Integer> lockKeys);
+
+    /**
+     * Lock all aliases that share at least one identifier with the given ones.
+     * <p>
+     * This is a superset of the candidates of every alias the identifiers were collected from.
+     *
+     * @return IDs of the locked aliases
+     */
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "VULNERABILITYALIAS"
+             WHERE "CVE_ID" = ANY(:cveIds)
+                OR "GHSA_ID" = ANY(:ghsaIds)
+                OR "GSD_ID" = ANY(:gsdIds)
+                OR "INTERNAL_ID" = ANY(:internalIds)
+                OR "OSV_ID" = ANY(:osvIds)
+                OR "SNYK_ID" = ANY(:snykIds)
+                OR "SONATYPE_ID" = ANY(:sonatypeIds)
+                OR "VULNDB_ID" = ANY(:vulnDbIds)
+             ORDER BY "ID"
+               FOR UPDATE
+            """)
+    List<Long> lockCandidates(@Bind Collection<String> cveIds, @Bind Collection<String> ghsaIds,
+                              @Bind Collection<String> gsdIds, @Bind Collection<String> internalIds,
+                              @Bind Collection<String> osvIds, @Bind Collection<String> snykIds,
+                              @Bind Collection<String> sonatypeIds, @Bind Collection<String> vulnDbIds);
+
+    @SqlQuery("""
+            SELECT *
+              FROM "VULNERABILITYALIAS"
+             WHERE TRUE
+            <#if cveId>
+               AND ("CVE_ID" = :cveId OR "CVE_ID" IS NULL)
+            </#if>
+            <#if ghsaId>
+               AND ("GHSA_ID" = :ghsaId OR "GHSA_ID" IS NULL)
+            </#if>
+            <#if gsdId>
+               AND ("GSD_ID" = :gsdId OR "GSD_ID" IS NULL)
+            </#if>
+            <#if internalId>
+               AND ("INTERNAL_ID" = :internalId OR "INTERNAL_ID" IS NULL)
+            </#if>
+            <#if osvId>
+               AND ("OSV_ID" = :osvId OR "OSV_ID" IS NULL)
+            </#if>
+            <#if snykId>
+               AND ("SNYK_ID" = :snykId OR "SNYK_ID" IS NULL)
+            </#if>
+            <#if sonatypeId>
+               AND ("SONATYPE_ID" = :sonatypeId OR "SONATYPE_ID" IS NULL)
+            </#if>
+            <#if vulnDbId>
+               AND ("VULNDB_ID" = :vulnDbId OR "VULNDB_ID" IS NULL)
+            </#if>
+               AND (FALSE
+                    <#if cveId>OR "CVE_ID" IS NOT NULL</#if>
+                    <#if ghsaId>OR "GHSA_ID" IS NOT NULL</#if>
+                    <#if gsdId>OR "GSD_ID" IS NOT NULL</#if>
+                    <#if internalId>OR "INTERNAL_ID" IS NOT NULL</#if>
+                    <#if osvId>OR "OSV_ID" IS NOT NULL</#if>
+                    <#if snykId>OR "SNYK_ID" IS NOT NULL</#if>
+                    <#if sonatypeId>OR "SONATYPE_ID" IS NOT NULL</#if>
+                    <#if vulnDbId>OR "VULNDB_ID" IS NOT NULL</#if>)
+             ORDER BY "ID"
+            """)
+    @DefineNamedBindings
+    @RegisterBeanMapper(VulnerabilityAlias.class)
+    List<VulnerabilityAlias> getCandidates(@Bind String cveId, @Bind String ghsaId, @Bind String gsdId,
+                                           @Bind String internalId, @Bind String osvId, @Bind String snykId,
+                                           @Bind String sonatypeId, @Bind String vulnDbId);
+
+    @SqlQuery("""
+            INSERT INTO "VULNERABILITYALIAS" (
+              "UUID"
+            , "CVE_ID"
+            , "GHSA_ID"
+            , "GSD_ID"
+            , "INTERNAL_ID"
+            , "OSV_ID"
+            , "SNYK_ID"
+            , "SONATYPE_ID"
+            , "VULNDB_ID"
+            ) VALUES (
+              :uuid
+            , :cveId
+            , :ghsaId
+            , :gsdId
+            , :internalId
+            , :osvId
+            , :snykId
+            , :sonatypeId
+            , :vulnDbId
+            )
+            RETURNING *
+            """)
+    @RegisterBeanMapper(VulnerabilityAlias.class)
+    VulnerabilityAlias createAlias(@Bind UUID uuid, @Bind String cveId, @Bind String ghsaId, @Bind String gsdId,
+                                   @Bind String internalId, @Bind String osvId, @Bind String snykId,
+                                   @Bind String sonatypeId, @Bind String vulnDbId);
+
+    /**
+     * Merge identifiers into an existing alias.
+     * <p>
+     * Identifiers that are {@code null} do not overwrite existing values.
+     */
+    @SqlQuery("""
+            UPDATE "VULNERABILITYALIAS"
+               SET "CVE_ID" = COALESCE(:cveId, "CVE_ID")
+                 , "GHSA_ID" = COALESCE(:ghsaId, "GHSA_ID")
+                 , "GSD_ID" = COALESCE(:gsdId, "GSD_ID")
+                 , "INTERNAL_ID" = COALESCE(:internalId, "INTERNAL_ID")
+                 , "OSV_ID" = COALESCE(:osvId, "OSV_ID")
+                 , "SNYK_ID" = COALESCE(:snykId, "SNYK_ID")
+                 , "SONATYPE_ID" = COALESCE(:sonatypeId, "SONATYPE_ID")
+                 , "VULNDB_ID" = COALESCE(:vulnDbId, "VULNDB_ID")
+             WHERE "ID" = :id
+            RETURNING *
+            """)
+    @RegisterBeanMapper(VulnerabilityAlias.class)
+    VulnerabilityAlias mergeIntoAlias(@Bind long id, @Bind String cveId, @Bind String ghsaId, @Bind String gsdId,
+                                      @Bind String internalId, @Bind String osvId, @Bind String snykId,
+                                      @Bind String sonatypeId, @Bind String vulnDbId);
+
+}
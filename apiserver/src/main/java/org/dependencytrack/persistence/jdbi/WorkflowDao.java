@@ -84,6 +84,20 @@ public interface WorkflowDao extends SqlObject {
     @RegisterBeanMapper(WorkflowState.class)
     WorkflowState startState(@Bind WorkflowStep step, @Bind("token") UUID token);
 
+    /**
+     * Signal that a pending step is still making progress, such that it is not considered to be timed out.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            UPDATE "WORKFLOW_STATE"
+               SET "UPDATED_AT" = NOW()
+             WHERE "STEP" = :step
+               AND "TOKEN" = :token
+               AND "STATUS" = 'PENDING'
+            """)
+    boolean touchPendingState(@Bind WorkflowStep step, @Bind UUID token);
+
     @SqlQuery("""
             SELECT "TOKEN"
               FROM "WORKFLOW_STATE"
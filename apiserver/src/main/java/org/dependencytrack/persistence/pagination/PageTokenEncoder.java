@@ -0,0 +1,74 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.pagination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.dependencytrack.exception.InvalidPageTokenException;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes opaque tokens used for keyset pagination.
+ * <p>
+ * A page token holds the sort key of the last item of a page. Fetching the next page
+ * then only requires an index scan starting after that key, instead of having the
+ * database skip over all items of previous pages as {@code OFFSET} does.
+ * <p>
+ * Tokens are URL-safe, but are not encrypted or signed. They must not hold
+ * information that the requesting client is not allowed to see.
+ *
+ * @since 5.6.0
+ */
+public final class PageTokenEncoder {
+
+    private static final JsonMapper JSON_MAPPER = new JsonMapper();
+
+    private PageTokenEncoder() {
+    }
+
+    /**
+     * @param pageToken The page token to encode, typically a {@link Record}
+     * @return The encoded page token
+     */
+    public static String encode(final Object pageToken) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(JSON_MAPPER.writeValueAsBytes(pageToken));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode page token", e);
+        }
+    }
+
+    /**
+     * @param encodedPageToken The encoded page token, as provided by a client
+     * @param pageTokenClass   Type of the page token
+     * @param <T>              Type of the page token
+     * @return The decoded page token
+     * @throws InvalidPageTokenException When the page token could not be decoded
+     */
+    public static <T> T decode(final String encodedPageToken, final Class<T> pageTokenClass) {
+        try {
+            return JSON_MAPPER.readValue(Base64.getUrlDecoder().decode(encodedPageToken), pageTokenClass);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidPageTokenException("The provided page token is invalid", e);
+        }
+    }
+
+}
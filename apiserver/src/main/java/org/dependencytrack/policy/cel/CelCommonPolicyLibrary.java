@@ -19,12 +19,15 @@
 package org.dependencytrack.policy.cel;
 
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
 import io.github.nscuro.versatile.Vers;
 import io.github.nscuro.versatile.VersException;
+import io.micrometer.core.instrument.Timer;
 import org.dependencytrack.model.RepositoryType;
-import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.proto.policy.v1.Component;
 import org.dependencytrack.proto.policy.v1.License;
 import org.dependencytrack.proto.policy.v1.Project;
@@ -42,6 +45,8 @@ import org.projectnessie.cel.common.types.BoolT;
 import org.projectnessie.cel.common.types.Err;
 import org.projectnessie.cel.common.types.Types;
 import org.projectnessie.cel.common.types.ref.Val;
+import org.projectnessie.cel.interpreter.functions.BinaryOp;
+import org.projectnessie.cel.interpreter.functions.FunctionOp;
 import org.projectnessie.cel.interpreter.functions.Overload;
 
 import jakarta.annotation.Nullable;
@@ -59,12 +64,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.substringAfter;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_QUERY_NAME;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_COMPONENT;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_PROJECT;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_VERSION_DISTANCE;
@@ -80,6 +88,15 @@ public class CelCommonPolicyLibrary implements Library {
     static final String FUNC_COMPARE_AGE = "compare_age";
     static final String FUNC_COMPARE_VERSION_DISTANCE = "version_distance";
 
+    // Arguments like version ranges are usually literals, and thus identical across invocations.
+    // Parsing them once, rather than for every evaluated component, saves a considerable amount of work.
+    private static final Cache<String, Vers> VERS_CACHE = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+    private static final Cache<VersionDistance, List<org.dependencytrack.model.VersionDistance>> VERSION_DISTANCE_CACHE = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
     @Override
     public List<EnvOption> getCompileOptions() {
         return List.of(
@@ -165,28 +182,59 @@ public class CelCommonPolicyLibrary implements Library {
                 ProgramOption.functions(
                         Overload.binary(
                                 FUNC_DEPENDS_ON,
-                                CelCommonPolicyLibrary::dependsOnFunc
+                                timedBinary(FUNC_DEPENDS_ON, CelCommonPolicyLibrary::dependsOnFunc)
                         ),
                         Overload.binary(
                                 FUNC_IS_DEPENDENCY_OF,
-                                CelCommonPolicyLibrary::isDependencyOfFunc
+                                timedBinary(FUNC_IS_DEPENDENCY_OF, CelCommonPolicyLibrary::isDependencyOfFunc)
                         ),
                         Overload.binary(
                                 FUNC_IS_EXCLUSIVE_DEPENDENCY_OF,
-                                CelCommonPolicyLibrary::isExclusiveDependencyOfFunc
+                                timedBinary(FUNC_IS_EXCLUSIVE_DEPENDENCY_OF, CelCommonPolicyLibrary::isExclusiveDependencyOfFunc)
                         ),
                         Overload.binary(
                                 FUNC_MATCHES_RANGE,
-                                CelCommonPolicyLibrary::matchesRangeFunc
+                                timedBinary(FUNC_MATCHES_RANGE, CelCommonPolicyLibrary::matchesRangeFunc)
                         ),
                         Overload.function(FUNC_COMPARE_AGE,
-                                CelCommonPolicyLibrary::isComponentOldFunc),
+                                timedFunction(FUNC_COMPARE_AGE, CelCommonPolicyLibrary::isComponentOldFunc)),
                         Overload.function(FUNC_COMPARE_VERSION_DISTANCE,
-                                CelCommonPolicyLibrary::matchesVersionDistanceFunc)
+                                timedFunction(FUNC_COMPARE_VERSION_DISTANCE, CelCommonPolicyLibrary::matchesVersionDistanceFunc))
                 )
         );
     }
 
+    private static BinaryOp timedBinary(final String functionName, final BinaryOp op) {
+        final Timer timer = functionTimer(functionName);
+        return (lhs, rhs) -> timer.record(() -> op.invoke(lhs, rhs));
+    }
+
+    private static FunctionOp timedFunction(final String functionName, final FunctionOp op) {
+        final Timer timer = functionTimer(functionName);
+        return values -> timer.record(() -> op.invoke(values));
+    }
+
+    private static Timer functionTimer(final String functionName) {
+        return Timer.builder("policy_cel_function_invocation")
+                .description("Time spent invoking custom CEL functions")
+                .tag("function", functionName)
+                .register(Metrics.getRegistry());
+    }
+
+    /**
+     * Parse a vers range, or retrieve it from cache if it was parsed before.
+     * <p>
+     * Ranges are validated when scripts are compiled, so the ranges of all cached scripts
+     * are already present in the cache by the time the scripts are evaluated.
+     *
+     * @param versStr The vers range to parse
+     * @return The parsed {@link Vers}
+     * @throws VersException When {@code versStr} is not a valid vers range
+     */
+    static Vers parseVers(final String versStr) {
+        return VERS_CACHE.get(versStr, Vers::parse);
+    }
+
     private static Val matchesVersionDistanceFunc(Val... vals) {
         try {
             var basicCheckResult = basicVersionDistanceCheck(vals);
@@ -234,12 +282,33 @@ public class CelCommonPolicyLibrary implements Library {
                     """.formatted(FUNC_COMPARE_VERSION_DISTANCE, component, component.getUuid(), component.getVersion(), component.getLatestVersion()), e);
             return false;
         }
-        final boolean isDirectDependency;
-        try (final var qm = new QueryManager();
-             final var celQm = new CelPolicyQueryManager(qm)) {
-            isDirectDependency = celQm.isDirectDependency(component);
+        if (!isDirectDependency(component)) {
+            return false;
+        }
+
+        final List<org.dependencytrack.model.VersionDistance> policyDistances;
+        try {
+            policyDistances = VERSION_DISTANCE_CACHE.get(value, org.dependencytrack.model.VersionDistance::parse);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("%s: Invalid version distance %s; Unable to resolve, returning false"
+                    .formatted(FUNC_COMPARE_VERSION_DISTANCE, value), e);
+            return false;
+        }
+        return org.dependencytrack.model.VersionDistance.evaluate(policyDistances, comparatorComputed, versionDistance);
+    }
+
+    private static boolean isDirectDependency(final Component component) {
+        // Prefer the dependency graph index of the current policy evaluation if available.
+        // Querying the database is only necessary when functions are invoked outside of it.
+        final DependencyGraphIndex graphIndex = DependencyGraphIndex.current();
+        if (graphIndex != null) {
+            final int index = graphIndex.indexOf(UUID.fromString(component.getUuid()));
+            if (index >= 0) {
+                return graphIndex.isDirectDependency(index);
+            }
         }
-        return isDirectDependency && org.dependencytrack.model.VersionDistance.evaluate(value, comparatorComputed, versionDistance);
+
+        return withJdbiHandle(jdbiHandle -> isDirectDependency(jdbiHandle, component));
     }
 
     private static Val dependsOnFunc(final Val lhs, final Val rhs) {
@@ -472,7 +541,15 @@ public class CelCommonPolicyLibrary implements Library {
             return false;
         }
 
-        // TODO: Result can / should likely be cached based on filter and params.
+        // Prefer the dependency graph index of the current policy evaluation if available.
+        // Querying the database is only necessary when functions are invoked outside of it.
+        final DependencyGraphIndex graphIndex = DependencyGraphIndex.current();
+        if (graphIndex != null) {
+            final int leafIndex = graphIndex.indexOf(UUID.fromString(leafComponent.getUuid()));
+            if (leafIndex >= 0) {
+                return graphIndex.isDependencyOf(leafIndex, rootComponent, compositeNodeFilter.nodeFiltersConjunctive());
+            }
+        }
 
         try (final Handle jdbiHandle = openJdbiHandle()) {
             if (!compositeNodeFilter.hasInMemoryFilters()) {
@@ -651,7 +728,15 @@ public class CelCommonPolicyLibrary implements Library {
             return false;
         }
 
-        // TODO: Result can / should likely be cached based on filter and params.
+        // Prefer the dependency graph index of the current policy evaluation if available.
+        // Querying the database is only necessary when functions are invoked outside of it.
+        final DependencyGraphIndex graphIndex = DependencyGraphIndex.current();
+        if (graphIndex != null) {
+            final int leafIndex = graphIndex.indexOf(UUID.fromString(leafComponent.getUuid()));
+            if (leafIndex >= 0) {
+                return graphIndex.isExclusiveDependencyOf(leafIndex, rootComponent, compositeNodeFilter.nodeFiltersConjunctive());
+            }
+        }
 
         try (final Handle jdbiHandle = openJdbiHandle()) {
             // If the component is a direct dependency of the project,
@@ -771,7 +856,7 @@ public class CelCommonPolicyLibrary implements Library {
 
     private static boolean matchesRange(final String version, final String versStr) {
         try {
-            return Vers.parse(versStr).contains(version);
+            return parseVers(versStr).contains(version);
         } catch (VersException e) {
             LOGGER.warn("%s: Failed to check if version %s matches range %s"
                     .formatted(FUNC_MATCHES_RANGE, version, versStr), e);
@@ -823,7 +908,8 @@ public class CelCommonPolicyLibrary implements Library {
     private record CompositeDependencyNodeFilter(List<String> sqlFilters,
                                                  Map<String, Object> sqlFilterParams,
                                                  List<String> sqlSelectColumns,
-                                                 List<Predicate<DependencyNode>> inMemoryFilters) {
+                                                 List<Predicate<DependencyNode>> inMemoryFilters,
+                                                 List<Predicate<DependencyGraphIndex.Node>> nodeFilters) {
 
         private static final String VALUE_PREFIX_REGEX = "re:";
         private static final String VALUE_PREFIX_VERS = "vers:";
@@ -833,83 +919,102 @@ public class CelCommonPolicyLibrary implements Library {
             final var sqlFilterParams = new HashMap<String, Object>();
             final var sqlSelectColumns = new ArrayList<String>();
             final var inMemoryFilters = new ArrayList<Predicate<DependencyNode>>();
+            final var nodeFilters = new ArrayList<Predicate<DependencyGraphIndex.Node>>();
 
             if (!component.getUuid().isBlank()) {
                 sqlFilters.add("\"UUID\" = :uuid");
                 sqlFilterParams.put("uuid", component.getUuid());
+                final UUID uuid = UUID.fromString(component.getUuid());
+                nodeFilters.add(node -> uuid.equals(node.uuid()));
             }
             if (!component.getGroup().isBlank()) {
                 if (component.getGroup().startsWith(VALUE_PREFIX_REGEX)) {
                     sqlFilters.add("\"GROUP\" ~ :groupRegex");
                     sqlFilterParams.put("groupRegex", substringAfter(component.getGroup(), VALUE_PREFIX_REGEX));
+                    nodeFilters.add(regexNodeFilter(DependencyGraphIndex.Node::group, substringAfter(component.getGroup(), VALUE_PREFIX_REGEX)));
                 } else {
                     sqlFilters.add("\"GROUP\" = :group");
                     sqlFilterParams.put("group", component.getGroup());
+                    nodeFilters.add(node -> component.getGroup().equals(node.group()));
                 }
             }
             if (!component.getName().isBlank()) {
                 if (component.getName().startsWith(VALUE_PREFIX_REGEX)) {
                     sqlFilters.add("\"NAME\" ~ :nameRegex");
                     sqlFilterParams.put("nameRegex", substringAfter(component.getName(), VALUE_PREFIX_REGEX));
+                    nodeFilters.add(regexNodeFilter(DependencyGraphIndex.Node::name, substringAfter(component.getName(), VALUE_PREFIX_REGEX)));
                 } else {
                     sqlFilters.add("\"NAME\" = :name");
                     sqlFilterParams.put("name", component.getName());
+                    nodeFilters.add(node -> component.getName().equals(node.name()));
                 }
             }
             if (!component.getVersion().isBlank()) {
                 if (component.getVersion().startsWith(VALUE_PREFIX_REGEX)) {
                     sqlFilters.add("\"VERSION\" ~ :versionRegex");
                     sqlFilterParams.put("versionRegex", substringAfter(component.getVersion(), VALUE_PREFIX_REGEX));
+                    nodeFilters.add(regexNodeFilter(DependencyGraphIndex.Node::version, substringAfter(component.getVersion(), VALUE_PREFIX_REGEX)));
                 } else if (component.getVersion().startsWith(VALUE_PREFIX_VERS)) {
                     // NB: Validation already happens during script compilation.
-                    final Vers vers = Vers.parse(component.getVersion());
+                    final Vers vers = parseVers(component.getVersion());
                     inMemoryFilters.add(node -> node.version() != null && vers.contains(node.version()));
+                    nodeFilters.add(node -> node.version() != null && vers.contains(node.version()));
                     sqlSelectColumns.add("\"VERSION\"");
                 } else {
                     sqlFilters.add("\"VERSION\" = :version");
                     sqlFilterParams.put("version", component.getVersion());
+                    nodeFilters.add(node -> component.getVersion().equals(node.version()));
                 }
             }
             if (!component.getClassifier().isBlank()) {
                 sqlFilters.add("\"CLASSIFIER\" = :classifier");
                 sqlFilterParams.put("classifier", component.getClassifier());
+                nodeFilters.add(node -> component.getClassifier().equals(node.classifier()));
             }
             if (!component.getCpe().isBlank()) {
                 if (component.getCpe().startsWith(VALUE_PREFIX_REGEX)) {
                     sqlFilters.add("\"CPE\" ~ :cpeRegex");
                     sqlFilterParams.put("cpeRegex", substringAfter(component.getCpe(), VALUE_PREFIX_REGEX));
+                    nodeFilters.add(regexNodeFilter(DependencyGraphIndex.Node::cpe, substringAfter(component.getCpe(), VALUE_PREFIX_REGEX)));
                 } else {
                     sqlFilters.add("\"CPE\" = :cpe");
                     sqlFilterParams.put("cpe", component.getCpe());
+                    nodeFilters.add(node -> component.getCpe().equals(node.cpe()));
                 }
             }
             if (!component.getPurl().isBlank()) {
                 if (component.getPurl().startsWith(VALUE_PREFIX_REGEX)) {
                     sqlFilters.add("\"PURL\" ~ :purlRegex");
                     sqlFilterParams.put("purlRegex", substringAfter(component.getPurl(), VALUE_PREFIX_REGEX));
+                    nodeFilters.add(regexNodeFilter(DependencyGraphIndex.Node::purl, substringAfter(component.getPurl(), VALUE_PREFIX_REGEX)));
                 } else {
                     sqlFilters.add("\"PURL\" = :purl");
                     sqlFilterParams.put("purl", component.getPurl());
+                    nodeFilters.add(node -> component.getPurl().equals(node.purl()));
                 }
             }
             if (!component.getSwidTagId().isBlank()) {
                 if (component.getSwidTagId().startsWith(VALUE_PREFIX_REGEX)) {
                     sqlFilters.add("\"SWIDTAGID\" ~ :swidTagIdRegex");
                     sqlFilterParams.put("swidTagIdRegex", substringAfter(component.getSwidTagId(), VALUE_PREFIX_REGEX));
+                    nodeFilters.add(regexNodeFilter(DependencyGraphIndex.Node::swidTagId, substringAfter(component.getSwidTagId(), VALUE_PREFIX_REGEX)));
                 } else {
                     sqlFilters.add("\"SWIDTAGID\" = :swidTagId");
                     sqlFilterParams.put("swidTagId", component.getSwidTagId());
+                    nodeFilters.add(node -> component.getSwidTagId().equals(node.swidTagId()));
                 }
             }
             if (component.hasIsInternal()) {
                 if (component.getIsInternal()) {
                     sqlFilters.add("\"INTERNAL\" = TRUE");
+                    nodeFilters.add(node -> Boolean.TRUE.equals(node.internal()));
                 } else {
                     sqlFilters.add("(\"INTERNAL\" IS NULL OR \"INTERNAL\" = FALSE)");
+                    nodeFilters.add(node -> !Boolean.TRUE.equals(node.internal()));
                 }
             }
 
-            return new CompositeDependencyNodeFilter(sqlFilters, sqlFilterParams, sqlSelectColumns, inMemoryFilters);
+            return new CompositeDependencyNodeFilter(sqlFilters, sqlFilterParams, sqlSelectColumns, inMemoryFilters, nodeFilters);
         }
 
         private boolean hasSqlFilters() {
@@ -928,6 +1033,19 @@ public class CelCommonPolicyLibrary implements Library {
             return inMemoryFilters.stream().reduce(Predicate::and).orElse(node -> true);
         }
 
+        private Predicate<DependencyGraphIndex.Node> nodeFiltersConjunctive() {
+            return nodeFilters.stream().reduce(Predicate::and).orElse(node -> true);
+        }
+
+        private static Predicate<DependencyGraphIndex.Node> regexNodeFilter(
+                final Function<DependencyGraphIndex.Node, String> valueExtractor, final String regex) {
+            final Pattern pattern = Pattern.compile(regex);
+            return node -> {
+                final String value = valueExtractor.apply(node);
+                return value != null && pattern.matcher(value).find();
+            };
+        }
+
     }
 
     /**
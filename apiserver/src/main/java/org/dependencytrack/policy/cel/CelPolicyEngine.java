@@ -18,7 +18,9 @@
  */
 package org.dependencytrack.policy.cel;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,11 +29,15 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.api.expr.v1alpha1.Type;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
+import io.micrometer.core.instrument.Counter;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.PolicyCondition;
 import org.dependencytrack.model.PolicyCondition.Subject;
@@ -69,17 +75,28 @@ import org.projectnessie.cel.tools.ScriptException;
 import org.slf4j.MDC;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -104,6 +121,12 @@ public class CelPolicyEngine {
     private static final Logger LOGGER = Logger.getLogger(CelPolicyEngine.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Map<Subject, CelPolicyScriptSourceBuilder> SCRIPT_BUILDERS;
+    private static final Counter COMPONENTS_EVALUATED_COUNTER = Counter.builder("policy_evaluation_components_evaluated")
+            .description("Number of components that policies were evaluated against")
+            .register(Metrics.getRegistry());
+    private static final Counter COMPONENTS_SKIPPED_COUNTER = Counter.builder("policy_evaluation_components_skipped")
+            .description("Number of components that were not evaluated, because their inputs and policies did not change")
+            .register(Metrics.getRegistry());
 
     static {
         SCRIPT_BUILDERS = new HashMap<>();
@@ -125,13 +148,77 @@ public class CelPolicyEngine {
     }
 
     private final CelPolicyScriptHost scriptHost;
+    private final int chunkSize;
+    private final int parallelism;
 
     public CelPolicyEngine() {
         this(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT));
     }
 
     CelPolicyEngine(final CelPolicyScriptHost scriptHost) {
+        this(scriptHost,
+                Config.getInstance().getPropertyAsInt(ConfigKey.POLICY_EVALUATION_CHUNK_SIZE),
+                Config.getInstance().getPropertyAsInt(ConfigKey.POLICY_EVALUATION_PARALLELISM));
+    }
+
+    CelPolicyEngine(final CelPolicyScriptHost scriptHost, final int chunkSize, final int parallelism) {
         this.scriptHost = scriptHost;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+    /**
+     * Inputs of a policy evaluation that are shared by all components of a project.
+     * All of them are immutable, and may be shared across threads.
+     */
+    private record EvaluationContext(List<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs,
+                                     org.dependencytrack.proto.policy.v1.Project protoProject,
+                                     Map<Long, org.dependencytrack.proto.policy.v1.License> licenseById,
+                                     Map<Long, org.dependencytrack.proto.policy.v1.Vulnerability> protoVulnById,
+                                     Map<Long, List<Long>> vulnIdsByComponentId,
+                                     Timestamp protoNow,
+                                     byte[] fingerprintSeed,
+                                     Map<Long, String> previousFingerprintByComponentId) {
+
+        private boolean isFingerprintingEnabled() {
+            return fingerprintSeed != null;
+        }
+
+    }
+
+    /**
+     * Outcome of evaluating a set of components.
+     *
+     * @param conditionsViolated         Violated {@link PolicyCondition}s, keyed by component ID
+     * @param fingerprintByComponentId   Fingerprints of the inputs of all evaluated components
+     * @param unchangedComponentIds      IDs of components that were not evaluated, because their fingerprint did not change
+     */
+    private record EvaluationResult(MultiValuedMap<Long, PolicyCondition> conditionsViolated,
+                                    Map<Long, String> fingerprintByComponentId,
+                                    Set<Long> unchangedComponentIds) {
+
+        private EvaluationResult() {
+            this(new HashSetValuedHashMap<>(), new HashMap<>(), new HashSet<>());
+        }
+
+        private void merge(final EvaluationResult other) {
+            conditionsViolated.putAll(other.conditionsViolated());
+            fingerprintByComponentId.putAll(other.fingerprintByComponentId());
+            unchangedComponentIds.addAll(other.unchangedComponentIds());
+        }
+
+    }
+
+    /**
+     * Holder of the {@link ExecutorService} that evaluates chunks of components,
+     * such that it is only created when parallel evaluation is enabled.
+     */
+    private static final class WorkerExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.max(Config.getInstance().getPropertyAsInt(ConfigKey.POLICY_EVALUATION_PARALLELISM), 1),
+                Thread.ofPlatform().name("CelPolicyEngine-Worker-", 0).daemon(true).factory());
+
     }
 
     /**
@@ -163,83 +250,302 @@ public class CelPolicyEngine {
                 return;
             }
 
-            final MultiValuedMap<Type, String> requirements = determineScriptRequirements(conditionScriptPairs);
-            LOGGER.debug("Requirements for %d policy conditions: %s".formatted(conditionScriptPairs.size(), requirements));
+            final EvaluationResult evaluationResult = evaluate(celQm, project, conditionScriptPairs, true);
 
-            final org.dependencytrack.proto.policy.v1.Project protoProject;
-            if (requirements.containsKey(TYPE_PROJECT)) {
-                final var inputProject = org.dependencytrack.proto.policy.v1.Project.newBuilder().setUuid(project.getUuid().toString()).build();
-                protoProject = withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(inputProject, requirements));
-            } else {
-                protoProject = org.dependencytrack.proto.policy.v1.Project.getDefaultInstance();
+            final MultiValuedMap<Long, PolicyCondition> conditionsViolated = evaluationResult.conditionsViolated();
+            final var violationsByComponentId = new ArrayListValuedHashMap<Long, PolicyViolation>();
+            for (final long componentId : conditionsViolated.keySet()) {
+                violationsByComponentId.putAll(componentId, evaluatePolicyOperators(conditionsViolated.get(componentId)));
             }
-            // Preload components for the entire project, to avoid excessive queries.
-            final List<ComponentProjection> components = celQm.fetchAllComponents(project.getId(), requirements.get(TYPE_COMPONENT));
-
-            // Preload licenses for the entire project, as chances are high that they will be used by multiple components.
-            final Map<Long, org.dependencytrack.proto.policy.v1.License> licenseById;
-            if (requirements.containsKey(TYPE_LICENSE) || (requirements.containsKey(TYPE_COMPONENT) && requirements.get(TYPE_COMPONENT).contains("resolved_license"))) {
-                licenseById = celQm.fetchAllLicenses(project.getId(), requirements.get(TYPE_LICENSE), requirements.get(TYPE_LICENSE_GROUP)).stream()
-                        .collect(Collectors.toMap(
-                                projection -> projection.id,
-                                CelPolicyEngine::mapToProto
-                        ));
-            } else {
-                licenseById = Collections.emptyMap();
+
+            if (!evaluationResult.unchangedComponentIds().isEmpty()) {
+                LOGGER.debug("Skipped evaluation of %d unchanged components"
+                        .formatted(evaluationResult.unchangedComponentIds().size()));
             }
 
-            // Preload vulnerabilities for the entire project, as chances are high that they will be used by multiple components.
-            final Map<Long, org.dependencytrack.proto.policy.v1.Vulnerability> protoVulnById;
-            final Map<Long, List<Long>> vulnIdsByComponentId;
-            if (requirements.containsKey(TYPE_VULNERABILITY)) {
-                protoVulnById = celQm.fetchAllVulnerabilities(project.getId(), requirements.get(TYPE_VULNERABILITY)).stream()
-                        .collect(Collectors.toMap(
-                                projection -> projection.id,
-                                CelPolicyEngine::mapToProto
-                        ));
-
-                vulnIdsByComponentId = celQm.fetchAllComponentsVulnerabilities(project.getId()).stream()
-                        .collect(Collectors.groupingBy(
-                                projection -> projection.componentId,
-                                Collectors.mapping(projection -> projection.vulnerabilityId, Collectors.toList())
-                        ));
-            } else {
-                protoVulnById = Collections.emptyMap();
-                vulnIdsByComponentId = Collections.emptyMap();
+            final List<Long> newViolationIds = celQm.reconcileViolations(project.getId(), violationsByComponentId,
+                    evaluationResult.unchangedComponentIds(), evaluationResult.fingerprintByComponentId());
+            LOGGER.info("Identified %d new violations".formatted(newViolationIds.size()));
+
+            for (final Long newViolationId : newViolationIds) {
+                NotificationUtil.analyzeNotificationCriteria(qm, newViolationId);
             }
+        } finally {
+            LOGGER.info("Evaluation completed in %s"
+                    .formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
+        }
+    }
+
+    /**
+     * Evaluate a single {@link Policy} for a {@link Project}.
+     * <p>
+     * Only the conditions of the given {@link Policy} are evaluated, and only violations
+     * of that {@link Policy} are reconciled. Violations of other policies remain untouched.
+     * If the {@link Policy} is not (or no longer) applicable to the {@link Project},
+     * all of its violations for the {@link Project} are removed.
+     *
+     * @param policyUuid  The {@link UUID} of the {@link Policy}
+     * @param projectUuid The {@link UUID} of the {@link Project}
+     * @since 5.6.0
+     */
+    public void evaluatePolicy(final UUID policyUuid, final UUID projectUuid) {
+        final long startTimeNs = System.nanoTime();
 
-            // Evaluate all policy conditions against all components.
-            final var conditionsViolated = new HashSetValuedHashMap<Long, PolicyCondition>();
-            final Timestamp protoNow = Timestamps.now(); // Use consistent now timestamp for all evaluations.
-            for (final ComponentProjection component : components) {
-                final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(component, licenseById);
-                final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns =
-                        vulnIdsByComponentId.getOrDefault(component.id, emptyList()).stream()
-                                .map(protoVulnById::get)
-                                .toList();
-
-                conditionsViolated.putAll(component.id, evaluateConditions(conditionScriptPairs, Map.of(
-                        CelPolicyVariable.COMPONENT.variableName(), protoComponent,
-                        CelPolicyVariable.PROJECT.variableName(), protoProject,
-                        CelPolicyVariable.VULNS.variableName(), protoVulns,
-                        CelPolicyVariable.NOW.variableName(), protoNow
-                )));
+        try (final var qm = new QueryManager();
+             final var celQm = new CelPolicyQueryManager(qm);
+             var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, projectUuid.toString())) {
+            final Project project = qm.getObjectByUuid(Project.class, projectUuid, List.of(Project.FetchGroup.IDENTIFIERS.name()));
+            if (project == null) {
+                LOGGER.warn("Project does not exist; Skipping");
+                return;
+            }
+
+            // Violations of deleted policies are removed along with their conditions.
+            final Policy policy = qm.getObjectByUuid(Policy.class, policyUuid);
+            if (policy == null) {
+                LOGGER.warn("Policy %s does not exist; Skipping".formatted(policyUuid));
+                return;
             }
 
+            final boolean isApplicable = celQm.getApplicablePolicies(project).stream()
+                    .anyMatch(applicablePolicy -> applicablePolicy.getId() == policy.getId());
+
+            LOGGER.debug("Compiling scripts of policy %s".formatted(policyUuid));
+            final List<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs = isApplicable
+                    ? compileConditionScripts(List.of(policy))
+                    : emptyList();
+
             final var violationsByComponentId = new ArrayListValuedHashMap<Long, PolicyViolation>();
-            for (final long componentId : conditionsViolated.keySet()) {
-                violationsByComponentId.putAll(componentId, evaluatePolicyOperators(conditionsViolated.get(componentId)));
+            if (conditionScriptPairs.isEmpty()) {
+                LOGGER.info("Policy %s is not applicable or has no conditions".formatted(policyUuid));
+            } else {
+                // Fingerprints cover all applicable policies, and thus can't be used
+                // to skip components when evaluating only a single one of them.
+                final EvaluationResult evaluationResult = evaluate(celQm, project, conditionScriptPairs, false);
+
+                final MultiValuedMap<Long, PolicyCondition> conditionsViolated = evaluationResult.conditionsViolated();
+                for (final long componentId : conditionsViolated.keySet()) {
+                    violationsByComponentId.putAll(componentId, evaluatePolicyOperators(conditionsViolated.get(componentId)));
+                }
             }
 
-            final List<Long> newViolationIds = celQm.reconcileViolations(project.getId(), violationsByComponentId);
-            LOGGER.info("Identified %d new violations".formatted(newViolationIds.size()));
+            final List<Long> newViolationIds = celQm.reconcilePolicyViolations(project.getId(), policy.getId(), violationsByComponentId);
+            LOGGER.info("Identified %d new violations of policy %s".formatted(newViolationIds.size(), policyUuid));
 
             for (final Long newViolationId : newViolationIds) {
                 NotificationUtil.analyzeNotificationCriteria(qm, newViolationId);
             }
         } finally {
-            LOGGER.info("Evaluation completed in %s"
-                    .formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
+            LOGGER.info("Evaluation of policy %s completed in %s"
+                    .formatted(policyUuid, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+        }
+    }
+
+    /**
+     * Determine the {@link Project}s that may be affected by a change to a given {@link Policy}.
+     * <p>
+     * This includes all active {@link Project}s the {@link Policy} is applicable to,
+     * as well as all {@link Project}s that currently have violations of the {@link Policy}.
+     *
+     * @param policyUuid The {@link UUID} of the {@link Policy}
+     * @return {@link UUID}s of the affected {@link Project}s
+     * @since 5.6.0
+     */
+    public List<UUID> getProjectsAffectedByPolicy(final UUID policyUuid) {
+        return withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).getProjectUuidsAffectedByPolicy(policyUuid));
+    }
+
+    /**
+     * Evaluate the given policy conditions against all components of a project.
+     *
+     * @param fingerprintingEnabled Whether components with unchanged fingerprints may be skipped,
+     *                              which requires {@code conditionScriptPairs} to cover all applicable policies
+     * @return The {@link EvaluationResult} of all components
+     */
+    private EvaluationResult evaluate(final CelPolicyQueryManager celQm,
+                                      final Project project,
+                                      final List<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs,
+                                      final boolean fingerprintingEnabled) {
+        final MultiValuedMap<Type, String> requirements = determineScriptRequirements(conditionScriptPairs);
+        LOGGER.debug("Requirements for %d policy conditions: %s".formatted(conditionScriptPairs.size(), requirements));
+
+        final org.dependencytrack.proto.policy.v1.Project protoProject;
+        if (requirements.containsKey(TYPE_PROJECT)) {
+            final var inputProject = org.dependencytrack.proto.policy.v1.Project.newBuilder().setUuid(project.getUuid().toString()).build();
+            protoProject = withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(inputProject, requirements));
+        } else {
+            protoProject = org.dependencytrack.proto.policy.v1.Project.getDefaultInstance();
+        }
+        // Preload licenses for the entire project, as chances are high that they will be used by multiple components.
+        final Map<Long, org.dependencytrack.proto.policy.v1.License> licenseById;
+        if (requirements.containsKey(TYPE_LICENSE) || (requirements.containsKey(TYPE_COMPONENT) && requirements.get(TYPE_COMPONENT).contains("resolved_license"))) {
+            licenseById = celQm.fetchAllLicenses(project.getId(), requirements.get(TYPE_LICENSE), requirements.get(TYPE_LICENSE_GROUP)).stream()
+                    .collect(Collectors.toMap(
+                            projection -> projection.id,
+                            CelPolicyEngine::mapToProto
+                    ));
+        } else {
+            licenseById = Collections.emptyMap();
+        }
+
+        // Preload vulnerabilities for the entire project, as chances are high that they will be used by multiple components.
+        final Map<Long, org.dependencytrack.proto.policy.v1.Vulnerability> protoVulnById;
+        final Map<Long, List<Long>> vulnIdsByComponentId;
+        if (requirements.containsKey(TYPE_VULNERABILITY)) {
+            protoVulnById = celQm.fetchAllVulnerabilities(project.getId(), requirements.get(TYPE_VULNERABILITY)).stream()
+                    .collect(Collectors.toMap(
+                            projection -> projection.id,
+                            CelPolicyEngine::mapToProto
+                    ));
+
+            vulnIdsByComponentId = celQm.fetchAllComponentsVulnerabilities(project.getId()).stream()
+                    .collect(Collectors.groupingBy(
+                            projection -> projection.componentId,
+                            Collectors.mapping(projection -> projection.vulnerabilityId, Collectors.toList())
+                    ));
+        } else {
+            protoVulnById = Collections.emptyMap();
+            vulnIdsByComponentId = Collections.emptyMap();
+        }
+
+        // Components whose inputs did not change since their last evaluation can be skipped,
+        // unless the outcome of any script depends on more than its inputs (e.g. the current time).
+        final byte[] fingerprintSeed;
+        final Map<Long, String> previousFingerprintByComponentId;
+        if (fingerprintingEnabled && conditionScriptPairs.stream().map(Pair::getRight).allMatch(CelPolicyScript::isInputsOnly)) {
+            fingerprintSeed = computeFingerprintSeed(conditionScriptPairs, protoProject);
+            previousFingerprintByComponentId = celQm.fetchAllFingerprints(project.getId());
+        } else {
+            if (fingerprintingEnabled) {
+                LOGGER.debug("Not all policy conditions are determined by their inputs; Evaluating all components");
+            }
+            fingerprintSeed = null;
+            previousFingerprintByComponentId = Collections.emptyMap();
+        }
+
+        // Use consistent now timestamp for all evaluations.
+        final var evaluationContext = new EvaluationContext(conditionScriptPairs, protoProject,
+                licenseById, protoVulnById, vulnIdsByComponentId, Timestamps.now(),
+                fingerprintSeed, previousFingerprintByComponentId);
+
+        // Evaluate all policy conditions against all components.
+        // Components are loaded in chunks, to avoid holding all of them in memory at once.
+        // Functions operating on the dependency graph share a lazily loaded, in-memory index of it.
+        try (var graphIndexScope = DependencyGraphIndex.enterScope(project.getId())) {
+            return evaluateComponents(celQm, project.getId(), requirements.get(TYPE_COMPONENT),
+                    evaluationContext, graphIndexScope);
+        }
+    }
+
+    /**
+     * Evaluate all policy conditions against all components of a project.
+     * <p>
+     * Components are fetched in chunks of {@link #chunkSize}. When {@link #parallelism} is greater than one,
+     * chunks are evaluated on a shared, bounded {@link ExecutorService}, while the next chunk is being fetched.
+     * At most {@link #parallelism} chunks of a single evaluation are in flight at any given time,
+     * which bounds the number of components held in memory.
+     *
+     * @return The {@link EvaluationResult} of all components
+     */
+    private EvaluationResult evaluateComponents(final CelPolicyQueryManager celQm,
+                                                                     final long projectId,
+                                                                     final Collection<String> componentProtoFieldNames,
+                                                                     final EvaluationContext context,
+                                                                     final DependencyGraphIndex.Scope graphIndexScope) {
+        final var result = new EvaluationResult();
+        final var pendingChunks = new ArrayDeque<Future<EvaluationResult>>();
+        final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        try {
+            Long lastComponentId = null;
+            List<ComponentProjection> chunk;
+            do {
+                chunk = celQm.fetchComponentsPage(projectId, componentProtoFieldNames, lastComponentId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                lastComponentId = chunk.getLast().id;
+
+                if (parallelism == 1) {
+                    result.merge(evaluateChunk(chunk, context));
+                    continue;
+                }
+
+                if (pendingChunks.size() >= parallelism) {
+                    result.merge(awaitChunk(pendingChunks.poll()));
+                }
+
+                final List<ComponentProjection> chunkToEvaluate = chunk;
+                pendingChunks.add(WorkerExecutorHolder.EXECUTOR.submit(() -> {
+                    if (mdcContext != null) {
+                        MDC.setContextMap(mdcContext);
+                    }
+
+                    try (var ignoredGraphIndexScope = DependencyGraphIndex.enterScope(graphIndexScope)) {
+                        return evaluateChunk(chunkToEvaluate, context);
+                    } finally {
+                        MDC.clear();
+                    }
+                }));
+            } while (chunk.size() == chunkSize);
+
+            while (!pendingChunks.isEmpty()) {
+                result.merge(awaitChunk(pendingChunks.poll()));
+            }
+        } finally {
+            pendingChunks.forEach(pendingChunk -> pendingChunk.cancel(true));
+        }
+
+        return result;
+    }
+
+    private static EvaluationResult evaluateChunk(final List<ComponentProjection> components,
+                                                  final EvaluationContext context) {
+        final var result = new EvaluationResult();
+
+        for (final ComponentProjection component : components) {
+            final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(component, context.licenseById());
+            final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns =
+                    context.vulnIdsByComponentId().getOrDefault(component.id, emptyList()).stream()
+                            .map(context.protoVulnById()::get)
+                            .toList();
+
+            if (context.isFingerprintingEnabled()) {
+                final String fingerprint = computeFingerprint(context.fingerprintSeed(), protoComponent, protoVulns);
+                if (fingerprint.equals(context.previousFingerprintByComponentId().get(component.id))) {
+                    result.unchangedComponentIds().add(component.id);
+                    COMPONENTS_SKIPPED_COUNTER.increment();
+                    continue;
+                }
+
+                result.fingerprintByComponentId().put(component.id, fingerprint);
+            }
+
+            COMPONENTS_EVALUATED_COUNTER.increment();
+            result.conditionsViolated().putAll(component.id, evaluateConditions(context.conditionScriptPairs(), Map.of(
+                    CelPolicyVariable.COMPONENT.variableName(), protoComponent,
+                    CelPolicyVariable.PROJECT.variableName(), context.protoProject(),
+                    CelPolicyVariable.VULNS.variableName(), protoVulns,
+                    CelPolicyVariable.NOW.variableName(), context.protoNow()
+            )));
+        }
+
+        return result;
+    }
+
+    private static EvaluationResult awaitChunk(final Future<EvaluationResult> pendingChunk) {
+        try {
+            return pendingChunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for evaluation of components", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof final RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException("Failed to evaluate components", e.getCause());
         }
     }
 
@@ -280,6 +586,18 @@ public class CelPolicyEngine {
             return emptyList();
         }
 
+        return compileConditionScripts(policies);
+    }
+
+    /**
+     * Compile the conditions of the given {@link Policy}s to {@link CelPolicyScript}s.
+     * <p>
+     * Conditions for which no script could be built or compiled are omitted.
+     *
+     * @param policies The {@link Policy}s to compile conditions of
+     * @return {@link Pair}s of {@link PolicyCondition}s and {@link CelPolicyScript}s
+     */
+    private List<Pair<PolicyCondition, CelPolicyScript>> compileConditionScripts(final Collection<Policy> policies) {
         return policies.stream()
                 .map(Policy::getPolicyConditions)
                 .flatMap(Collection::stream)
@@ -313,6 +631,62 @@ public class CelPolicyEngine {
                 });
     }
 
+    /**
+     * Compute the part of component fingerprints that is shared by all components of a project,
+     * covering the applicable policy conditions and the project's inputs.
+     * <p>
+     * Policies and conditions are digested in a stable order, such that the seed only changes
+     * when policies, conditions, or project inputs change.
+     */
+    private static byte[] computeFingerprintSeed(final Collection<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs,
+                                                 final org.dependencytrack.proto.policy.v1.Project protoProject) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+
+        conditionScriptPairs.stream()
+                .map(Pair::getLeft)
+                .sorted(Comparator.comparing((PolicyCondition condition) -> condition.getPolicy().getUuid())
+                        .thenComparing(PolicyCondition::getUuid))
+                .map(condition -> String.join("\u0000",
+                        String.valueOf(condition.getPolicy().getUuid()),
+                        String.valueOf(condition.getPolicy().getOperator()),
+                        String.valueOf(condition.getPolicy().getViolationState()),
+                        String.valueOf(condition.getPolicy().getPolicyConditions().size()),
+                        String.valueOf(condition.getUuid()),
+                        String.valueOf(condition.getId()),
+                        String.valueOf(condition.getSubject()),
+                        String.valueOf(condition.getOperator()),
+                        String.valueOf(condition.getValue()),
+                        String.valueOf(condition.getViolationType())))
+                .forEach(conditionStr -> updateDigest(digest, conditionStr.getBytes(StandardCharsets.UTF_8)));
+
+        updateDigest(digest, protoProject.toByteArray());
+        return digest.digest();
+    }
+
+    /**
+     * Compute the fingerprint of a component's evaluation inputs.
+     * <p>
+     * Only fields required by the applicable policy conditions are populated in the given messages,
+     * so changes to fields that no condition accesses do not alter the fingerprint.
+     */
+    private static String computeFingerprint(final byte[] fingerprintSeed,
+                                             final org.dependencytrack.proto.policy.v1.Component protoComponent,
+                                             final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        digest.update(fingerprintSeed);
+        updateDigest(digest, protoComponent.toByteArray());
+        protoVulns.stream()
+                .sorted(Comparator.comparing(org.dependencytrack.proto.policy.v1.Vulnerability::getUuid))
+                .forEach(protoVuln -> updateDigest(digest, protoVuln.toByteArray()));
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static void updateDigest(final MessageDigest digest, final byte[] bytes) {
+        // Prefix with the length, such that adjacent inputs can't be shifted into each other.
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
     private Pair<PolicyCondition, String> buildConditionScriptSrc(final PolicyCondition policyCondition) {
         final CelPolicyScriptSourceBuilder scriptBuilder = SCRIPT_BUILDERS.get(policyCondition.getSubject());
         if (scriptBuilder == null) {
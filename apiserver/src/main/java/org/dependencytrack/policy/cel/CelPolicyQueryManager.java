@@ -21,6 +21,7 @@ package org.dependencytrack.policy.cel;
 import alpine.common.logging.Logger;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.PolicyViolation;
@@ -31,6 +32,7 @@ import org.dependencytrack.policy.cel.mapping.ComponentProjection;
 import org.dependencytrack.policy.cel.mapping.ComponentsVulnerabilitiesProjection;
 import org.dependencytrack.policy.cel.mapping.LicenseGroupProjection;
 import org.dependencytrack.policy.cel.mapping.LicenseProjection;
+import org.dependencytrack.policy.cel.mapping.PolicyEvaluationFingerprintProjection;
 import org.dependencytrack.policy.cel.mapping.PolicyViolationProjection;
 import org.dependencytrack.policy.cel.mapping.ProjectProjection;
 import org.dependencytrack.policy.cel.mapping.ProjectPropertyProjection;
@@ -48,6 +50,7 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -58,6 +61,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.sql.Connection.TRANSACTION_READ_COMMITTED;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.RECORD_COMPONENT_METRICS_CHANGES_STATEMENT;
 import static org.dependencytrack.policy.cel.mapping.FieldMappingUtil.getFieldMappings;
 
 class CelPolicyQueryManager implements AutoCloseable {
@@ -155,7 +159,19 @@ class CelPolicyQueryManager implements AutoCloseable {
         }
     }
 
-    List<ComponentProjection> fetchAllComponents(final long projectId, final Collection<String> protoFieldNames) {
+    /**
+     * Fetch a page of components of a given {@link Project}, ordered by their ID.
+     *
+     * @param projectId       ID of the {@link Project} to fetch components for
+     * @param protoFieldNames Names of the component proto fields to populate
+     * @param lastId          ID of the last component of the previous page, or {@code null} for the first page
+     * @param limit           Maximum number of components to fetch
+     * @return A {@link List} of {@link ComponentProjection}s
+     */
+    List<ComponentProjection> fetchComponentsPage(final long projectId,
+                                                  final Collection<String> protoFieldNames,
+                                                  final Long lastId,
+                                                  final int limit) {
         String sqlSelectColumns = Stream.concat(
                         Stream.of(ComponentProjection.ID_FIELD_MAPPING),
                         getFieldMappings(ComponentProjection.class).stream()
@@ -179,11 +195,16 @@ class CelPolicyQueryManager implements AutoCloseable {
                 "C"."NAME" = "RMC"."NAME") AS "latestVersion" ON :shouldJoinRepoMeta
                 WHERE
                 "PROJECT_ID" = :projectId
+                AND "C"."ID" > :lastId
+                ORDER BY "C"."ID"
+                FETCH NEXT :limit ROWS ONLY
                 """.formatted(sqlSelectColumns, protoFieldNames));
         query.setNamedParameters(Map.of(
                 "shouldJoinIntegrityMeta", protoFieldNames.contains("publishedAt") || protoFieldNames.contains("published_at"),
                 "shouldJoinRepoMeta", protoFieldNames.contains("latestVersion") || protoFieldNames.contains("latest_version"),
-                "projectId", projectId));
+                "projectId", projectId,
+                "lastId", lastId != null ? lastId : 0L,
+                "limit", limit));
         try {
             return List.copyOf(query.executeResultList(ComponentProjection.class));
         } finally {
@@ -376,7 +397,73 @@ class CelPolicyQueryManager implements AutoCloseable {
         }
     }
 
+    /**
+     * Fetch the fingerprints of all components of a project, as recorded during their last policy evaluation.
+     *
+     * @since 5.6.0
+     */
+    Map<Long, String> fetchAllFingerprints(final long projectId) {
+        final Query<?> query = pm.newQuery(Query.SQL, """
+                SELECT
+                  "COMPONENT_ID" AS "componentId",
+                  "FINGERPRINT" AS "fingerprint"
+                FROM
+                  "POLICY_EVALUATION_FINGERPRINT"
+                WHERE
+                  "PROJECT_ID" = ?
+                """);
+        query.setParameters(projectId);
+        try {
+            return query.executeResultList(PolicyEvaluationFingerprintProjection.class).stream()
+                    .collect(Collectors.toMap(
+                            projection -> projection.componentId,
+                            projection -> projection.fingerprint));
+        } finally {
+            query.closeAll();
+        }
+    }
+
     List<Long> reconcileViolations(final long projectId, final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId) {
+        return reconcileViolations(projectId, reportedViolationsByComponentId, Collections.emptySet(), Collections.emptyMap());
+    }
+
+    /**
+     * Reconcile the reported policy violations of a project with the ones that exist in the database.
+     * <p>
+     * Components in {@code unchangedComponentIds} were not evaluated, and keep their existing violations.
+     * The fingerprints of all other components are replaced with {@code fingerprintByComponentId},
+     * in the same transaction as their violations.
+     *
+     * @return IDs of the violations that were newly created
+     * @since 5.6.0
+     */
+    List<Long> reconcileViolations(final long projectId,
+                                   final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId,
+                                   final Set<Long> unchangedComponentIds,
+                                   final Map<Long, String> fingerprintByComponentId) {
+        return reconcileViolations(projectId, null, reportedViolationsByComponentId, unchangedComponentIds, fingerprintByComponentId);
+    }
+
+    /**
+     * Reconcile the reported violations of a single policy with the ones that exist in the database.
+     * <p>
+     * Violations of other policies are left untouched. As fingerprints of the project's components
+     * do no longer reflect the result of all policies, they are removed.
+     *
+     * @return IDs of the violations that were newly created
+     * @since 5.6.0
+     */
+    List<Long> reconcilePolicyViolations(final long projectId,
+                                         final long policyId,
+                                         final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId) {
+        return reconcileViolations(projectId, policyId, reportedViolationsByComponentId, Collections.emptySet(), Collections.emptyMap());
+    }
+
+    private List<Long> reconcileViolations(final long projectId,
+                                           final Long policyId,
+                                           final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId,
+                                           final Set<Long> unchangedComponentIds,
+                                           final Map<Long, String> fingerprintByComponentId) {
         // We want to send notifications for newly identified policy violations,
         // so need to keep track of which violations we created.
         final var newViolationIds = new ArrayList<Long>();
@@ -397,6 +484,7 @@ class CelPolicyQueryManager implements AutoCloseable {
             nativeConnection.setTransactionIsolation(TRANSACTION_READ_COMMITTED);
 
             // First, query for all existing policy violations of the project, grouping them by component ID.
+            // When reconciling the violations of a single policy, violations of other policies are not considered.
             final var existingViolationsByComponentId = new HashSetValuedHashMap<Long, PolicyViolationProjection>();
             try (final PreparedStatement ps = nativeConnection.prepareStatement("""
                     SELECT
@@ -407,8 +495,16 @@ class CelPolicyQueryManager implements AutoCloseable {
                       "POLICYVIOLATION"
                     WHERE
                       "PROJECT_ID" = ?
-                    """)) {
+                    %s
+                    """.formatted(policyId != null ? """
+                    AND "POLICYCONDITION_ID" IN (
+                      SELECT "ID" FROM "POLICYCONDITION" WHERE "POLICY_ID" = ?
+                    )
+                    """ : ""))) {
                 ps.setLong(1, projectId);
+                if (policyId != null) {
+                    ps.setLong(2, policyId);
+                }
 
                 final ResultSet rs = ps.executeQuery();
                 while (rs.next()) {
@@ -425,6 +521,7 @@ class CelPolicyQueryManager implements AutoCloseable {
             final Set<Long> componentIds = new HashSet<>(reportedViolationsByComponentId.keySet().size() + existingViolationsByComponentId.keySet().size());
             componentIds.addAll(reportedViolationsByComponentId.keySet());
             componentIds.addAll(existingViolationsByComponentId.keySet());
+            componentIds.removeAll(unchangedComponentIds);
 
             // ... determine which existing violations should be deleted (because they're no longer reported),
             // and which reported violations should be created (because they have not been reported before).
@@ -433,6 +530,7 @@ class CelPolicyQueryManager implements AutoCloseable {
             // meaning no action needs to be taken for them.
             final var violationIdsToDelete = new ArrayList<Long>();
             final var violationsToCreate = new HashSetValuedHashMap<Long, PolicyViolation>();
+            final var changedComponentIds = new HashSet<Long>();
             for (final Long componentId : componentIds) {
                 final Collection<PolicyViolationProjection> existingViolations = existingViolationsByComponentId.get(componentId);
                 final Collection<PolicyViolation> reportedViolations = reportedViolationsByComponentId.get(componentId);
@@ -441,6 +539,7 @@ class CelPolicyQueryManager implements AutoCloseable {
                     // Component has been removed, or does not have any violations anymore.
                     // All of its existing violations can be deleted.
                     violationIdsToDelete.addAll(existingViolations.stream().map(PolicyViolationProjection::id).toList());
+                    changedComponentIds.add(componentId);
                     continue;
                 }
 
@@ -457,7 +556,10 @@ class CelPolicyQueryManager implements AutoCloseable {
                         .filter(existingViolation -> reportedViolations.stream().noneMatch(newViolation ->
                                 newViolation.getPolicyCondition().getId() == existingViolation.policyConditionId()))
                         .map(PolicyViolationProjection::id)
-                        .forEach(violationIdsToDelete::add);
+                        .forEach(violationId -> {
+                            violationIdsToDelete.add(violationId);
+                            changedComponentIds.add(componentId);
+                        });
 
                 // To determine which violations shall be created, find occurrences of violations appearing
                 // in the collection of reported violations, but not in the collection of existing violations.
@@ -539,6 +641,56 @@ class CelPolicyQueryManager implements AutoCloseable {
                 }
             }
 
+            changedComponentIds.addAll(violationsToCreate.keySet());
+            if (!changedComponentIds.isEmpty() && Metrics.isIncrementalUpdateEnabled()) {
+                // Record the changed components, such that an incremental metrics update
+                // can limit itself to re-calculating their metrics.
+                try (final PreparedStatement ps = nativeConnection.prepareStatement(RECORD_COMPONENT_METRICS_CHANGES_STATEMENT)) {
+                    ps.setArray(1, nativeConnection.createArrayOf("BIGINT", changedComponentIds.toArray(new Long[0])));
+                    ps.execute();
+                }
+            }
+
+            // Remove fingerprints of components that were evaluated without recording one,
+            // such that they are not skipped based on an outdated fingerprint.
+            final var fingerprintedComponentIds = new HashSet<Long>(unchangedComponentIds);
+            fingerprintedComponentIds.addAll(fingerprintByComponentId.keySet());
+            try (final PreparedStatement ps = nativeConnection.prepareStatement("""
+                    DELETE FROM "POLICY_EVALUATION_FINGERPRINT"
+                     WHERE "PROJECT_ID" = ?
+                       AND NOT ("COMPONENT_ID" = ANY(?))
+                    """)) {
+                ps.setLong(1, projectId);
+                ps.setArray(2, nativeConnection.createArrayOf("BIGINT", fingerprintedComponentIds.toArray(new Long[0])));
+                ps.execute();
+            }
+
+            if (!fingerprintByComponentId.isEmpty()) {
+                try (final PreparedStatement ps = nativeConnection.prepareStatement("""
+                        INSERT INTO "POLICY_EVALUATION_FINGERPRINT" ("COMPONENT_ID", "PROJECT_ID", "FINGERPRINT")
+                        SELECT "C"."ID"
+                             , "C"."PROJECT_ID"
+                             , "T"."FINGERPRINT"
+                          FROM UNNEST(?, ?) AS "T"("COMPONENT_ID", "FINGERPRINT")
+                         INNER JOIN "COMPONENT" AS "C"
+                            ON "C"."ID" = "T"."COMPONENT_ID"
+                        ON CONFLICT ("COMPONENT_ID") DO UPDATE
+                        SET "FINGERPRINT" = EXCLUDED."FINGERPRINT"
+                          , "EVALUATED_AT" = NOW()
+                        """)) {
+                    final var fingerprintComponentIds = new ArrayList<Long>(fingerprintByComponentId.size());
+                    final var fingerprints = new ArrayList<String>(fingerprintByComponentId.size());
+                    fingerprintByComponentId.forEach((componentId, fingerprint) -> {
+                        fingerprintComponentIds.add(componentId);
+                        fingerprints.add(fingerprint);
+                    });
+
+                    ps.setArray(1, nativeConnection.createArrayOf("BIGINT", fingerprintComponentIds.toArray(new Long[0])));
+                    ps.setArray(2, nativeConnection.createArrayOf("TEXT", fingerprints.toArray(new String[0])));
+                    ps.execute();
+                }
+            }
+
             nativeConnection.commit();
         } catch (Exception e) {
             try {
@@ -651,26 +803,6 @@ class CelPolicyQueryManager implements AutoCloseable {
         return getParents(parentUuid, parents);
     }
 
-    boolean isDirectDependency(final org.dependencytrack.proto.policy.v1.Component component) {
-        String queryString = /* language=SQL */ """
-                SELECT COUNT(*)
-                  FROM "COMPONENT" "C"
-                 INNER JOIN "PROJECT" "P"
-                    ON "P"."ID" = "C"."PROJECT_ID"
-                   AND "P"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', :uuid))
-                 WHERE "C"."UUID" = :uuid
-                """;
-        final Query<?> query = pm.newQuery(Query.SQL, queryString);
-        query.setNamedParameters(Map.of("uuid", UUID.fromString(component.getUuid())));
-        long result;
-        try {
-            result = query.executeResultUnique(Long.class);
-        } finally {
-            query.closeAll();
-        }
-        return result == 1;
-    }
-
     @Override
     public void close() {
         // Noop
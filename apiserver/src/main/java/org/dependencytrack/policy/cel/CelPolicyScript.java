@@ -31,16 +31,27 @@ public class CelPolicyScript {
 
     private final Program program;
     private final MultiValuedMap<Type, String> requirements;
+    private final boolean inputsOnly;
 
-    CelPolicyScript(final Program program, final MultiValuedMap<Type, String> requirements) {
+    CelPolicyScript(final Program program, final MultiValuedMap<Type, String> requirements, final boolean inputsOnly) {
         this.program = program;
         this.requirements = requirements;
+        this.inputsOnly = inputsOnly;
     }
 
     MultiValuedMap<Type, String> getRequirements() {
         return requirements;
     }
 
+    /**
+     * @return Whether the result of this script is determined solely by the fields in {@link #getRequirements()},
+     * i.e. it does not depend on the current time, or on data the script looks up on its own (e.g. the dependency graph)
+     * @since 5.6.0
+     */
+    boolean isInputsOnly() {
+        return inputsOnly;
+    }
+
     boolean execute(final Map<String, Object> arguments) throws ScriptExecutionException {
         final Val result = program.eval(arguments).getVal();
 
@@ -133,10 +133,12 @@ public class CelPolicyScriptHost {
             final Ast ast = astIssuesTuple.getAst();
             final Program program = environment.program(ast);
             final var expr = CEL.astToCheckedExpr(ast);
-            final MultiValuedMap<Type, String> requirements = analyzeRequirements(expr);
+            final var visitor = new CelPolicyScriptVisitor(expr.getTypeMapMap());
+            visitor.visit(expr.getExpr());
+            final MultiValuedMap<Type, String> requirements = analyzeRequirements(visitor);
             validateVersRanges(expr, source);
 
-            script = new CelPolicyScript(program, requirements);
+            script = new CelPolicyScript(program, requirements, isInputsOnly(visitor));
             if (cacheMode == CacheMode.CACHE) {
                 cacheManager.put(scriptDigest, script);
             }
@@ -146,10 +148,7 @@ public class CelPolicyScriptHost {
         }
     }
 
-    private static MultiValuedMap<Type, String> analyzeRequirements(final CheckedExpr expr) {
-        final var visitor = new CelPolicyScriptVisitor(expr.getTypeMapMap());
-        visitor.visit(expr.getExpr());
-
+    private static MultiValuedMap<Type, String> analyzeRequirements(final CelPolicyScriptVisitor visitor) {
         // Fields that are accessed directly are always a requirement.
         final MultiValuedMap<Type, String> requirements = visitor.getAccessedFieldsByType();
 
@@ -197,6 +196,22 @@ public class CelPolicyScriptHost {
         return requirements;
     }
 
+    private static boolean isInputsOnly(final CelPolicyScriptVisitor visitor) {
+        if (visitor.getUsedIdentifiers().contains(CelPolicyVariable.NOW.variableName())) {
+            return false;
+        }
+
+        // Functions that operate on the dependency graph, or on the current date,
+        // may yield different results for the exact same inputs.
+        return visitor.getUsedFunctionSignatures().stream()
+                .map(FunctionSignature::function)
+                .noneMatch(function -> switch (function) {
+                    case FUNC_DEPENDS_ON, FUNC_IS_DEPENDENCY_OF, FUNC_IS_EXCLUSIVE_DEPENDENCY_OF,
+                         FUNC_COMPARE_VERSION_DISTANCE, FUNC_COMPARE_AGE -> true;
+                    default -> false;
+                });
+    }
+
     private static void validateVersRanges(final CheckedExpr expr, final Source source) throws ScriptCreateException {
         final var visitor = new CelPolicyScriptVersValidationVisitor(expr.getSourceInfo().getPositionsMap());
         visitor.visit(expr.getExpr());
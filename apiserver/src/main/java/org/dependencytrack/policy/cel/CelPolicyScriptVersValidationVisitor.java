@@ -157,7 +157,8 @@ class CelPolicyScriptVersValidationVisitor {
         }
 
         try {
-            final Vers vers = Vers.parse(constExpr.getStringValue());
+            // Parsed ranges are cached for subsequent evaluations of the script.
+            final Vers vers = CelCommonPolicyLibrary.parseVers(constExpr.getStringValue());
             vers.validate();
         } catch (VersException e) {
             errors.add(new VersValidationError(e, positions.get(expr.getId())));
@@ -18,10 +18,13 @@
  */
 package org.dependencytrack.policy.cel;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.common.metrics.Metrics;
 import alpine.server.cache.AbstractCacheManager;
 import alpine.server.cache.CacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.api.expr.v1alpha1.Type;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
@@ -29,6 +32,7 @@ import io.micrometer.core.instrument.Timer;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.policy.cel.persistence.CelPolicyDao;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyEvaluator;
@@ -39,6 +43,7 @@ import org.dependencytrack.proto.policy.v1.Vulnerability;
 import org.projectnessie.cel.tools.ScriptCreateException;
 import org.projectnessie.cel.tools.ScriptExecutionException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -49,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -68,10 +74,28 @@ import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_VULN
 public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvaluator {
 
     private static final Logger LOGGER = Logger.getLogger(CelVulnerabilityPolicyEvaluator.class);
+    private static final AtomicLong POLICIES_GENERATION = new AtomicLong();
+
+    /**
+     * Applicable policies of a project, along with their compiled condition scripts.
+     *
+     * @param policiesByName              Policies indexed by their (unique) name
+     * @param compiledScriptsByPolicyName Compiled condition scripts, grouped by policy name,
+     *                                    in the order the policies were provided in
+     * @param scriptRequirements          Requirements across all condition scripts
+     * @param generation                  The policies generation this entry was loaded for
+     */
+    private record ApplicablePolicies(
+            Map<String, VulnerabilityPolicy> policiesByName,
+            Map<String, List<CelPolicyScript>> compiledScriptsByPolicyName,
+            MultiValuedMap<Type, String> scriptRequirements,
+            long generation) {
+    }
 
     private final VulnerabilityPolicyProvider policyProvider;
     private final CelPolicyScriptHost scriptHost;
     private final AbstractCacheManager cacheManager;
+    private final Cache<String, ApplicablePolicies> applicablePoliciesCache;
 
     @SuppressWarnings("unused") // Called by ServiceLoader
     public CelVulnerabilityPolicyEvaluator() {
@@ -84,12 +108,29 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
         this.policyProvider = policyProvider;
         this.scriptHost = scriptHost;
         this.cacheManager = cacheManager;
+        this.applicablePoliciesCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.parse(Config.getInstance().getProperty(ConfigKey.VULNERABILITY_POLICY_CACHE_MAX_AGE_DURATION)))
+                .maximumSize(1_000)
+                .build();
 
         // FIXME: Caches are not initialized until the first entry is added...
         cacheManager.put("%s-init".formatted(getClass().getSimpleName()), Project.getDefaultInstance());
         cacheManager.put("%s-init".formatted(getClass().getSimpleName()), Component.getDefaultInstance());
     }
 
+    /**
+     * Invalidate applicable policies cached by all {@link CelVulnerabilityPolicyEvaluator}s of this instance.
+     * <p>
+     * Must be called whenever {@link VulnerabilityPolicy}s are modified. Modifications performed by
+     * other instances are picked up once cached entries are older than
+     * {@link ConfigKey#VULNERABILITY_POLICY_CACHE_MAX_AGE_DURATION}.
+     *
+     * @since 5.6.0
+     */
+    public static void invalidateCachedPolicies() {
+        POLICIES_GENERATION.incrementAndGet();
+    }
+
     @Override
     public Map<UUID, VulnerabilityPolicy> evaluate(final Collection<Vulnerability> vulns, final Component component, final Project project) {
         final Timer.Sample timerSample = Timer.start();
@@ -125,44 +166,16 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
             return Collections.emptyMap();
         }
 
-        // TODO: Can this be cached? Would be good to avoid having to do a DB query for each component.
-        //   Alternatively, we can consider caching an implementation detail of the respective provider.
-        final List<VulnerabilityPolicy> applicablePolicies = policyProvider.getApplicablePolicies(project);
-        if (applicablePolicies == null || applicablePolicies.isEmpty()) {
+        // Applicable policies and their compiled scripts are cached per project,
+        // to avoid having to query and group them again for every component.
+        final ApplicablePolicies applicablePolicies = getApplicablePolicies(project);
+        if (applicablePolicies.policiesByName().isEmpty()) {
             LOGGER.debug("No applicable policies found");
             return Collections.emptyMap();
         }
 
-        // Compile condition scripts and group them by policy name.
-        // Using LinkedHashMap to preserve the order of the policies.
-        final var compiledScriptsByPolicyName = new LinkedHashMap<String, List<CelPolicyScript>>();
-        for (final VulnerabilityPolicy policy : applicablePolicies) {
-            for (final String condition : policy.getConditions()) {
-                compiledScriptsByPolicyName.compute(policy.getName(), (policyName, compiledScripts) -> {
-                    final CelPolicyScript compiledScript = compileConditionScript(condition);
-                    if (compiledScript == null) {
-                        return compiledScripts;
-                    }
-                    if (compiledScripts == null) {
-                        final var scripts = new ArrayList<CelPolicyScript>();
-                        scripts.add(compiledScript);
-                        return scripts;
-                    } else {
-                        compiledScripts.add(compiledScript);
-                        return compiledScripts;
-                    }
-                });
-            }
-        }
-
-        // Determine requirements across all condition scripts.
-        final MultiValuedMap<Type, String> scriptRequirements = compiledScriptsByPolicyName.values().stream()
-                .flatMap(Collection::stream)
-                .map(CelPolicyScript::getRequirements)
-                .reduce(new HashSetValuedHashMap<>(), (lhs, rhs) -> {
-                    lhs.putAll(rhs);
-                    return lhs;
-                });
+        final Map<String, List<CelPolicyScript>> compiledScriptsByPolicyName = applicablePolicies.compiledScriptsByPolicyName();
+        final MultiValuedMap<Type, String> scriptRequirements = applicablePolicies.scriptRequirements();
 
         final Project scriptArgProject;
         if (scriptRequirements.containsKey(TYPE_PROJECT)) {
@@ -187,9 +200,7 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         }
 
-        // Index policies by their (unique) name to make lookups easier.
-        final Map<String, VulnerabilityPolicy> policiesByName = applicablePolicies.stream()
-                .collect(Collectors.toMap(VulnerabilityPolicy::getName, Function.identity()));
+        final Map<String, VulnerabilityPolicy> policiesByName = applicablePolicies.policiesByName();
 
         // Iterate over all policies IN THE ORDER THEY WERE GIVEN TO US, evaluating their conditions
         // IN THE ORDER THEY WERE GIVEN TO US.
@@ -248,6 +259,70 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
         return matchedPolicies;
     }
 
+    private ApplicablePolicies getApplicablePolicies(final Project project) {
+        // Capture the generation before loading, such that invalidations
+        // happening while loading cause the entry to be reloaded next time.
+        final long generation = POLICIES_GENERATION.get();
+        final ApplicablePolicies cachedPolicies = applicablePoliciesCache.getIfPresent(project.getUuid());
+        if (cachedPolicies != null && cachedPolicies.generation() == generation) {
+            return cachedPolicies;
+        }
+
+        // Only lock the entry when it is missing or stale. Concurrent callers
+        // for the same project will thus not load the policies more than once.
+        return applicablePoliciesCache.asMap().compute(project.getUuid(), (projectUuid, cached) -> {
+            if (cached != null && cached.generation() == generation) {
+                return cached;
+            }
+
+            return loadApplicablePolicies(project, generation);
+        });
+    }
+
+    private ApplicablePolicies loadApplicablePolicies(final Project project, final long generation) {
+        final List<VulnerabilityPolicy> policies = policyProvider.getApplicablePolicies(project);
+        if (policies == null || policies.isEmpty()) {
+            return new ApplicablePolicies(Collections.emptyMap(), Collections.emptyMap(), new HashSetValuedHashMap<>(), generation);
+        }
+
+        // Compile condition scripts and group them by policy name.
+        // Using LinkedHashMap to preserve the order of the policies.
+        final var compiledScriptsByPolicyName = new LinkedHashMap<String, List<CelPolicyScript>>();
+        for (final VulnerabilityPolicy policy : policies) {
+            for (final String condition : policy.getConditions()) {
+                compiledScriptsByPolicyName.compute(policy.getName(), (policyName, compiledScripts) -> {
+                    final CelPolicyScript compiledScript = compileConditionScript(condition);
+                    if (compiledScript == null) {
+                        return compiledScripts;
+                    }
+                    if (compiledScripts == null) {
+                        final var scripts = new ArrayList<CelPolicyScript>();
+                        scripts.add(compiledScript);
+                        return scripts;
+                    } else {
+                        compiledScripts.add(compiledScript);
+                        return compiledScripts;
+                    }
+                });
+            }
+        }
+
+        // Determine requirements across all condition scripts.
+        final MultiValuedMap<Type, String> scriptRequirements = compiledScriptsByPolicyName.values().stream()
+                .flatMap(Collection::stream)
+                .map(CelPolicyScript::getRequirements)
+                .reduce(new HashSetValuedHashMap<>(), (lhs, rhs) -> {
+                    lhs.putAll(rhs);
+                    return lhs;
+                });
+
+        // Index policies by their (unique) name to make lookups easier.
+        final Map<String, VulnerabilityPolicy> policiesByName = policies.stream()
+                .collect(Collectors.toMap(VulnerabilityPolicy::getName, Function.identity()));
+
+        return new ApplicablePolicies(policiesByName, compiledScriptsByPolicyName, scriptRequirements, generation);
+    }
+
     private Project ensureRequirementsLoaded(final Project project, final MultiValuedMap<Type, String> requirements) {
         return cacheManager.get(Project.class, buildCacheKey(project, requirements), cacheKey ->
                 withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(project, requirements))
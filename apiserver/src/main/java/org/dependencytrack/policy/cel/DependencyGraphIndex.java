@@ -0,0 +1,427 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.cel;
+
+import org.dependencytrack.proto.policy.v1.Component;
+import org.jdbi.v3.core.Handle;
+
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_QUERY_NAME;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * An in-memory index of the dependency graph of a single project.
+ * <p>
+ * Edges are held in compressed sparse row form, for both directions, such that
+ * reachability queries of CEL functions like {@code is_dependency_of} and
+ * {@code is_exclusive_dependency_of} can be answered without database roundtrips.
+ * Results are memoized per root component filter for the lifetime of the index.
+ * <p>
+ * Indexes are made available to {@link CelCommonPolicyLibrary} via {@link #enterScope(long)},
+ * and are loaded lazily upon first access. Evaluations that do not use any dependency graph
+ * functions thus do not pay for loading the graph.
+ *
+ * @since 5.6.0
+ */
+final class DependencyGraphIndex {
+
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    record Node(long id, UUID uuid, @Nullable String group, @Nullable String name,
+                @Nullable String version, @Nullable String classifier, @Nullable String cpe,
+                @Nullable String purl, @Nullable String swidTagId, @Nullable Boolean internal,
+                boolean isDirectDependency) {
+    }
+
+    record Edge(long parentId, long childId) {
+    }
+
+    private record RootMatch(BitSet matches, BitSet dependencies, Map<Integer, Boolean> exclusiveByLeafIndex) {
+    }
+
+    private final Node[] nodes;
+    private final long[] nodeIds;
+    private final Map<UUID, Integer> nodeIndexByUuid;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final int[] parentOffsets;
+    private final int[] parents;
+    private final Map<Component, RootMatch> rootMatches = new ConcurrentHashMap<>();
+
+    DependencyGraphIndex(final List<Node> nodes, final List<Edge> edges) {
+        this.nodes = nodes.stream()
+                .sorted(Comparator.comparingLong(Node::id))
+                .toArray(Node[]::new);
+        this.nodeIds = new long[this.nodes.length];
+        this.nodeIndexByUuid = new HashMap<>(this.nodes.length);
+        for (int i = 0; i < this.nodes.length; i++) {
+            nodeIds[i] = this.nodes[i].id();
+            nodeIndexByUuid.put(this.nodes[i].uuid(), i);
+        }
+
+        final var edgeParents = new int[edges.size()];
+        final var edgeChildren = new int[edges.size()];
+        int edgeCount = 0;
+        for (final Edge edge : edges) {
+            final int parentIndex = Arrays.binarySearch(nodeIds, edge.parentId());
+            final int childIndex = Arrays.binarySearch(nodeIds, edge.childId());
+            if (parentIndex < 0 || childIndex < 0) {
+                continue;
+            }
+
+            edgeParents[edgeCount] = parentIndex;
+            edgeChildren[edgeCount] = childIndex;
+            edgeCount++;
+        }
+
+        this.childOffsets = new int[this.nodes.length + 1];
+        this.children = new int[edgeCount];
+        populateAdjacency(edgeParents, edgeChildren, edgeCount, childOffsets, children);
+
+        this.parentOffsets = new int[this.nodes.length + 1];
+        this.parents = new int[edgeCount];
+        populateAdjacency(edgeChildren, edgeParents, edgeCount, parentOffsets, parents);
+    }
+
+    /**
+     * Make an index for the project with the given ID available to the current thread,
+     * until the returned {@link Scope} is closed.
+     *
+     * @param projectId ID of the project to index
+     * @return The {@link Scope}
+     */
+    static Scope enterScope(final long projectId) {
+        final var scope = new Scope(new LazyIndex(projectId), CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * Make the index of the given {@link Scope} available to the current thread,
+     * until the returned {@link Scope} is closed.
+     * <p>
+     * Used to share an index with worker threads that evaluate on behalf of the thread
+     * that entered {@code scope}. The index is loaded at most once for all threads sharing it.
+     *
+     * @param scope The {@link Scope} to share the index of
+     * @return The {@link Scope}
+     */
+    static Scope enterScope(final Scope scope) {
+        final var sharedScope = new Scope(scope.lazyIndex, CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(sharedScope);
+        return sharedScope;
+    }
+
+    /**
+     * @return The index of the current {@link Scope}, or {@code null} when no index is in scope
+     */
+    @Nullable
+    static DependencyGraphIndex current() {
+        final Scope scope = CURRENT_SCOPE.get();
+        return scope != null ? scope.lazyIndex.get() : null;
+    }
+
+    static DependencyGraphIndex load(final Handle jdbiHandle, final long projectId) {
+        final List<Node> nodes = jdbiHandle.createQuery("""
+                        SELECT "C"."ID"
+                             , "C"."UUID"
+                             , "C"."GROUP"
+                             , "C"."NAME"
+                             , "C"."VERSION"
+                             , "C"."CLASSIFIER"
+                             , "C"."CPE"
+                             , "C"."PURL"
+                             , "C"."SWIDTAGID"
+                             , "C"."INTERNAL"
+                             , COALESCE("P"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "C"."UUID")), FALSE)
+                               AS "IS_DIRECT_DEPENDENCY"
+                          FROM "COMPONENT" AS "C"
+                         INNER JOIN "PROJECT" AS "P"
+                            ON "P"."ID" = "C"."PROJECT_ID"
+                         WHERE "C"."PROJECT_ID" = :projectId
+                        """)
+                .define(ATTRIBUTE_QUERY_NAME, "%s#loadNodes".formatted(DependencyGraphIndex.class.getSimpleName()))
+                .bind("projectId", projectId)
+                .map((rs, ctx) -> {
+                    final boolean internal = rs.getBoolean("INTERNAL");
+                    return new Node(
+                            rs.getLong("ID"),
+                            rs.getObject("UUID", UUID.class),
+                            rs.getString("GROUP"),
+                            rs.getString("NAME"),
+                            rs.getString("VERSION"),
+                            rs.getString("CLASSIFIER"),
+                            rs.getString("CPE"),
+                            rs.getString("PURL"),
+                            rs.getString("SWIDTAGID"),
+                            rs.wasNull() ? null : internal,
+                            rs.getBoolean("IS_DIRECT_DEPENDENCY"));
+                })
+                .list();
+
+        final List<Edge> edges = jdbiHandle.createQuery("""
+                        SELECT "PARENT"."ID" AS "PARENT_ID"
+                             , "CHILD"."ID" AS "CHILD_ID"
+                          FROM "COMPONENT" AS "PARENT"
+                         CROSS JOIN LATERAL JSONB_ARRAY_ELEMENTS("PARENT"."DIRECT_DEPENDENCIES") AS "DEPENDENCY"
+                         INNER JOIN "COMPONENT" AS "CHILD"
+                            ON "CHILD"."PROJECT_ID" = "PARENT"."PROJECT_ID"
+                           AND "CHILD"."UUID" = ("DEPENDENCY"->>'uuid')::UUID
+                         WHERE "PARENT"."PROJECT_ID" = :projectId
+                           AND JSONB_TYPEOF("PARENT"."DIRECT_DEPENDENCIES") = 'array'
+                        """)
+                .define(ATTRIBUTE_QUERY_NAME, "%s#loadEdges".formatted(DependencyGraphIndex.class.getSimpleName()))
+                .bind("projectId", projectId)
+                .map((rs, ctx) -> new Edge(rs.getLong("PARENT_ID"), rs.getLong("CHILD_ID")))
+                .list();
+
+        return new DependencyGraphIndex(nodes, edges);
+    }
+
+    /**
+     * @param uuid UUID of the component to look up
+     * @return Position of the component in this index, or {@code -1} when it is not part of it
+     */
+    int indexOf(final UUID uuid) {
+        final Integer index = nodeIndexByUuid.get(uuid);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @param index Position of the component in this index
+     * @return {@code true} when the component is a direct dependency of the project, otherwise {@code false}
+     */
+    boolean isDirectDependency(final int index) {
+        return nodes[index].isDirectDependency();
+    }
+
+    /**
+     * Determine whether the component at {@code leafIndex} is a direct or transitive
+     * dependency of any component matching {@code rootFilter}.
+     *
+     * @param leafIndex     Position of the leaf component in this index
+     * @param rootComponent The root component, used as memoization key for {@code rootFilter}
+     * @param rootFilter    Filter matching root components
+     * @return {@code true} when the leaf is a dependency of a matching component, otherwise {@code false}
+     */
+    boolean isDependencyOf(final int leafIndex, final Component rootComponent, final Predicate<Node> rootFilter) {
+        return rootMatch(rootComponent, rootFilter).dependencies().get(leafIndex);
+    }
+
+    /**
+     * Determine whether the component at {@code leafIndex} is exclusively introduced
+     * through components matching {@code rootFilter}, i.e. every path from the top
+     * of the dependency graph to the leaf passes through a matching component.
+     *
+     * @param leafIndex     Position of the leaf component in this index
+     * @param rootComponent The root component, used as memoization key for {@code rootFilter}
+     * @param rootFilter    Filter matching root components
+     * @return {@code true} when the leaf is an exclusive dependency of matching components, otherwise {@code false}
+     */
+    boolean isExclusiveDependencyOf(final int leafIndex, final Component rootComponent, final Predicate<Node> rootFilter) {
+        if (nodes[leafIndex].isDirectDependency()) {
+            // If the component is a direct dependency of the project,
+            // it can no longer be a dependency exclusively introduced
+            // through another component.
+            return false;
+        }
+
+        final RootMatch rootMatch = rootMatch(rootComponent, rootFilter);
+        if (!rootMatch.dependencies().get(leafIndex)) {
+            return false;
+        }
+
+        return rootMatch.exclusiveByLeafIndex().computeIfAbsent(leafIndex,
+                ignored -> isCoveredBy(leafIndex, rootMatch.matches()));
+    }
+
+    private RootMatch rootMatch(final Component rootComponent, final Predicate<Node> rootFilter) {
+        return rootMatches.computeIfAbsent(rootComponent, ignored -> {
+            final var matches = new BitSet(nodes.length);
+            for (int i = 0; i < nodes.length; i++) {
+                // Because we're looking for parent nodes, they MUST have direct dependencies.
+                if (childOffsets[i + 1] > childOffsets[i] && rootFilter.test(nodes[i])) {
+                    matches.set(i);
+                }
+            }
+
+            final var dependencies = new BitSet(nodes.length);
+            final var stack = new IntStack(nodes.length);
+            matches.stream().forEach(stack::push);
+            while (!stack.isEmpty()) {
+                final int current = stack.pop();
+                for (int i = childOffsets[current]; i < childOffsets[current + 1]; i++) {
+                    if (!dependencies.get(children[i])) {
+                        dependencies.set(children[i]);
+                        stack.push(children[i]);
+                    }
+                }
+            }
+
+            return new RootMatch(matches, dependencies, new ConcurrentHashMap<>());
+        });
+    }
+
+    /**
+     * Determine whether all ancestors of a leaf are covered by matching nodes.
+     * <p>
+     * Collects all ancestors of the leaf that are reachable without passing through a
+     * matching node. The leaf is exclusively introduced through matching nodes if every
+     * one of those ancestors in turn has a matching ancestor. An ancestor without one
+     * is, or leads to, a path to the top of the graph that bypasses all matching nodes.
+     */
+    private boolean isCoveredBy(final int leafIndex, final BitSet matches) {
+        final var unmatchedAncestors = new BitSet(nodes.length);
+        final var stack = new IntStack(16);
+        stack.push(leafIndex);
+        while (!stack.isEmpty()) {
+            final int current = stack.pop();
+            for (int i = parentOffsets[current]; i < parentOffsets[current + 1]; i++) {
+                final int parent = parents[i];
+                if (!matches.get(parent) && !unmatchedAncestors.get(parent)) {
+                    unmatchedAncestors.set(parent);
+                    stack.push(parent);
+                }
+            }
+        }
+
+        final var coveredAncestors = new BitSet(nodes.length);
+        unmatchedAncestors.stream()
+                .filter(ancestor -> hasMatchingParent(ancestor, matches))
+                .forEach(ancestor -> {
+                    coveredAncestors.set(ancestor);
+                    stack.push(ancestor);
+                });
+        while (!stack.isEmpty()) {
+            final int current = stack.pop();
+            for (int i = childOffsets[current]; i < childOffsets[current + 1]; i++) {
+                final int child = children[i];
+                if (unmatchedAncestors.get(child) && !coveredAncestors.get(child)) {
+                    coveredAncestors.set(child);
+                    stack.push(child);
+                }
+            }
+        }
+
+        return coveredAncestors.cardinality() == unmatchedAncestors.cardinality();
+    }
+
+    private boolean hasMatchingParent(final int nodeIndex, final BitSet matches) {
+        for (int i = parentOffsets[nodeIndex]; i < parentOffsets[nodeIndex + 1]; i++) {
+            if (matches.get(parents[i])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void populateAdjacency(final int[] from, final int[] to, final int edgeCount,
+                                          final int[] offsets, final int[] targets) {
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[from[i] + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+
+        final int[] cursors = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int i = 0; i < edgeCount; i++) {
+            targets[cursors[from[i]]++] = to[i];
+        }
+    }
+
+    static final class Scope implements AutoCloseable {
+
+        private final LazyIndex lazyIndex;
+        private final Scope previous;
+
+        private Scope(final LazyIndex lazyIndex, final Scope previous) {
+            this.lazyIndex = lazyIndex;
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT_SCOPE.set(previous);
+            } else {
+                CURRENT_SCOPE.remove();
+            }
+        }
+
+    }
+
+    private static final class LazyIndex {
+
+        private final long projectId;
+        private DependencyGraphIndex index;
+
+        private LazyIndex(final long projectId) {
+            this.projectId = projectId;
+        }
+
+        private synchronized DependencyGraphIndex get() {
+            if (index == null) {
+                index = withJdbiHandle(handle -> load(handle, projectId));
+            }
+
+            return index;
+        }
+
+    }
+
+    private static final class IntStack {
+
+        private int[] elements;
+        private int size;
+
+        private IntStack(final int initialCapacity) {
+            this.elements = new int[Math.max(initialCapacity, 1)];
+        }
+
+        private void push(final int element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+
+            elements[size++] = element;
+        }
+
+        private int pop() {
+            return elements[--size];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+    }
+
+}
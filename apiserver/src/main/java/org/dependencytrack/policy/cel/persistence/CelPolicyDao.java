@@ -167,6 +167,63 @@ public interface CelPolicyDao {
     @RegisterRowMapper(CelPolicyVulnerabilityRowMapper.class)
     Vulnerability getVulnerability(@Define List<String> fetchColumns, UUID uuid);
 
+    /**
+     * Determine the projects whose violations may be affected by a change of a given policy.
+     * <p>
+     * This is a superset of the projects the policy is applicable to: Active projects that are
+     * in scope of the policy, either globally, via project assignment (optionally including children),
+     * or via tags, plus all projects that currently have violations of the policy, such that violations
+     * of projects that are no longer in scope are removed.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH "CTE_POLICY" AS (
+              SELECT "ID"
+                   , COALESCE("INCLUDE_CHILDREN", FALSE) AS "INCLUDE_CHILDREN"
+                   , NOT EXISTS(SELECT 1 FROM "POLICY_PROJECTS" WHERE "POLICY_ID" = "POLICY"."ID")
+                       AND NOT EXISTS(SELECT 1 FROM "POLICY_TAGS" WHERE "POLICY_ID" = "POLICY"."ID") AS "IS_GLOBAL"
+                FROM "POLICY"
+               WHERE "UUID" = :policyUuid
+            )
+            SELECT "P"."UUID"
+              FROM "PROJECT" AS "P"
+             CROSS JOIN "CTE_POLICY"
+             WHERE "P"."INACTIVE_SINCE" IS NULL
+               AND ("CTE_POLICY"."IS_GLOBAL"
+                    OR EXISTS(
+                      SELECT 1
+                        FROM "POLICY_PROJECTS" AS "PP"
+                       WHERE "PP"."POLICY_ID" = "CTE_POLICY"."ID"
+                         AND "PP"."PROJECT_ID" = "P"."ID")
+                    OR ("CTE_POLICY"."INCLUDE_CHILDREN" AND EXISTS(
+                      SELECT 1
+                        FROM "POLICY_PROJECTS" AS "PP"
+                       INNER JOIN "PROJECT_HIERARCHY" AS "PH"
+                          ON "PH"."PARENT_PROJECT_ID" = "PP"."PROJECT_ID"
+                       WHERE "PP"."POLICY_ID" = "CTE_POLICY"."ID"
+                         AND "PH"."CHILD_PROJECT_ID" = "P"."ID"))
+                    OR EXISTS(
+                      SELECT 1
+                        FROM "POLICY_TAGS" AS "PT"
+                       INNER JOIN "PROJECTS_TAGS" AS "PJT"
+                          ON "PJT"."TAG_ID" = "PT"."TAG_ID"
+                       WHERE "PT"."POLICY_ID" = "CTE_POLICY"."ID"
+                         AND "PJT"."PROJECT_ID" = "P"."ID"))
+             UNION
+            SELECT "P"."UUID"
+              FROM "PROJECT" AS "P"
+             CROSS JOIN "CTE_POLICY"
+             WHERE EXISTS(
+               SELECT 1
+                 FROM "POLICYVIOLATION" AS "PV"
+                INNER JOIN "POLICYCONDITION" AS "PC"
+                   ON "PC"."ID" = "PV"."POLICYCONDITION_ID"
+                WHERE "PC"."POLICY_ID" = "CTE_POLICY"."ID"
+                  AND "PV"."PROJECT_ID" = "P"."ID")
+            """)
+    List<UUID> getProjectUuidsAffectedByPolicy(UUID policyUuid);
+
     default Project loadRequiredFields(final Project project, final MultiValuedMap<Type, String> requirements) {
         final Collection<String> projectRequirements = requirements.get(TYPE_PROJECT);
         if (projectRequirements == null || projectRequirements.isEmpty()) {
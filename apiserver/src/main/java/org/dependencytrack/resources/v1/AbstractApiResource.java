@@ -19,19 +19,28 @@
 package org.dependencytrack.resources.v1;
 
 import alpine.common.logging.Logger;
+import alpine.persistence.Pagination;
 import alpine.server.resources.AlpineResource;
 import org.dependencytrack.common.MdcScope;
 import org.dependencytrack.exception.ProjectAccessDeniedException;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.parser.cyclonedx.CycloneDXExporter;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.ComponentDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.dependencytrack.persistence.pagination.PageTokenEncoder;
 import org.jdbi.v3.core.Handle;
 import org.owasp.security.logging.SecurityMarkers;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNullElse;
 import static org.dependencytrack.common.MdcKeys.MDC_COMPONENT_UUID;
@@ -44,8 +53,33 @@ import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_VERSION;
  */
 abstract class AbstractApiResource extends AlpineResource {
 
+    static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
     private final Logger logger = Logger.getLogger(this.getClass());
 
+    @Context
+    private HttpServletResponse response;
+
+    /**
+     * Creates a token for the page following a given page of items.
+     * <p>
+     * No token is created when the current request is not paginated, or when the given
+     * items do not fill the requested page, as there is no next page in either case.
+     *
+     * @param items             Items of the current page
+     * @param pageTokenFunction {@link Function} to create the page token from the last item of the page
+     * @param <T>               Type of the items
+     * @return The encoded page token, or {@code null} when there is no next page
+     */
+    <T> String createNextPageToken(final List<T> items, final Function<T, ?> pageTokenFunction) {
+        final Pagination pagination = getAlpineRequest().getPagination();
+        if (items.isEmpty() || pagination == null || !pagination.isPaginated() || items.size() < pagination.getLimit()) {
+            return null;
+        }
+
+        return PageTokenEncoder.encode(pageTokenFunction.apply(items.getLast()));
+    }
+
     /**
      * @see #requireAccess(QueryManager, Project, String)
      */
@@ -124,4 +158,60 @@ abstract class AbstractApiResource extends AlpineResource {
             throw new ProjectAccessDeniedException("Access to the requested project is forbidden");
         }
     }
+
+    /**
+     * Creates a {@link StreamingOutput} that exports a given {@link Project} as CycloneDX BOM.
+     * <p>
+     * The export is prepared before this method returns, so failures to do so still result in
+     * a regular error response. Components, services, dependencies, and vulnerabilities are loaded
+     * and written while the response is being written, using a separate {@link QueryManager}.
+     * <p>
+     * Failures that occur after the response has been committed can no longer change its status.
+     * The connection is aborted instead, so clients do not mistake the truncated BOM for a complete one.
+     * <p>
+     * Access to the project must have been verified beforehand.
+     *
+     * @param qm      The {@link QueryManager} to prepare the export with.
+     * @param project The {@link Project} to export.
+     * @param variant The {@link CycloneDXExporter.Variant} to export.
+     * @param format  The {@link CycloneDXExporter.Format} to export in.
+     * @return The {@link StreamingOutput}
+     */
+    StreamingOutput streamCycloneDxExport(
+            final QueryManager qm,
+            final Project project,
+            final CycloneDXExporter.Variant variant,
+            final CycloneDXExporter.Format format) {
+        final CycloneDXExporter.PreparedExport preparedExport = new CycloneDXExporter(variant, qm).prepare(project);
+        final UUID projectUuid = project.getUuid();
+
+        return outputStream -> {
+            try (final var exportQm = new QueryManager()) {
+                new CycloneDXExporter(variant, exportQm).export(preparedExport, format, outputStream);
+            } catch (IOException | RuntimeException e) {
+                if (!response.isCommitted()) {
+                    throw e;
+                }
+
+                logger.error("Failed to export project %s after the response was committed; Aborting the connection"
+                        .formatted(projectUuid), e);
+                abortResponse(e);
+            }
+        };
+    }
+
+    /**
+     * Aborts the connection of a committed response, rather than completing it.
+     * <p>
+     * Jetty interprets status {@code -1} as request to abort. Other containers reject
+     * the call because the response is already committed, in which case nothing else can be done.
+     */
+    private void abortResponse(final Exception cause) {
+        try {
+            response.sendError(-1, cause.getMessage());
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Failed to abort the connection", e);
+        }
+    }
+
 }
@@ -38,6 +38,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.Component;
@@ -47,6 +48,7 @@ import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.AnalysisDao;
 import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.dependencytrack.persistence.jdbi.NotificationSubjectDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao;
@@ -232,6 +234,9 @@ public class AnalysisResource extends AbstractApiResource {
                 }
             }
             dao.makeAnalysisComment(analysis.getId(), StringUtils.trimToNull(request.getComment()), commenter);
+            if ((analysisStateChange || suppressionChange) && Metrics.isIncrementalUpdateEnabled()) {
+                handle.attach(MetricsDao.class).recordComponentMetricsChanges(List.of(componentId));
+            }
             if (analysisStateChange || suppressionChange) {
                 var notificationTitle = generateTitle(analysis.getAnalysisState(), analysis.isSuppressed(), analysisStateChange, suppressionChange);
                 handle.attach(NotificationSubjectDao.class).getForProjectAuditChange(componentUuid, vulnUuid, analysis.getAnalysisState(), analysis.isSuppressed())
@@ -51,6 +51,7 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BOMInputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -85,6 +86,7 @@ import org.glassfish.jersey.media.multipart.FormDataParam;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
@@ -153,40 +155,35 @@ public class BomResource extends AbstractApiResource {
             }
             requireAccess(qm, project);
 
-            final CycloneDXExporter exporter;
+            final CycloneDXExporter.Variant exportVariant;
             if (StringUtils.trimToNull(variant) == null || variant.equalsIgnoreCase("inventory")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.INVENTORY, qm);
+                exportVariant = CycloneDXExporter.Variant.INVENTORY;
             } else if (variant.equalsIgnoreCase("withVulnerabilities")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES, qm);
+                exportVariant = CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES;
             } else if (variant.equalsIgnoreCase("vdr")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.VDR, qm);
+                exportVariant = CycloneDXExporter.Variant.VDR;
             } else {
                 return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM variant specified.").build();
             }
 
-            try {
-                if (StringUtils.trimToNull(format) == null || format.equalsIgnoreCase("JSON")) {
-                    if (download) {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON), MediaType.APPLICATION_OCTET_STREAM)
-                                .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.json\"").build();
-                    } else {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON),
-                                CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON).build();
-                    }
-                } else if (format.equalsIgnoreCase("XML")) {
-                    if (download) {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.XML), MediaType.APPLICATION_OCTET_STREAM)
-                                .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.xml\"").build();
-                    } else {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.XML),
-                                CycloneDxMediaType.APPLICATION_CYCLONEDX_XML).build();
-                    }
+            if (StringUtils.trimToNull(format) == null || format.equalsIgnoreCase("JSON")) {
+                final StreamingOutput output = streamCycloneDxExport(qm, project, exportVariant, CycloneDXExporter.Format.JSON);
+                if (download) {
+                    return Response.ok(output, MediaType.APPLICATION_OCTET_STREAM)
+                            .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.json\"").build();
                 } else {
-                    return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM format specified.").build();
+                    return Response.ok(output, CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON).build();
                 }
-            } catch (GeneratorException e) {
-                LOGGER.error("An error occurred while building a CycloneDX document for export", e);
-                return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+            } else if (format.equalsIgnoreCase("XML")) {
+                final StreamingOutput output = streamCycloneDxExport(qm, project, exportVariant, CycloneDXExporter.Format.XML);
+                if (download) {
+                    return Response.ok(output, MediaType.APPLICATION_OCTET_STREAM)
+                            .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.xml\"").build();
+                } else {
+                    return Response.ok(output, CycloneDxMediaType.APPLICATION_CYCLONEDX_XML).build();
+                }
+            } else {
+                return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM format specified.").build();
             }
         }
     }
@@ -482,7 +479,7 @@ public class BomResource extends AbstractApiResource {
             try (final var encodedInputStream = new ByteArrayInputStream(encodedBomData.getBytes(StandardCharsets.UTF_8));
                  final var decodedInputStream = Base64.getDecoder().wrap(encodedInputStream);
                  final var byteOrderMarkInputStream = new BOMInputStream(decodedInputStream)) {
-                bomFileMetadata = validateAndStoreBom(IOUtils.toByteArray(byteOrderMarkInputStream), project);
+                bomFileMetadata = validateAndStoreBom(byteOrderMarkInputStream, project);
             } catch (IOException e) {
                 LOGGER.error("An unexpected error occurred while validating or storing a BOM uploaded to project: " + project.getUuid(), e);
                 return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
@@ -512,7 +509,7 @@ public class BomResource extends AbstractApiResource {
                 final FileMetadata bomFileMetadata;
                 try (final var inputStream = bodyPartEntity.getInputStream();
                      final var byteOrderMarkInputStream = new BOMInputStream(inputStream)) {
-                    bomFileMetadata = validateAndStoreBom(IOUtils.toByteArray(byteOrderMarkInputStream), project, artifactPart.getMediaType());
+                    bomFileMetadata = validateAndStoreBom(byteOrderMarkInputStream, project, artifactPart.getMediaType());
                 } catch (IOException e) {
                     LOGGER.error("An unexpected error occurred while validating or storing a BOM uploaded to project: " + project.getUuid(), e);
                     return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
@@ -535,21 +532,32 @@ public class BomResource extends AbstractApiResource {
         return Response.ok().build();
     }
 
-    private FileMetadata validateAndStoreBom(final byte[] bomBytes, final Project project) throws IOException {
-        return validateAndStoreBom(bomBytes, project, null);
+    private FileMetadata validateAndStoreBom(final InputStream bomInputStream, final Project project) throws IOException {
+        return validateAndStoreBom(bomInputStream, project, null);
     }
 
-    private FileMetadata validateAndStoreBom(final byte[] bomBytes, final Project project, MediaType mediaType) throws IOException {
-        validate(bomBytes, project, mediaType);
-
+    private FileMetadata validateAndStoreBom(final InputStream bomInputStream, final Project project, MediaType mediaType) throws IOException {
         // TODO: Provide mediaType to FileStorage#store. Should be any of:
         //   * application/vnd.cyclonedx+json
         //   * application/vnd.cyclonedx+xml
         //   * application/x.vnd.cyclonedx+protobuf
         //  Consider also attaching the detected version, i.e. application/vnd.cyclonedx+xml; version=1.6
         //  See https://cyclonedx.org/specification/overview/ -> Media Types.
+        final String fileName = "bom-upload/%s_%s".formatted(Instant.now().toEpochMilli(), project.getUuid());
+
+        if (!shouldValidate(project)) {
+            // Validation requires the entire BOM to be held in memory.
+            // When it's not needed, stream the BOM to storage directly.
+            try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+                return fileStorage.store(fileName, bomInputStream);
+            }
+        }
+
+        final byte[] bomBytes = IOUtils.toByteArray(bomInputStream);
+        validateUnconditionally(bomBytes, project, mediaType);
+
         try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
-            return fileStorage.store("bom-upload/%s_%s".formatted(Instant.now().toEpochMilli(), project.getUuid()), bomBytes);
+            return fileStorage.store(fileName, bomBytes);
         }
     }
 
@@ -562,6 +570,10 @@ public class BomResource extends AbstractApiResource {
             return;
         }
 
+        validateUnconditionally(bomBytes, project, mediaType);
+    }
+
+    private static void validateUnconditionally(final byte[] bomBytes, final Project project, MediaType mediaType) {
         try {
             CycloneDxValidator.getInstance().validate(bomBytes, mediaType);
         } catch (InvalidBomException e) {
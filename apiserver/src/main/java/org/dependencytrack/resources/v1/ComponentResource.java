@@ -72,6 +72,7 @@ import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.ComponentDao;
 import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityScanDao;
+import org.dependencytrack.persistence.pagination.PageTokenEncoder;
 import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
@@ -770,6 +771,10 @@ public class ComponentResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "The occurrences of a component",
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of occurrences. Omitted when <code>pageToken</code> is provided.", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_PAGE_TOKEN_HEADER, description = "Token to retrieve the next page of occurrences with, if any", schema = @Schema(type = "string"))
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ComponentOccurrence.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -784,16 +789,35 @@ public class ComponentResource extends AbstractApiResource {
     })
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     @ResourceAccessRequired
-    public Response getOccurrences(@PathParam("uuid") final UUID uuid) {
+    public Response getOccurrences(
+            @PathParam("uuid") final UUID uuid,
+            @Parameter(description = "Token of the page to return, as provided by the <code>X-Next-Page-Token</code> header of a previous response. "
+                    + "When provided, <code>pageNumber</code> and <code>offset</code> are ignored, and the total number of occurrences is not computed.")
+            @QueryParam("pageToken") final String pageToken) {
+        final OccurrencesPageToken decodedPageToken = pageToken != null
+                ? PageTokenEncoder.decode(pageToken, OccurrencesPageToken.class)
+                : null;
         final List<ComponentOccurrence> occurrences = withJdbiHandle(getAlpineRequest(), handle -> {
             requireComponentAccess(handle, uuid);
 
             final var dao = handle.attach(ComponentDao.class);
-            return dao.getOccurrences(uuid);
+            return decodedPageToken != null
+                    ? dao.getOccurrencesAfter(uuid, decodedPageToken.lastLocation(), decodedPageToken.lastId())
+                    : dao.getOccurrences(uuid);
         });
 
-        final long totalCount = occurrences.isEmpty() ? 0 : occurrences.getFirst().getTotalCount();
-        return Response.ok(occurrences).header(TOTAL_COUNT_HEADER, totalCount).build();
+        final Integer totalCount = decodedPageToken != null
+                ? null
+                : occurrences.isEmpty() ? 0 : occurrences.getFirst().getTotalCount();
+        final String nextPageToken = createNextPageToken(occurrences,
+                occurrence -> new OccurrencesPageToken(occurrence.getLocation(), occurrence.getId()));
+        return Response.ok(occurrences)
+                .header(TOTAL_COUNT_HEADER, totalCount)
+                .header(NEXT_PAGE_TOKEN_HEADER, nextPageToken)
+                .build();
+    }
+
+    private record OccurrencesPageToken(String lastLocation, UUID lastId) {
     }
 
 }
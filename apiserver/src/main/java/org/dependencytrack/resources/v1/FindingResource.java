@@ -62,6 +62,7 @@ import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.RepositoryQueryManager;
 import org.dependencytrack.persistence.jdbi.FindingDao;
 import org.dependencytrack.persistence.jdbi.RepositoryMetaDao;
+import org.dependencytrack.persistence.pagination.PageTokenEncoder;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.BomUploadResponse;
@@ -108,7 +109,10 @@ public class FindingResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all findings for a specific project, or a SARIF file",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of findings", schema = @Schema(format = "integer")),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of findings. Omitted when <code>pageToken</code> is provided.", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_PAGE_TOKEN_HEADER, description = "Token to retrieve the next page of findings with, if any", schema = @Schema(type = "string"))
+                    },
                     content = {
                             @Content(array = @ArraySchema(schema = @Schema(implementation = Finding.class)), mediaType = MediaType.APPLICATION_JSON),
                             @Content(schema = @Schema(type = "string"), mediaType = MEDIA_TYPE_SARIF_JSON)
@@ -131,14 +135,27 @@ public class FindingResource extends AbstractApiResource {
                                          @QueryParam("source") Vulnerability.Source source,
                                          @HeaderParam("accept") String acceptHeader,
                                          @Parameter(description = "Whether to include only projects with existing analysis.")
-                                         @QueryParam("hasAnalysis") final Boolean hasAnalysis) {
+                                         @QueryParam("hasAnalysis") final Boolean hasAnalysis,
+                                         @Parameter(description = "Token of the page to return, as provided by the <code>X-Next-Page-Token</code> header of a previous response. "
+                                                 + "When provided, <code>pageNumber</code> and <code>offset</code> are ignored, and the total number of findings is not computed.")
+                                         @QueryParam("pageToken") final String pageToken) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
             final Project project = qm.getObjectByUuid(Project.class, uuid);
             if (project != null) {
                 requireAccess(qm, project);
-                List<FindingDao.FindingRow> findingRows = withJdbiHandle(getAlpineRequest(), handle ->
-                        handle.attach(FindingDao.class).getFindingsByProject(project.getId(), suppressed, hasAnalysis));
-                final long totalCount = findingRows.isEmpty() ? 0 : findingRows.getFirst().totalCount();
+                final FindingsPageToken decodedPageToken = pageToken != null
+                        ? PageTokenEncoder.decode(pageToken, FindingsPageToken.class)
+                        : null;
+                List<FindingDao.FindingRow> findingRows = withJdbiHandle(getAlpineRequest(), handle -> {
+                    final var dao = handle.attach(FindingDao.class);
+                    return decodedPageToken != null
+                            ? dao.getFindingsByProjectAfter(project.getId(), suppressed, hasAnalysis, decodedPageToken.lastAttributionId())
+                            : dao.getFindingsByProject(project.getId(), suppressed, hasAnalysis);
+                });
+                final Long totalCount = decodedPageToken != null
+                        ? null
+                        : findingRows.isEmpty() ? 0 : findingRows.getFirst().totalCount();
+                final String nextPageToken = createNextPageToken(findingRows, row -> new FindingsPageToken(row.attributionId()));
                 List<Finding> findings = findingRows.stream().map(Finding::new).toList();
                 findings = mapComponentLatestVersion(findings);
                 if (acceptHeader != null && acceptHeader.contains(MEDIA_TYPE_SARIF_JSON)) {
@@ -154,13 +171,19 @@ public class FindingResource extends AbstractApiResource {
                 if (source != null) {
                     findings = findings.stream().filter(finding -> source.name().equals(finding.getVulnerability().get("source"))).collect(Collectors.toList());
                 }
-                return Response.ok(findings).header(TOTAL_COUNT_HEADER, totalCount).build();
+                return Response.ok(findings)
+                        .header(TOTAL_COUNT_HEADER, totalCount)
+                        .header(NEXT_PAGE_TOKEN_HEADER, nextPageToken)
+                        .build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
         }
     }
 
+    private record FindingsPageToken(long lastAttributionId) {
+    }
+
     @GET
     @Path("/project/{uuid}/export")
     @Produces(MediaType.APPLICATION_JSON)
@@ -44,6 +44,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.model.License;
+import org.dependencytrack.persistence.LicenseRegistry;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 
@@ -160,7 +161,7 @@ public class LicenseResource extends AlpineResource {
                 validator.validateProperty(jsonLicense, "licenseId")
         );
         try (QueryManager qm = new QueryManager()) {
-            return qm.callInTransaction(() -> {
+            final Response response = qm.callInTransaction(() -> {
                 License license = qm.getLicense(jsonLicense.getLicenseId());
                 if (license == null) {
                     license = qm.createCustomLicense(jsonLicense, true);
@@ -170,6 +171,13 @@ public class LicenseResource extends AlpineResource {
                     return Response.status(Response.Status.CONFLICT).entity("A license with the specified name already exists.").build();
                 }
             });
+
+            if (response.getStatus() == Response.Status.CREATED.getStatusCode()) {
+                // Only invalidate once the modification has been committed.
+                LicenseRegistry.getInstance().invalidate();
+            }
+
+            return response;
         }
     }
 
@@ -191,7 +199,7 @@ public class LicenseResource extends AlpineResource {
             @Parameter(description = "The SPDX License ID of the license to delete", required = true)
             @PathParam("licenseId") String licenseId) {
         try (QueryManager qm = new QueryManager()) {
-            return qm.callInTransaction(() -> {
+            final Response response = qm.callInTransaction(() -> {
                 final License license = qm.getLicense(licenseId);
                 if (license != null) {
                     if (Boolean.TRUE.equals(license.isCustomLicense())) {
@@ -205,6 +213,13 @@ public class LicenseResource extends AlpineResource {
                     return Response.status(Response.Status.NOT_FOUND).entity("The license could not be found.").build();
                 }
             });
+
+            if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
+                // Only invalidate once the modification has been committed.
+                LicenseRegistry.getInstance().invalidate();
+            }
+
+            return response;
         }
     }
 }
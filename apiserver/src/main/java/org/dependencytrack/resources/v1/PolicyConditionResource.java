@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.resources.v1;
 
+import alpine.event.framework.Event;
 import alpine.server.auth.PermissionRequired;
 import alpine.server.resources.AlpineResource;
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,6 +44,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.event.PortfolioPolicyEvaluationEvent;
 import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.PolicyCondition;
 import org.dependencytrack.model.validation.ValidUuid;
@@ -56,6 +58,7 @@ import org.projectnessie.cel.tools.ScriptCreateException;
 
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JAX-RS resources for processing policies.
@@ -112,6 +115,8 @@ public class PolicyConditionResource extends AlpineResource {
                             .build());
                 }
             });
+            // Re-evaluate the policy once the change is committed.
+            Event.dispatch(new PortfolioPolicyEvaluationEvent(pcUpdated.getPolicy().getUuid()));
             // Prevent infinite recursion during JSON serialization.
             qm.makeTransient(pcUpdated);
             pcUpdated.setPolicy(null);
@@ -155,6 +160,8 @@ public class PolicyConditionResource extends AlpineResource {
                             .build());
                 }
             });
+            // Re-evaluate the policy once the change is committed.
+            Event.dispatch(new PortfolioPolicyEvaluationEvent(pcUpdated.getPolicy().getUuid()));
             // Prevent infinite recursion during JSON serialization.
             qm.makeTransient(pcUpdated);
             pcUpdated.setPolicy(null);
@@ -180,15 +187,22 @@ public class PolicyConditionResource extends AlpineResource {
             @Parameter(description = "The UUID of the policy condition to delete", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager()) {
-            return qm.callInTransaction(() -> {
+            final UUID policyUuid = qm.callInTransaction(() -> {
                 final PolicyCondition pc = qm.getObjectByUuid(PolicyCondition.class, uuid);
                 if (pc != null) {
+                    final UUID pcPolicyUuid = pc.getPolicy().getUuid();
                     qm.deletePolicyCondition(pc);
-                    return Response.status(Response.Status.NO_CONTENT).build();
+                    return pcPolicyUuid;
                 } else {
-                    return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the policy condition could not be found.").build();
+                    throw new ClientErrorException(Response
+                            .status(Response.Status.NOT_FOUND)
+                            .entity("The UUID of the policy condition could not be found.")
+                            .build());
                 }
             });
+            // Re-evaluate the policy once the change is committed.
+            Event.dispatch(new PortfolioPolicyEvaluationEvent(policyUuid));
+            return Response.status(Response.Status.NO_CONTENT).build();
         }
     }
 
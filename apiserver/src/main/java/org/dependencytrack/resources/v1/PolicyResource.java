@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.resources.v1;
 
+import alpine.event.framework.Event;
 import alpine.persistence.PaginatedResult;
 import alpine.server.auth.PermissionRequired;
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,6 +44,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.event.PortfolioPolicyEvaluationEvent;
 import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.validation.ValidUuid;
@@ -51,6 +53,7 @@ import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * JAX-RS resources for processing policies.
@@ -189,7 +192,7 @@ public class PolicyResource extends AbstractApiResource {
                 validator.validateProperty(jsonPolicy, "name")
         );
         try (QueryManager qm = new QueryManager()) {
-            return qm.callInTransaction(() -> {
+            final Response response = qm.callInTransaction(() -> {
                 Policy policy = qm.getObjectByUuid(Policy.class, jsonPolicy.getUuid());
                 if (policy != null) {
                     policy.setName(StringUtils.trimToNull(jsonPolicy.getName()));
@@ -203,6 +206,8 @@ public class PolicyResource extends AbstractApiResource {
                     return Response.status(Response.Status.NOT_FOUND).entity("The policy could not be found.").build();
                 }
             });
+            dispatchPolicyEvaluationIfModified(response, jsonPolicy.getUuid());
+            return response;
         }
     }
 
@@ -265,7 +270,7 @@ public class PolicyResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to add to the rule", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("projectUuid") @ValidUuid String projectUuid) {
         try (QueryManager qm = new QueryManager()) {
-            return qm.callInTransaction(() -> {
+            final Response response = qm.callInTransaction(() -> {
                 final Policy policy = qm.getObjectByUuid(Policy.class, policyUuid);
                 if (policy == null) {
                     return Response.status(Response.Status.NOT_FOUND).entity("The policy could not be found.").build();
@@ -283,6 +288,8 @@ public class PolicyResource extends AbstractApiResource {
                 }
                 return Response.status(Response.Status.NOT_MODIFIED).build();
             });
+            dispatchPolicyEvaluationIfModified(response, UUID.fromString(policyUuid));
+            return response;
         }
     }
 
@@ -315,7 +322,7 @@ public class PolicyResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to remove from the policy", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("projectUuid") @ValidUuid String projectUuid) {
         try (QueryManager qm = new QueryManager()) {
-            return qm.callInTransaction(() -> {
+            final Response response = qm.callInTransaction(() -> {
                 final Policy policy = qm.getObjectByUuid(Policy.class, policyUuid);
                 if (policy == null) {
                     return Response.status(Response.Status.NOT_FOUND).entity("The policy could not be found.").build();
@@ -333,6 +340,20 @@ public class PolicyResource extends AbstractApiResource {
                 }
                 return Response.status(Response.Status.NOT_MODIFIED).build();
             });
+            dispatchPolicyEvaluationIfModified(response, UUID.fromString(policyUuid));
+            return response;
         }
     }
+
+    /**
+     * Re-evaluate a {@link Policy} for all projects it may affect, if it was modified successfully.
+     * <p>
+     * Must only be called after the modification was committed.
+     */
+    private static void dispatchPolicyEvaluationIfModified(final Response response, final UUID policyUuid) {
+        if (response.getStatus() == Response.Status.OK.getStatusCode()) {
+            Event.dispatch(new PortfolioPolicyEvaluationEvent(policyUuid));
+        }
+    }
+
 }
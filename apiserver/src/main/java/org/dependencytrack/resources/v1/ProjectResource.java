@@ -65,6 +65,7 @@ import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao.ConciseProjectListRow;
+import org.dependencytrack.persistence.pagination.PageTokenEncoder;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.BomUploadResponse;
@@ -119,7 +120,10 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all projects",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects"),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects. Omitted when <code>pageToken</code> is provided."),
+                            @Header(name = NEXT_PAGE_TOKEN_HEADER, schema = @Schema(type = "string"), description = "Token to retrieve the next page of projects with, if any")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = Project.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
@@ -133,7 +137,10 @@ public class ProjectResource extends AbstractApiResource {
                                 @Parameter(description = "Optionally excludes children projects from being returned")
                                 @QueryParam("onlyRoot") boolean onlyRoot,
                                 @Parameter(description = "The UUID of the team which projects shall be excluded", schema = @Schema(format = "uuid", type = "string"))
-                                @QueryParam("notAssignedToTeamWithUuid") @ValidUuid String notAssignedToTeamWithUuid) {
+                                @QueryParam("notAssignedToTeamWithUuid") @ValidUuid String notAssignedToTeamWithUuid,
+                                @Parameter(description = "Token of the page to return, as provided by the <code>X-Next-Page-Token</code> header of a previous response. "
+                                        + "When provided, <code>pageNumber</code>, <code>offset</code>, and <code>sortName</code> are ignored, and the total number of projects is not computed.")
+                                @QueryParam("pageToken") final String pageToken) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
             Team notAssignedToTeam;
             if (StringUtils.isNotEmpty(notAssignedToTeamWithUuid)) {
@@ -142,10 +149,24 @@ public class ProjectResource extends AbstractApiResource {
                     return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the team could not be found.").build();
                 }
             }
+            if (pageToken != null) {
+                final ProjectsPageToken decodedPageToken = PageTokenEncoder.decode(pageToken, ProjectsPageToken.class);
+                final List<Project> projects = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ProjectDao.class)
+                        .getProjectsAfter(name, null, null, null, notAssignedToTeamWithUuid, excludeInactive, onlyRoot, name == null,
+                                decodedPageToken.lastName(), decodedPageToken.lastVersion(), decodedPageToken.lastId()));
+                return Response.ok(projects)
+                        .header(NEXT_PAGE_TOKEN_HEADER, createNextProjectsPageToken(projects, Project::getName, Project::getVersion, Project::getId))
+                        .build();
+            }
+
             final PaginatedResult projectPages = withJdbiHandle(getAlpineRequest(), handle ->
                     (name != null) ? handle.attach(ProjectDao.class).getProjects(name, null, null, null, notAssignedToTeamWithUuid, excludeInactive, onlyRoot, false)
                     : handle.attach(ProjectDao.class).getProjects(null, null, null, null, notAssignedToTeamWithUuid, excludeInactive, onlyRoot, true));
-            return Response.ok(projectPages.getObjects()).header(TOTAL_COUNT_HEADER, projectPages.getTotal()).build();
+            final List<Project> projects = projectPages.getList(Project.class);
+            return Response.ok(projects)
+                    .header(TOTAL_COUNT_HEADER, projectPages.getTotal())
+                    .header(NEXT_PAGE_TOKEN_HEADER, createNextProjectsPageToken(projects, Project::getName, Project::getVersion, Project::getId))
+                    .build();
         }
     }
 
@@ -161,7 +182,10 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all projects in concise representation",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects"),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects. Omitted when <code>pageToken</code> is provided."),
+                            @Header(name = NEXT_PAGE_TOKEN_HEADER, schema = @Schema(type = "string"), description = "Token to retrieve the next page of projects with, if any")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConciseProject.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
@@ -182,14 +206,23 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "Whether to show only root projects, i.e. those without a parent.")
             @QueryParam("onlyRoot") final Boolean onlyRootFilter,
             @Parameter(description = "Whether to include metrics in the response.")
-            @QueryParam("includeMetrics") final boolean includeMetrics
+            @QueryParam("includeMetrics") final boolean includeMetrics,
+            @Parameter(description = "Token of the page to return, as provided by the <code>X-Next-Page-Token</code> header of a previous response. "
+                    + "When provided, <code>pageNumber</code>, <code>offset</code>, and <code>sortName</code> are ignored, and the total number of projects is not computed.")
+            @QueryParam("pageToken") final String pageToken
     ) {
-        final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ProjectDao.class)
-                .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, onlyRootFilter, /* parentUuidFilter */ null, includeMetrics));
+        final ProjectsPageToken decodedPageToken = pageToken != null
+                ? PageTokenEncoder.decode(pageToken, ProjectsPageToken.class)
+                : null;
+        final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> {
+            final var dao = handle.attach(ProjectDao.class);
+            return decodedPageToken != null
+                    ? dao.getPageConciseAfter(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, onlyRootFilter, /* parentUuidFilter */ null, includeMetrics,
+                            decodedPageToken.lastName(), decodedPageToken.lastVersion(), decodedPageToken.lastId())
+                    : dao.getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, onlyRootFilter, /* parentUuidFilter */ null, includeMetrics);
+        });
 
-        final long totalCount = projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
-        final List<ConciseProject> projects = projectRows.stream().map(ConciseProject::new).toList();
-        return Response.ok(projects).header(TOTAL_COUNT_HEADER, totalCount).build();
+        return createConciseProjectsResponse(projectRows, decodedPageToken != null);
     }
 
     @GET
@@ -204,7 +237,10 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all child projects in a concise representation",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of child projects", schema = @Schema(format = "integer")),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of child projects. Omitted when <code>pageToken</code> is provided.", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_PAGE_TOKEN_HEADER, description = "Token to retrieve the next page of child projects with, if any", schema = @Schema(type = "string"))
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConciseProject.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
@@ -225,14 +261,52 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "Whether to show only active, or only inactive projects. Omitting the filter will show both.")
             @QueryParam("active") final Boolean activeFilter,
             @Parameter(description = "Whether to include metrics in the response.")
-            @QueryParam("includeMetrics") final boolean includeMetrics
+            @QueryParam("includeMetrics") final boolean includeMetrics,
+            @Parameter(description = "Token of the page to return, as provided by the <code>X-Next-Page-Token</code> header of a previous response. "
+                    + "When provided, <code>pageNumber</code>, <code>offset</code>, and <code>sortName</code> are ignored, and the total number of projects is not computed.")
+            @QueryParam("pageToken") final String pageToken
     ) {
-        final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ProjectDao.class)
-                .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, /* onlyRootFilter */ null, UUID.fromString(parentUuid), includeMetrics));
+        final ProjectsPageToken decodedPageToken = pageToken != null
+                ? PageTokenEncoder.decode(pageToken, ProjectsPageToken.class)
+                : null;
+        final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> {
+            final var dao = handle.attach(ProjectDao.class);
+            return decodedPageToken != null
+                    ? dao.getPageConciseAfter(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, /* onlyRootFilter */ null, UUID.fromString(parentUuid), includeMetrics,
+                            decodedPageToken.lastName(), decodedPageToken.lastVersion(), decodedPageToken.lastId())
+                    : dao.getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, /* onlyRootFilter */ null, UUID.fromString(parentUuid), includeMetrics);
+        });
+
+        return createConciseProjectsResponse(projectRows, decodedPageToken != null);
+    }
 
-        final long totalCount = projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
+    private record ProjectsPageToken(String lastName, String lastVersion, long lastId) {
+    }
+
+    private Response createConciseProjectsResponse(final List<ConciseProjectListRow> projectRows, final boolean isKeysetPage) {
+        final Long totalCount = isKeysetPage
+                ? null
+                : projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
         final List<ConciseProject> projects = projectRows.stream().map(ConciseProject::new).toList();
-        return Response.ok(projects).header(TOTAL_COUNT_HEADER, totalCount).build();
+        return Response.ok(projects)
+                .header(TOTAL_COUNT_HEADER, totalCount)
+                .header(NEXT_PAGE_TOKEN_HEADER, createNextProjectsPageToken(projectRows,
+                        ConciseProjectListRow::name, ConciseProjectListRow::version, ConciseProjectListRow::id))
+                .build();
+    }
+
+    private <T> String createNextProjectsPageToken(final List<T> projects,
+                                                   final Function<T, String> nameFunction,
+                                                   final Function<T, String> versionFunction,
+                                                   final Function<T, Long> idFunction) {
+        // Pages are only continued in the default order of name, version, and ID.
+        // Requests that order differently must keep using offset-based pagination.
+        if (getAlpineRequest().getOrderBy() != null) {
+            return null;
+        }
+
+        return createNextPageToken(projects, project -> new ProjectsPageToken(
+                nameFunction.apply(project), versionFunction.apply(project), idFunction.apply(project)));
     }
 
     @GET
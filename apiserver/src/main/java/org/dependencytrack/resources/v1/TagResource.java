@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.resources.v1;
 
+import alpine.event.framework.Event;
 import alpine.persistence.PaginatedResult;
 import alpine.server.auth.PermissionRequired;
 import alpine.server.filters.ResourceAccessRequired;
@@ -44,6 +45,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.event.PortfolioPolicyEvaluationEvent;
 import org.dependencytrack.model.Tag;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
@@ -59,6 +61,7 @@ import org.dependencytrack.resources.v1.vo.TaggedVulnerabilityListResponseItem;
 
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 @Path("/v1/tag")
 @io.swagger.v3.oas.annotations.tags.Tag(name = "tag")
@@ -325,10 +328,12 @@ public class TagResource extends AlpineResource {
             )
             @Size(min = 1, max = 100) final Set<@ValidUuid String> policyUuids
     ) {
+        final List<UUID> modifiedPolicyUuids;
         try (final var qm = new QueryManager(getAlpineRequest())) {
-            qm.tagPolicies(tagName, policyUuids);
+            modifiedPolicyUuids = qm.tagPolicies(tagName, policyUuids);
         }
 
+        dispatchPolicyEvaluations(modifiedPolicyUuids);
         return Response.noContent().build();
     }
 
@@ -362,10 +367,12 @@ public class TagResource extends AlpineResource {
             )
             @Size(min = 1, max = 100) final Set<@ValidUuid String> policyUuids
     ) {
+        final List<UUID> modifiedPolicyUuids;
         try (final var qm = new QueryManager(getAlpineRequest())) {
-            qm.untagPolicies(tagName, policyUuids);
+            modifiedPolicyUuids = qm.untagPolicies(tagName, policyUuids);
         }
 
+        dispatchPolicyEvaluations(modifiedPolicyUuids);
         return Response.noContent().build();
     }
 
@@ -580,4 +587,17 @@ public class TagResource extends AlpineResource {
         }
         return Response.noContent().build();
     }
+
+    /**
+     * Re-evaluate the given {@link org.dependencytrack.model.Policy}s for all projects they may affect,
+     * since their tags determine which projects they apply to.
+     * <p>
+     * Must only be called after the modification was committed.
+     */
+    private static void dispatchPolicyEvaluations(final List<UUID> policyUuids) {
+        for (final UUID policyUuid : policyUuids) {
+            Event.dispatch(new PortfolioPolicyEvaluationEvent(policyUuid));
+        }
+    }
+
 }
@@ -403,7 +403,8 @@ public class UserResource extends AlpineResource {
                     final OidcUser user = qm.getOidcUser(getPrincipal().getName());
                     return Response.status(Response.Status.BAD_REQUEST).entity(user).build();
                 } else if (super.isManagedUser()) {
-                    final ManagedUser user = (ManagedUser) super.getPrincipal();
+                    // The principal may be shared with concurrent requests, and must not be modified.
+                    final ManagedUser user = qm.getManagedUser(getPrincipal().getName());
                     if (StringUtils.isBlank(jsonUser.getFullname())) {
                         return Response.status(Response.Status.BAD_REQUEST).entity("Full name is required.").build();
                     }
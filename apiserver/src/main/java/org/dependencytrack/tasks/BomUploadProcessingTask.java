@@ -26,12 +26,13 @@ import alpine.event.framework.EventService;
 import alpine.event.framework.Subscriber;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
-import com.google.protobuf.InvalidProtocolBufferException;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.cyclonedx.exception.ParseException;
-import org.cyclonedx.parsers.BomParserFactory;
+import org.cyclonedx.parsers.JsonParser;
 import org.cyclonedx.parsers.Parser;
+import org.cyclonedx.parsers.XmlParser;
 import org.datanucleus.flush.FlushMode;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.BomUploadEvent;
@@ -61,17 +62,24 @@ import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.vo.BomConsumedOrProcessed;
 import org.dependencytrack.notification.vo.BomProcessingFailed;
+import org.dependencytrack.persistence.LicenseRegistry;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.BomUploadProcessingDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityScanDao;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.plugin.PluginManager;
 import org.dependencytrack.util.InternalComponentIdentifier;
+import org.jdbi.v3.core.Handle;
 import org.json.JSONArray;
 import org.slf4j.MDC;
 
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -88,6 +96,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static javax.jdo.FetchPlan.FETCH_SIZE_GREEDY;
@@ -119,6 +128,7 @@ import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.conv
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertServices;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertToProject;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertToProjectMetadata;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.createLocalJdbi;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_INTEGRITY_DATA_AND_LATEST_VERSION;
@@ -156,17 +166,31 @@ public class BomUploadProcessingTask implements Subscriber {
     }
 
     private static final Logger LOGGER = Logger.getLogger(BomUploadProcessingTask.class);
+    private static final int BOM_STREAM_BUFFER_SIZE = 8192;
+    private static final int COMPONENT_FLUSH_CHUNK_SIZE = 1000;
 
     private final KafkaEventDispatcher kafkaEventDispatcher;
     private final boolean delayBomProcessedNotification;
+    private final boolean bulkProcessingEnabled;
 
     public BomUploadProcessingTask() {
-        this(new KafkaEventDispatcher(), Config.getInstance().getPropertyAsBoolean(ConfigKey.TMP_DELAY_BOM_PROCESSED_NOTIFICATION));
+        this(new KafkaEventDispatcher(),
+                Config.getInstance().getPropertyAsBoolean(ConfigKey.TMP_DELAY_BOM_PROCESSED_NOTIFICATION),
+                Config.getInstance().getPropertyAsBoolean(ConfigKey.BOM_UPLOAD_PROCESSING_BULK_ENABLED));
     }
 
     BomUploadProcessingTask(final KafkaEventDispatcher kafkaEventDispatcher, final boolean delayBomProcessedNotification) {
+        this(kafkaEventDispatcher, delayBomProcessedNotification,
+                Config.getInstance().getPropertyAsBoolean(ConfigKey.BOM_UPLOAD_PROCESSING_BULK_ENABLED));
+    }
+
+    BomUploadProcessingTask(
+            final KafkaEventDispatcher kafkaEventDispatcher,
+            final boolean delayBomProcessedNotification,
+            final boolean bulkProcessingEnabled) {
         this.kafkaEventDispatcher = kafkaEventDispatcher;
         this.delayBomProcessedNotification = delayBomProcessedNotification;
+        this.bulkProcessingEnabled = bulkProcessingEnabled;
     }
 
     /**
@@ -183,17 +207,20 @@ public class BomUploadProcessingTask implements Subscriber {
              var ignoredMdcProjectVersion = MDC.putCloseable(MDC_PROJECT_VERSION, ctx.project.getVersion());
              var ignoredMdcBomUploadToken = MDC.putCloseable(MDC_BOM_UPLOAD_TOKEN, ctx.token.toString());
              var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
-            final byte[] cdxBomBytes;
+            final InputStream bomInputStream;
             try {
-                cdxBomBytes = fileStorage.get(event.getFileMetadata());
+                bomInputStream = fileStorage.getAsStream(event.getFileMetadata());
             } catch (IOException ex) {
                 LOGGER.error("Failed to retrieve BOM file %s from storage".formatted(
                         event.getFileMetadata().getLocation()), ex);
                 return;
             }
 
-            try {
-                processEvent(ctx, cdxBomBytes);
+            try (bomInputStream) {
+                processEvent(ctx, bomInputStream);
+            } catch (IOException ex) {
+                LOGGER.warn("Failed to close BOM file %s".formatted(
+                        event.getFileMetadata().getLocation()), ex);
             } finally {
                 // There are currently no retries, so the BOM file needs to be removed
                 // from storage no matter if processing failed or succeeded.
@@ -208,16 +235,20 @@ public class BomUploadProcessingTask implements Subscriber {
         }
     }
 
-    private void processEvent(final Context ctx, final byte[] cdxBomBytes) {
+    private void processEvent(final Context ctx, final InputStream bomInputStream) {
         useJdbiTransaction(handle -> {
             final var workflowDao = handle.attach(WorkflowDao.class);
             workflowDao.startState(WorkflowStep.BOM_CONSUMPTION, ctx.token);
         });
         final ConsumedBom consumedBom;
         try {
-            // Validate if bom is in protobuf format
-            final var protoBom = parseBomProtobuf(cdxBomBytes);
-            if (protoBom != null) {
+            // The BOM is parsed directly from storage, without ever holding
+            // its raw content in memory. The format must thus be determined
+            // upfront, by peeking at the first significant byte.
+            final var bufferedInputStream = new BufferedInputStream(bomInputStream, BOM_STREAM_BUFFER_SIZE);
+            final Parser parser = detectTextualBomParser(bufferedInputStream);
+            if (parser == null) {
+                final var protoBom = org.cyclonedx.proto.v1_6.Bom.parseFrom(bufferedInputStream);
                 ctx.bomSpecVersion = protoBom.getSpecVersion();
                 if (protoBom.hasSerialNumber()) {
                     ctx.bomSerialNumber = protoBom.getSerialNumber().replaceFirst("urn:uuid:", "");
@@ -228,8 +259,8 @@ public class BomUploadProcessingTask implements Subscriber {
                 ctx.bomVersion = protoBom.getVersion();
                 consumedBom = consumeBom(protoBom);
             } else {
-                final Parser parser = BomParserFactory.createParser(cdxBomBytes);
-                final var cdxBom = parser.parse(cdxBomBytes);
+                // Parsers may close the stream before it was fully consumed.
+                final var cdxBom = parser.parse(CloseShieldInputStream.wrap(bufferedInputStream));
                 ctx.bomSpecVersion = cdxBom.getSpecVersion();
                 if (cdxBom.getSerialNumber() != null) {
                     ctx.bomSerialNumber = cdxBom.getSerialNumber().replaceFirst("urn:uuid:", "");
@@ -240,7 +271,11 @@ public class BomUploadProcessingTask implements Subscriber {
                 ctx.bomVersion = cdxBom.getVersion();
                 consumedBom = consumeBom(cdxBom);
             }
-        } catch (ParseException | RuntimeException e) {
+
+            // Ensure the stream is read to completion, such that integrity
+            // verification performed by the file storage can kick in.
+            bufferedInputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException | ParseException | RuntimeException e) {
             LOGGER.error("Failed to consume BOM", e);
             failWorkflowStepAndCancelDescendants(ctx, WorkflowStep.BOM_CONSUMPTION, e);
             dispatchBomProcessingFailedNotification(ctx, e);
@@ -290,14 +325,72 @@ public class BomUploadProcessingTask implements Subscriber {
         CompletableFuture.allOf(dispatchedEvents.toArray(new CompletableFuture[0])).join();
     }
 
-    private org.cyclonedx.proto.v1_6.Bom parseBomProtobuf(byte[] cdxBomBytes) {
+    /**
+     * Determine the {@link Parser} for JSON or XML BOMs, without consuming {@code inputStream}.
+     * <p>
+     * Protobuf BOMs are ruled out first: Their first byte is commonly {@code 0x0A}, the tag of
+     * the {@code spec_version} field, which would otherwise be mistaken for leading whitespace.
+     *
+     * @param inputStream The {@link BufferedInputStream} to peek into.
+     * @return The {@link Parser} to use, or {@code null} if the BOM is neither JSON nor XML,
+     * in which case it is assumed to be in protobuf format.
+     * @throws IOException When reading from {@code inputStream} failed.
+     */
+    private static Parser detectTextualBomParser(final BufferedInputStream inputStream) throws IOException {
+        inputStream.mark(BOM_STREAM_BUFFER_SIZE);
+        try {
+            if (startsWithProtobufSpecVersion(inputStream)) {
+                return null;
+            }
+        } finally {
+            inputStream.reset();
+        }
+
+        inputStream.mark(BOM_STREAM_BUFFER_SIZE);
         try {
-            return org.cyclonedx.proto.v1_6.Bom.parseFrom(cdxBomBytes);
-        } catch (InvalidProtocolBufferException e) {
+            for (int i = 0; i < BOM_STREAM_BUFFER_SIZE; i++) {
+                final int nextByte = inputStream.read();
+                if (nextByte == -1) {
+                    return null;
+                }
+
+                switch (nextByte) {
+                    case ' ', '\t', '\r', '\n' -> {
+                        continue;
+                    }
+                    case '{' -> {
+                        return new JsonParser();
+                    }
+                    case '<' -> {
+                        return new XmlParser();
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+
             return null;
+        } finally {
+            inputStream.reset();
         }
     }
 
+    /**
+     * Check whether {@code inputStream} starts with an encoded {@code spec_version} field of a protobuf BOM,
+     * i.e. the field tag {@code 0x0A}, followed by the length of the value, followed by {@code 1.}.
+     * <p>
+     * None of the textual formats can start with this sequence.
+     */
+    private static boolean startsWithProtobufSpecVersion(final InputStream inputStream) throws IOException {
+        final byte[] prefix = inputStream.readNBytes(4);
+        return prefix.length == 4
+               && prefix[0] == 0x0A
+               && prefix[1] > 1
+               && prefix[2] == '1'
+               && prefix[3] == '.';
+    }
+
     private record ConsumedBom(
             Project project,
             ProjectMetadata projectMetadata,
@@ -473,9 +566,11 @@ public class BomUploadProcessingTask implements Subscriber {
 
                 final Project persistentProject = processProject(ctx, qm, bom.project(), bom.projectMetadata());
 
-                LOGGER.info("Processing %d components".formatted(bom.components().size()));
-                final Map<ComponentIdentity, Component> persistentComponentsByIdentity =
-                        processComponents(qm, persistentProject, bom.components(), bom.identitiesByBomRef(), bom.bomRefsByIdentity());
+                LOGGER.info("Processing %d components%s".formatted(
+                        bom.components().size(), bulkProcessingEnabled ? " in bulk" : ""));
+                final Map<ComponentIdentity, Component> persistentComponentsByIdentity = bulkProcessingEnabled
+                        ? processComponentsInBulk(qm, persistentProject, bom.components(), bom.identitiesByBomRef(), bom.bomRefsByIdentity())
+                        : processComponents(qm, persistentProject, bom.components(), bom.identitiesByBomRef(), bom.bomRefsByIdentity());
 
                 LOGGER.info("Processing %d services".formatted(bom.services().size()));
                 final Map<ComponentIdentity, ServiceComponent> persistentServicesByIdentity =
@@ -564,9 +659,11 @@ public class BomUploadProcessingTask implements Subscriber {
     ) {
         assertPersistent(project, "Project must be persistent");
 
-        // Avoid redundant queries by caching resolved licenses.
+        // Avoid redundant lookups by caching resolved licenses.
         // It is likely that if license IDs were present in a BOM,
         // they appear multiple times for different components.
+        // Resolution itself is served by the process-wide LicenseRegistry,
+        // so only the final fetch of a resolved license hits the database.
         final var licenseCache = new HashMap<String, License>();
 
         // We support resolution of custom licenses by their name.
@@ -596,6 +693,7 @@ public class BomUploadProcessingTask implements Subscriber {
                 .map(Component::getId)
                 .collect(Collectors.toSet());
 
+        int numComponentsProcessed = 0;
         for (final Component component : components) {
             component.setInternal(internalComponentIdentifier.isInternal(component));
             resolveAndApplyLicense(qm, component, licenseCache, customLicenseCache);
@@ -653,6 +751,12 @@ public class BomUploadProcessingTask implements Subscriber {
             }
 
             persistentComponentByIdentity.put(newIdentity, persistentComponent);
+
+            // Flush in bounded chunks, such that pending write operations
+            // don't accumulate in the persistence manager for large BOMs.
+            if (++numComponentsProcessed % COMPONENT_FLUSH_CHUNK_SIZE == 0) {
+                qm.getPersistenceManager().flush();
+            }
         }
 
         persistentComponentByIdentity.entrySet().removeIf(entry -> {
@@ -677,6 +781,84 @@ public class BomUploadProcessingTask implements Subscriber {
         return persistentComponentByIdentity;
     }
 
+    /**
+     * Set-based alternative to {@link #processComponents(QueryManager, Project, List, Map, MultiValuedMap)}.
+     * <p>
+     * Instead of loading existing components into the persistence manager and persisting
+     * changes one-by-one, incoming components are staged in a temporary table, and diffed
+     * against existing components by identity in the database. The number of queries issued
+     * is thus independent of the number of components in the BOM.
+     * <p>
+     * Components in the returned {@link Map} are <em>not</em> persistent. Only their ID,
+     * UUID, and "new" flag are populated from the database.
+     */
+    private static Map<ComponentIdentity, Component> processComponentsInBulk(
+            final QueryManager qm,
+            final Project project,
+            final List<Component> components,
+            final Map<String, ComponentIdentity> identitiesByBomRef,
+            final MultiValuedMap<ComponentIdentity, String> bomRefsByIdentity
+    ) {
+        assertPersistent(project, "Project must be persistent");
+
+        final var licenseCache = new HashMap<String, License>();
+        final var customLicenseCache = new HashMap<String, License>();
+        final var internalComponentIdentifier = new InternalComponentIdentifier();
+        for (final Component component : components) {
+            component.setInternal(internalComponentIdentifier.isInternal(component));
+            resolveAndApplyLicense(qm, component, licenseCache, customLicenseCache);
+        }
+
+        // The JDO connection must not be used by DataNucleus while it is borrowed by JDBI.
+        // Flush pending changes, and only hand the connection back once all bulk operations completed.
+        qm.getPersistenceManager().flush();
+
+        final List<Long> idsOfComponentsToDelete;
+        try (final Handle jdbiHandle = createLocalJdbi(qm).open()) {
+            final var dao = jdbiHandle.attach(BomUploadProcessingDao.class);
+            dao.createComponentStagingTable();
+            dao.stageComponents(components);
+
+            final int numMatched = dao.matchStagedComponents(project.getId());
+            final int numUpdated = dao.updateChangedComponents();
+            final int numCreated = dao.createUnmatchedComponents(project.getId());
+            LOGGER.debug("Matched %d existing components, of which %d changed; Created %d new components"
+                    .formatted(numMatched, numUpdated, numCreated));
+
+            for (final BomUploadProcessingDao.StagedComponent stagedComponent : dao.getStagedComponents()) {
+                final Component component = components.get(stagedComponent.ordinal());
+                component.setId(stagedComponent.id());
+                component.setUuid(stagedComponent.uuid());
+                component.setNew(stagedComponent.isNew());
+            }
+
+            dao.synchronizeComponentOccurrences(components);
+            dao.synchronizeComponentProperties(components);
+
+            idsOfComponentsToDelete = dao.getIdsOfUnstagedComponents(project.getId());
+        }
+
+        final var componentByIdentity = new HashMap<ComponentIdentity, Component>(components.size());
+        for (final Component component : components) {
+            // Update component identities in our Identity->BOMRef map,
+            // as after persisting the components, their identities now include UUIDs.
+            final var newIdentity = new ComponentIdentity(component);
+            final ComponentIdentity oldIdentity = identitiesByBomRef.put(component.getBomRef(), newIdentity);
+            for (final String bomRef : bomRefsByIdentity.get(oldIdentity)) {
+                identitiesByBomRef.put(bomRef, newIdentity);
+            }
+
+            componentByIdentity.put(newIdentity, component);
+        }
+
+        final long componentsDeleted = deleteComponentsById(qm, idsOfComponentsToDelete);
+        if (componentsDeleted > 0) {
+            qm.getPersistenceManager().flush();
+        }
+
+        return componentByIdentity;
+    }
+
     private static Map<ComponentIdentity, ServiceComponent> processServices(
             final QueryManager qm,
             final Project project,
@@ -801,7 +983,9 @@ public class BomUploadProcessingTask implements Subscriber {
             // TODO: Check servicesByIdentity when persistentComponent is null
             //   We do not currently store directDependencies for ServiceComponent
             if (component != null) {
-                assertPersistent(component, "Component must be persistent");
+                if (!bulkProcessingEnabled) {
+                    assertPersistent(component, "Component must be persistent");
+                }
                 if (!Objects.equals(directDependenciesJson, component.getDirectDependencies())) {
                     component.setDirectDependencies(directDependenciesJson);
                 }
@@ -813,6 +997,15 @@ public class BomUploadProcessingTask implements Subscriber {
             }
         }
 
+        if (bulkProcessingEnabled) {
+            // Components are not persistent in bulk mode, so changes are not tracked.
+            // Let the database determine which components actually changed instead.
+            try (final Handle jdbiHandle = createLocalJdbi(qm).open()) {
+                jdbiHandle.attach(BomUploadProcessingDao.class).updateDirectDependencies(componentsByIdentity.values());
+            }
+            return;
+        }
+
         qm.getPersistenceManager().flush();
     }
 
@@ -908,7 +1101,7 @@ public class BomUploadProcessingTask implements Subscriber {
         // by priority, and simply take the first resolvable candidate.
         for (final org.cyclonedx.model.License licenseCandidate : component.getLicenseCandidates()) {
             if (isNotBlank(licenseCandidate.getId())) {
-                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getId(), qm::getLicenseByIdOrName);
+                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getId(), licenseIdOrName -> resolveLicenseByIdOrName(qm, licenseIdOrName));
                 if (resolvedLicense != License.UNRESOLVED) {
                     component.setResolvedLicense(resolvedLicense);
                     component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
@@ -917,7 +1110,7 @@ public class BomUploadProcessingTask implements Subscriber {
             }
 
             if (isNotBlank(licenseCandidate.getName())) {
-                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getName(), qm::getLicenseByIdOrName);
+                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getName(), licenseIdOrName -> resolveLicenseByIdOrName(qm, licenseIdOrName));
                 if (resolvedLicense != License.UNRESOLVED) {
                     component.setResolvedLicense(resolvedLicense);
                     component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
@@ -925,7 +1118,7 @@ public class BomUploadProcessingTask implements Subscriber {
                 }
 
                 final License resolvedCustomLicense = customLicenseCache.computeIfAbsent(
-                        licenseCandidate.getName(), qm::getCustomLicenseByName);
+                        licenseCandidate.getName(), licenseName -> resolveCustomLicenseByName(qm, licenseName));
                 if (resolvedCustomLicense != License.UNRESOLVED) {
                     component.setResolvedLicense(resolvedCustomLicense);
                     component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
@@ -947,6 +1140,45 @@ public class BomUploadProcessingTask implements Subscriber {
         }
     }
 
+    private static License resolveLicenseByIdOrName(final QueryManager qm, final String licenseIdOrName) {
+        final Long licenseId = LicenseRegistry.getInstance().resolveIdByIdOrName(licenseIdOrName);
+        if (licenseId == null) {
+            return getLicenseOnRegistryMiss(qm.getLicenseByIdOrName(licenseIdOrName));
+        }
+
+        return getLicenseById(qm, licenseId, () -> qm.getLicenseByIdOrName(licenseIdOrName));
+    }
+
+    private static License resolveCustomLicenseByName(final QueryManager qm, final String licenseName) {
+        final Long licenseId = LicenseRegistry.getInstance().resolveCustomLicenseIdByName(licenseName);
+        if (licenseId == null) {
+            return getLicenseOnRegistryMiss(qm.getCustomLicenseByName(licenseName));
+        }
+
+        return getLicenseById(qm, licenseId, () -> qm.getCustomLicenseByName(licenseName));
+    }
+
+    private static License getLicenseOnRegistryMiss(final License license) {
+        if (license != License.UNRESOLVED) {
+            // The license was created by another instance since the registry was last built.
+            LOGGER.debug("License %s is not known to the registry; Invalidating it".formatted(license.getName()));
+            LicenseRegistry.getInstance().invalidate();
+        }
+
+        return license;
+    }
+
+    private static License getLicenseById(final QueryManager qm, final long licenseId, final Supplier<License> fallback) {
+        try {
+            return qm.getObjectById(License.class, licenseId);
+        } catch (JDOObjectNotFoundException e) {
+            // The license was deleted by another instance since the registry was last built.
+            LOGGER.debug("License with ID %d no longer exists; Falling back to database lookup".formatted(licenseId));
+            LicenseRegistry.getInstance().invalidate();
+            return fallback.get();
+        }
+    }
+
     private static List<Component> getAllComponents(final QueryManager qm, final Project project) {
         final Query<Component> query = qm.getPersistenceManager().newQuery(Component.class);
         query.getFetchPlan().addGroup(Component.FetchGroup.BOM_UPLOAD_PROCESSING.name());
@@ -1064,7 +1296,7 @@ public class BomUploadProcessingTask implements Subscriber {
             }
 
             // Trigger project metrics update no matter if vuln analysis is applicable or not.
-            final ChainableEvent metricsUpdateEvent = new ProjectMetricsUpdateEvent(ctx.project.getUuid());
+            final ChainableEvent metricsUpdateEvent = new ProjectMetricsUpdateEvent(ctx.project.getUuid(), /* incremental */ true);
             metricsUpdateEvent.setChainIdentifier(ctx.token);
             Event.dispatch(metricsUpdateEvent);
 
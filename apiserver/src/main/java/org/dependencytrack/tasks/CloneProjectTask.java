@@ -25,6 +25,7 @@ import org.dependencytrack.event.CloneProjectEvent;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.resources.v1.vo.CloneProjectRequest;
 import org.slf4j.MDC;
 
@@ -35,6 +36,7 @@ import static org.dependencytrack.common.MdcKeys.MDC_EVENT_TOKEN;
 import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
 import static org.dependencytrack.model.WorkflowStatus.PENDING;
 import static org.dependencytrack.model.WorkflowStep.PROJECT_CLONE;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
 
 public class CloneProjectTask implements Subscriber {
 
@@ -74,7 +76,8 @@ public class CloneProjectTask implements Subscriber {
                             request.includeAuditHistory(),
                             request.includeACL(),
                             request.includePolicyViolations(),
-                            request.makeCloneLatest()
+                            request.makeCloneLatest(),
+                            progress -> reportProgress(chainIdentifier, progress)
                     );
 
                     qm.updateWorkflowStateToComplete(workflowState);
@@ -86,4 +89,12 @@ public class CloneProjectTask implements Subscriber {
             }
         }
     }
+
+    private static void reportProgress(final UUID chainIdentifier, final String progress) {
+        LOGGER.debug("Cloned %s".formatted(progress));
+
+        // The clone is performed in a single transaction, which can take a while for large projects.
+        // Touch the workflow state outside of that transaction, such that it is not considered to be timed out.
+        useJdbiHandle(handle -> handle.attach(WorkflowDao.class).touchPendingState(PROJECT_CLONE, chainIdentifier));
+    }
 }
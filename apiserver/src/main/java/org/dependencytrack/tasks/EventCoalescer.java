@@ -0,0 +1,197 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces redundant events that would cause the same work to be performed.
+ * <p>
+ * The first event for a given key becomes pending, and waits for the coalescing window to elapse.
+ * Events for the same key that arrive while it is pending are collapsed into it, and are not
+ * processed on their own. Once the window elapsed, and no other event for the same key is being
+ * processed, the pending event is processed on behalf of all events that were collapsed into it.
+ * <p>
+ * As events are only collapsed into events that did not start processing yet, the outcome of
+ * the processing reflects changes that occurred up until any of the collapsed events was published.
+ * <p>
+ * Collapsed events return right away, unless they have events chained to them via
+ * {@link ChainableEvent#onSuccess()} or {@link ChainableEvent#onFailure()}. Those return only after
+ * the event they were collapsed into has been processed, such that their chained events are not
+ * dispatched prematurely.
+ * <p>
+ * Pending events occupy the thread they were informed on for the duration of the window.
+ * With a window of zero, events are only collapsed while an event for the same key is being processed.
+ *
+ * @param <K> Type of the key to coalesce events by
+ * @param <E> Type of the events to coalesce
+ * @since 5.6.0
+ */
+public final class EventCoalescer<K, E extends Event> {
+
+    private static final class Batch<E> {
+
+        private final List<E> events = new ArrayList<>();
+        private boolean processed;
+        private RuntimeException failure;
+
+    }
+
+    private final Duration window;
+    private final Counter executedCounter;
+    private final Counter coalescedCounter;
+    private final Map<K, Batch<E>> pendingBatchesByKey = new HashMap<>();
+    private final Set<K> processingKeys = new HashSet<>();
+
+    /**
+     * @param name   Name of the coalescer, used to tag its meters
+     * @param window The {@link Duration} for which events are pending before they are processed
+     */
+    public EventCoalescer(final String name, final Duration window) {
+        this.window = window;
+        this.executedCounter = Counter.builder("event_coalescer_events_processed")
+                .description("Number of events that were processed on behalf of themselves and coalesced events")
+                .tag("coalescer", name)
+                .register(Metrics.getRegistry());
+        this.coalescedCounter = Counter.builder("event_coalescer_events_coalesced")
+                .description("Number of events that were coalesced with a pending event, and not processed on their own")
+                .tag("coalescer", name)
+                .register(Metrics.getRegistry());
+    }
+
+    /**
+     * Process an event, unless an equivalent event is already pending.
+     *
+     * @param key       Key of the event
+     * @param event     The event
+     * @param processor {@link Consumer} that processes the event, on behalf of all events coalesced
+     *                  into it. It is called with all of these events, in the order of their arrival.
+     * @return {@code true} when the event was processed, or {@code false} when it was coalesced
+     */
+    public boolean process(final K key, final E event, final Consumer<List<E>> processor) {
+        final var batch = new Batch<E>();
+        batch.events.add(event);
+
+        synchronized (this) {
+            final Batch<E> pendingBatch = pendingBatchesByKey.get(key);
+            if (pendingBatch != null) {
+                pendingBatch.events.add(event);
+                coalescedCounter.increment();
+                if (hasChainedEvents(event)) {
+                    awaitProcessed(pendingBatch);
+                }
+                return false;
+            }
+
+            pendingBatchesByKey.put(key, batch);
+        }
+
+        boolean interrupted = sleepUninterruptibly(window);
+
+        final List<E> coalescedEvents;
+        synchronized (this) {
+            // Ensure that at most one event per key is processed at a time.
+            // Events arriving in the meantime are still coalesced into this one.
+            while (processingKeys.contains(key)) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            pendingBatchesByKey.remove(key);
+            coalescedEvents = List.copyOf(batch.events);
+            processingKeys.add(key);
+        }
+
+        try {
+            executedCounter.increment();
+            processor.accept(coalescedEvents);
+        } catch (RuntimeException e) {
+            batch.failure = e;
+            throw e;
+        } finally {
+            synchronized (this) {
+                processingKeys.remove(key);
+                batch.processed = true;
+                notifyAll();
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        return true;
+    }
+
+    private void awaitProcessed(final Batch<E> batch) {
+        boolean interrupted = false;
+        try {
+            while (!batch.processed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (batch.failure != null) {
+            throw new IllegalStateException("Processing of the event this event was coalesced into failed", batch.failure);
+        }
+    }
+
+    private static boolean hasChainedEvents(final Event event) {
+        return event instanceof final ChainableEvent chainableEvent
+                && (chainableEvent.onSuccess().length > 0 || chainableEvent.onFailure().length > 0);
+    }
+
+    private static boolean sleepUninterruptibly(final Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return false;
+        }
+
+        try {
+            Thread.sleep(duration);
+            return false;
+        } catch (InterruptedException e) {
+            // Process the event right away; The thread is presumably being shut down.
+            return true;
+        }
+    }
+
+}
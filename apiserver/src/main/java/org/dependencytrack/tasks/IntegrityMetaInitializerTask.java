@@ -55,13 +55,11 @@ public class IntegrityMetaInitializerTask implements Subscriber {
     }
 
     private void batchProcessPurls(QueryManager qm) {
-        long offset = 0;
-        List<IntegrityMetaComponent> integrityMetaPurls = qm.fetchNextPurlsPage(offset);
+        List<IntegrityMetaComponent> integrityMetaPurls = qm.fetchNextPurlsPage(null);
         while (!integrityMetaPurls.isEmpty()) {
             dispatchPurls(qm, integrityMetaPurls);
             qm.batchUpdateIntegrityMetaComponent(integrityMetaPurls);
-            offset += integrityMetaPurls.size();
-            integrityMetaPurls = qm.fetchNextPurlsPage(offset);
+            integrityMetaPurls = qm.fetchNextPurlsPage(integrityMetaPurls.getLast().getId());
         }
     }
 
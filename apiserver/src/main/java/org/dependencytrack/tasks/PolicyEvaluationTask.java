@@ -18,29 +18,54 @@
  */
 package org.dependencytrack.tasks;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
+import alpine.common.util.SystemUtil;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import com.google.common.collect.Lists;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.CallbackEvent;
 import org.dependencytrack.event.ComponentPolicyEvaluationEvent;
+import org.dependencytrack.event.PortfolioPolicyEvaluationEvent;
 import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.policy.cel.CelPolicyEngine;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.dependencytrack.model.WorkflowStatus.PENDING;
 import static org.dependencytrack.model.WorkflowStep.POLICY_EVALUATION;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
 
 /**
- * A {@link Subscriber} task that executes policy evaluations for {@link Project}s or {@link Component}s.
+ * A {@link Subscriber} task that executes policy evaluations for {@link Project}s or {@link Component}s,
+ * or of a single {@link Policy} across all {@link Project}s it may affect.
  *
  * @since 5.0.0
  */
 public class PolicyEvaluationTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(PolicyEvaluationTask.class);
+    private static final EventCoalescer<UUID, ProjectPolicyEvaluationEvent> PROJECT_COALESCER = new EventCoalescer<>(
+            "project_policy_evaluation",
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.EVENT_COALESCING_WINDOW_DURATION)));
+    private static final EventCoalescer<UUID, PortfolioPolicyEvaluationEvent> POLICY_COALESCER = new EventCoalescer<>(
+            "portfolio_policy_evaluation",
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.EVENT_COALESCING_WINDOW_DURATION)));
+    private static final int MAX_CONCURRENCY = SystemUtil.getCpuCores();
 
 
     public PolicyEvaluationTask() {
@@ -50,17 +75,9 @@ public class PolicyEvaluationTask implements Subscriber {
     @Override
     public void inform(final Event e) {
         if (e instanceof final ProjectPolicyEvaluationEvent event) {
-            WorkflowState projectPolicyEvaluationState;
-            try (final var qm = new QueryManager()) {
-                projectPolicyEvaluationState = qm.updateStartTimeIfWorkflowStateExists(event.getChainIdentifier(), POLICY_EVALUATION);
-                try {
-                    evaluateProject(event.getUuid());
-                    qm.updateWorkflowStateToComplete(projectPolicyEvaluationState);
-                } catch (Exception ex) {
-                    qm.updateWorkflowStateToFailed(projectPolicyEvaluationState, ex.getMessage());
-                    LOGGER.error("An unexpected error occurred while evaluating policies for project " + event.getUuid(), ex);
-                }
-            }
+            PROJECT_COALESCER.process(event.getUuid(), event, this::evaluateProject);
+        } else if (e instanceof final PortfolioPolicyEvaluationEvent event) {
+            POLICY_COALESCER.process(event.getPolicyUuid(), event, this::evaluatePolicy);
         } else if (e instanceof final ComponentPolicyEvaluationEvent event) {
             WorkflowState componentMetricsEvaluationState;
             try (final var qm = new QueryManager()) {
@@ -76,6 +93,114 @@ public class PolicyEvaluationTask implements Subscriber {
         }
     }
 
+    private void evaluateProject(final List<ProjectPolicyEvaluationEvent> events) {
+        final UUID uuid = events.getFirst().getUuid();
+        try (final var qm = new QueryManager()) {
+            final List<WorkflowState> projectPolicyEvaluationStates = new ArrayList<>(events.size());
+            for (final ProjectPolicyEvaluationEvent event : events) {
+                final WorkflowState projectPolicyEvaluationState = qm.updateStartTimeIfWorkflowStateExists(event.getChainIdentifier(), POLICY_EVALUATION);
+                if (projectPolicyEvaluationState != null) {
+                    projectPolicyEvaluationStates.add(projectPolicyEvaluationState);
+                }
+            }
+
+            try {
+                evaluateProject(uuid);
+                projectPolicyEvaluationStates.forEach(qm::updateWorkflowStateToComplete);
+            } catch (Exception ex) {
+                projectPolicyEvaluationStates.forEach(state -> qm.updateWorkflowStateToFailed(state, ex.getMessage()));
+                LOGGER.error("An unexpected error occurred while evaluating policies for project " + uuid, ex);
+            }
+        }
+    }
+
+    private void evaluatePolicy(final List<PortfolioPolicyEvaluationEvent> events) {
+        final UUID policyUuid = events.getFirst().getPolicyUuid();
+        try (final var qm = new QueryManager()) {
+            final List<WorkflowState> policyEvaluationStates = new ArrayList<>(events.size());
+            for (final PortfolioPolicyEvaluationEvent event : events) {
+                WorkflowState policyEvaluationState = qm.updateStartTimeIfWorkflowStateExists(event.getChainIdentifier(), POLICY_EVALUATION);
+                if (policyEvaluationState == null) {
+                    final var now = new Date();
+                    policyEvaluationState = new WorkflowState();
+                    policyEvaluationState.setStep(POLICY_EVALUATION);
+                    policyEvaluationState.setStatus(PENDING);
+                    policyEvaluationState.setToken(event.getChainIdentifier());
+                    policyEvaluationState.setStartedAt(now);
+                    policyEvaluationState.setUpdatedAt(now);
+                    policyEvaluationState = qm.persist(policyEvaluationState);
+                }
+                policyEvaluationStates.add(policyEvaluationState);
+            }
+
+            try {
+                evaluatePolicy(policyUuid, policyEvaluationStates.stream().map(WorkflowState::getToken).toList());
+                policyEvaluationStates.forEach(qm::updateWorkflowStateToComplete);
+            } catch (Exception ex) {
+                policyEvaluationStates.forEach(state -> qm.updateWorkflowStateToFailed(state, ex.getMessage()));
+                LOGGER.error("An unexpected error occurred while evaluating policy " + policyUuid, ex);
+            }
+        }
+    }
+
+    private void evaluatePolicy(final UUID policyUuid, final List<UUID> workflowTokens) throws InterruptedException {
+        final long startTimeNs = System.nanoTime();
+        final var policyEngine = new CelPolicyEngine();
+
+        final List<UUID> projectUuids = policyEngine.getProjectsAffectedByPolicy(policyUuid);
+        LOGGER.info("Evaluating policy %s for %d projects".formatted(policyUuid, projectUuids.size()));
+        if (projectUuids.isEmpty()) {
+            return;
+        }
+
+        // Distribute the projects across at most MAX_CONCURRENCY events, and process them asynchronously.
+        final int partitionSize = (int) Math.ceil((double) projectUuids.size() / MAX_CONCURRENCY);
+        final List<List<UUID>> partitions = Lists.partition(projectUuids, partitionSize);
+        final var countDownLatch = new CountDownLatch(partitions.size());
+        final var projectsEvaluated = new AtomicInteger();
+
+        for (final List<UUID> partition : partitions) {
+            final var partitionEvent = new CallbackEvent(() -> {
+                for (final UUID projectUuid : partition) {
+                    try {
+                        policyEngine.evaluatePolicy(policyUuid, projectUuid);
+                    } catch (RuntimeException ex) {
+                        LOGGER.error("Failed to evaluate policy %s for project %s".formatted(policyUuid, projectUuid), ex);
+                    }
+
+                    reportProgress(policyUuid, workflowTokens, projectsEvaluated.incrementAndGet(), projectUuids.size());
+                }
+            });
+
+            final var countDownEvent = new CallbackEvent(countDownLatch::countDown);
+            Event.dispatch(partitionEvent
+                    .onSuccess(countDownEvent)
+                    .onFailure(countDownEvent));
+        }
+
+        if (!countDownLatch.await(15, TimeUnit.MINUTES)) {
+            // Evaluations that are still queued or in progress will complete eventually,
+            // but they are no longer tracked by the workflow state.
+            LOGGER.warn("Evaluating policy %s took longer than expected (15m); %d/%d projects evaluated so far"
+                    .formatted(policyUuid, projectsEvaluated.get(), projectUuids.size()));
+            return;
+        }
+
+        LOGGER.info("Evaluated policy %s for %d projects in %s"
+                .formatted(policyUuid, projectUuids.size(), Duration.ofNanos(System.nanoTime() - startTimeNs)));
+    }
+
+    private static void reportProgress(final UUID policyUuid, final List<UUID> workflowTokens,
+                                       final int projectsEvaluated, final int projectsTotal) {
+        LOGGER.debug("Evaluated policy %s for %d/%d projects".formatted(policyUuid, projectsEvaluated, projectsTotal));
+
+        // Touch the workflow states, such that they are not considered to be timed out.
+        useJdbiHandle(handle -> {
+            final var workflowDao = handle.attach(WorkflowDao.class);
+            workflowTokens.forEach(token -> workflowDao.touchPendingState(POLICY_EVALUATION, token));
+        });
+    }
+
     private void evaluateProject(final UUID uuid) {
         new CelPolicyEngine().evaluateProject(uuid);
     }
@@ -56,6 +56,7 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class RepositoryMetaAnalysisTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(RepositoryMetaAnalysisTask.class);
+    private static final int COMPONENTS_PAGE_SIZE = 5000;
 
     private final KafkaEventDispatcher kafkaEventDispatcher = new KafkaEventDispatcher();
 
@@ -95,14 +96,12 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
 
             final PersistenceManager pm = qm.getPersistenceManager();
 
-            long offset = 0;
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, project, offset);
+            List<ComponentProjection> components = fetchNextComponentsPage(pm, project, null);
             while (!components.isEmpty()) {
                 //latest version information needs to be fetched for project as either triggered because of fresh bom upload or individual project reanalysis
                 dispatchComponents(components);
 
-                offset += components.size();
-                components = fetchNextComponentsPage(pm, project, offset);
+                components = fetchNextComponentsPage(pm, project, components.getLast().purlCoordinates());
             }
         }
 
@@ -117,9 +116,8 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
         try (final QueryManager qm = new QueryManager()) {
             final PersistenceManager pm = qm.getPersistenceManager();
 
-            long offset = 0;
             long startTime = System.currentTimeMillis();
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, null, offset);
+            List<ComponentProjection> components = fetchNextComponentsPage(pm, null, null);
             while (!components.isEmpty()) {
                 long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
                 if (isTaskLockToBeExtended(cumulativeProcessingTime, RepositoryMetaAnalysisTask.class)) {
@@ -128,8 +126,7 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
                 //latest version information does not need to be fetched for project as triggered for portfolio means it is a scheduled event happening
                 dispatchComponents(components);
 
-                offset += components.size();
-                components = fetchNextComponentsPage(pm, null, offset);
+                components = fetchNextComponentsPage(pm, null, components.getLast().purlCoordinates());
             }
         }
 
@@ -142,7 +139,8 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
         }
     }
 
-    private List<ComponentProjection> fetchNextComponentsPage(final PersistenceManager pm, final Project project, final long offset) throws Exception {
+    private List<ComponentProjection> fetchNextComponentsPage(final PersistenceManager pm, final Project project, final String lastPurlCoordinates) throws Exception {
+        final List<ComponentProjection> components;
         try (final Query<Component> query = pm.newQuery(Component.class)) {
             var filter = "project.inactiveSince == null && purlCoordinates != null";
             var params = new HashMap<String, Object>();
@@ -150,13 +148,36 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
                 filter += " && project == :project";
                 params.put("project", project);
             }
+            if (lastPurlCoordinates != null) {
+                filter += " && purlCoordinates > :lastPurlCoordinates";
+                params.put("lastPurlCoordinates", lastPurlCoordinates);
+            }
             query.setFilter(filter);
             query.setNamedParameters(params);
-            query.setOrdering("purlCoordinates ASC"); // Keep the order somewhat consistent
-            query.setRange(offset, offset + 5000);
+            query.setOrdering("purlCoordinates ASC");
+            query.setRange(0, COMPONENTS_PAGE_SIZE);
             query.setResult("DISTINCT purlCoordinates, internal");
-            return List.copyOf(query.executeResultList(ComponentProjection.class));
+            components = List.copyOf(query.executeResultList(ComponentProjection.class));
+        }
+
+        if (components.size() < COMPONENTS_PAGE_SIZE) {
+            return components;
         }
+
+        // The same PURL coordinates may occur with different values for "internal",
+        // and those rows may be split across page boundaries. Defer all rows with
+        // the last PURL coordinates of this page to the next one, such that they
+        // are not skipped by the keyset condition.
+        final String pageLastPurlCoordinates = components.getLast().purlCoordinates();
+        final List<ComponentProjection> trimmedComponents = components.stream()
+                .filter(component -> !component.purlCoordinates().equals(pageLastPurlCoordinates))
+                .toList();
+        if (trimmedComponents.isEmpty()) {
+            // Can't happen in practice, since there are at most three distinct rows per PURL coordinates.
+            throw new IllegalStateException("Page only contains components with PURL coordinates " + pageLastPurlCoordinates);
+        }
+
+        return trimmedComponents;
     }
 
     public record ComponentProjection(String purlCoordinates, Boolean internal) {
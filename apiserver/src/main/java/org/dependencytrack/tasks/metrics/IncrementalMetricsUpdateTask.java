@@ -0,0 +1,105 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.event.IncrementalMetricsUpdateEvent;
+import org.dependencytrack.metrics.Metrics;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.util.LockProvider.executeWithLock;
+import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
+
+/**
+ * A {@link Subscriber} task that incrementally updates metrics of all projects,
+ * for which metrics changes have been recorded since their last metrics update.
+ *
+ * @see Metrics#updateProjectMetricsIncrementally(UUID)
+ * @since 5.6.0
+ */
+public class IncrementalMetricsUpdateTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(IncrementalMetricsUpdateTask.class);
+
+    @Override
+    public void inform(final Event event) {
+        if (!(event instanceof IncrementalMetricsUpdateEvent)) {
+            return;
+        }
+        if (!Metrics.isIncrementalUpdateEnabled()) {
+            LOGGER.debug("Incremental metrics updates are disabled; Skipping");
+            return;
+        }
+
+        final long startTimeNs = System.nanoTime();
+        try {
+            LOGGER.debug("Starting incremental metrics update");
+            final Statistics statistics = executeWithLock(
+                    getLockConfigForTask(IncrementalMetricsUpdateTask.class),
+                    () -> informLocked());
+            if (statistics == null) {
+                LOGGER.info("Task is locked by another instance; Skipping");
+                return;
+            }
+
+            final var taskDuration = Duration.ofNanos(System.nanoTime() - startTimeNs);
+            LOGGER.info("Completed in %s: %s".formatted(taskDuration, statistics));
+        } catch (Throwable e) {
+            final var taskDuration = Duration.ofNanos(System.nanoTime() - startTimeNs);
+            LOGGER.error("Failed to complete after %s".formatted(taskDuration), e);
+        }
+    }
+
+    private record Statistics(
+            int updatedProjects,
+            int failedProjects) {
+    }
+
+    private Statistics informLocked() {
+        assertLocked();
+
+        final List<UUID> projectUuids = withJdbiHandle(
+                handle -> handle.attach(MetricsDao.class).getProjectUuidsWithComponentMetricsChanges());
+
+        int numUpdated = 0;
+        int numFailed = 0;
+        for (final UUID projectUuid : projectUuids) {
+            try {
+                Metrics.updateProjectMetricsIncrementally(projectUuid);
+                numUpdated++;
+            } catch (RuntimeException e) {
+                // The project may have been deleted in the meantime, in which case its changes were
+                // deleted along with it. Otherwise, they are retained and picked up again during the next execution.
+                LOGGER.warn("Failed to update metrics of project %s".formatted(projectUuid), e);
+                numFailed++;
+            }
+        }
+
+        return new Statistics(numUpdated, numFailed);
+    }
+
+}
@@ -106,7 +106,9 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
                 for (final List<ProjectProjection> partition : partitions) {
                     final var partitionEvent = new CallbackEvent(() -> {
                         for (final ProjectProjection project : partition) {
-                            new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.uuid()));
+                            // Bypass coalescing, as the portfolio update already ensures that
+                            // every project is only updated once, and must not be delayed.
+                            ProjectMetricsUpdateTask.updateMetrics(List.of(new ProjectMetricsUpdateEvent(project.uuid())));
                         }
                     });
 
@@ -18,18 +18,23 @@
  */
 package org.dependencytrack.tasks.metrics;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
 import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.tasks.EventCoalescer;
 import org.slf4j.MDC;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
@@ -42,29 +47,61 @@ import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
 public class ProjectMetricsUpdateTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(ProjectMetricsUpdateTask.class);
+    private static final EventCoalescer<UUID, ProjectMetricsUpdateEvent> COALESCER = new EventCoalescer<>(
+            "project_metrics_update",
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.EVENT_COALESCING_WINDOW_DURATION)));
 
     @Override
     public void inform(final Event e) {
         if (e instanceof final ProjectMetricsUpdateEvent event) {
-            try (final var qm = new QueryManager();
-                 var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, event.getUuid().toString())) {
+            COALESCER.process(event.getUuid(), event, ProjectMetricsUpdateTask::updateMetrics);
+        }
+    }
+
+    /**
+     * Update the metrics of a project on behalf of one or more {@link ProjectMetricsUpdateEvent}s.
+     * <p>
+     * An incremental update is only performed when all events requested one.
+     *
+     * @param events The events to update metrics for, all of which must refer to the same project
+     */
+    static void updateMetrics(final List<ProjectMetricsUpdateEvent> events) {
+        final UUID uuid = events.getFirst().getUuid();
+        final boolean incremental = events.stream().allMatch(ProjectMetricsUpdateEvent::isIncremental);
+
+        try (final var qm = new QueryManager();
+             var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, uuid.toString())) {
+            final List<WorkflowState> metricsUpdateStates = new ArrayList<>(events.size());
+            for (final ProjectMetricsUpdateEvent event : events) {
                 final WorkflowState metricsUpdateState = qm.updateStartTimeIfWorkflowStateExists(event.getChainIdentifier(), WorkflowStep.METRICS_UPDATE);
-                try {
-                    updateMetrics(event.getUuid());
-                    qm.updateWorkflowStateToComplete(metricsUpdateState);
-                } catch (RuntimeException ex) {
-                    qm.updateWorkflowStateToFailed(metricsUpdateState, ex.getMessage());
-                    LOGGER.error("An unexpected error occurred while updating metrics", ex);
+                if (metricsUpdateState != null) {
+                    metricsUpdateStates.add(metricsUpdateState);
                 }
             }
+
+            if (events.size() > 1) {
+                LOGGER.debug("Updating metrics on behalf of %d coalesced events".formatted(events.size()));
+            }
+
+            try {
+                updateMetrics(uuid, incremental && Metrics.isIncrementalUpdateEnabled());
+                metricsUpdateStates.forEach(qm::updateWorkflowStateToComplete);
+            } catch (RuntimeException ex) {
+                metricsUpdateStates.forEach(state -> qm.updateWorkflowStateToFailed(state, ex.getMessage()));
+                LOGGER.error("An unexpected error occurred while updating metrics", ex);
+            }
         }
     }
 
-    private static void updateMetrics(final UUID uuid) {
-        LOGGER.debug("Executing metrics update");
+    private static void updateMetrics(final UUID uuid, final boolean incremental) {
+        LOGGER.debug("Executing %s metrics update".formatted(incremental ? "incremental" : "full"));
         final long startTimeNs = System.nanoTime();
         try {
-            Metrics.updateProjectMetrics(uuid);
+            if (incremental) {
+                Metrics.updateProjectMetricsIncrementally(uuid);
+            } else {
+                Metrics.updateProjectMetrics(uuid);
+            }
         } finally {
             LOGGER.debug("Completed metrics update in %s".formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
         }
@@ -35,6 +35,7 @@ import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.VulnerabilityPolicyDao;
 import org.dependencytrack.policy.cel.CelPolicyScriptHost;
 import org.dependencytrack.policy.cel.CelPolicyType;
+import org.dependencytrack.policy.cel.CelVulnerabilityPolicyEvaluator;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
 import org.dependencytrack.tasks.vulnerabilitypolicy.blobstorage.VulnerabilityPolicyBundleFile;
 import org.projectnessie.cel.tools.ScriptCreateException;
@@ -201,6 +202,8 @@ public class VulnerabilityPolicyUtil {
                 vulnPolicyDao.unassignAndDeleteByName(policyName);
             }
         });
+
+        CelVulnerabilityPolicyEvaluator.invalidateCachedPolicies();
     }
 
 }
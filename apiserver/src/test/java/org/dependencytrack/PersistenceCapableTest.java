@@ -25,6 +25,7 @@ import org.apache.kafka.clients.producer.MockProducer;
 import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.persistence.LicenseRegistry;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.plugin.PluginManagerTestUtil;
 import org.junit.After;
@@ -60,6 +61,9 @@ public abstract class PersistenceCapableTest {
         truncateTables(postgresContainer);
         configurePmf(postgresContainer);
 
+        // Truncation bypasses the license mutators, which would usually invalidate the registry.
+        LicenseRegistry.getInstance().invalidate();
+
         qm = new QueryManager();
 
         this.kafkaMockProducer = (MockProducer<byte[], byte[]>) KafkaProducerInitializer.getProducer();
@@ -70,6 +70,7 @@ public abstract class ResourceTest {
     protected final String V1_OSV_ECOSYSTEM = "/v1/integration/osv/ecosystem";
     protected final String V1_POLICY = "/v1/policy";
     protected final String V1_POLICY_VIOLATION = "/v1/violation";
+    protected final String V1_PROCESSOR = "/v1/processor";
     protected final String V1_PROJECT = "/v1/project";
     protected final String V1_PROJECT_LATEST = "/v1/project/latest/";
     protected final String V1_REPOSITORY = "/v1/repository";
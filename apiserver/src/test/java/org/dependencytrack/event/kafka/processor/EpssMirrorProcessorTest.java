@@ -18,6 +18,8 @@
  */
 package org.dependencytrack.event.kafka.processor;
 
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
 import org.dependencytrack.proto.mirror.v1.EpssItem;
 import org.junit.Test;
@@ -47,4 +49,54 @@ public class EpssMirrorProcessorTest extends AbstractProcessorTest {
         final var epss = qm.getEpssByCveId("CVE-333");
         assertThat(epss).isNull();
     }
+
+    @Test
+    public void testProcessEpssRecordsBatch() throws ProcessingException {
+        final var processor = new EpssMirrorProcessor();
+        final double createdCountBefore = getSynchronizedCount("create");
+        final double updatedCountBefore = getSynchronizedCount("update");
+        processor.process(List.of(
+                aConsumerRecord("CVE-111", EpssItem.newBuilder()
+                        .setCve("CVE-111").setEpss(1.1).setPercentile(1.2).build()).build(),
+                aConsumerRecord("CVE-222", EpssItem.newBuilder()
+                        .setCve("CVE-222").setEpss(2.1).setPercentile(2.2).build()).build()));
+        assertThat(getSynchronizedCount("create") - createdCountBefore).isEqualTo(2);
+        assertThat(getSynchronizedCount("update") - updatedCountBefore).isZero();
+
+        // Update CVE-111, leave CVE-222 untouched, and create CVE-333.
+        // CVE-333 is mirrored twice within the same batch, the last occurrence must win.
+        processor.process(List.of(
+                aConsumerRecord("CVE-111", EpssItem.newBuilder()
+                        .setCve("CVE-111").setEpss(1.5).setPercentile(1.6).build()).build(),
+                aConsumerRecord("CVE-222", EpssItem.newBuilder()
+                        .setCve("CVE-222").setEpss(2.1).setPercentile(2.2).build()).build(),
+                aConsumerRecord("CVE-333", EpssItem.newBuilder()
+                        .setCve("CVE-333").setEpss(3.1).setPercentile(3.2).build()).build(),
+                aConsumerRecord("CVE-333", EpssItem.newBuilder()
+                        .setCve("CVE-333").setEpss(3.5).setPercentile(3.6).build()).build()));
+        assertThat(getSynchronizedCount("create") - createdCountBefore).isEqualTo(3);
+        assertThat(getSynchronizedCount("update") - updatedCountBefore).isEqualTo(1);
+
+        assertThat(qm.getEpssByCveId("CVE-111")).satisfies(epss -> {
+            assertThat(epss.getScore()).isEqualByComparingTo("1.5");
+            assertThat(epss.getPercentile()).isEqualByComparingTo("1.6");
+        });
+        assertThat(qm.getEpssByCveId("CVE-222")).satisfies(epss -> {
+            assertThat(epss.getScore()).isEqualByComparingTo("2.1");
+            assertThat(epss.getPercentile()).isEqualByComparingTo("2.2");
+        });
+        assertThat(qm.getEpssByCveId("CVE-333")).satisfies(epss -> {
+            assertThat(epss.getScore()).isEqualByComparingTo("3.5");
+            assertThat(epss.getPercentile()).isEqualByComparingTo("3.6");
+        });
+    }
+
+    private static double getSynchronizedCount(final String operation) {
+        final Counter counter = Metrics.getRegistry()
+                .find("epss_mirror_records_synchronized")
+                .tag("operation", operation)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
 }
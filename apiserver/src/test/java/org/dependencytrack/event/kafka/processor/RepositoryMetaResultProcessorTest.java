@@ -38,6 +38,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -68,7 +69,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar", result).build()));
 
         final RepositoryMetaComponent metaComponent =
                 qm.getRepositoryMetaComponent(RepositoryType.MAVEN, "foo", "bar");
@@ -80,6 +81,47 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
         assertThat(metaComponent.getPublished()).isEqualToIgnoringMillis(Date.from(published));
     }
 
+    @Test
+    public void processBatchTest() throws Exception {
+        final var metaComponent = new RepositoryMetaComponent();
+        metaComponent.setRepositoryType(RepositoryType.NPM);
+        metaComponent.setName("baz");
+        metaComponent.setLatestVersion("1.0.0");
+        metaComponent.setLastCheck(Date.from(Instant.now().minus(Duration.ofMinutes(5))));
+        qm.persist(metaComponent);
+
+        final var processor = new RepositoryMetaResultProcessor();
+        processor.process(List.of(
+                aConsumerRecord("pkg:maven/foo/bar", AnalysisResult.newBuilder()
+                        .setComponent(org.dependencytrack.proto.repometaanalysis.v1.Component.newBuilder()
+                                .setPurl("pkg:maven/foo/bar@1.2.3"))
+                        .setLatestVersion("1.2.5")
+                        .build()).withTimestamp(Instant.now().minusSeconds(5)).build(),
+                aConsumerRecord("pkg:maven/foo/bar", AnalysisResult.newBuilder()
+                        .setComponent(org.dependencytrack.proto.repometaanalysis.v1.Component.newBuilder()
+                                .setPurl("pkg:maven/foo/bar@1.2.3"))
+                        .setLatestVersion("1.2.4")
+                        .build()).withTimestamp(Instant.now().minusSeconds(10)).build(),
+                aConsumerRecord("pkg:npm/baz", AnalysisResult.newBuilder()
+                        .setComponent(org.dependencytrack.proto.repometaanalysis.v1.Component.newBuilder()
+                                .setPurl("pkg:npm/baz@1.0.0"))
+                        .setLatestVersion("2.0.0")
+                        .build()).build()));
+
+        // Out-of-order result within the same batch must not win.
+        assertThat(qm.getRepositoryMetaComponent(RepositoryType.MAVEN, "foo", "bar"))
+                .extracting(RepositoryMetaComponent::getLatestVersion)
+                .isEqualTo("1.2.5");
+
+        // Existing record without namespace must have been updated, rather than duplicated.
+        qm.getPersistenceManager().refresh(metaComponent);
+        assertThat(metaComponent.getLatestVersion()).isEqualTo("2.0.0");
+
+        final Query<RepositoryMetaComponent> query = qm.getPersistenceManager().newQuery(RepositoryMetaComponent.class);
+        query.setResult("count(this)");
+        assertThat(query.executeResultUnique(Long.class)).isEqualTo(2);
+    }
+
     @Test
     public void processWithoutComponentDetailsTest() throws Exception {
         final var result = AnalysisResult.newBuilder()
@@ -89,7 +131,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar", result).build()));
 
         final Query<RepositoryMetaComponent> query = qm.getPersistenceManager().newQuery(RepositoryMetaComponent.class);
         query.setResult("count(this)");
@@ -119,7 +161,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar", result).build()));
 
         qm.getPersistenceManager().refresh(metaComponent);
         assertThat(metaComponent).isNotNull();
@@ -155,7 +197,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
 
         // Pipe in a record that was produced 10 seconds ago, 5 seconds before metaComponent's lastCheck.
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).withTimestamp(Instant.now().minusSeconds(10)).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).withTimestamp(Instant.now().minusSeconds(10)).build()));
 
         qm.getPersistenceManager().refresh(metaComponent);
         assertThat(metaComponent).isNotNull();
@@ -201,7 +243,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
@@ -254,7 +296,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
@@ -305,7 +347,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
 
         IntegrityAnalysis analysis = qm.getIntegrityAnalysisByComponentUuid(c.getUuid());
         assertThat(analysis).isNull();
@@ -344,7 +386,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
 
         IntegrityAnalysis analysis = qm.getIntegrityAnalysisByComponentUuid(c.getUuid());
         assertThat(analysis).isNull();
@@ -384,7 +426,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
 
         IntegrityAnalysis analysis = qm.getIntegrityAnalysisByComponentUuid(c.getUuid());
         assertThat(analysis).isNotNull();
@@ -415,7 +457,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
 
         IntegrityAnalysis analysis = qm.getIntegrityAnalysisByComponentUuid(uuid);
         assertThat(analysis).isNull();
@@ -453,7 +495,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
@@ -502,7 +544,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
@@ -553,7 +595,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
@@ -588,7 +630,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
@@ -620,7 +662,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
@@ -654,7 +696,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         final RepositoryMetaComponent metaComponent =
                 qm.getRepositoryMetaComponent(RepositoryType.MAVEN, "foo", "bar");
@@ -689,7 +731,7 @@ public class RepositoryMetaResultProcessorTest extends AbstractProcessorTest {
                 .build();
 
         final var processor = new RepositoryMetaResultProcessor();
-        processor.process(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build());
+        processor.process(List.of(aConsumerRecord("pkg:maven/foo/bar@1.2.3", result).build()));
         qm.getPersistenceManager().refresh(integrityMetaComponent);
         integrityMetaComponent = qm.getIntegrityMetaComponent("pkg:maven/foo/bar@1.2.3");
         assertThat(integrityMetaComponent).isNotNull();
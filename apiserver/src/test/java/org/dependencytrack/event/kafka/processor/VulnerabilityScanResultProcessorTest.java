@@ -146,7 +146,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setFailureReason("just because"))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(
                 record -> {
@@ -192,7 +192,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setStatus(SCAN_STATUS_PENDING))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(record -> {
             assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name());
@@ -219,7 +219,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setBom(Bom.newBuilder().addVulnerabilities(createVuln("INT-001", "INTERNAL"))))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(record -> {
             assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name());
@@ -274,7 +274,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
         headers.add(KafkaEventHeaders.VULN_ANALYSIS_LEVEL, VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS.name().getBytes());
         headers.add(KafkaEventHeaders.IS_NEW_COMPONENT, "true".getBytes());
 
-        processor.process(aConsumerRecord(scanKey, scanResult).withHeaders(headers).build());;
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).withHeaders(headers).build()));
 
         qm.getPersistenceManager().refresh(component);
         assertThat(component.getVulnerabilities()).satisfiesExactlyInAnyOrder(
@@ -387,7 +387,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setBom(Bom.newBuilder().addVulnerabilities(createVuln("CVE-001", "NVD"))))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refreshAll(component, vulnerability);
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -493,7 +493,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                         .build())))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refreshAll(component, vulnerability);
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -593,7 +593,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                         .build())))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refreshAll(component, vulnerability);
         assertThat(component.getVulnerabilities()).hasSize(1);
@@ -679,7 +679,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(newVuln.getVulnId(), newVuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -782,7 +782,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(newVuln.getVulnId(), newVuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -887,7 +887,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -1010,7 +1010,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -1120,7 +1120,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                         .build()
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactlyInAnyOrder(
@@ -1233,7 +1233,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vulnB.getVulnId(), vulnB.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -1332,7 +1332,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(qm.getAnalysis(component, vuln)).isNull();
@@ -1389,7 +1389,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refresh(analysis);
         assertThat(analysis.getAnalysisDetails()).isEqualTo("newDetails");
@@ -1441,7 +1441,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(qm.getAnalysis(component, vuln)).isNull();
@@ -1489,7 +1489,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setBom(Bom.newBuilder()))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         // Project audit change notification must be sent.
         assertThat(kafkaMockProducer.history()).satisfiesExactly(record -> {
@@ -1571,7 +1571,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 .addVulnerabilities(createVuln("SNYK-004", "SNYK"))))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         // Existing analyses are still in L1 cache. Wipe it.
         qm.getPersistenceManager().evictAll();
@@ -1658,6 +1658,88 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
             });
     }
 
+    @Test
+    public void processBatchTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.1.0");
+        componentA.setProject(project);
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.2.0");
+        componentB.setProject(project);
+        qm.persist(componentB);
+
+        final var vulnA = new Vulnerability();
+        vulnA.setVulnId("INT-001");
+        vulnA.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vulnA);
+
+        final var vulnB = new Vulnerability();
+        vulnB.setVulnId("INT-002");
+        vulnB.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vulnB);
+
+        final var scanToken = UUID.randomUUID().toString();
+        final var scanKeyA = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(componentA.getUuid().toString()).build();
+        final var scanKeyB = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(componentB.getUuid().toString()).build();
+        final var scanKeyNonExistent = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(UUID.randomUUID().toString()).build();
+
+        // Component A receives two results in the same batch, both of which must be applied.
+        final var scanResultA1 = ScanResult.newBuilder()
+                .setKey(scanKeyA)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_INTERNAL)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("INT-001", "INTERNAL"))))
+                .build();
+        final var scanResultA2 = ScanResult.newBuilder()
+                .setKey(scanKeyA)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_INTERNAL)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("INT-002", "INTERNAL"))))
+                .build();
+        final var scanResultB = ScanResult.newBuilder()
+                .setKey(scanKeyB)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_INTERNAL)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("INT-001", "INTERNAL"))))
+                .build();
+        final var scanResultNonExistent = ScanResult.newBuilder()
+                .setKey(scanKeyNonExistent)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_INTERNAL)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("INT-001", "INTERNAL"))))
+                .build();
+
+        processor.process(List.of(
+                aConsumerRecord(scanKeyA, scanResultA1).build(),
+                aConsumerRecord(scanKeyB, scanResultB).build(),
+                aConsumerRecord(scanKeyNonExistent, scanResultNonExistent).build(),
+                aConsumerRecord(scanKeyA, scanResultA2).build()));
+
+        qm.getPersistenceManager().refreshAll(componentA, componentB);
+        assertThat(componentA.getVulnerabilities()).extracting(Vulnerability::getVulnId)
+                .containsExactlyInAnyOrder("INT-001", "INT-002");
+        assertThat(componentB.getVulnerabilities()).extracting(Vulnerability::getVulnId)
+                .containsExactly("INT-001");
+
+        // All records must be reported as processed, including the one for the non-existent component.
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name()))
+                .hasSize(4);
+    }
+
     private org.cyclonedx.proto.v1_6.Vulnerability createVuln(final String id, final String source) {
         return org.cyclonedx.proto.v1_6.Vulnerability.newBuilder()
                 .setId(id)
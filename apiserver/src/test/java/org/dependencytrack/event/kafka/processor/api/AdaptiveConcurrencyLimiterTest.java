@@ -0,0 +1,173 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void testProcessRecordsWithSubBatches() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo",
+                new AdaptiveConcurrencyLimiter.Options(true, 1, 4, 1, 4, Duration.ZERO), null);
+
+        // Latency always exceeds the target of zero, causing the batch size to be halved.
+        limiter.processRecords(createRecords(1), records -> sleep());
+        limiter.adjust(false, 0);
+        assertThat(limiter.batchSizeLimit()).isEqualTo(2);
+
+        final var batchSizes = new ArrayList<Integer>();
+        limiter.processRecords(createRecords(5), records -> batchSizes.add(records.size()));
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    public void testAdjustDecreasesBatchSizeBeforeConcurrencyWhenLatencyExceeded() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo",
+                new AdaptiveConcurrencyLimiter.Options(true, 2, 8, 3, 10, Duration.ZERO), null);
+
+        final var observedLimits = new ArrayList<List<Integer>>();
+        for (int i = 0; i < 5; i++) {
+            limiter.processRecords(createRecords(1), records -> sleep());
+            limiter.adjust(false, 100);
+            observedLimits.add(List.of(limiter.concurrencyLimit(), limiter.batchSizeLimit()));
+        }
+
+        assertThat(observedLimits).containsExactly(
+                List.of(8, 5),
+                List.of(8, 3),
+                List.of(4, 3),
+                List.of(2, 3),
+                List.of(2, 3));
+    }
+
+    @Test
+    public void testAdjustDecreasesConcurrencyWhenDbPoolSaturated() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo",
+                new AdaptiveConcurrencyLimiter.Options(true, 1, 8, 1, 10, Duration.ofHours(1)), null);
+
+        limiter.adjust(true, 100);
+        assertThat(limiter.concurrencyLimit()).isEqualTo(4);
+        assertThat(limiter.batchSizeLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void testAdjustIncreasesLimitsWhenLagging() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo",
+                new AdaptiveConcurrencyLimiter.Options(true, 1, 4, 1, 10, Duration.ZERO), null);
+
+        limiter.processRecords(createRecords(1), records -> sleep());
+        limiter.adjust(false, 0); // Batch size 10 -> 5
+        limiter.processRecords(createRecords(1), records -> sleep());
+        limiter.adjust(false, 0); // Batch size 5 -> 2
+        limiter.processRecords(createRecords(1), records -> sleep());
+        limiter.adjust(false, 0); // Batch size 2 -> 1
+        limiter.adjust(true, 0); // Concurrency 4 -> 2
+        assertThat(limiter.concurrencyLimit()).isEqualTo(2);
+        assertThat(limiter.batchSizeLimit()).isEqualTo(1);
+
+        // Without lag, limits are not increased.
+        limiter.adjust(false, 0);
+        assertThat(limiter.concurrencyLimit()).isEqualTo(2);
+
+        // With lag, concurrency is increased additively, but never beyond the maximum.
+        // Batch size is not increased unless latency was observed to be well below target.
+        limiter.adjust(false, 100);
+        assertThat(limiter.concurrencyLimit()).isEqualTo(3);
+        limiter.adjust(false, -1);
+        assertThat(limiter.concurrencyLimit()).isEqualTo(4);
+        limiter.adjust(false, 100);
+        assertThat(limiter.concurrencyLimit()).isEqualTo(4);
+        assertThat(limiter.batchSizeLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAdjustIncreasesBatchSizeWhenLatencyWellBelowTarget() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo",
+                new AdaptiveConcurrencyLimiter.Options(true, 1, 4, 1, 10, Duration.ofHours(1)), null);
+
+        limiter.processRecords(createRecords(1), records -> {
+        });
+        limiter.adjust(false, 100);
+        assertThat(limiter.batchSizeLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void testAdjustWhenNotAdaptive() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo",
+                new AdaptiveConcurrencyLimiter.Options(false, 1, 4, 1, 10, Duration.ZERO), null);
+
+        limiter.processRecords(createRecords(1), records -> sleep());
+        limiter.adjust(true, 100);
+        assertThat(limiter.concurrencyLimit()).isEqualTo(4);
+        assertThat(limiter.batchSizeLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void testProcessRecordsReleasesGlobalBudget() {
+        final var globalBudget = new Semaphore(1);
+        final var limiter = new AdaptiveConcurrencyLimiter("foo",
+                new AdaptiveConcurrencyLimiter.Options(false, 1, 1, 1, 1, Duration.ZERO), globalBudget);
+
+        final var availablePermits = new ArrayList<Integer>();
+        limiter.processRecords(createRecords(2), records -> availablePermits.add(globalBudget.availablePermits()));
+        assertThat(availablePermits).containsExactly(0, 0);
+        assertThat(globalBudget.availablePermits()).isEqualTo(1);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+                limiter.processRecords(createRecords(1), records -> {
+                    throw new IllegalStateException();
+                }));
+        assertThat(globalBudget.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOptionsValidation() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                new AdaptiveConcurrencyLimiter.Options(true, 5, 4, 1, 10, Duration.ZERO));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                new AdaptiveConcurrencyLimiter.Options(true, 1, 4, 0, 10, Duration.ZERO));
+    }
+
+    private static List<ConsumerRecord<byte[], byte[]>> createRecords(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ConsumerRecord<byte[], byte[]>("topic", 0, i, null, null))
+                .toList();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -298,4 +298,51 @@ public class ProcessorManagerTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGetProcessorStatuses() throws Exception {
+        final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
+        adminClient.createTopics(List.of(new NewTopic(inputTopic.name(), 3, (short) 1))).all().get();
+
+        environmentVariables.set("KAFKA_PROCESSOR_STATUS_PROCESSING_ORDER", "key");
+        environmentVariables.set("KAFKA_PROCESSOR_STATUS_MAX_BATCH_SIZE", "10");
+        environmentVariables.set("KAFKA_PROCESSOR_STATUS_CONSUMER_AUTO_OFFSET_RESET", "earliest");
+
+        final BatchProcessor<String, String> recordProcessor = records -> {
+            if (records.stream().anyMatch(record -> "poison".equals(record.value()))) {
+                throw new IllegalStateException("Poison record");
+            }
+        };
+
+        try (final var processorManager = new ProcessorManager()) {
+            processorManager.registerBatchProcessor("status", inputTopic, recordProcessor);
+
+            for (int i = 0; i < 100; i++) {
+                producer.send(new ProducerRecord<>("input", "foo" + i, "bar" + i));
+            }
+            producer.send(new ProducerRecord<>("input", "poison", "poison")).get();
+
+            processorManager.startAll();
+
+            await("Record Processing")
+                    .atMost(Duration.ofSeconds(15))
+                    .untilAsserted(() -> assertThat(processorManager.getProcessorStatuses()).satisfiesExactly(status -> {
+                        assertThat(status.name()).isEqualTo("status");
+                        assertThat(status.topic()).isEqualTo("input");
+                        assertThat(status.consumerGroupId()).isEqualTo("status");
+                        assertThat(status.healthy()).isTrue();
+                        assertThat(status.failureReason()).isNull();
+                        assertThat(status.adaptiveConcurrency()).isFalse();
+                        assertThat(status.concurrencyLimit()).isEqualTo(1);
+                        assertThat(status.batchSizeLimit()).isEqualTo(10);
+                        assertThat(status.recordsProcessed() + status.recordsSkipped()).isEqualTo(101);
+                        assertThat(status.recordsSkipped()).isPositive();
+                        assertThat(status.retries()).isZero();
+                        assertThat(status.recordsPerSecond()).isPositive();
+                        assertThat(status.meanBatchSize()).isBetween(1.0, 10.0);
+                        assertThat(status.partitionLags()).containsOnlyKeys(0, 1, 2);
+                        assertThat(status.partitionLags()).allSatisfy((partition, lag) -> assertThat(lag).isZero());
+                    }));
+        }
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import alpine.event.framework.EventServices;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
+import org.dependencytrack.resources.v1.vo.CloneProjectRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class DurableEventServiceTest extends PersistenceCapableTest {
+
+    public static class RecordingSubscriber implements Subscriber {
+
+        private static final List<Event> EVENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void inform(final Event event) {
+            EVENTS.add(event);
+        }
+
+    }
+
+    public static class FailingSubscriber implements Subscriber {
+
+        private static final List<Event> EVENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void inform(final Event event) {
+            EVENTS.add(event);
+            throw new IllegalStateException("Boom");
+        }
+
+    }
+
+    private DurableEventService eventService;
+
+    @Before
+    public void before() throws Exception {
+        super.before();
+
+        RecordingSubscriber.EVENTS.clear();
+        FailingSubscriber.EVENTS.clear();
+
+        eventService = new DurableEventService(new DurableEventService.Options(
+                Duration.ofMillis(100), Duration.ofMinutes(5), 2, Duration.ZERO));
+        EventServices.register(eventService);
+    }
+
+    @After
+    public void after() {
+        EventServices.unregister(eventService);
+        eventService.shutdown(Duration.ofSeconds(5));
+
+        super.after();
+    }
+
+    @Test
+    public void testPublishAndProcess() {
+        eventService.subscribe(ProjectMetricsUpdateEvent.class, RecordingSubscriber.class, 2);
+
+        final var event = new ProjectMetricsUpdateEvent(UUID.randomUUID(), true);
+        eventService.publish(event);
+        assertThat(eventService.isEventBeingProcessed(event.getChainIdentifier())).isTrue();
+        assertThat(Event.isEventBeingProcessed(event.getChainIdentifier())).isTrue();
+
+        eventService.poll();
+
+        await("Event Processing")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getQueueSize()).isZero());
+
+        assertThat(RecordingSubscriber.EVENTS).satisfiesExactly(informedEvent -> {
+            assertThat(informedEvent).isInstanceOf(ProjectMetricsUpdateEvent.class);
+            final var metricsUpdateEvent = (ProjectMetricsUpdateEvent) informedEvent;
+            assertThat(metricsUpdateEvent.getUuid()).isEqualTo(event.getUuid());
+            assertThat(metricsUpdateEvent.isIncremental()).isTrue();
+            assertThat(metricsUpdateEvent.getChainIdentifier()).isEqualTo(event.getChainIdentifier());
+        });
+        assertThat(eventService.isEventBeingProcessed(event.getChainIdentifier())).isFalse();
+    }
+
+    @Test
+    public void testPublishCoalescesPendingEvents() {
+        eventService.subscribe(ProjectMetricsUpdateEvent.class, RecordingSubscriber.class);
+
+        final UUID projectUuid = UUID.randomUUID();
+        eventService.publish(new ProjectMetricsUpdateEvent(projectUuid));
+        eventService.publish(new ProjectMetricsUpdateEvent(projectUuid));
+        eventService.publish(new ProjectMetricsUpdateEvent(projectUuid, /* incremental */ true));
+        eventService.publish(new ProjectMetricsUpdateEvent(UUID.randomUUID()));
+        assertThat(getQueueSize()).isEqualTo(3);
+
+        // Events with chained events must not be coalesced.
+        final var chainedEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        chainedEvent.onSuccess(new ProjectMetricsUpdateEvent(UUID.randomUUID()));
+        eventService.publish(chainedEvent);
+        assertThat(getQueueSize()).isEqualTo(4);
+    }
+
+    @Test
+    public void testPublishDoesNotCoalesceEventsOfTrackedWorkflows() {
+        eventService.subscribe(ProjectMetricsUpdateEvent.class, RecordingSubscriber.class);
+
+        final UUID projectUuid = UUID.randomUUID();
+        final UUID workflowToken = UUID.randomUUID();
+        withJdbiHandle(handle -> handle.createUpdate("""
+                INSERT INTO "WORKFLOW_STATE" ("STEP", "STATUS", "TOKEN", "UPDATED_AT")
+                VALUES ('METRICS_UPDATE', 'PENDING', :token, NOW())
+                """)
+                .bind("token", workflowToken)
+                .execute());
+
+        final var event = new ProjectMetricsUpdateEvent(projectUuid);
+        event.setChainIdentifier(workflowToken);
+        eventService.publish(event);
+        eventService.publish(new ProjectMetricsUpdateEvent(projectUuid));
+        assertThat(getQueueSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void testChainedEventsAreDispatchedOnSuccess() {
+        eventService.subscribe(ProjectPolicyEvaluationEvent.class, RecordingSubscriber.class);
+        eventService.subscribe(ProjectMetricsUpdateEvent.class, RecordingSubscriber.class);
+
+        final UUID projectUuid = UUID.randomUUID();
+        final var policyEvalEvent = new ProjectPolicyEvaluationEvent(projectUuid);
+        policyEvalEvent.onSuccess(new ProjectMetricsUpdateEvent(projectUuid, /* incremental */ true));
+        eventService.publish(policyEvalEvent);
+
+        eventService.poll();
+
+        await("Policy Evaluation")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(RecordingSubscriber.EVENTS).hasSize(1));
+        await("Metrics Update Dispatch")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getEventTypesInQueue())
+                        .containsExactly(ProjectMetricsUpdateEvent.class.getName()));
+
+        eventService.poll();
+
+        await("Metrics Update")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getQueueSize()).isZero());
+
+        assertThat(RecordingSubscriber.EVENTS).satisfiesExactly(
+                informedEvent -> assertThat(informedEvent).isInstanceOf(ProjectPolicyEvaluationEvent.class),
+                informedEvent -> {
+                    assertThat(informedEvent).isInstanceOf(ProjectMetricsUpdateEvent.class);
+                    assertThat(((ChainableEvent) informedEvent).getChainIdentifier())
+                            .isEqualTo(policyEvalEvent.getChainIdentifier());
+                });
+    }
+
+    @Test
+    public void testRetryAndFailure() {
+        eventService.subscribe(ProjectPolicyEvaluationEvent.class, FailingSubscriber.class);
+        eventService.subscribe(ProjectMetricsUpdateEvent.class, RecordingSubscriber.class);
+
+        final UUID projectUuid = UUID.randomUUID();
+        final var policyEvalEvent = new ProjectPolicyEvaluationEvent(projectUuid);
+        policyEvalEvent.onFailure(new ProjectMetricsUpdateEvent(projectUuid));
+        eventService.publish(policyEvalEvent);
+
+        eventService.poll();
+
+        await("Retry Scheduling")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getUnclaimedQueueSize()).isEqualTo(1));
+        assertThat(FailingSubscriber.EVENTS).hasSize(1);
+
+        eventService.poll();
+
+        // The maximum of two attempts is exhausted, causing the onFailure chain to be dispatched.
+        await("Failure Handling")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getEventTypesInQueue())
+                        .containsExactly(ProjectMetricsUpdateEvent.class.getName()));
+        assertThat(FailingSubscriber.EVENTS).hasSize(2);
+    }
+
+    @Test
+    public void testCloneProjectEventRoundTrip() {
+        final var request = new CloneProjectRequest(UUID.randomUUID().toString(), "2.0.0",
+                true, false, false, true, true, false, true, true, false);
+        final var event = new CloneProjectEvent(request);
+
+        final ChainableEvent decodedEvent = DurableEventCodec.decode(DurableEventCodec.encode(event));
+        assertThat(decodedEvent).isInstanceOf(CloneProjectEvent.class);
+        assertThat(decodedEvent.getChainIdentifier()).isEqualTo(event.getChainIdentifier());
+        assertThat(((CloneProjectEvent) decodedEvent).getRequest()).usingRecursiveComparison().isEqualTo(request);
+        assertThat(DurableEventCodec.coalescingKey(event)).isNull();
+    }
+
+    @Test
+    public void testPublishUnsupportedEvent() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> eventService.subscribe(PortfolioMetricsUpdateEvent.class, RecordingSubscriber.class));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> eventService.publish(new PortfolioMetricsUpdateEvent()));
+    }
+
+    private static long getQueueSize() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*) FROM "EVENT_QUEUE"
+                        """)
+                .mapTo(Long.class)
+                .one());
+    }
+
+    private static long getUnclaimedQueueSize() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*) FROM "EVENT_QUEUE" WHERE "LEASE_ID" IS NULL
+                        """)
+                .mapTo(Long.class)
+                .one());
+    }
+
+    private static List<String> getEventTypesInQueue() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "EVENT_TYPE" FROM "EVENT_QUEUE" ORDER BY "ID"
+                        """)
+                .mapTo(String.class)
+                .list());
+    }
+
+}
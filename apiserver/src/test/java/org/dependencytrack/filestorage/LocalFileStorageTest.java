@@ -24,7 +24,9 @@ import org.dependencytrack.proto.filestorage.v1.FileMetadata;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -114,6 +116,79 @@ public class LocalFileStorageTest {
         assertThat(retrievedFileContent).isEqualTo(fileContent);
     }
 
+    @Test
+    @SuppressWarnings("resource")
+    public void storeStreamShouldCompressFileWithSizeAboveCompressionThreshold() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString()),
+                Map.entry(CONFIG_COMPRESSION_THRESHOLD_BYTES.name(), "64"))));
+
+        final var storage = (LocalFileStorage) storageFactory.create();
+
+        final byte[] fileContent = "a".repeat(256).getBytes();
+        final String fileContentDigestHex = DigestUtils.sha256Hex(fileContent);
+
+        final FileMetadata fileMetadata = storage.store("foo", new ByteArrayInputStream(fileContent));
+        assertThat(fileMetadata).isNotNull();
+        assertThat(fileMetadata.getMediaType()).isEqualTo("application/octet-stream");
+
+        // Digest must be calculated on the compressed file content.
+        assertThat(fileMetadata.getSha256Digest()).isNotEqualTo(fileContentDigestHex);
+
+        // File on disk must in fact be smaller as a result of compression.
+        final Path filePath = storage.resolveFilePath(fileMetadata);
+        assertThat(Files.readAllBytes(filePath)).hasSizeLessThan(32);
+        assertThat(DigestUtils.sha256Hex(Files.readAllBytes(filePath))).isEqualTo(fileMetadata.getSha256Digest());
+
+        // File must be transparently decompressed during retrieval, no matter how it is retrieved.
+        assertThat(storage.get(fileMetadata)).isEqualTo(fileContent);
+        try (final InputStream inputStream = storage.getAsStream(fileMetadata)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(fileContent);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    public void storeStreamShouldNotCompressFileWithSizeBelowCompressionThreshold() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString()),
+                Map.entry(CONFIG_COMPRESSION_THRESHOLD_BYTES.name(), "64"))));
+
+        final var storage = (LocalFileStorage) storageFactory.create();
+
+        final FileMetadata fileMetadata = storage.store("foo", new ByteArrayInputStream("baz".getBytes()));
+        assertThat(fileMetadata.getSha256Digest()).isEqualTo("baa5a0964d3320fbc0c6a922140453c8513ea24ab8fd0577034804a967248096");
+        assertThat(storage.resolveFilePath(fileMetadata)).hasContent("baz");
+
+        try (final InputStream inputStream = storage.getAsStream(fileMetadata)) {
+            assertThat(inputStream.readAllBytes()).asString().isEqualTo("baz");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    public void getAsStreamShouldThrowWhenFileWithDigestMismatch() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString()),
+                Map.entry(CONFIG_COMPRESSION_THRESHOLD_BYTES.name(), "64"))));
+
+        final FileStorage storage = storageFactory.create();
+
+        final FileMetadata fileMetadata = storage.store("foo", new ByteArrayInputStream("a".repeat(256).getBytes()));
+        final FileMetadata modifiedFileMetadata = fileMetadata.toBuilder()
+                .setSha256Digest(HexFormat.of().formatHex("mismatch".getBytes()))
+                .build();
+
+        try (final InputStream inputStream = storage.getAsStream(modifiedFileMetadata)) {
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(inputStream::readAllBytes)
+                    .withMessageStartingWith("SHA256 digest mismatch");
+        }
+    }
+
     @Test
     @SuppressWarnings("resource")
     public void storeShouldOverwriteExistingFile() throws Exception {
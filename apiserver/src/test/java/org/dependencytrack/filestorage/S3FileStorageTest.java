@@ -31,7 +31,9 @@ import org.junit.Test;
 import org.testcontainers.containers.MinIOContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.nio.file.NoSuchFileException;
 import java.util.Map;
@@ -184,6 +186,44 @@ public class S3FileStorageTest {
         }
     }
 
+    @Test
+    public void storeStreamShouldCompressFileWithSizeAboveCompressionThreshold() throws Exception {
+        final var configRegistry = new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_ENDPOINT.name(), minioContainer.getS3URL()),
+                Map.entry(CONFIG_ACCESS_KEY.name(), minioContainer.getUserName()),
+                Map.entry(CONFIG_SECRET_KEY.name(), minioContainer.getPassword()),
+                Map.entry(CONFIG_BUCKET.name(), "test"),
+                Map.entry(CONFIG_COMPRESSION_THRESHOLD_BYTES.name(), "64")));
+
+        try (final var storageFactory = new S3FileStorageFactory()) {
+            storageFactory.init(configRegistry);
+
+            final FileStorage storage = storageFactory.create();
+
+            final byte[] fileContent = "a".repeat(256).getBytes();
+            final String fileContentDigestHex = DigestUtils.sha256Hex(fileContent);
+
+            final FileMetadata fileMetadata = storage.store("foo/bar", new ByteArrayInputStream(fileContent));
+            assertThat(fileMetadata).isNotNull();
+
+            // Digest must be calculated on the compressed file content.
+            assertThat(fileMetadata.getSha256Digest()).isNotEqualTo(fileContentDigestHex);
+
+            // File on disk must in fact be smaller as a result of compression.
+            final GetObjectResponse response = s3Client.getObject(
+                    GetObjectArgs.builder()
+                            .bucket("test")
+                            .object("foo/bar")
+                            .build());
+            assertThat(response.readAllBytes()).hasSizeLessThan(32);
+
+            // File must be transparently decompressed during retrieval.
+            try (final InputStream inputStream = storage.getAsStream(fileMetadata)) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(fileContent);
+            }
+        }
+    }
+
     @Test
     public void storeShouldOverwriteExistingFile() throws Exception {
         final var configRegistry = new MockConfigRegistry(Map.ofEntries(
@@ -21,8 +21,10 @@ package org.dependencytrack.model;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -134,4 +136,25 @@ public class VersionDistanceTest {
         assertThrows(IllegalArgumentException.class, () -> VersionDistance.parse("1.2.3a.1"));
     }
 
+    @Test
+    public void testParsePolicyConditionValue() {
+        assertEquals(List.of(new VersionDistance(1, -1, -1, -1), new VersionDistance(0, 1, -1, -1)),
+                VersionDistance.parse(org.dependencytrack.proto.policy.v1.VersionDistance.newBuilder()
+                        .setEpoch("1").setMajor("1").build()));
+        assertEquals(List.of(new VersionDistance(0, 0, 0)),
+                VersionDistance.parse(org.dependencytrack.proto.policy.v1.VersionDistance.getDefaultInstance()));
+
+        assertThrows(IllegalArgumentException.class, () -> VersionDistance.parse(
+                org.dependencytrack.proto.policy.v1.VersionDistance.newBuilder().setMajor("1a").build()));
+    }
+
+    @Test
+    public void testEvaluateParsedPolicyConditionValue() {
+        final List<VersionDistance> policyDistances = VersionDistance.parse(
+                org.dependencytrack.proto.policy.v1.VersionDistance.newBuilder().setMajor("1").build());
+
+        assertTrue(VersionDistance.evaluate(policyDistances, "NUMERIC_GREATER_THAN_OR_EQUAL", new VersionDistance("2.?.?")));
+        assertFalse(VersionDistance.evaluate(policyDistances, "NUMERIC_GREATER_THAN_OR_EQUAL", new VersionDistance("0.1.?")));
+    }
+
 }
\ No newline at end of file
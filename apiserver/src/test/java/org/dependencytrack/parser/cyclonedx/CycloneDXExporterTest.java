@@ -0,0 +1,176 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import alpine.common.logging.Logger;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.parsers.XmlParser;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ServiceComponent;
+import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.QueryManager;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+public class CycloneDXExporterTest extends PersistenceCapableTest {
+
+    private static final Logger LOGGER = Logger.getLogger(CycloneDXExporterTest.class);
+
+    @Test
+    public void testStreamingExportJson() throws Exception {
+        final Project project = createProjectWithComponents(1001);
+
+        for (final CycloneDXExporter.Variant variant : CycloneDXExporter.Variant.values()) {
+            final String expectedBom = exportLegacy(project, variant, CycloneDXExporter.Format.JSON);
+            final String actualBom = exportStreaming(project, variant, CycloneDXExporter.Format.JSON);
+
+            assertThatNoException().isThrownBy(() -> CycloneDxValidator.getInstance().validate(actualBom.getBytes()));
+            assertThatJson(actualBom)
+                    .whenIgnoringPaths("serialNumber", "metadata.timestamp")
+                    .isEqualTo(expectedBom);
+        }
+    }
+
+    @Test
+    public void testStreamingExportXml() throws Exception {
+        final Project project = createProjectWithComponents(1001);
+
+        for (final CycloneDXExporter.Variant variant : CycloneDXExporter.Variant.values()) {
+            final String expectedBom = exportLegacy(project, variant, CycloneDXExporter.Format.XML);
+            final String actualBom = exportStreaming(project, variant, CycloneDXExporter.Format.XML);
+
+            assertThatNoException().isThrownBy(() -> CycloneDxValidator.getInstance().validate(actualBom.getBytes()));
+
+            final Bom expectedParsedBom = new XmlParser().parse(expectedBom.getBytes());
+            final Bom actualParsedBom = new XmlParser().parse(actualBom.getBytes());
+            assertThat(actualParsedBom.getMetadata().getComponent()).isEqualTo(expectedParsedBom.getMetadata().getComponent());
+            assertThat(actualParsedBom.getComponents()).isEqualTo(expectedParsedBom.getComponents());
+            assertThat(actualParsedBom.getServices()).isEqualTo(expectedParsedBom.getServices());
+            assertThat(actualParsedBom.getDependencies()).isEqualTo(expectedParsedBom.getDependencies());
+            assertThat(actualParsedBom.getVulnerabilities()).isEqualTo(expectedParsedBom.getVulnerabilities());
+        }
+    }
+
+    @Test
+    public void testStreamingExportWithoutComponents() throws Exception {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final String bom = exportStreaming(project, CycloneDXExporter.Variant.INVENTORY, CycloneDXExporter.Format.JSON);
+        assertThatJson(bom)
+                .whenIgnoringPaths("serialNumber", "metadata.timestamp")
+                .isEqualTo(exportLegacy(project, CycloneDXExporter.Variant.INVENTORY, CycloneDXExporter.Format.JSON));
+    }
+
+    @Test
+    @Ignore("Benchmark; Run manually to compare export performance on a generated dataset")
+    public void benchmarkExport() throws Exception {
+        final Project project = createProjectWithComponents(10_000);
+
+        for (int i = 0; i < 3; i++) {
+            for (final CycloneDXExporter.Format format : CycloneDXExporter.Format.values()) {
+                long startTimeNs = System.nanoTime();
+                final int legacyLength = exportLegacy(project, CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES, format).length();
+                LOGGER.info("Run %d of legacy %s export completed in %s (%d chars)"
+                        .formatted(i, format, Duration.ofNanos(System.nanoTime() - startTimeNs), legacyLength));
+
+                startTimeNs = System.nanoTime();
+                final int streamingLength = exportStreaming(project, CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES, format).length();
+                LOGGER.info("Run %d of streaming %s export completed in %s (%d chars)"
+                        .formatted(i, format, Duration.ofNanos(System.nanoTime() - startTimeNs), streamingLength));
+            }
+        }
+    }
+
+    private Project createProjectWithComponents(final int componentCount) {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var vulnerability = new Vulnerability();
+        vulnerability.setVulnId("INT-001");
+        vulnerability.setSource(Vulnerability.Source.INTERNAL);
+        vulnerability.setSeverity(Severity.HIGH);
+        qm.createVulnerability(vulnerability, false);
+
+        final var components = new ArrayList<Component>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-%05d".formatted(i));
+            component.setVersion("1.0.0");
+            components.add(qm.createComponent(component, false));
+
+            if (i % 10 == 0) {
+                qm.addVulnerability(vulnerability, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+            }
+        }
+
+        // Build a chain of dependencies, with the project depending on the first component.
+        project.setDirectDependencies("[{\"uuid\": \"%s\"}]".formatted(components.getFirst().getUuid()));
+        qm.persist(project);
+        for (int i = 0; i < components.size() - 1; i++) {
+            final Component component = components.get(i);
+            component.setDirectDependencies("[{\"uuid\": \"%s\"}]".formatted(components.get(i + 1).getUuid()));
+            qm.persist(component);
+        }
+
+        final var service = new ServiceComponent();
+        service.setProject(project);
+        service.setName("acme-service");
+        qm.persist(service);
+
+        return project;
+    }
+
+    private static String exportLegacy(
+            final Project project,
+            final CycloneDXExporter.Variant variant,
+            final CycloneDXExporter.Format format) throws Exception {
+        try (final var exportQm = new QueryManager()) {
+            final var exporter = new CycloneDXExporter(variant, exportQm);
+            return exporter.export(exporter.create(exportQm.getObjectById(Project.class, project.getId())), format);
+        }
+    }
+
+    private static String exportStreaming(
+            final Project project,
+            final CycloneDXExporter.Variant variant,
+            final CycloneDXExporter.Format format) throws Exception {
+        try (final var exportQm = new QueryManager()) {
+            final var outputStream = new ByteArrayOutputStream();
+            new CycloneDXExporter(variant, exportQm).export(exportQm.getObjectById(Project.class, project.getId()), format, outputStream);
+            return outputStream.toString();
+        }
+    }
+
+}
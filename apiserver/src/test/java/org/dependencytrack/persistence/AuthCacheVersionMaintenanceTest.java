@@ -0,0 +1,111 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.model.ApiKey;
+import alpine.model.ConfigProperty;
+import alpine.model.IConfigProperty;
+import alpine.model.ManagedUser;
+import alpine.model.Permission;
+import alpine.model.Team;
+import org.dependencytrack.PersistenceCapableTest;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class AuthCacheVersionMaintenanceTest extends PersistenceCapableTest {
+
+    @Test
+    public void shouldIncrementVersionOnApiKeyChange() {
+        final Team team = qm.createTeam("foo");
+        final ApiKey apiKey = qm.createApiKey(team);
+
+        final long versionBefore = getAuthCacheVersion();
+        qm.regenerateApiKey(apiKey);
+        assertThat(getAuthCacheVersion()).isGreaterThan(versionBefore);
+    }
+
+    @Test
+    public void shouldIncrementVersionOnTeamMembershipChange() {
+        final Team team = qm.createTeam("foo");
+        final ManagedUser user = qm.createManagedUser("username", TEST_PASSWORD_HASH);
+
+        final long versionBefore = getAuthCacheVersion();
+        qm.addUserToTeam(user, team);
+        final long versionAfterAdd = getAuthCacheVersion();
+        assertThat(versionAfterAdd).isGreaterThan(versionBefore);
+
+        qm.removeUserFromTeam(user, team);
+        assertThat(getAuthCacheVersion()).isGreaterThan(versionAfterAdd);
+    }
+
+    @Test
+    public void shouldIncrementVersionOnTeamPermissionChange() {
+        final Team team = qm.createTeam("foo");
+        final Permission permission = qm.createPermission("BAR", null);
+
+        final long versionBefore = getAuthCacheVersion();
+        qm.runInTransaction(() -> team.setPermissions(List.of(permission)));
+        final long versionAfterAdd = getAuthCacheVersion();
+        assertThat(versionAfterAdd).isGreaterThan(versionBefore);
+
+        qm.runInTransaction(() -> team.setPermissions(List.of()));
+        assertThat(getAuthCacheVersion()).isGreaterThan(versionAfterAdd);
+    }
+
+    @Test
+    public void shouldIncrementVersionOnAclConfigChange() {
+        final long versionBefore = getAuthCacheVersion();
+        final ConfigProperty property = qm.createConfigProperty(
+                ACCESS_MANAGEMENT_ACL_ENABLED.getGroupName(),
+                ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyName(),
+                "false",
+                ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyType(),
+                null);
+        final long versionAfterCreate = getAuthCacheVersion();
+        assertThat(versionAfterCreate).isGreaterThan(versionBefore);
+
+        qm.runInTransaction(() -> property.setPropertyValue("true"));
+        final long versionAfterUpdate = getAuthCacheVersion();
+        assertThat(versionAfterUpdate).isGreaterThan(versionAfterCreate);
+
+        qm.delete(property);
+        assertThat(getAuthCacheVersion()).isGreaterThan(versionAfterUpdate);
+    }
+
+    @Test
+    public void shouldNotIncrementVersionOnUnrelatedConfigChange() {
+        final long versionBefore = getAuthCacheVersion();
+        qm.createConfigProperty("foo", "bar", "baz", IConfigProperty.PropertyType.STRING, null);
+        assertThat(getAuthCacheVersion()).isEqualTo(versionBefore);
+    }
+
+    private static long getAuthCacheVersion() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COALESCE(MAX("VERSION"), 0) FROM "AUTH_CACHE_VERSION"
+                        """)
+                .mapTo(Long.class)
+                .one());
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.License;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LicenseRegistryTest extends PersistenceCapableTest {
+
+    @Test
+    public void testResolveIdByIdOrName() {
+        final var license = new License();
+        license.setLicenseId("MIT");
+        license.setName("MIT License");
+        qm.persist(license);
+
+        final var registry = LicenseRegistry.getInstance();
+        assertThat(registry.resolveIdByIdOrName("MIT")).isEqualTo(license.getId());
+        assertThat(registry.resolveIdByIdOrName("MIT License")).isEqualTo(license.getId());
+        assertThat(registry.resolveIdByIdOrName("mit")).isNull();
+        assertThat(registry.resolveIdByIdOrName("Apache-2.0")).isNull();
+    }
+
+    @Test
+    public void testResolveIdByIdOrNameShouldPreferLowestLicenseId() {
+        final var licenseB = new License();
+        licenseB.setLicenseId("B");
+        licenseB.setName("foo");
+        qm.persist(licenseB);
+
+        final var licenseA = new License();
+        licenseA.setLicenseId("A");
+        licenseA.setName("B");
+        qm.persist(licenseA);
+
+        // Mirror the ordering of LicenseQueryManager#getLicenseByIdOrName.
+        assertThat(LicenseRegistry.getInstance().resolveIdByIdOrName("B"))
+                .isEqualTo(licenseA.getId())
+                .isEqualTo(qm.getLicenseByIdOrName("B").getId());
+    }
+
+    @Test
+    public void testResolveCustomLicenseIdByName() {
+        final var license = new License();
+        license.setLicenseId("MIT");
+        license.setName("MIT License");
+        qm.persist(license);
+
+        final var customLicense = new License();
+        customLicense.setName("custom license foobar");
+        qm.createCustomLicense(customLicense, false);
+
+        final var registry = LicenseRegistry.getInstance();
+        assertThat(registry.resolveCustomLicenseIdByName("custom license foobar")).isEqualTo(customLicense.getId());
+        assertThat(registry.resolveCustomLicenseIdByName("MIT License")).isNull();
+    }
+
+    @Test
+    public void testInvalidationOnLicenseModification() {
+        final var registry = LicenseRegistry.getInstance();
+        assertThat(registry.resolveCustomLicenseIdByName("custom license foobar")).isNull();
+
+        final var customLicense = new License();
+        customLicense.setName("custom license foobar");
+        qm.createCustomLicense(customLicense, false);
+        assertThat(registry.resolveCustomLicenseIdByName("custom license foobar")).isEqualTo(customLicense.getId());
+
+        qm.deleteLicense(customLicense, false);
+        assertThat(registry.resolveCustomLicenseIdByName("custom license foobar")).isNull();
+    }
+
+    @Test
+    public void testRebuildAfterMaxAge() throws Exception {
+        final var loadCount = new AtomicInteger();
+        final var registry = new LicenseRegistry(Duration.ofMillis(50), () -> {
+            loadCount.incrementAndGet();
+            return List.of(new LicenseRegistry.Entry(666, "MIT", "MIT License", false));
+        });
+
+        assertThat(registry.resolveIdByIdOrName("MIT")).isEqualTo(666);
+        assertThat(registry.resolveIdByIdOrName("MIT License")).isEqualTo(666);
+        assertThat(loadCount).hasValue(1);
+
+        Thread.sleep(100);
+
+        assertThat(registry.resolveIdByIdOrName("MIT")).isEqualTo(666);
+        assertThat(loadCount).hasValue(2);
+
+        registry.invalidate();
+
+        assertThat(registry.resolveIdByIdOrName("MIT")).isEqualTo(666);
+        assertThat(loadCount).hasValue(3);
+    }
+
+}
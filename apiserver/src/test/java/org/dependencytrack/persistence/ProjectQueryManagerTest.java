@@ -22,12 +22,18 @@ import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Finding;
+import org.dependencytrack.model.Policy;
+import org.dependencytrack.model.PolicyCondition;
+import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.ViolationAnalysis;
+import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.persistence.jdbi.FindingDao;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -60,4 +66,45 @@ public class ProjectQueryManagerTest extends PersistenceCapableTest {
         assertThat(finding).isNotNull();
         assertThat(finding.getAttribution().isEmpty()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCloneProjectWithPolicyViolations() {
+        final Project project = qm.createProject("Example Project 1", "Description 1", "1.0", null, null, null, null, false);
+        final var component = new Component();
+        component.setName("name");
+        component.setVersion("1.0");
+        component.setProject(project);
+        qm.createComponent(component, false);
+
+        final Policy policy = qm.createPolicy("policy", Policy.Operator.ALL, Policy.ViolationState.FAIL);
+        final PolicyCondition condition = qm.createPolicyCondition(policy,
+                PolicyCondition.Subject.VERSION, PolicyCondition.Operator.NUMERIC_EQUAL, "1.0");
+        final var violation = new PolicyViolation();
+        violation.setComponent(component);
+        violation.setPolicyCondition(condition);
+        violation.setType(PolicyViolation.Type.OPERATIONAL);
+        violation.setTimestamp(new Date());
+        qm.persist(violation);
+        final ViolationAnalysis violationAnalysis = qm.makeViolationAnalysis(
+                component, violation, ViolationAnalysisState.APPROVED, true);
+        qm.makeViolationAnalysisComment(violationAnalysis, "comment", "commenter");
+
+        final var progress = new ArrayList<String>();
+        final Project clonedProject = qm.clone(project.getUuid(), "1.1.0", false, false,
+                true, false, false, false, true, false, progress::add);
+
+        assertThat(progress).containsExactly("1 components", "0 findings", "dependency graph", "1 policy violations");
+        assertThat(qm.getAllPolicyViolations(clonedProject)).satisfiesExactly(clonedViolation -> {
+            assertThat(clonedViolation.getUuid()).isNotEqualTo(violation.getUuid());
+            assertThat(clonedViolation.getComponent().getId()).isNotEqualTo(component.getId());
+            assertThat(clonedViolation.getPolicyCondition()).isEqualTo(condition);
+            assertThat(clonedViolation.getType()).isEqualTo(PolicyViolation.Type.OPERATIONAL);
+            assertThat(clonedViolation.getAnalysis()).satisfies(clonedAnalysis -> {
+                assertThat(clonedAnalysis.getAnalysisState()).isEqualTo(ViolationAnalysisState.APPROVED);
+                assertThat(clonedAnalysis.isSuppressed()).isTrue();
+                assertThat(clonedAnalysis.getAnalysisComments())
+                        .satisfiesExactly(comment -> assertThat(comment.getComment()).isEqualTo("comment"));
+            });
+        });
+    }
+}
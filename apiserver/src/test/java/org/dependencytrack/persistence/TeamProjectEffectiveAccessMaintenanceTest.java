@@ -0,0 +1,155 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.model.Team;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.junit.Test;
+
+import javax.jdo.Query;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class TeamProjectEffectiveAccessMaintenanceTest extends PersistenceCapableTest {
+
+    private Team teamA;
+    private Team teamB;
+    private Project parentProject;
+    private Project childProject;
+    private Project grandChildProject;
+
+    @Override
+    public void before() throws Exception {
+        super.before();
+
+        teamA = qm.createTeam("team-a");
+        teamB = qm.createTeam("team-b");
+
+        // + acme-app-parent  (team-a)
+        // \-+ acme-app-child  (team-b)
+        //   \-+ acme-app-grandchild
+        parentProject = new Project();
+        parentProject.setName("acme-app-parent");
+        parentProject.setAccessTeams(Set.of(teamA));
+        qm.persist(parentProject);
+
+        childProject = new Project();
+        childProject.setParent(parentProject);
+        childProject.setName("acme-app-child");
+        childProject.setAccessTeams(Set.of(teamB));
+        qm.persist(childProject);
+
+        grandChildProject = new Project();
+        grandChildProject.setParent(childProject);
+        grandChildProject.setName("acme-app-grandchild");
+        qm.persist(grandChildProject);
+    }
+
+    @Test
+    public void shouldInheritAccessFromAncestors() {
+        assertThat(getAllEffectiveAccess()).containsExactlyInAnyOrder(
+                new EffectiveAccessRecord(parentProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(childProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(childProject.getId(), teamB.getId()),
+                new EffectiveAccessRecord(grandChildProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldMaintainAccessOnAccessTeamRemoval() {
+        qm.runInTransaction(() -> parentProject.setAccessTeams(new HashSet<>()));
+
+        assertThat(getAllEffectiveAccess()).containsExactlyInAnyOrder(
+                new EffectiveAccessRecord(childProject.getId(), teamB.getId()),
+                new EffectiveAccessRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldMaintainAccessOnAccessTeamAddition() {
+        qm.runInTransaction(() -> grandChildProject.setAccessTeams(new HashSet<>(Set.of(teamA, teamB))));
+
+        // Access granted directly and through ancestors is not duplicated.
+        assertThat(getAllEffectiveAccess()).containsExactlyInAnyOrder(
+                new EffectiveAccessRecord(parentProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(childProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(childProject.getId(), teamB.getId()),
+                new EffectiveAccessRecord(grandChildProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldMaintainAccessOnProjectReparenting() {
+        qm.runInTransaction(() -> grandChildProject.setParent(parentProject));
+
+        // + acme-app-parent  (team-a)
+        // |-+ acme-app-child  (team-b)
+        // \-+ acme-app-grandchild
+        assertThat(getAllEffectiveAccess()).containsExactlyInAnyOrder(
+                new EffectiveAccessRecord(parentProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(childProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(childProject.getId(), teamB.getId()),
+                new EffectiveAccessRecord(grandChildProject.getId(), teamA.getId()));
+    }
+
+    @Test
+    public void shouldMaintainAccessOnProjectDeletion() {
+        withJdbiHandle(handle -> handle.attach(ProjectDao.class).deleteProject(childProject.getUuid()));
+
+        assertThat(getAllEffectiveAccess()).containsExactlyInAnyOrder(
+                new EffectiveAccessRecord(parentProject.getId(), teamA.getId()));
+    }
+
+    @Test
+    public void shouldMaintainAccessOnTeamDeletion() {
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        DELETE FROM "TEAM" WHERE "ID" = :teamId
+                        """)
+                .bind("teamId", teamB.getId())
+                .execute());
+
+        assertThat(getAllEffectiveAccess()).containsExactlyInAnyOrder(
+                new EffectiveAccessRecord(parentProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(childProject.getId(), teamA.getId()),
+                new EffectiveAccessRecord(grandChildProject.getId(), teamA.getId()));
+    }
+
+    public record EffectiveAccessRecord(long projectId, long teamId) {
+    }
+
+    private List<EffectiveAccessRecord> getAllEffectiveAccess() {
+        final Query<?> query = qm.getPersistenceManager().newQuery(Query.SQL, /* language=SQL */ """
+                SELECT "PROJECT_ID" AS "projectId"
+                     , "TEAM_ID" AS "teamId"
+                  FROM "TEAM_PROJECT_EFFECTIVE_ACCESS"
+                """);
+        try {
+            return List.copyOf(query.executeResultList(EffectiveAccessRecord.class));
+        } finally {
+            query.closeAll();
+        }
+    }
+
+}
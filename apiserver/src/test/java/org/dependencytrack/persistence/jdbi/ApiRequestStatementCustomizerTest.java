@@ -609,11 +609,9 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                               FROM "PROJECT"
                              WHERE EXISTS(
                                SELECT 1
-                                 FROM "PROJECT_ACCESS_TEAMS" AS pat
-                                INNER JOIN "PROJECT_HIERARCHY" AS ph
-                                   ON ph."PARENT_PROJECT_ID" = pat."PROJECT_ID"
-                                WHERE pat."TEAM_ID" = ANY(:projectAclTeamIds)
-                                  AND ph."CHILD_PROJECT_ID" = "PROJECT"."ID"
+                                 FROM "TEAM_PROJECT_EFFECTIVE_ACCESS" AS tpea
+                                WHERE tpea."PROJECT_ID" = "PROJECT"."ID"
+                                  AND tpea."TEAM_ID" = ANY(:projectAclTeamIds)
                              )
                             """);
 
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
+import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.Vulnerability;
+import org.jdbi.v3.core.Handle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+
+public class BomExportDaoTest extends PersistenceCapableTest {
+
+    private Handle jdbiHandle;
+    private BomExportDao bomExportDao;
+
+    @Before
+    public void before() throws Exception {
+        super.before();
+        jdbiHandle = openJdbiHandle();
+        bomExportDao = jdbiHandle.attach(BomExportDao.class);
+    }
+
+    @After
+    public void after() {
+        if (jdbiHandle != null) {
+            jdbiHandle.close();
+        }
+        super.after();
+    }
+
+    @Test
+    public void testGetFindingEdgesAndVulnerabilitiesByProject() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+        final Project otherProject = qm.createProject("acme-app-other", null, "1.0", null, null, null, null, false);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        qm.createComponent(componentA, false);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        qm.createComponent(componentB, false);
+
+        final var otherComponent = new Component();
+        otherComponent.setProject(otherProject);
+        otherComponent.setName("acme-lib-a");
+        qm.createComponent(otherComponent, false);
+
+        final var vulnA = new Vulnerability();
+        vulnA.setVulnId("INT-001");
+        vulnA.setSource(Vulnerability.Source.INTERNAL);
+        vulnA.setSeverity(Severity.HIGH);
+        vulnA.setCvssV3BaseScore(BigDecimal.valueOf(7.5));
+        vulnA.setCwes(List.of(79, 89));
+        qm.createVulnerability(vulnA, false);
+
+        final var vulnB = new Vulnerability();
+        vulnB.setVulnId("INT-002");
+        vulnB.setSource(Vulnerability.Source.INTERNAL);
+        qm.createVulnerability(vulnB, false);
+
+        final var otherVuln = new Vulnerability();
+        otherVuln.setVulnId("INT-003");
+        otherVuln.setSource(Vulnerability.Source.INTERNAL);
+        qm.createVulnerability(otherVuln, false);
+
+        qm.addVulnerability(vulnA, componentA, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnA, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnB, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(otherVuln, otherComponent, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        jdbiHandle.attach(AnalysisDao.class).makeAnalysis(project.getId(), componentB.getId(), vulnA.getId(),
+                AnalysisState.NOT_AFFECTED, AnalysisJustification.CODE_NOT_REACHABLE, AnalysisResponse.WILL_NOT_FIX, "details", true);
+
+        assertThat(bomExportDao.getFindingEdgesByProject(project.getId())).containsExactly(
+                new BomExportDao.FindingEdge(componentA.getUuid(), vulnA.getId(), null, null, null, null),
+                new BomExportDao.FindingEdge(componentB.getUuid(), vulnA.getId(), AnalysisState.NOT_AFFECTED,
+                        AnalysisJustification.CODE_NOT_REACHABLE, AnalysisResponse.WILL_NOT_FIX, "details"),
+                new BomExportDao.FindingEdge(componentB.getUuid(), vulnB.getId(), null, null, null, null));
+
+        assertThat(bomExportDao.getVulnerabilitiesByProject(project.getId())).satisfiesExactlyInAnyOrder(
+                vuln -> {
+                    assertThat(vuln.getUuid()).isEqualTo(vulnA.getUuid());
+                    assertThat(vuln.getVulnId()).isEqualTo("INT-001");
+                    assertThat(vuln.getSource()).isEqualTo("INTERNAL");
+                    assertThat(vuln.getSeverity()).isEqualTo(Severity.HIGH);
+                    assertThat(vuln.getCvssV3BaseScore()).isEqualByComparingTo("7.5");
+                    assertThat(vuln.getCwes()).containsExactly(79, 89);
+                },
+                vuln -> assertThat(vuln.getUuid()).isEqualTo(vulnB.getUuid()));
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.VulnerabilityAlias;
+import org.junit.Test;
+
+import javax.jdo.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class VulnerabilityAliasDaoTest extends PersistenceCapableTest {
+
+    @Test
+    public void testSynchronizeAll() {
+        final var aliasA = new VulnerabilityAlias();
+        aliasA.setCveId("CVE-100");
+        aliasA.setGhsaId("GHSA-100");
+
+        final var aliasB = new VulnerabilityAlias();
+        aliasB.setCveId("CVE-100");
+        aliasB.setOsvId("OSV-100");
+
+        final var aliasC = new VulnerabilityAlias();
+        aliasC.setGhsaId("GHSA-200");
+
+        final List<VulnerabilityAlias> syncedAliases = inJdbiTransaction(
+                handle -> handle.attach(VulnerabilityAliasDao.class).synchronizeAll(List.of(aliasA, aliasB, aliasC)));
+        assertThat(syncedAliases).satisfiesExactly(
+                alias -> {
+                    assertThat(alias.getId()).isNotZero();
+                    assertThat(alias.getUuid()).isNotNull();
+                    assertThat(alias.getCveId()).isEqualTo("CVE-100");
+                    assertThat(alias.getGhsaId()).isEqualTo("GHSA-100");
+                    assertThat(alias.getOsvId()).isNull();
+                },
+                alias -> {
+                    assertThat(alias.getId()).isEqualTo(syncedAliases.getFirst().getId());
+                    assertThat(alias.getUuid()).isEqualTo(syncedAliases.getFirst().getUuid());
+                    assertThat(alias.getCveId()).isEqualTo("CVE-100");
+                    assertThat(alias.getGhsaId()).isEqualTo("GHSA-100");
+                    assertThat(alias.getOsvId()).isEqualTo("OSV-100");
+                },
+                alias -> {
+                    assertThat(alias.getId()).isNotEqualTo(syncedAliases.getFirst().getId());
+                    assertThat(alias.getCveId()).isNull();
+                    assertThat(alias.getGhsaId()).isEqualTo("GHSA-200");
+                });
+
+        final Query<VulnerabilityAlias> query = qm.getPersistenceManager().newQuery(VulnerabilityAlias.class);
+        assertThat(query.executeList()).hasSize(2);
+    }
+
+    @Test
+    public void testSynchronizeAllConcurrently() throws Exception {
+        // Each alias shares the CVE ID, but contributes an identifier of a different source.
+        // Regardless of the order in which they are synchronized, they must all be merged into a single alias.
+        final var aliasCustomizers = List.<Consumer<VulnerabilityAlias>>of(
+                alias -> alias.setGhsaId("GHSA-100"),
+                alias -> alias.setGsdId("GSD-100"),
+                alias -> alias.setInternalId("INT-100"),
+                alias -> alias.setOsvId("OSV-100"),
+                alias -> alias.setSnykId("SNYK-100"),
+                alias -> alias.setSonatypeId("OSSINDEX-100"),
+                alias -> alias.setVulnDbId("VULNDB-100"));
+
+        try (final ExecutorService executorService = Executors.newFixedThreadPool(aliasCustomizers.size())) {
+            final var startLatch = new CountDownLatch(1);
+
+            final var futures = new ArrayList<Future<List<VulnerabilityAlias>>>();
+            for (final Consumer<VulnerabilityAlias> aliasCustomizer : aliasCustomizers) {
+                final var alias = new VulnerabilityAlias();
+                alias.setCveId("CVE-100");
+                aliasCustomizer.accept(alias);
+
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return inJdbiTransaction(handle -> handle.attach(VulnerabilityAliasDao.class).synchronizeAll(List.of(alias)));
+                }));
+            }
+
+            startLatch.countDown();
+
+            for (final Future<List<VulnerabilityAlias>> future : futures) {
+                assertThat(future.get()).hasSize(1);
+            }
+        }
+
+        final Query<VulnerabilityAlias> query = qm.getPersistenceManager().newQuery(VulnerabilityAlias.class);
+        assertThat(query.executeList()).satisfiesExactly(alias -> {
+            assertThat(alias.getCveId()).isEqualTo("CVE-100");
+            assertThat(alias.getGhsaId()).isEqualTo("GHSA-100");
+            assertThat(alias.getGsdId()).isEqualTo("GSD-100");
+            assertThat(alias.getInternalId()).isEqualTo("INT-100");
+            assertThat(alias.getOsvId()).isEqualTo("OSV-100");
+            assertThat(alias.getSnykId()).isEqualTo("SNYK-100");
+            assertThat(alias.getSonatypeId()).isEqualTo("OSSINDEX-100");
+            assertThat(alias.getVulnDbId()).isEqualTo("VULNDB-100");
+        });
+    }
+
+    @Test
+    public void testSynchronizeAllWithoutIdentifiers() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> inJdbiTransaction(handle -> handle.attach(VulnerabilityAliasDao.class)
+                        .synchronizeAll(List.of(new VulnerabilityAlias()))));
+    }
+
+    @Test
+    public void testSynchronizeAllWithoutTransaction() {
+        final var alias = new VulnerabilityAlias();
+        alias.setCveId("CVE-100");
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> withJdbiHandle(handle -> handle.attach(VulnerabilityAliasDao.class)
+                        .synchronizeAll(List.of(alias))))
+                .withMessage("Vulnerability aliases can only be synchronized in a transaction");
+    }
+
+}
@@ -18,9 +18,11 @@
  */
 package org.dependencytrack.policy.cel;
 
+import alpine.common.metrics.Metrics;
 import alpine.model.IConfigProperty;
 import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
+import io.micrometer.core.instrument.Counter;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.event.BomUploadEvent;
 import org.dependencytrack.filestorage.FileStorage;
@@ -69,6 +71,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.io.IOUtils.resourceToURL;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1016,6 +1019,163 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         assertThat(qm.getAllPolicyViolations(componentB)).hasSize(1);
     }
 
+    @Test
+    public void testEvaluateProjectInParallelChunks() {
+        final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.is_dependency_of(v1.Component{name: "acme-lib-a"})
+                """, PolicyViolation.Type.OPERATIONAL);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        qm.persist(componentA);
+
+        final var dependencies = new ArrayList<Component>();
+        for (int i = 0; i < 5; i++) {
+            final var dependency = new Component();
+            dependency.setProject(project);
+            dependency.setName("acme-lib-b" + i);
+            qm.persist(dependency);
+            dependencies.add(dependency);
+        }
+
+        project.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentA).toJSON()));
+        componentA.setDirectDependencies(dependencies.stream()
+                .map(dependency -> new ComponentIdentity(dependency).toJSON().toString())
+                .collect(Collectors.joining(",", "[", "]")));
+        qm.persist(project);
+        qm.persist(componentA);
+
+        // Evaluate in chunks of two components, each chunk on a worker thread.
+        new CelPolicyEngine(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT), 2, 3)
+                .evaluateProject(project.getUuid());
+
+        assertThat(qm.getAllPolicyViolations(componentA)).isEmpty();
+        for (final Component dependency : dependencies) {
+            assertThat(qm.getAllPolicyViolations(dependency)).hasSize(1);
+        }
+    }
+
+    @Test
+    public void testEvaluateProjectSkipsUnchangedComponents() {
+        final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.name == "acme-lib-a"
+                """, PolicyViolation.Type.OPERATIONAL);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        qm.persist(componentB);
+
+        final var policyEngine = new CelPolicyEngine();
+        final double evaluatedBefore = getCounterValue("policy_evaluation_components_evaluated");
+        final double skippedBefore = getCounterValue("policy_evaluation_components_skipped");
+
+        policyEngine.evaluateProject(project.getUuid());
+        assertThat(getCounterValue("policy_evaluation_components_evaluated") - evaluatedBefore).isEqualTo(2);
+        assertThat(getCounterValue("policy_evaluation_components_skipped") - skippedBefore).isZero();
+        assertThat(qm.getAllPolicyViolations(componentA)).hasSize(1);
+        final long violationId = qm.getAllPolicyViolations(componentA).getFirst().getId();
+
+        // Neither the policy, nor any component changed; Both components must be skipped,
+        // and the existing violation must be retained.
+        policyEngine.evaluateProject(project.getUuid());
+        assertThat(getCounterValue("policy_evaluation_components_evaluated") - evaluatedBefore).isEqualTo(2);
+        assertThat(getCounterValue("policy_evaluation_components_skipped") - skippedBefore).isEqualTo(2);
+        assertThat(qm.getAllPolicyViolations(componentA)).satisfiesExactly(
+                violation -> assertThat(violation.getId()).isEqualTo(violationId));
+        assertThat(qm.getAllPolicyViolations(componentB)).isEmpty();
+
+        // Only the modified component must be evaluated again.
+        componentB.setName("acme-lib-a");
+        qm.persist(componentB);
+
+        policyEngine.evaluateProject(project.getUuid());
+        assertThat(getCounterValue("policy_evaluation_components_evaluated") - evaluatedBefore).isEqualTo(3);
+        assertThat(getCounterValue("policy_evaluation_components_skipped") - skippedBefore).isEqualTo(3);
+        assertThat(qm.getAllPolicyViolations(componentB)).hasSize(1);
+    }
+
+    private static double getCounterValue(final String name) {
+        final Counter counter = Metrics.getRegistry().find(name).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    public void testEvaluatePolicy() {
+        final var policyA = qm.createPolicy("policy-a", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        final PolicyCondition conditionA = qm.createPolicyCondition(policyA, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.name == "acme-lib-a"
+                """, PolicyViolation.Type.OPERATIONAL);
+        final var policyB = qm.createPolicy("policy-b", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        final PolicyCondition conditionB = qm.createPolicyCondition(policyB, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.name == "acme-lib-b"
+                """, PolicyViolation.Type.OPERATIONAL);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        qm.persist(componentB);
+
+        final var policyEngine = new CelPolicyEngine();
+        policyEngine.evaluateProject(project.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentA)).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(componentB)).hasSize(1);
+
+        assertThat(policyEngine.getProjectsAffectedByPolicy(policyA.getUuid())).containsExactly(project.getUuid());
+
+        conditionA.setValue("""
+                component.name == "acme-lib-b"
+                """);
+        qm.persist(conditionA);
+        conditionB.setValue("""
+                component.name == "acme-lib-c"
+                """);
+        qm.persist(conditionB);
+
+        // Only violations of policy A must be reconciled.
+        // The now outdated violation of policy B must be retained.
+        policyEngine.evaluatePolicy(policyA.getUuid(), project.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentA)).isEmpty();
+        assertThat(qm.getAllPolicyViolations(componentB)).extracting(violation -> violation.getPolicyCondition().getId())
+                .containsExactlyInAnyOrder(conditionA.getId(), conditionB.getId());
+
+        // Policy A is no longer applicable to the project, all of its violations must be removed.
+        final var otherProject = new Project();
+        otherProject.setName("acme-app-other");
+        qm.persist(otherProject);
+        policyA.setProjects(List.of(otherProject));
+        qm.persist(policyA);
+
+        policyEngine.evaluatePolicy(policyA.getUuid(), project.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentB)).extracting(violation -> violation.getPolicyCondition().getId())
+                .containsExactly(conditionB.getId());
+    }
+
     @Test
     public void testEvaluateProjectWithFuncComponentIsDependencyOfComponentWithRegex() {
         final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -44,6 +44,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class CelVulnerabilityPolicyEvaluatorTest extends PersistenceCapableTest {
 
@@ -82,6 +84,52 @@ public class CelVulnerabilityPolicyEvaluatorTest extends PersistenceCapableTest
         assertThat(policyEvaluator.evaluate(List.of(vuln), component, project)).isEmpty();
     }
 
+    @Test
+    public void testEvaluateWithCachedPolicies() {
+        final var project = Project.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-app")
+                .build();
+        final var component = Component.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-lib")
+                .build();
+        final UUID vulnUuid = UUID.randomUUID();
+        final var vuln = Vulnerability.newBuilder()
+                .setUuid(vulnUuid.toString())
+                .setId("CVE-123")
+                .build();
+
+        final var policyA = new VulnerabilityPolicy();
+        policyA.setName("policyA");
+        policyA.setConditions(List.of("component.name == 'acme-lib'"));
+        final var policyB = new VulnerabilityPolicy();
+        policyB.setName("policyB");
+        policyB.setConditions(List.of("vuln.id == 'CVE-123'"));
+
+        doReturn(List.of(policyA))
+                .when(policyProviderMock).getApplicablePolicies(any(Project.class));
+
+        assertThat(policyEvaluator.evaluate(List.of(vuln), component, project))
+                .containsEntry(vulnUuid, policyA);
+        verify(policyProviderMock, times(1)).getApplicablePolicies(any(Project.class));
+
+        // Policies are cached; Changes of the provided policies go unnoticed.
+        doReturn(List.of(policyB))
+                .when(policyProviderMock).getApplicablePolicies(any(Project.class));
+
+        assertThat(policyEvaluator.evaluate(List.of(vuln), component, project))
+                .containsEntry(vulnUuid, policyA);
+        verify(policyProviderMock, times(1)).getApplicablePolicies(any(Project.class));
+
+        // Once invalidated, policies must be loaded again.
+        CelVulnerabilityPolicyEvaluator.invalidateCachedPolicies();
+
+        assertThat(policyEvaluator.evaluate(List.of(vuln), component, project))
+                .containsEntry(vulnUuid, policyB);
+        verify(policyProviderMock, times(2)).getApplicablePolicies(any(Project.class));
+    }
+
     @Test
     public void testEvaluateWithNoMatchingPolicies() {
         final var project = Project.newBuilder()
@@ -0,0 +1,199 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.cel;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.ComponentIdentity;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.policy.cel.CelPolicyScriptHost.CacheMode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class DependencyGraphIndexTest extends PersistenceCapableTest {
+
+    private Project project;
+    private Component componentA;
+    private Component componentB;
+    private Component componentC;
+    private Component componentD;
+    private Component componentE;
+
+    @Before
+    public void setUp() {
+        project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        componentA = createComponent("acme-lib-a");
+        componentB = createComponent("acme-lib-b");
+        componentC = createComponent("acme-lib-c");
+        componentD = createComponent("acme-lib-d");
+        componentE = createComponent("acme-lib-e");
+
+        //  /-> A ------------\
+        // *                   > C <-> E
+        //  \-> B -> D -------/
+        project.setDirectDependencies("[%s, %s]".formatted(
+                new ComponentIdentity(componentA).toJSON(),
+                new ComponentIdentity(componentB).toJSON()));
+        componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentC).toJSON()));
+        componentB.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentD).toJSON()));
+        componentC.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentE).toJSON()));
+        componentD.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentC).toJSON()));
+        componentE.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentC).toJSON()));
+        qm.persist(project);
+        qm.persist(componentA);
+        qm.persist(componentB);
+        qm.persist(componentC);
+        qm.persist(componentD);
+        qm.persist(componentE);
+    }
+
+    @Test
+    public void testIsDependencyOf() {
+        final DependencyGraphIndex index = loadIndex();
+
+        assertThat(isDependencyOf(index, componentA, "acme-lib-a")).isFalse();
+        assertThat(isDependencyOf(index, componentB, "acme-lib-a")).isFalse();
+        assertThat(isDependencyOf(index, componentC, "acme-lib-a")).isTrue();
+        assertThat(isDependencyOf(index, componentD, "acme-lib-a")).isFalse();
+        assertThat(isDependencyOf(index, componentE, "acme-lib-a")).isTrue();
+
+        assertThat(isDependencyOf(index, componentC, "acme-lib-e")).isTrue();
+        assertThat(isDependencyOf(index, componentD, "acme-lib-e")).isFalse();
+    }
+
+    @Test
+    public void testIsExclusiveDependencyOf() {
+        final DependencyGraphIndex index = loadIndex();
+
+        // A is a direct dependency of the project.
+        assertThat(isExclusiveDependencyOf(index, componentA, "acme-lib-a")).isFalse();
+
+        // C and E are also introduced through B -> D.
+        assertThat(isExclusiveDependencyOf(index, componentC, "acme-lib-a")).isFalse();
+        assertThat(isExclusiveDependencyOf(index, componentE, "acme-lib-a")).isFalse();
+
+        assertThat(isExclusiveDependencyOf(index, componentD, "acme-lib-b")).isTrue();
+        assertThat(isExclusiveDependencyOf(index, componentE, "acme-lib-c")).isTrue();
+        assertThat(isExclusiveDependencyOf(index, componentD, "acme-lib-c")).isFalse();
+    }
+
+    @Test
+    public void testIndexOfUnknownComponent() {
+        final DependencyGraphIndex index = loadIndex();
+
+        assertThat(index.indexOf(componentA.getUuid())).isNotNegative();
+        assertThat(index.indexOf(UUID.randomUUID())).isEqualTo(-1);
+    }
+
+    @Test
+    public void testScope() {
+        assertThat(DependencyGraphIndex.current()).isNull();
+
+        try (var ignored = DependencyGraphIndex.enterScope(project.getId())) {
+            final DependencyGraphIndex index = DependencyGraphIndex.current();
+            assertThat(index).isNotNull();
+            assertThat(DependencyGraphIndex.current()).isSameAs(index);
+            assertThat(isDependencyOf(index, componentC, "acme-lib-a")).isTrue();
+        }
+
+        assertThat(DependencyGraphIndex.current()).isNull();
+    }
+
+    @Test
+    public void testIsDirectDependency() {
+        final DependencyGraphIndex index = loadIndex();
+
+        assertThat(index.isDirectDependency(index.indexOf(componentA.getUuid()))).isTrue();
+        assertThat(index.isDirectDependency(index.indexOf(componentB.getUuid()))).isTrue();
+        assertThat(index.isDirectDependency(index.indexOf(componentC.getUuid()))).isFalse();
+        assertThat(index.isDirectDependency(index.indexOf(componentD.getUuid()))).isFalse();
+    }
+
+    @Test
+    public void testVersionDistanceUsesIndexForDirectDependencyCheck() throws Exception {
+        final CelPolicyScript script = CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT).compile("""
+                component.version_distance(">=", v1.VersionDistance{ major: "0", minor: "1", patch: "?" })
+                """, CacheMode.NO_CACHE);
+
+        try (var ignored = DependencyGraphIndex.enterScope(project.getId())) {
+            // Load the index before the direct dependencies are removed from the database.
+            assertThat(DependencyGraphIndex.current()).isNotNull();
+            removeDirectDependenciesOfProject();
+
+            // A is still a direct dependency according to the index,
+            // which would not be the case if the database was queried.
+            assertThat(executeVersionDistance(script, componentA)).isTrue();
+            assertThat(executeVersionDistance(script, componentC)).isFalse();
+        }
+
+        // Without an index in scope, the database is queried.
+        assertThat(executeVersionDistance(script, componentA)).isFalse();
+    }
+
+    private Component createComponent(final String name) {
+        final var component = new Component();
+        component.setProject(project);
+        component.setName(name);
+        return qm.persist(component);
+    }
+
+    private DependencyGraphIndex loadIndex() {
+        return withJdbiHandle(handle -> DependencyGraphIndex.load(handle, project.getId()));
+    }
+
+    private void removeDirectDependenciesOfProject() {
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        UPDATE "PROJECT" SET "DIRECT_DEPENDENCIES" = NULL WHERE "ID" = :projectId
+                        """)
+                .bind("projectId", project.getId())
+                .execute());
+    }
+
+    private static boolean executeVersionDistance(final CelPolicyScript script, final Component component) throws Exception {
+        return script.execute(Map.of(CelPolicyVariable.COMPONENT.variableName(),
+                org.dependencytrack.proto.policy.v1.Component.newBuilder()
+                        .setUuid(component.getUuid().toString())
+                        .setVersion("1.2.3")
+                        .setLatestVersion("1.3.1")
+                        .build()));
+    }
+
+    private static boolean isDependencyOf(final DependencyGraphIndex index, final Component leaf, final String rootName) {
+        return index.isDependencyOf(index.indexOf(leaf.getUuid()),
+                org.dependencytrack.proto.policy.v1.Component.newBuilder().setName(rootName).build(),
+                node -> rootName.equals(node.name()));
+    }
+
+    private static boolean isExclusiveDependencyOf(final DependencyGraphIndex index, final Component leaf, final String rootName) {
+        return index.isExclusiveDependencyOf(index.indexOf(leaf.getUuid()),
+                org.dependencytrack.proto.policy.v1.Component.newBuilder().setName(rootName).build(),
+                node -> rootName.equals(node.name()));
+    }
+
+}
@@ -1216,6 +1216,51 @@ public class ComponentResourceTest extends ResourceTest {
                         """);
     }
 
+    @Test
+    public void getOccurrencesWithPageTokenTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        qm.persist(component);
+
+        for (final String location : List.of("/foo/a", "/foo/b", "/foo/c")) {
+            final var occurrence = new ComponentOccurrence();
+            occurrence.setComponent(component);
+            occurrence.setLocation(location);
+            qm.persist(occurrence);
+        }
+
+        Response response = jersey.target(V1_COMPONENT + "/" + component.getUuid() + "/occurrence")
+                .queryParam("pageSize", "2")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("location")).isEqualTo("/foo/a"),
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("location")).isEqualTo("/foo/b"));
+
+        final String nextPageToken = response.getHeaderString("X-Next-Page-Token");
+        assertThat(nextPageToken).isNotBlank();
+
+        response = jersey.target(V1_COMPONENT + "/" + component.getUuid() + "/occurrence")
+                .queryParam("pageSize", "2")
+                .queryParam("pageToken", nextPageToken)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(response.getHeaderString("X-Next-Page-Token")).isNull();
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("location")).isEqualTo("/foo/c"));
+    }
+
     @Test
     public void getOccurrencesComponentNotFoundTest() {
         final Response response = jersey.target(V1_COMPONENT + "/aa684b6f-de53-4249-a2b1-bf16ac458328/occurrence")
@@ -165,6 +165,64 @@ public class FindingResourceTest extends ResourceTest {
         assertThat(getPlainTextBody(response)).isEqualTo("[]");
     }
 
+    @Test
+    public void getFindingsByProjectWithPageTokenTest() {
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+        final Component componentA = createComponent(project, "Component A", "1.0");
+        final Component componentB = createComponent(project, "Component B", "1.0");
+        qm.addVulnerability(createVulnerability("Vuln-1", Severity.CRITICAL), componentA, AnalyzerIdentity.NONE);
+        qm.addVulnerability(createVulnerability("Vuln-2", Severity.HIGH), componentA, AnalyzerIdentity.NONE);
+        qm.addVulnerability(createVulnerability("Vuln-3", Severity.MEDIUM), componentB, AnalyzerIdentity.NONE);
+
+        Response response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .queryParam("pageSize", 2)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-1"),
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-2"));
+
+        final String nextPageToken = response.getHeaderString("X-Next-Page-Token");
+        assertThat(nextPageToken).isNotBlank();
+
+        // Page numbers are ignored when a page token is provided.
+        response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .queryParam("pageNumber", 5)
+                .queryParam("pageSize", 2)
+                .queryParam("pageToken", nextPageToken)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(response.getHeaderString("X-Next-Page-Token")).isNull();
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-3"));
+    }
+
+    @Test
+    public void getFindingsByProjectWithInvalidPageTokenTest() {
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+
+        final Response response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .queryParam("pageSize", 2)
+                .queryParam("pageToken", "foo")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                {
+                  "status": 400,
+                  "title": "Invalid page token",
+                  "detail": "The provided page token is invalid"
+                }
+                """);
+    }
+
     @Test
     public void getFindingsByProjectInvalidTest() {
         Response response = jersey.target(V1_FINDING + "/project/" + UUID.randomUUID()).request()
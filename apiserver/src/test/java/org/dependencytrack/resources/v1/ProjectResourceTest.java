@@ -299,6 +299,85 @@ public class ProjectResourceTest extends ResourceTest {
                 """);
     }
 
+    @Test
+    public void getProjectsWithPageTokenTest() {
+        for (final String version : new String[]{"1.0", "2.0", null}) {
+            final var project = new Project();
+            project.setName("acme-app");
+            project.setVersion(version);
+            qm.persist(project);
+        }
+        final var otherProject = new Project();
+        otherProject.setName("acme-lib");
+        otherProject.setVersion("1.0");
+        qm.persist(otherProject);
+
+        Response response = jersey.target(V1_PROJECT)
+                .queryParam("pageSize", "2")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("4");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().containsKey("version")).isFalse(),
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("version")).isEqualTo("2.0"));
+
+        String nextPageToken = response.getHeaderString("X-Next-Page-Token");
+        assertThat(nextPageToken).isNotBlank();
+
+        // Page numbers are ignored when a page token is provided.
+        response = jersey.target(V1_PROJECT)
+                .queryParam("pageNumber", "5")
+                .queryParam("pageSize", "2")
+                .queryParam("pageToken", nextPageToken)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> {
+                    assertThat(jsonValue.asJsonObject().getString("name")).isEqualTo("acme-app");
+                    assertThat(jsonValue.asJsonObject().getString("version")).isEqualTo("1.0");
+                },
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("name")).isEqualTo("acme-lib"));
+
+        nextPageToken = response.getHeaderString("X-Next-Page-Token");
+        assertThat(nextPageToken).isNotBlank();
+
+        response = jersey.target(V1_PROJECT)
+                .queryParam("pageSize", "2")
+                .queryParam("pageToken", nextPageToken)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString("X-Next-Page-Token")).isNull();
+        assertThat(parseJsonArray(response)).isEmpty();
+    }
+
+    @Test
+    public void getProjectsWithCustomOrderingAndWithoutPageTokenTest() {
+        for (int i = 0; i < 3; i++) {
+            final var project = new Project();
+            project.setName("acme-app-" + (i + 1));
+            qm.persist(project);
+        }
+
+        // Page tokens can only continue the default ordering.
+        final Response response = jersey.target(V1_PROJECT)
+                .queryParam("pageSize", "2")
+                .queryParam("sortName", "name")
+                .queryParam("sortOrder", "desc")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(response.getHeaderString("X-Next-Page-Token")).isNull();
+    }
+
     @Test
     public void getProjectsByTagTest() {
         final var projectA = new Project();
@@ -794,6 +873,51 @@ public class ProjectResourceTest extends ResourceTest {
                 """);
     }
 
+    @Test
+    public void getProjectsConciseWithPageTokenTest() {
+        for (int i = 0; i < 3; i++) {
+            final var project = new Project();
+            project.setName("acme-app-" + (i + 1));
+            qm.persist(project);
+        }
+
+        Response response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("pageSize", "2")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("name")).isEqualTo("acme-app-1"),
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("name")).isEqualTo("acme-app-2"));
+
+        final String nextPageToken = response.getHeaderString("X-Next-Page-Token");
+        assertThat(nextPageToken).isNotBlank();
+
+        response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("pageSize", "2")
+                .queryParam("pageToken", nextPageToken)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(response.getHeaderString("X-Next-Page-Token")).isNull();
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getString("name")).isEqualTo("acme-app-3"));
+    }
+
+    @Test
+    public void getProjectsConciseWithInvalidPageTokenTest() {
+        final Response response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("pageToken", "foo")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
     @Test
     public void getProjectsConciseFilterByNameTest() {
         final var projectA = new Project();
@@ -48,6 +48,7 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.VulnerabilityScan;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.persistence.DefaultObjectGenerator;
+import org.dependencytrack.persistence.LicenseRegistry;
 import org.dependencytrack.plugin.PluginManager;
 import org.dependencytrack.proto.filestorage.v1.FileMetadata;
 import org.dependencytrack.proto.notification.v1.BomProcessingFailedSubject;
@@ -466,7 +467,7 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
                 state -> {
                     assertThat(state.getStep()).isEqualTo(BOM_CONSUMPTION);
                     assertThat(state.getStatus()).isEqualTo(FAILED);
-                    assertThat(state.getFailureReason()).isEqualTo("Unable to parse BOM from byte array");
+                    assertThat(state.getFailureReason()).startsWith("Unable to parse BOM from");
                     assertThat(state.getUpdatedAt()).isBefore(Date.from(Instant.now()));
                 },
                 state -> {
@@ -938,6 +939,33 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         );
     }
 
+    @Test
+    public void informWithCustomLicenseUnknownToLicenseRegistryTest() throws Exception {
+        // Build the registry before the license is created, simulating
+        // the license having been created by another instance.
+        assertThat(LicenseRegistry.getInstance().resolveCustomLicenseIdByName("custom license foobar")).isNull();
+
+        final var customLicense = new License();
+        customLicense.setName("custom license foobar");
+        customLicense.setCustomLicense(true);
+        qm.persist(customLicense);
+
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+
+        final var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), storeBomFile("bom-custom-license.json"));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        assertThat(qm.getAllComponents(project)).anySatisfy(component -> {
+            assertThat(component.getName()).isEqualTo("acme-lib-a");
+            assertThat(component.getResolvedLicense()).isNotNull();
+            assertThat(component.getResolvedLicense().getName()).isEqualTo("custom license foobar");
+        });
+
+        assertThat(LicenseRegistry.getInstance().resolveCustomLicenseIdByName("custom license foobar")).isEqualTo(customLicense.getId());
+    }
+
     @Test
     public void informWithBomContainingLicenseExpressionTest() throws Exception {
         final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
@@ -1975,6 +2003,139 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         });
     }
 
+    @Test
+    public void informWithBulkProcessingTest() throws Exception {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var existingComponentA = new Component();
+        existingComponentA.setProject(project);
+        existingComponentA.setName("acme-lib-a");
+        existingComponentA.setVersion("1.0.0");
+        existingComponentA.setPurl("pkg:maven/com.acme/acme-lib-a@1.0.0");
+        existingComponentA.setDescription("old description");
+        qm.persist(existingComponentA);
+
+        final var existingPropertyA = new ComponentProperty();
+        existingPropertyA.setComponent(existingComponentA);
+        existingPropertyA.setPropertyName("foo");
+        existingPropertyA.setPropertyValue("bar");
+        existingPropertyA.setPropertyType(PropertyType.STRING);
+        qm.persist(existingPropertyA);
+
+        final var existingOccurrenceA = new ComponentOccurrence();
+        existingOccurrenceA.setComponent(existingComponentA);
+        existingOccurrenceA.setLocation("/foo/bar/baz");
+        qm.persist(existingOccurrenceA);
+
+        final var existingComponentB = new Component();
+        existingComponentB.setProject(project);
+        existingComponentB.setName("acme-lib-b");
+        qm.persist(existingComponentB);
+
+        final byte[] bomBytes = /* language=JSON */ """
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.6",
+                  "version": 1,
+                  "metadata": {
+                    "component": {
+                      "bom-ref": "app",
+                      "type": "application",
+                      "name": "acme-app"
+                    }
+                  },
+                  "components": [
+                    {
+                      "bom-ref": "a",
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "description": "new description",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0",
+                      "properties": [
+                        {
+                          "name": "foo",
+                          "value": "baz"
+                        }
+                      ],
+                      "evidence": {
+                        "occurrences": [
+                          {
+                            "location": "/foo.js",
+                            "line": 666
+                          }
+                        ]
+                      }
+                    },
+                    {
+                      "bom-ref": "c",
+                      "type": "library",
+                      "name": "acme-lib-c",
+                      "version": "2.0.0"
+                    }
+                  ],
+                  "dependencies": [
+                    {
+                      "ref": "app",
+                      "dependsOn": ["a"]
+                    },
+                    {
+                      "ref": "a",
+                      "dependsOn": ["c"]
+                    }
+                  ]
+                }
+                """.getBytes(StandardCharsets.UTF_8);
+
+        final var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), storeBomFile(bomBytes));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false, /* bulkProcessingEnabled */ true).inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        qm.getPersistenceManager().evictAll();
+        final List<Component> components = qm.getAllComponents(project);
+        assertThat(components).satisfiesExactlyInAnyOrder(
+                component -> {
+                    assertThat(component.getId()).isEqualTo(existingComponentA.getId());
+                    assertThat(component.getUuid()).isEqualTo(existingComponentA.getUuid());
+                    assertThat(component.getDescription()).isEqualTo("new description");
+                    assertThat(component.getPurl()).asString().isEqualTo("pkg:maven/com.acme/acme-lib-a@1.0.0");
+                    assertThat(component.getDirectDependencies()).isNotNull();
+                    assertThat(component.getProperties()).satisfiesExactly(property -> {
+                        assertThat(property.getPropertyName()).isEqualTo("foo");
+                        assertThat(property.getPropertyValue()).isEqualTo("baz");
+                        assertThat(property.getPropertyType()).isEqualTo(PropertyType.STRING);
+                    });
+                    assertThat(component.getOccurrences()).satisfiesExactly(occurrence -> {
+                        assertThat(occurrence.getLocation()).isEqualTo("/foo.js");
+                        assertThat(occurrence.getLine()).isEqualTo(666);
+                    });
+                },
+                component -> {
+                    assertThat(component.getName()).isEqualTo("acme-lib-c");
+                    assertThat(component.getVersion()).isEqualTo("2.0.0");
+                    assertThat(component.getClassifier()).isEqualTo(Classifier.LIBRARY);
+                    assertThat(component.getUuid()).isNotNull();
+                    assertThat(component.getDirectDependencies()).isNull();
+                });
+
+        final Component componentC = components.stream()
+                .filter(component -> "acme-lib-c".equals(component.getName()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(components.stream().filter(component -> "acme-lib-a".equals(component.getName())).findFirst().orElseThrow()
+                .getDirectDependencies()).contains(componentC.getUuid().toString());
+
+        qm.getPersistenceManager().refresh(project);
+        assertThat(project.getDirectDependencies()).contains(existingComponentA.getUuid().toString());
+
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.VULN_ANALYSIS_COMMAND.name()))
+                .hasSize(2);
+    }
+
     private void assertBomProcessedNotification() throws Exception {
         try {
             assertThat(kafkaMockProducer.history()).anySatisfy(record -> {
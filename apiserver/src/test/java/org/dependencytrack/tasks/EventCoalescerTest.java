@@ -0,0 +1,171 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventCoalescerTest {
+
+    @Test
+    public void testCoalescesEventsWithinWindow() throws Exception {
+        final var coalescer = new EventCoalescer<UUID, ProjectMetricsUpdateEvent>("test", Duration.ofMillis(500));
+        final var processedBatches = new CopyOnWriteArrayList<List<ProjectMetricsUpdateEvent>>();
+
+        final UUID projectUuid = UUID.randomUUID();
+        final var firstEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        final var secondEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        final var otherProjectEvent = new ProjectMetricsUpdateEvent(UUID.randomUUID());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Boolean> firstResult = executor.submit(
+                    () -> coalescer.process(projectUuid, firstEvent, processedBatches::add));
+            final Future<Boolean> otherProjectResult = executor.submit(
+                    () -> coalescer.process(otherProjectEvent.getUuid(), otherProjectEvent, processedBatches::add));
+            Thread.sleep(100);
+
+            assertThat(coalescer.process(projectUuid, secondEvent, processedBatches::add)).isFalse();
+            assertThat(firstResult.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(otherProjectResult.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(processedBatches).containsExactlyInAnyOrder(
+                List.of(firstEvent, secondEvent),
+                List.of(otherProjectEvent));
+    }
+
+    @Test
+    public void testProcessesAtMostOneEventPerKeyAtATime() throws Exception {
+        final var coalescer = new EventCoalescer<UUID, ProjectMetricsUpdateEvent>("test", Duration.ZERO);
+        final var processedBatches = new CopyOnWriteArrayList<List<ProjectMetricsUpdateEvent>>();
+        final var concurrentExecutions = new AtomicInteger();
+        final var maxConcurrentExecutions = new AtomicInteger();
+        final var firstProcessingStartedLatch = new CountDownLatch(1);
+        final var releaseLatch = new CountDownLatch(1);
+
+        final UUID projectUuid = UUID.randomUUID();
+        final var firstEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        final var secondEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        final var thirdEvent = new ProjectMetricsUpdateEvent(projectUuid);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Boolean> firstResult = executor.submit(() -> coalescer.process(projectUuid, firstEvent, events -> {
+                maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+                firstProcessingStartedLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                processedBatches.add(events);
+                concurrentExecutions.decrementAndGet();
+            }));
+            assertThat(firstProcessingStartedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // The second event has to wait for the first one to complete,
+            // and the third event is coalesced into the second one in the meantime.
+            final Future<Boolean> secondResult = executor.submit(() -> coalescer.process(projectUuid, secondEvent, events -> {
+                maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+                processedBatches.add(events);
+                concurrentExecutions.decrementAndGet();
+            }));
+            Thread.sleep(100);
+            assertThat(coalescer.process(projectUuid, thirdEvent, processedBatches::add)).isFalse();
+
+            releaseLatch.countDown();
+            assertThat(firstResult.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(secondResult.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(processedBatches).containsExactly(
+                List.of(firstEvent),
+                List.of(secondEvent, thirdEvent));
+        assertThat(maxConcurrentExecutions).hasValue(1);
+    }
+
+    @Test
+    public void testCoalescedEventWithChainedEventsAwaitsProcessing() throws Exception {
+        final var coalescer = new EventCoalescer<UUID, ProjectMetricsUpdateEvent>("test", Duration.ZERO);
+        final var processedBatches = new CopyOnWriteArrayList<List<ProjectMetricsUpdateEvent>>();
+        final var processingStartedLatch = new CountDownLatch(1);
+        final var releaseLatch = new CountDownLatch(1);
+
+        final UUID projectUuid = UUID.randomUUID();
+        final var firstEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        final var secondEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        final var thirdEvent = new ProjectMetricsUpdateEvent(projectUuid);
+        thirdEvent.onSuccess(new ProjectMetricsUpdateEvent(UUID.randomUUID()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final Future<Boolean> firstResult = executor.submit(() -> coalescer.process(projectUuid, firstEvent, events -> {
+                processingStartedLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                processedBatches.add(events);
+            }));
+            assertThat(processingStartedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+
+            final Future<Boolean> secondResult = executor.submit(
+                    () -> coalescer.process(projectUuid, secondEvent, processedBatches::add));
+            Thread.sleep(100);
+
+            // The third event has chained events, and must not return before
+            // the event it was coalesced into has been processed.
+            final Future<Boolean> thirdResult = executor.submit(
+                    () -> coalescer.process(projectUuid, thirdEvent, processedBatches::add));
+            Thread.sleep(100);
+            assertThat(thirdResult).isNotDone();
+
+            releaseLatch.countDown();
+            assertThat(firstResult.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(secondResult.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(thirdResult.get(5, TimeUnit.SECONDS)).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(processedBatches).containsExactly(
+                List.of(firstEvent),
+                List.of(secondEvent, thirdEvent));
+    }
+
+}
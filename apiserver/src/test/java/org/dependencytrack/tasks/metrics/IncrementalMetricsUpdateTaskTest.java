@@ -0,0 +1,185 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import org.dependencytrack.event.IncrementalMetricsUpdateEvent;
+import org.dependencytrack.metrics.Metrics;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
+import org.dependencytrack.persistence.jdbi.MetricsTestDao;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class IncrementalMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest {
+
+    private Project project;
+    private Component componentA;
+    private Component componentB;
+
+    @Override
+    public void before() throws Exception {
+        super.before();
+
+        environmentVariables.set("TASK_INCREMENTAL_METRICS_UPDATE_LOCK_MIN_DURATION", "PT2S");
+        createTestConfigProperties();
+
+        project = new Project();
+        project.setName("acme-app");
+        qm.createProject(project, List.of(), false);
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("INTERNAL-001");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        vuln.setSeverity(Severity.HIGH);
+        qm.createVulnerability(vuln, false);
+
+        componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        qm.createComponent(componentA, false);
+        qm.addVulnerability(vuln, componentA, AnalyzerIdentity.NONE);
+
+        componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        qm.createComponent(componentB, false);
+        qm.addVulnerability(vuln, componentB, AnalyzerIdentity.NONE);
+
+        // Establish a baseline for all components.
+        Metrics.updateProjectMetrics(project.getUuid());
+
+        // Create a more recent, bogus data point for component B.
+        // It must be retained as long as no changes are recorded for component B.
+        useJdbiHandle(handle -> {
+            final var metrics = new DependencyMetrics();
+            metrics.setProjectId(project.getId());
+            metrics.setComponentId(componentB.getId());
+            metrics.setHigh(666);
+            metrics.setFirstOccurrence(Date.from(Instant.now()));
+            metrics.setLastOccurrence(Date.from(Instant.now()));
+            handle.attach(MetricsTestDao.class).createDependencyMetrics(metrics);
+        });
+
+        // Add a new finding to component A.
+        final var newVuln = new Vulnerability();
+        newVuln.setVulnId("INTERNAL-002");
+        newVuln.setSource(Vulnerability.Source.INTERNAL);
+        newVuln.setSeverity(Severity.CRITICAL);
+        qm.createVulnerability(newVuln, false);
+        qm.addVulnerability(newVuln, componentA, AnalyzerIdentity.NONE);
+    }
+
+    @Test
+    public void testUpdateMetricsOfChangedComponentsOnly() {
+        environmentVariables.set("METRICS_UPDATE_INCREMENTAL_ENABLED", "true");
+        useJdbiHandle(handle -> handle.attach(MetricsDao.class).recordComponentMetricsChanges(List.of(componentA.getId())));
+
+        new IncrementalMetricsUpdateTask().inform(new IncrementalMetricsUpdateEvent());
+
+        final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        assertThat(metrics.getComponents()).isEqualTo(2);
+        assertThat(metrics.getCritical()).isEqualTo(1);
+        assertThat(metrics.getHigh()).isEqualTo(667); // 1 from component A, 666 from component B's bogus data point.
+
+        final DependencyMetrics componentAMetrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentDependencyMetrics(componentA.getId()));
+        assertThat(componentAMetrics.getCritical()).isEqualTo(1);
+        assertThat(componentAMetrics.getHigh()).isEqualTo(1);
+
+        assertThat(getRecordedChangesCount()).isZero();
+    }
+
+    @Test
+    public void testUpdateMetricsWithVulnerabilityChanges() {
+        environmentVariables.set("METRICS_UPDATE_INCREMENTAL_ENABLED", "true");
+        final Vulnerability vuln = qm.getVulnerabilityByVulnId(Vulnerability.Source.INTERNAL, "INTERNAL-001");
+        final int recordedChanges = withJdbiHandle(handle -> handle.attach(MetricsDao.class).recordVulnerabilityMetricsChanges(vuln.getId()));
+        assertThat(recordedChanges).isEqualTo(2);
+
+        new IncrementalMetricsUpdateTask().inform(new IncrementalMetricsUpdateEvent());
+
+        // Both components are affected by the vulnerability, so component B's bogus data point is replaced.
+        final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        assertThat(metrics.getComponents()).isEqualTo(2);
+        assertThat(metrics.getCritical()).isEqualTo(1);
+        assertThat(metrics.getHigh()).isEqualTo(2);
+
+        assertThat(getRecordedChangesCount()).isZero();
+    }
+
+    @Test
+    public void testUpdateMetricsWithTooManyChanges() {
+        environmentVariables.set("METRICS_UPDATE_INCREMENTAL_ENABLED", "true");
+        environmentVariables.set("METRICS_UPDATE_INCREMENTAL_MAX_CHANGES", "0");
+        useJdbiHandle(handle -> handle.attach(MetricsDao.class).recordComponentMetricsChanges(List.of(componentA.getId())));
+
+        new IncrementalMetricsUpdateTask().inform(new IncrementalMetricsUpdateEvent());
+
+        // Falls back to a full update, which also re-calculates metrics of component B.
+        final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        assertThat(metrics.getComponents()).isEqualTo(2);
+        assertThat(metrics.getCritical()).isEqualTo(1);
+        assertThat(metrics.getHigh()).isEqualTo(2);
+
+        assertThat(getRecordedChangesCount()).isZero();
+    }
+
+    @Test
+    public void testUpdateMetricsWhenDisabled() {
+        useJdbiHandle(handle -> handle.attach(MetricsDao.class).recordComponentMetricsChanges(List.of(componentA.getId())));
+
+        new IncrementalMetricsUpdateTask().inform(new IncrementalMetricsUpdateEvent());
+
+        final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        assertThat(metrics.getCritical()).isZero();
+        assertThat(metrics.getHigh()).isEqualTo(2);
+
+        assertThat(getRecordedChangesCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRecordedChangesAreDeletedWithProject() {
+        useJdbiHandle(handle -> handle.attach(MetricsDao.class).recordComponentMetricsChanges(List.of(componentA.getId())));
+        assertThat(getRecordedChangesCount()).isEqualTo(1);
+
+        qm.delete(project);
+
+        assertThat(getRecordedChangesCount()).isZero();
+    }
+
+    private static long getRecordedChangesCount() {
+        return withJdbiHandle(handle -> handle
+                .createQuery("SELECT COUNT(*) FROM \"METRICS_CHANGELOG\"")
+                .mapTo(Long.class)
+                .one());
+    }
+
+}
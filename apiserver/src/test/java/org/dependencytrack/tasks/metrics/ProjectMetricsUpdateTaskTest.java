@@ -18,7 +18,10 @@
  */
 package org.dependencytrack.tasks.metrics;
 
+import alpine.common.logging.Logger;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.metrics.Metrics;
+import org.dependencytrack.metrics.Metrics.ProjectMetricsEngine;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
@@ -30,12 +33,16 @@ import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.persistence.jdbi.AnalysisDao;
 import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.dependencytrack.persistence.jdbi.MetricsTestDao;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -47,6 +54,8 @@ import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest {
 
+    private static final Logger LOGGER = Logger.getLogger(ProjectMetricsUpdateTaskTest.class);
+
     @Test
     public void testUpdateMetricsEmpty() {
         final var project = new Project();
@@ -338,4 +347,127 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
         assertThat(componentSuppressed.getLastInheritedRiskScore()).isZero();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testUpdateMetricsWithSetBasedEngine() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.createProject(project, List.of(), false);
+
+        // Create risk score configproperties
+        createTestConfigProperties();
+
+        final List<Component> components = createComponentsWithFindingsAndViolations(project, 24);
+
+        Metrics.updateProjectMetrics(project.getUuid(), ProjectMetricsEngine.PROCEDURAL);
+        final ProjectMetrics proceduralMetrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        final List<DependencyMetrics> proceduralComponentMetrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getMostRecentDependencyMetrics(components.stream().map(Component::getId).toList()));
+
+        Metrics.updateProjectMetrics(project.getUuid(), ProjectMetricsEngine.SET_BASED);
+        final ProjectMetrics setBasedMetrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        final List<DependencyMetrics> setBasedComponentMetrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getMostRecentDependencyMetrics(components.stream().map(Component::getId).toList()));
+
+        assertThat(setBasedMetrics.getComponents()).isEqualTo(24);
+        assertThat(setBasedMetrics.getVulnerabilities()).isPositive();
+        assertThat(setBasedMetrics.getPolicyViolationsTotal()).isPositive();
+        assertThat(setBasedMetrics.getLastOccurrence()).isAfterOrEqualTo(proceduralMetrics.getLastOccurrence());
+        assertThat(setBasedMetrics)
+                .usingRecursiveComparison()
+                .ignoringFields("firstOccurrence", "lastOccurrence")
+                .isEqualTo(proceduralMetrics);
+        assertThat(setBasedComponentMetrics)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("firstOccurrence", "lastOccurrence")
+                .containsExactlyInAnyOrderElementsOf(proceduralComponentMetrics);
+
+        qm.getPersistenceManager().refresh(project);
+        assertThat(project.getLastInheritedRiskScore()).isEqualTo(setBasedMetrics.getInheritedRiskScore());
+    }
+
+    @Test
+    @Ignore("Benchmark; Run manually to compare metrics engines on a generated dataset")
+    public void benchmarkUpdateMetricsEngines() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.createProject(project, List.of(), false);
+
+        // Create risk score configproperties
+        createTestConfigProperties();
+
+        createComponentsWithFindingsAndViolations(project, 2500);
+
+        for (int i = 0; i < 3; i++) {
+            for (final ProjectMetricsEngine engine : ProjectMetricsEngine.values()) {
+                final long startTimeNs = System.nanoTime();
+                Metrics.updateProjectMetrics(project.getUuid(), engine);
+                LOGGER.info("Run %d with engine %s completed in %s"
+                        .formatted(i, engine, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+            }
+        }
+    }
+
+    private List<Component> createComponentsWithFindingsAndViolations(final Project project, final int componentCount) {
+        final Severity[] severities = Severity.values();
+        final var vulns = new ArrayList<Vulnerability>();
+        for (int i = 0; i < 10; i++) {
+            final var vuln = new Vulnerability();
+            vuln.setVulnId("INTERNAL-%03d".formatted(i));
+            vuln.setSource(Vulnerability.Source.INTERNAL);
+            vuln.setSeverity(severities[i % severities.length]);
+            vulns.add(qm.createVulnerability(vuln, false));
+        }
+
+        // Create a vulnerability from another source that aliases the first one.
+        // The procedural engine does not define which of both is counted,
+        // so use the same severity to get consistent results.
+        final var aliasedVuln = new Vulnerability();
+        aliasedVuln.setVulnId("GHSA-000");
+        aliasedVuln.setSource(Vulnerability.Source.GITHUB);
+        aliasedVuln.setSeverity(vulns.getFirst().getSeverity());
+        qm.createVulnerability(aliasedVuln, false);
+
+        final var alias = new VulnerabilityAlias();
+        alias.setInternalId(vulns.getFirst().getVulnId());
+        alias.setGhsaId(aliasedVuln.getVulnId());
+        qm.persist(alias);
+
+        final PolicyViolation.Type[] violationTypes = PolicyViolation.Type.values();
+        final Policy.ViolationState[] violationStates = Policy.ViolationState.values();
+        final var components = new ArrayList<Component>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-%d".formatted(i));
+            qm.createComponent(component, false);
+            components.add(component);
+
+            if (i % 3 == 0) {
+                // Component with both the vulnerability and its alias.
+                qm.addVulnerability(vulns.getFirst(), component, AnalyzerIdentity.NONE);
+                qm.addVulnerability(aliasedVuln, component, AnalyzerIdentity.NONE);
+            }
+
+            final Vulnerability vuln = vulns.get(1 + (i % (vulns.size() - 1)));
+            qm.addVulnerability(vuln, component, AnalyzerIdentity.NONE);
+            if (i % 4 == 0) {
+                final boolean suppressed = i % 8 == 0;
+                withJdbiHandle(handle -> handle.attach(AnalysisDao.class)
+                        .makeAnalysis(project.getId(), component.getId(), vuln.getId(),
+                                suppressed ? AnalysisState.FALSE_POSITIVE : AnalysisState.NOT_AFFECTED,
+                                null, null, null, suppressed));
+            }
+
+            if (i % 2 == 0) {
+                final var violation = createPolicyViolation(component,
+                        violationStates[i % violationStates.length],
+                        violationTypes[i % violationTypes.length]);
+                if (i % 5 == 0) {
+                    qm.makeViolationAnalysis(component, violation, ViolationAnalysisState.APPROVED, i % 10 == 0);
+                }
+            }
+        }
+
+        return components;
+    }
+
+}
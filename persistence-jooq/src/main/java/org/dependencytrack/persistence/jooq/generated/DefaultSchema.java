@@ -12,6 +12,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.Analysis;
 import org.dependencytrack.persistence.jooq.generated.tables.AnalysisComment;
 import org.dependencytrack.persistence.jooq.generated.tables.ApiKey;
 import org.dependencytrack.persistence.jooq.generated.tables.ApiKeysTeams;
+import org.dependencytrack.persistence.jooq.generated.tables.AuthCacheVersion;
 import org.dependencytrack.persistence.jooq.generated.tables.Bom;
 import org.dependencytrack.persistence.jooq.generated.tables.Component;
 import org.dependencytrack.persistence.jooq.generated.tables.ComponentOccurrence;
@@ -20,6 +21,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ComponentsVulnerabi
 import org.dependencytrack.persistence.jooq.generated.tables.ConfigProperty;
 import org.dependencytrack.persistence.jooq.generated.tables.DependencyMetrics;
 import org.dependencytrack.persistence.jooq.generated.tables.Epss;
+import org.dependencytrack.persistence.jooq.generated.tables.EventQueue;
 import org.dependencytrack.persistence.jooq.generated.tables.FindingAttribution;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityAnalysis;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityMetaComponent;
@@ -28,6 +30,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.LicenseGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.LicenseGroupLicense;
 import org.dependencytrack.persistence.jooq.generated.tables.MappedLdapGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.MappedOidcGroup;
+import org.dependencytrack.persistence.jooq.generated.tables.MetricsChangelog;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationPublisher;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationRule;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationRuleProjects;
@@ -37,6 +40,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.OidcGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.Permission;
 import org.dependencytrack.persistence.jooq.generated.tables.Policy;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyCondition;
+import org.dependencytrack.persistence.jooq.generated.tables.PolicyEvaluationFingerprint;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyProjects;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyTags;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyViolation;
@@ -56,6 +60,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponent;
 import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponentsVulnerabilities;
 import org.dependencytrack.persistence.jooq.generated.tables.Tag;
 import org.dependencytrack.persistence.jooq.generated.tables.Team;
+import org.dependencytrack.persistence.jooq.generated.tables.TeamProjectEffectiveAccess;
 import org.dependencytrack.persistence.jooq.generated.tables.TeamsPermissions;
 import org.dependencytrack.persistence.jooq.generated.tables.User;
 import org.dependencytrack.persistence.jooq.generated.tables.UserProjectEffectivePermissions;
@@ -119,6 +124,11 @@ public class DefaultSchema extends SchemaImpl {
      */
     public final ApiKeysTeams APIKEYS_TEAMS = ApiKeysTeams.APIKEYS_TEAMS;
 
+    /**
+     * The table <code>AUTH_CACHE_VERSION</code>.
+     */
+    public final AuthCacheVersion AUTH_CACHE_VERSION = AuthCacheVersion.AUTH_CACHE_VERSION;
+
     /**
      * The table <code>BOM</code>.
      */
@@ -159,6 +169,11 @@ public class DefaultSchema extends SchemaImpl {
      */
     public final Epss EPSS = Epss.EPSS;
 
+    /**
+     * The table <code>EVENT_QUEUE</code>.
+     */
+    public final EventQueue EVENT_QUEUE = EventQueue.EVENT_QUEUE;
+
     /**
      * The table <code>FINDINGATTRIBUTION</code>.
      */
@@ -199,6 +214,11 @@ public class DefaultSchema extends SchemaImpl {
      */
     public final MappedOidcGroup MAPPEDOIDCGROUP = MappedOidcGroup.MAPPEDOIDCGROUP;
 
+    /**
+     * The table <code>METRICS_CHANGELOG</code>.
+     */
+    public final MetricsChangelog METRICS_CHANGELOG = MetricsChangelog.METRICS_CHANGELOG;
+
     /**
      * The table <code>NOTIFICATIONPUBLISHER</code>.
      */
@@ -239,6 +259,11 @@ public class DefaultSchema extends SchemaImpl {
      */
     public final Policy POLICY = Policy.POLICY;
 
+    /**
+     * The table <code>POLICY_EVALUATION_FINGERPRINT</code>.
+     */
+    public final PolicyEvaluationFingerprint POLICY_EVALUATION_FINGERPRINT = PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT;
+
     /**
      * The table <code>POLICY_PROJECTS</code>.
      */
@@ -339,6 +364,11 @@ public class DefaultSchema extends SchemaImpl {
      */
     public final Team TEAM = Team.TEAM;
 
+    /**
+     * The table <code>TEAM_PROJECT_EFFECTIVE_ACCESS</code>.
+     */
+    public final TeamProjectEffectiveAccess TEAM_PROJECT_EFFECTIVE_ACCESS = TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS;
+
     /**
      * The table <code>TEAMS_PERMISSIONS</code>.
      */
@@ -455,6 +485,7 @@ public class DefaultSchema extends SchemaImpl {
             AnalysisComment.ANALYSISCOMMENT,
             ApiKey.APIKEY,
             ApiKeysTeams.APIKEYS_TEAMS,
+            AuthCacheVersion.AUTH_CACHE_VERSION,
             Bom.BOM,
             Component.COMPONENT,
             ComponentOccurrence.COMPONENT_OCCURRENCE,
@@ -463,6 +494,7 @@ public class DefaultSchema extends SchemaImpl {
             ConfigProperty.CONFIGPROPERTY,
             DependencyMetrics.DEPENDENCYMETRICS,
             Epss.EPSS,
+            EventQueue.EVENT_QUEUE,
             FindingAttribution.FINDINGATTRIBUTION,
             IntegrityAnalysis.INTEGRITY_ANALYSIS,
             IntegrityMetaComponent.INTEGRITY_META_COMPONENT,
@@ -471,6 +503,7 @@ public class DefaultSchema extends SchemaImpl {
             LicenseGroupLicense.LICENSEGROUP_LICENSE,
             MappedLdapGroup.MAPPEDLDAPGROUP,
             MappedOidcGroup.MAPPEDOIDCGROUP,
+            MetricsChangelog.METRICS_CHANGELOG,
             NotificationPublisher.NOTIFICATIONPUBLISHER,
             NotificationRule.NOTIFICATIONRULE,
             NotificationRuleProjects.NOTIFICATIONRULE_PROJECTS,
@@ -479,6 +512,7 @@ public class DefaultSchema extends SchemaImpl {
             OidcGroup.OIDCGROUP,
             Permission.PERMISSION,
             Policy.POLICY,
+            PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT,
             PolicyProjects.POLICY_PROJECTS,
             PolicyTags.POLICY_TAGS,
             PolicyCondition.POLICYCONDITION,
@@ -499,6 +533,7 @@ public class DefaultSchema extends SchemaImpl {
             ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES,
             Tag.TAG,
             Team.TEAM,
+            TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS,
             TeamsPermissions.TEAMS_PERMISSIONS,
             User.USER,
             UserProjectEffectivePermissions.USER_PROJECT_EFFECTIVE_PERMISSIONS,
@@ -15,6 +15,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ComponentProperty;
 import org.dependencytrack.persistence.jooq.generated.tables.ComponentsVulnerabilities;
 import org.dependencytrack.persistence.jooq.generated.tables.DependencyMetrics;
 import org.dependencytrack.persistence.jooq.generated.tables.Epss;
+import org.dependencytrack.persistence.jooq.generated.tables.EventQueue;
 import org.dependencytrack.persistence.jooq.generated.tables.FindingAttribution;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityAnalysis;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityMetaComponent;
@@ -27,6 +28,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.NotificationRulePro
 import org.dependencytrack.persistence.jooq.generated.tables.OidcGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.Policy;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyCondition;
+import org.dependencytrack.persistence.jooq.generated.tables.PolicyEvaluationFingerprint;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyProjects;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyViolation;
 import org.dependencytrack.persistence.jooq.generated.tables.Project;
@@ -36,6 +38,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.RepositoryMetaCompo
 import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponent;
 import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponentsVulnerabilities;
 import org.dependencytrack.persistence.jooq.generated.tables.Tag;
+import org.dependencytrack.persistence.jooq.generated.tables.TeamProjectEffectiveAccess;
 import org.dependencytrack.persistence.jooq.generated.tables.User;
 import org.dependencytrack.persistence.jooq.generated.tables.UserProjectRoles;
 import org.dependencytrack.persistence.jooq.generated.tables.Vex;
@@ -99,6 +102,9 @@ public class Indexes {
     public static final Index COMPONENTS_VULNERABILITIES_VULNERABILITY_ID_IDX = Internal.createIndex(DSL.name("COMPONENTS_VULNERABILITIES_VULNERABILITY_ID_IDX"), ComponentsVulnerabilities.COMPONENTS_VULNERABILITIES, new OrderField[] { ComponentsVulnerabilities.COMPONENTS_VULNERABILITIES.vulnerabilityId }, false);
     public static final Index DEPENDENCYMETRICS_PROJECT_ID_IDX = Internal.createIndex(DSL.name("DEPENDENCYMETRICS_PROJECT_ID_IDX"), DependencyMetrics.DEPENDENCYMETRICS, new OrderField[] { DependencyMetrics.DEPENDENCYMETRICS.projectId }, false);
     public static final Index EPSS_CVE_IDX = Internal.createIndex(DSL.name("EPSS_CVE_IDX"), Epss.EPSS, new OrderField[] { Epss.EPSS.cve }, true);
+    public static final Index EVENT_QUEUE_CHAIN_IDENTIFIER_IDX = Internal.createIndex(DSL.name("EVENT_QUEUE_CHAIN_IDENTIFIER_IDX"), EventQueue.EVENT_QUEUE, new OrderField[] { EventQueue.EVENT_QUEUE.chainIdentifier }, false);
+    public static final Index EVENT_QUEUE_COALESCING_KEY_IDX = Internal.createIndex(DSL.name("EVENT_QUEUE_COALESCING_KEY_IDX"), EventQueue.EVENT_QUEUE, new OrderField[] { EventQueue.EVENT_QUEUE.eventType, EventQueue.EVENT_QUEUE.subscriber, EventQueue.EVENT_QUEUE.coalescingKey }, true);
+    public static final Index EVENT_QUEUE_EVENT_TYPE_VISIBLE_AT_IDX = Internal.createIndex(DSL.name("EVENT_QUEUE_EVENT_TYPE_VISIBLE_AT_IDX"), EventQueue.EVENT_QUEUE, new OrderField[] { EventQueue.EVENT_QUEUE.eventType, EventQueue.EVENT_QUEUE.visibleAt }, false);
     public static final Index FINDINGATTRIBUTION_COMPOUND_IDX = Internal.createIndex(DSL.name("FINDINGATTRIBUTION_COMPOUND_IDX"), FindingAttribution.FINDINGATTRIBUTION, new OrderField[] { FindingAttribution.FINDINGATTRIBUTION.componentId, FindingAttribution.FINDINGATTRIBUTION.vulnerabilityId }, true);
     public static final Index FINDINGATTRIBUTION_PROJECT_ID_IDX = Internal.createIndex(DSL.name("FINDINGATTRIBUTION_PROJECT_ID_IDX"), FindingAttribution.FINDINGATTRIBUTION, new OrderField[] { FindingAttribution.FINDINGATTRIBUTION.projectId }, false);
     public static final Index FINDINGATTRIBUTION_VULNERABILITY_ID_IDX = Internal.createIndex(DSL.name("FINDINGATTRIBUTION_VULNERABILITY_ID_IDX"), FindingAttribution.FINDINGATTRIBUTION, new OrderField[] { FindingAttribution.FINDINGATTRIBUTION.vulnerabilityId }, false);
@@ -116,6 +122,7 @@ public class Indexes {
     public static final Index NOTIFICATIONRULE_PUBLISHER_IDX = Internal.createIndex(DSL.name("NOTIFICATIONRULE_PUBLISHER_IDX"), NotificationRule.NOTIFICATIONRULE, new OrderField[] { NotificationRule.NOTIFICATIONRULE.publisher }, false);
     public static final Index OIDCGROUP_NAME_IDX = Internal.createIndex(DSL.name("OIDCGROUP_NAME_IDX"), OidcGroup.OIDCGROUP, new OrderField[] { OidcGroup.OIDCGROUP.name }, true);
     public static final Index POLICY_NAME_IDX = Internal.createIndex(DSL.name("POLICY_NAME_IDX"), Policy.POLICY, new OrderField[] { Policy.POLICY.name }, false);
+    public static final Index POLICY_EVALUATION_FINGERPRINT_PROJECT_ID_IDX = Internal.createIndex(DSL.name("POLICY_EVALUATION_FINGERPRINT_PROJECT_ID_IDX"), PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT, new OrderField[] { PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT.projectId }, false);
     public static final Index POLICY_PROJECTS_POLICY_ID_IDX = Internal.createIndex(DSL.name("POLICY_PROJECTS_POLICY_ID_IDX"), PolicyProjects.POLICY_PROJECTS, new OrderField[] { PolicyProjects.POLICY_PROJECTS.policyId }, false);
     public static final Index POLICY_PROJECTS_PROJECT_ID_IDX = Internal.createIndex(DSL.name("POLICY_PROJECTS_PROJECT_ID_IDX"), PolicyProjects.POLICY_PROJECTS, new OrderField[] { PolicyProjects.POLICY_PROJECTS.projectId }, false);
     public static final Index POLICYCONDITION_POLICY_ID_IDX = Internal.createIndex(DSL.name("POLICYCONDITION_POLICY_ID_IDX"), PolicyCondition.POLICYCONDITION, new OrderField[] { PolicyCondition.POLICYCONDITION.policyId }, false);
@@ -140,6 +147,7 @@ public class Indexes {
     public static final Index PROJECT_VERSION_IDX = Internal.createIndex(DSL.name("PROJECT_VERSION_IDX"), Project.PROJECT, new OrderField[] { Project.PROJECT.version }, false);
     public static final Index REPOSITORY_META_COMPONENT_COMPOUND_IDX = Internal.createIndex(DSL.name("REPOSITORY_META_COMPONENT_COMPOUND_IDX"), RepositoryMetaComponent.REPOSITORY_META_COMPONENT, new OrderField[] { RepositoryMetaComponent.REPOSITORY_META_COMPONENT.repositoryType, RepositoryMetaComponent.REPOSITORY_META_COMPONENT.namespace, RepositoryMetaComponent.REPOSITORY_META_COMPONENT.name }, true);
     public static final Index REPOSITORY_META_COMPONENT_LASTCHECK_IDX = Internal.createIndex(DSL.name("REPOSITORY_META_COMPONENT_LASTCHECK_IDX"), RepositoryMetaComponent.REPOSITORY_META_COMPONENT, new OrderField[] { RepositoryMetaComponent.REPOSITORY_META_COMPONENT.lastCheck }, false);
+    public static final Index REPOSITORY_META_COMPONENT_NULL_NAMESPACE_IDX = Internal.createIndex(DSL.name("REPOSITORY_META_COMPONENT_NULL_NAMESPACE_IDX"), RepositoryMetaComponent.REPOSITORY_META_COMPONENT, new OrderField[] { RepositoryMetaComponent.REPOSITORY_META_COMPONENT.repositoryType, RepositoryMetaComponent.REPOSITORY_META_COMPONENT.name }, true);
     public static final Index REPOSITORY_UUID_IDX = Internal.createIndex(DSL.name("REPOSITORY_UUID_IDX"), Repository.REPOSITORY, new OrderField[] { Repository.REPOSITORY.uuid }, false);
     public static final Index SERVICECOMPONENT_LAST_RISKSCORE_IDX = Internal.createIndex(DSL.name("SERVICECOMPONENT_LAST_RISKSCORE_IDX"), ServiceComponent.SERVICECOMPONENT, new OrderField[] { ServiceComponent.SERVICECOMPONENT.lastRiskScore }, false);
     public static final Index SERVICECOMPONENT_PARENT_SERVICECOMPONENT_ID_IDX = Internal.createIndex(DSL.name("SERVICECOMPONENT_PARENT_SERVICECOMPONENT_ID_IDX"), ServiceComponent.SERVICECOMPONENT, new OrderField[] { ServiceComponent.SERVICECOMPONENT.parentServiceComponentId }, false);
@@ -147,6 +155,7 @@ public class Indexes {
     public static final Index SERVICECOMPONENTS_VULNERABILITIES_SERVICECOMPONENT_ID_IDX = Internal.createIndex(DSL.name("SERVICECOMPONENTS_VULNERABILITIES_SERVICECOMPONENT_ID_IDX"), ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES, new OrderField[] { ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES.serviceComponentId }, false);
     public static final Index SERVICECOMPONENTS_VULNERABILITIES_VULNERABILITY_ID_IDX = Internal.createIndex(DSL.name("SERVICECOMPONENTS_VULNERABILITIES_VULNERABILITY_ID_IDX"), ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES, new OrderField[] { ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES.vulnerabilityId }, false);
     public static final Index TAG_NAME_IDX = Internal.createIndex(DSL.name("TAG_NAME_IDX"), Tag.TAG, new OrderField[] { Tag.TAG.name }, true);
+    public static final Index TEAM_PROJECT_EFFECTIVE_ACCESS_TEAM_ID_IDX = Internal.createIndex(DSL.name("TEAM_PROJECT_EFFECTIVE_ACCESS_TEAM_ID_IDX"), TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS, new OrderField[] { TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS.teamId }, false);
     public static final Index USER_PROJECT_ROLES_IDX = Internal.createIndex(DSL.name("USER_PROJECT_ROLES_IDX"), UserProjectRoles.USER_PROJECT_ROLES, new OrderField[] { UserProjectRoles.USER_PROJECT_ROLES.userId, UserProjectRoles.USER_PROJECT_ROLES.projectId }, true);
     public static final Index USER_USERNAME_IDX = Internal.createIndex(DSL.name("USER_USERNAME_IDX"), User.USER, new OrderField[] { User.USER.username }, true);
     public static final Index VEX_PROJECT_ID_IDX = Internal.createIndex(DSL.name("VEX_PROJECT_ID_IDX"), Vex.VEX, new OrderField[] { Vex.VEX.projectId }, false);
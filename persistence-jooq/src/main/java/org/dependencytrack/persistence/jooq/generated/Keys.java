@@ -9,6 +9,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.Analysis;
 import org.dependencytrack.persistence.jooq.generated.tables.AnalysisComment;
 import org.dependencytrack.persistence.jooq.generated.tables.ApiKey;
 import org.dependencytrack.persistence.jooq.generated.tables.ApiKeysTeams;
+import org.dependencytrack.persistence.jooq.generated.tables.AuthCacheVersion;
 import org.dependencytrack.persistence.jooq.generated.tables.Bom;
 import org.dependencytrack.persistence.jooq.generated.tables.Component;
 import org.dependencytrack.persistence.jooq.generated.tables.ComponentOccurrence;
@@ -17,6 +18,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ComponentsVulnerabi
 import org.dependencytrack.persistence.jooq.generated.tables.ConfigProperty;
 import org.dependencytrack.persistence.jooq.generated.tables.DependencyMetrics;
 import org.dependencytrack.persistence.jooq.generated.tables.Epss;
+import org.dependencytrack.persistence.jooq.generated.tables.EventQueue;
 import org.dependencytrack.persistence.jooq.generated.tables.FindingAttribution;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityAnalysis;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityMetaComponent;
@@ -25,6 +27,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.LicenseGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.LicenseGroupLicense;
 import org.dependencytrack.persistence.jooq.generated.tables.MappedLdapGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.MappedOidcGroup;
+import org.dependencytrack.persistence.jooq.generated.tables.MetricsChangelog;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationPublisher;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationRule;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationRuleProjects;
@@ -34,6 +37,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.OidcGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.Permission;
 import org.dependencytrack.persistence.jooq.generated.tables.Policy;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyCondition;
+import org.dependencytrack.persistence.jooq.generated.tables.PolicyEvaluationFingerprint;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyProjects;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyTags;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyViolation;
@@ -53,6 +57,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponent;
 import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponentsVulnerabilities;
 import org.dependencytrack.persistence.jooq.generated.tables.Tag;
 import org.dependencytrack.persistence.jooq.generated.tables.Team;
+import org.dependencytrack.persistence.jooq.generated.tables.TeamProjectEffectiveAccess;
 import org.dependencytrack.persistence.jooq.generated.tables.TeamsPermissions;
 import org.dependencytrack.persistence.jooq.generated.tables.User;
 import org.dependencytrack.persistence.jooq.generated.tables.UserProjectEffectivePermissions;
@@ -77,6 +82,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.records.AnalysisCom
 import org.dependencytrack.persistence.jooq.generated.tables.records.AnalysisRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.ApiKeyRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.ApiKeysTeamsRecord;
+import org.dependencytrack.persistence.jooq.generated.tables.records.AuthCacheVersionRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.BomRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.ComponentOccurrenceRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.ComponentPropertyRecord;
@@ -85,6 +91,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.records.ComponentsV
 import org.dependencytrack.persistence.jooq.generated.tables.records.ConfigPropertyRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.DependencyMetricsRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.EpssRecord;
+import org.dependencytrack.persistence.jooq.generated.tables.records.EventQueueRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.FindingAttributionRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.IntegrityAnalysisRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.IntegrityMetaComponentRecord;
@@ -93,6 +100,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.records.LicenseGrou
 import org.dependencytrack.persistence.jooq.generated.tables.records.LicenseRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.MappedLdapGroupRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.MappedOidcGroupRecord;
+import org.dependencytrack.persistence.jooq.generated.tables.records.MetricsChangelogRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.NotificationPublisherRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.NotificationRuleProjectsRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.NotificationRuleRecord;
@@ -101,6 +109,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.records.Notificatio
 import org.dependencytrack.persistence.jooq.generated.tables.records.OidcGroupRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.PermissionRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.PolicyConditionRecord;
+import org.dependencytrack.persistence.jooq.generated.tables.records.PolicyEvaluationFingerprintRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.PolicyProjectsRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.PolicyRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.PolicyTagsRecord;
@@ -121,6 +130,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.records.ServiceComp
 import org.dependencytrack.persistence.jooq.generated.tables.records.ServiceComponentsVulnerabilitiesRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.TagRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.TeamRecord;
+import org.dependencytrack.persistence.jooq.generated.tables.records.TeamProjectEffectiveAccessRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.TeamsPermissionsRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.UserProjectEffectivePermissionsRecord;
 import org.dependencytrack.persistence.jooq.generated.tables.records.UserProjectRolesRecord;
@@ -166,6 +176,7 @@ public class Keys {
     public static final UniqueKey<AnalysisCommentRecord> ANALYSISCOMMENT_PK = Internal.createUniqueKey(AnalysisComment.ANALYSISCOMMENT, DSL.name("ANALYSISCOMMENT_PK"), new TableField[] { AnalysisComment.ANALYSISCOMMENT.id }, true);
     public static final UniqueKey<ApiKeyRecord> APIKEY_PK = Internal.createUniqueKey(ApiKey.APIKEY, DSL.name("APIKEY_PK"), new TableField[] { ApiKey.APIKEY.id }, true);
     public static final UniqueKey<ApiKeysTeamsRecord> APIKEYS_TEAMS_PK = Internal.createUniqueKey(ApiKeysTeams.APIKEYS_TEAMS, DSL.name("APIKEYS_TEAMS_PK"), new TableField[] { ApiKeysTeams.APIKEYS_TEAMS.teamId, ApiKeysTeams.APIKEYS_TEAMS.apiKeyId }, true);
+    public static final UniqueKey<AuthCacheVersionRecord> AUTH_CACHE_VERSION_PK = Internal.createUniqueKey(AuthCacheVersion.AUTH_CACHE_VERSION, DSL.name("AUTH_CACHE_VERSION_PK"), new TableField[] { AuthCacheVersion.AUTH_CACHE_VERSION.id }, true);
     public static final UniqueKey<BomRecord> BOM_PK = Internal.createUniqueKey(Bom.BOM, DSL.name("BOM_PK"), new TableField[] { Bom.BOM.id }, true);
     public static final UniqueKey<BomRecord> BOM_UUID_IDX = Internal.createUniqueKey(Bom.BOM, DSL.name("BOM_UUID_IDX"), new TableField[] { Bom.BOM.uuid }, true);
     public static final UniqueKey<ComponentRecord> COMPONENT_PK = Internal.createUniqueKey(Component.COMPONENT, DSL.name("COMPONENT_PK"), new TableField[] { Component.COMPONENT.id }, true);
@@ -177,6 +188,7 @@ public class Keys {
     public static final UniqueKey<DependencyMetricsRecord> DEPENDENCYMETRICS_PK = Internal.createUniqueKey(DependencyMetrics.DEPENDENCYMETRICS, DSL.name("DEPENDENCYMETRICS_PK"), new TableField[] { DependencyMetrics.DEPENDENCYMETRICS.componentId, DependencyMetrics.DEPENDENCYMETRICS.lastOccurrence }, true);
     public static final UniqueKey<EpssRecord> EPSS_CVE_KEY = Internal.createUniqueKey(Epss.EPSS, DSL.name("EPSS_CVE_key"), new TableField[] { Epss.EPSS.cve }, true);
     public static final UniqueKey<EpssRecord> EPSS_CVE_PK = Internal.createUniqueKey(Epss.EPSS, DSL.name("EPSS_CVE_PK"), new TableField[] { Epss.EPSS.id }, true);
+    public static final UniqueKey<EventQueueRecord> EVENT_QUEUE_PK = Internal.createUniqueKey(EventQueue.EVENT_QUEUE, DSL.name("EVENT_QUEUE_PK"), new TableField[] { EventQueue.EVENT_QUEUE.id }, true);
     public static final UniqueKey<FindingAttributionRecord> FINDINGATTRIBUTION_PK = Internal.createUniqueKey(FindingAttribution.FINDINGATTRIBUTION, DSL.name("FINDINGATTRIBUTION_PK"), new TableField[] { FindingAttribution.FINDINGATTRIBUTION.id }, true);
     public static final UniqueKey<FindingAttributionRecord> FINDINGATTRIBUTION_UUID_IDX = Internal.createUniqueKey(FindingAttribution.FINDINGATTRIBUTION, DSL.name("FINDINGATTRIBUTION_UUID_IDX"), new TableField[] { FindingAttribution.FINDINGATTRIBUTION.uuid }, true);
     public static final UniqueKey<IntegrityAnalysisRecord> INTEGRITY_ANALYSIS_PK = Internal.createUniqueKey(IntegrityAnalysis.INTEGRITY_ANALYSIS, DSL.name("INTEGRITY_ANALYSIS_PK"), new TableField[] { IntegrityAnalysis.INTEGRITY_ANALYSIS.id }, true);
@@ -191,6 +203,7 @@ public class Keys {
     public static final UniqueKey<MappedOidcGroupRecord> MAPPEDOIDCGROUP_PK = Internal.createUniqueKey(MappedOidcGroup.MAPPEDOIDCGROUP, DSL.name("MAPPEDOIDCGROUP_PK"), new TableField[] { MappedOidcGroup.MAPPEDOIDCGROUP.id }, true);
     public static final UniqueKey<MappedOidcGroupRecord> MAPPEDOIDCGROUP_U1 = Internal.createUniqueKey(MappedOidcGroup.MAPPEDOIDCGROUP, DSL.name("MAPPEDOIDCGROUP_U1"), new TableField[] { MappedOidcGroup.MAPPEDOIDCGROUP.teamId, MappedOidcGroup.MAPPEDOIDCGROUP.groupId }, true);
     public static final UniqueKey<MappedOidcGroupRecord> MAPPEDOIDCGROUP_UUID_IDX = Internal.createUniqueKey(MappedOidcGroup.MAPPEDOIDCGROUP, DSL.name("MAPPEDOIDCGROUP_UUID_IDX"), new TableField[] { MappedOidcGroup.MAPPEDOIDCGROUP.uuid }, true);
+    public static final UniqueKey<MetricsChangelogRecord> METRICS_CHANGELOG_PK = Internal.createUniqueKey(MetricsChangelog.METRICS_CHANGELOG, DSL.name("METRICS_CHANGELOG_PK"), new TableField[] { MetricsChangelog.METRICS_CHANGELOG.componentId }, true);
     public static final UniqueKey<NotificationPublisherRecord> NOTIFICATIONPUBLISHER_PK = Internal.createUniqueKey(NotificationPublisher.NOTIFICATIONPUBLISHER, DSL.name("NOTIFICATIONPUBLISHER_PK"), new TableField[] { NotificationPublisher.NOTIFICATIONPUBLISHER.id }, true);
     public static final UniqueKey<NotificationPublisherRecord> NOTIFICATIONPUBLISHER_UUID_IDX = Internal.createUniqueKey(NotificationPublisher.NOTIFICATIONPUBLISHER, DSL.name("NOTIFICATIONPUBLISHER_UUID_IDX"), new TableField[] { NotificationPublisher.NOTIFICATIONPUBLISHER.uuid }, true);
     public static final UniqueKey<NotificationRuleRecord> NOTIFICATIONRULE_PK = Internal.createUniqueKey(NotificationRule.NOTIFICATIONRULE, DSL.name("NOTIFICATIONRULE_PK"), new TableField[] { NotificationRule.NOTIFICATIONRULE.id }, true);
@@ -203,6 +216,7 @@ public class Keys {
     public static final UniqueKey<PermissionRecord> PERMISSION_PK = Internal.createUniqueKey(Permission.PERMISSION, DSL.name("PERMISSION_PK"), new TableField[] { Permission.PERMISSION.id }, true);
     public static final UniqueKey<PolicyRecord> POLICY_PK = Internal.createUniqueKey(Policy.POLICY, DSL.name("POLICY_PK"), new TableField[] { Policy.POLICY.id }, true);
     public static final UniqueKey<PolicyRecord> POLICY_UUID_IDX = Internal.createUniqueKey(Policy.POLICY, DSL.name("POLICY_UUID_IDX"), new TableField[] { Policy.POLICY.uuid }, true);
+    public static final UniqueKey<PolicyEvaluationFingerprintRecord> POLICY_EVALUATION_FINGERPRINT_PK = Internal.createUniqueKey(PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT, DSL.name("POLICY_EVALUATION_FINGERPRINT_PK"), new TableField[] { PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT.componentId }, true);
     public static final UniqueKey<PolicyTagsRecord> POLICY_TAGS_PK = Internal.createUniqueKey(PolicyTags.POLICY_TAGS, DSL.name("POLICY_TAGS_PK"), new TableField[] { PolicyTags.POLICY_TAGS.policyId, PolicyTags.POLICY_TAGS.tagId }, true);
     public static final UniqueKey<PolicyConditionRecord> POLICYCONDITION_PK = Internal.createUniqueKey(PolicyCondition.POLICYCONDITION, DSL.name("POLICYCONDITION_PK"), new TableField[] { PolicyCondition.POLICYCONDITION.id }, true);
     public static final UniqueKey<PolicyConditionRecord> POLICYCONDITION_UUID_IDX = Internal.createUniqueKey(PolicyCondition.POLICYCONDITION, DSL.name("POLICYCONDITION_UUID_IDX"), new TableField[] { PolicyCondition.POLICYCONDITION.uuid }, true);
@@ -230,6 +244,7 @@ public class Keys {
     public static final UniqueKey<TagRecord> TAG_PK = Internal.createUniqueKey(Tag.TAG, DSL.name("TAG_PK"), new TableField[] { Tag.TAG.id }, true);
     public static final UniqueKey<TeamRecord> TEAM_NAME_IDX = Internal.createUniqueKey(Team.TEAM, DSL.name("TEAM_NAME_IDX"), new TableField[] { Team.TEAM.name }, true);
     public static final UniqueKey<TeamRecord> TEAM_PK = Internal.createUniqueKey(Team.TEAM, DSL.name("TEAM_PK"), new TableField[] { Team.TEAM.id }, true);
+    public static final UniqueKey<TeamProjectEffectiveAccessRecord> TEAM_PROJECT_EFFECTIVE_ACCESS_PK = Internal.createUniqueKey(TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS, DSL.name("TEAM_PROJECT_EFFECTIVE_ACCESS_PK"), new TableField[] { TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS.projectId, TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS.teamId }, true);
     public static final UniqueKey<TeamRecord> TEAM_UUID_IDX = Internal.createUniqueKey(Team.TEAM, DSL.name("TEAM_UUID_IDX"), new TableField[] { Team.TEAM.uuid }, true);
     public static final UniqueKey<TeamsPermissionsRecord> TEAMS_PERMISSIONS_PK = Internal.createUniqueKey(TeamsPermissions.TEAMS_PERMISSIONS, DSL.name("TEAMS_PERMISSIONS_PK"), new TableField[] { TeamsPermissions.TEAMS_PERMISSIONS.teamId, TeamsPermissions.TEAMS_PERMISSIONS.permissionId }, true);
     public static final UniqueKey<UserRecord> USER_PK = Internal.createUniqueKey(User.USER, DSL.name("USER_PK"), new TableField[] { User.USER.id }, true);
@@ -297,6 +312,7 @@ public class Keys {
     public static final ForeignKey<NotificationRuleTagsRecord, TagRecord> NOTIFICATIONRULE_TAGS_TAG_FK = Internal.createForeignKey(NotificationRuleTags.NOTIFICATIONRULE_TAGS, DSL.name("NOTIFICATIONRULE_TAGS_TAG_FK"), new TableField[] { NotificationRuleTags.NOTIFICATIONRULE_TAGS.tagId }, Keys.TAG_PK, new TableField[] { Tag.TAG.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<NotificationRuleTeamsRecord, NotificationRuleRecord> NOTIFICATIONRULE_TEAMS_NOTIFICATIONRULE_FK = Internal.createForeignKey(NotificationRuleTeams.NOTIFICATIONRULE_TEAMS, DSL.name("NOTIFICATIONRULE_TEAMS_NOTIFICATIONRULE_FK"), new TableField[] { NotificationRuleTeams.NOTIFICATIONRULE_TEAMS.notificationRuleId }, Keys.NOTIFICATIONRULE_PK, new TableField[] { NotificationRule.NOTIFICATIONRULE.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<NotificationRuleTeamsRecord, TeamRecord> NOTIFICATIONRULE_TEAMS_TEAM_FK = Internal.createForeignKey(NotificationRuleTeams.NOTIFICATIONRULE_TEAMS, DSL.name("NOTIFICATIONRULE_TEAMS_TEAM_FK"), new TableField[] { NotificationRuleTeams.NOTIFICATIONRULE_TEAMS.teamId }, Keys.TEAM_PK, new TableField[] { Team.TEAM.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
+    public static final ForeignKey<PolicyEvaluationFingerprintRecord, ComponentRecord> POLICY_EVALUATION_FINGERPRINT_COMPONENT_FK = Internal.createForeignKey(PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT, DSL.name("POLICY_EVALUATION_FINGERPRINT_COMPONENT_FK"), new TableField[] { PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT.componentId }, Keys.COMPONENT_PK, new TableField[] { Component.COMPONENT.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<PolicyProjectsRecord, PolicyRecord> POLICY_PROJECTS_POLICY_FK = Internal.createForeignKey(PolicyProjects.POLICY_PROJECTS, DSL.name("POLICY_PROJECTS_POLICY_FK"), new TableField[] { PolicyProjects.POLICY_PROJECTS.policyId }, Keys.POLICY_PK, new TableField[] { Policy.POLICY.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<PolicyProjectsRecord, ProjectRecord> POLICY_PROJECTS_PROJECT_FK = Internal.createForeignKey(PolicyProjects.POLICY_PROJECTS, DSL.name("POLICY_PROJECTS_PROJECT_FK"), new TableField[] { PolicyProjects.POLICY_PROJECTS.projectId }, Keys.PROJECT_PK, new TableField[] { Project.PROJECT.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<PolicyTagsRecord, PolicyRecord> POLICY_TAGS_POLICY_FK = Internal.createForeignKey(PolicyTags.POLICY_TAGS, DSL.name("POLICY_TAGS_POLICY_FK"), new TableField[] { PolicyTags.POLICY_TAGS.policyId }, Keys.POLICY_PK, new TableField[] { Policy.POLICY.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
@@ -321,6 +337,8 @@ public class Keys {
     public static final ForeignKey<ServiceComponentRecord, ServiceComponentRecord> SERVICECOMPONENT_SERVICECOMPONENT_FK = Internal.createForeignKey(ServiceComponent.SERVICECOMPONENT, DSL.name("SERVICECOMPONENT_SERVICECOMPONENT_FK"), new TableField[] { ServiceComponent.SERVICECOMPONENT.parentServiceComponentId }, Keys.SERVICECOMPONENT_PK, new TableField[] { ServiceComponent.SERVICECOMPONENT.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<ServiceComponentsVulnerabilitiesRecord, ServiceComponentRecord> SERVICECOMPONENTS_VULNERABILITIES_SERVICECOMPONENT_FK = Internal.createForeignKey(ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES, DSL.name("SERVICECOMPONENTS_VULNERABILITIES_SERVICECOMPONENT_FK"), new TableField[] { ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES.serviceComponentId }, Keys.SERVICECOMPONENT_PK, new TableField[] { ServiceComponent.SERVICECOMPONENT.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<ServiceComponentsVulnerabilitiesRecord, VulnerabilityRecord> SERVICECOMPONENTS_VULNERABILITIES_VULNERABILITY_FK = Internal.createForeignKey(ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES, DSL.name("SERVICECOMPONENTS_VULNERABILITIES_VULNERABILITY_FK"), new TableField[] { ServiceComponentsVulnerabilities.SERVICECOMPONENTS_VULNERABILITIES.vulnerabilityId }, Keys.VULNERABILITY_PK, new TableField[] { Vulnerability.VULNERABILITY.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
+    public static final ForeignKey<TeamProjectEffectiveAccessRecord, ProjectRecord> TEAM_PROJECT_EFFECTIVE_ACCESS_PROJECT_FK = Internal.createForeignKey(TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS, DSL.name("TEAM_PROJECT_EFFECTIVE_ACCESS_PROJECT_FK"), new TableField[] { TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS.projectId }, Keys.PROJECT_PK, new TableField[] { Project.PROJECT.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
+    public static final ForeignKey<TeamProjectEffectiveAccessRecord, TeamRecord> TEAM_PROJECT_EFFECTIVE_ACCESS_TEAM_FK = Internal.createForeignKey(TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS, DSL.name("TEAM_PROJECT_EFFECTIVE_ACCESS_TEAM_FK"), new TableField[] { TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS.teamId }, Keys.TEAM_PK, new TableField[] { Team.TEAM.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<TeamsPermissionsRecord, PermissionRecord> TEAMS_PERMISSIONS_PERMISSION_FK = Internal.createForeignKey(TeamsPermissions.TEAMS_PERMISSIONS, DSL.name("TEAMS_PERMISSIONS_PERMISSION_FK"), new TableField[] { TeamsPermissions.TEAMS_PERMISSIONS.permissionId }, Keys.PERMISSION_PK, new TableField[] { Permission.PERMISSION.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<TeamsPermissionsRecord, TeamRecord> TEAMS_PERMISSIONS_TEAM_FK = Internal.createForeignKey(TeamsPermissions.TEAMS_PERMISSIONS, DSL.name("TEAMS_PERMISSIONS_TEAM_FK"), new TableField[] { TeamsPermissions.TEAMS_PERMISSIONS.teamId }, Keys.TEAM_PK, new TableField[] { Team.TEAM.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<UserProjectEffectivePermissionsRecord, PermissionRecord> USER_PROJECT_EFFECTIVE_PERMISSIONS_PERMISSION_ID_FK = Internal.createForeignKey(UserProjectEffectivePermissions.USER_PROJECT_EFFECTIVE_PERMISSIONS, DSL.name("USER_PROJECT_EFFECTIVE_PERMISSIONS_PERMISSION_ID_FK"), new TableField[] { UserProjectEffectivePermissions.USER_PROJECT_EFFECTIVE_PERMISSIONS.permissionId }, Keys.PERMISSION_PK, new TableField[] { Permission.PERMISSION.id }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
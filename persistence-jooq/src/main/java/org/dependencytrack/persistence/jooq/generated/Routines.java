@@ -7,14 +7,18 @@ package org.dependencytrack.persistence.jooq.generated;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+import org.dependencytrack.persistence.jooq.generated.routines.AggregateProjectMetrics;
 import org.dependencytrack.persistence.jooq.generated.routines.CalcRiskScore;
 import org.dependencytrack.persistence.jooq.generated.routines.HasProjectAccess;
 import org.dependencytrack.persistence.jooq.generated.routines.HasUserProjectAccess;
 import org.dependencytrack.persistence.jooq.generated.routines.JsonbVulnAliases;
+import org.dependencytrack.persistence.jooq.generated.routines.RecalcTeamProjectEffectiveAccess;
 import org.dependencytrack.persistence.jooq.generated.routines.RecalcUserProjectEffectivePermissions;
 import org.dependencytrack.persistence.jooq.generated.routines.UpdateComponentMetrics;
 import org.dependencytrack.persistence.jooq.generated.routines.UpdatePortfolioMetrics;
 import org.dependencytrack.persistence.jooq.generated.routines.UpdateProjectMetrics;
+import org.dependencytrack.persistence.jooq.generated.routines.UpdateProjectMetricsIncremental;
+import org.dependencytrack.persistence.jooq.generated.routines.UpdateProjectMetricsSetBased;
 import org.jooq.Configuration;
 import org.jooq.Field;
 import org.jooq.JSONB;
@@ -27,6 +31,19 @@ import org.jooq.JSONB;
 @SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
 public class Routines {
 
+    /**
+     * Call <code>AGGREGATE_PROJECT_METRICS</code>
+     */
+    public static void aggregateProjectMetrics(
+          Configuration configuration
+        , Long projectId
+    ) {
+        AggregateProjectMetrics p = new AggregateProjectMetrics();
+        p.setProjectId(projectId);
+
+        p.execute(configuration);
+    }
+
     /**
      * Call <code>CALC_RISK_SCORE</code>
      */
@@ -221,6 +238,19 @@ public class Routines {
         return f.asField();
     }
 
+    /**
+     * Call <code>recalc_team_project_effective_access</code>
+     */
+    public static void recalcTeamProjectEffectiveAccess(
+          Configuration configuration
+        , Long[] projectIds
+    ) {
+        RecalcTeamProjectEffectiveAccess p = new RecalcTeamProjectEffectiveAccess();
+        p.setProjectIds(projectIds);
+
+        p.execute(configuration);
+    }
+
     /**
      * Call <code>recalc_user_project_effective_permissions</code>
      */
@@ -270,4 +300,32 @@ public class Routines {
 
         p.execute(configuration);
     }
+
+    /**
+     * Call <code>UPDATE_PROJECT_METRICS_INCREMENTAL</code>
+     */
+    public static void updateProjectMetricsIncremental(
+          Configuration configuration
+        , UUID projectUuid
+        , Long[] componentIds
+    ) {
+        UpdateProjectMetricsIncremental p = new UpdateProjectMetricsIncremental();
+        p.setProjectUuid(projectUuid);
+        p.setComponentIds(componentIds);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * Call <code>UPDATE_PROJECT_METRICS_SET_BASED</code>
+     */
+    public static void updateProjectMetricsSetBased(
+          Configuration configuration
+        , UUID projectUuid
+    ) {
+        UpdateProjectMetricsSetBased p = new UpdateProjectMetricsSetBased();
+        p.setProjectUuid(projectUuid);
+
+        p.execute(configuration);
+    }
 }
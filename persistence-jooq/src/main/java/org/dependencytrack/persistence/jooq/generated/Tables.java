@@ -9,6 +9,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.Analysis;
 import org.dependencytrack.persistence.jooq.generated.tables.AnalysisComment;
 import org.dependencytrack.persistence.jooq.generated.tables.ApiKey;
 import org.dependencytrack.persistence.jooq.generated.tables.ApiKeysTeams;
+import org.dependencytrack.persistence.jooq.generated.tables.AuthCacheVersion;
 import org.dependencytrack.persistence.jooq.generated.tables.Bom;
 import org.dependencytrack.persistence.jooq.generated.tables.Component;
 import org.dependencytrack.persistence.jooq.generated.tables.ComponentOccurrence;
@@ -17,6 +18,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ComponentsVulnerabi
 import org.dependencytrack.persistence.jooq.generated.tables.ConfigProperty;
 import org.dependencytrack.persistence.jooq.generated.tables.DependencyMetrics;
 import org.dependencytrack.persistence.jooq.generated.tables.Epss;
+import org.dependencytrack.persistence.jooq.generated.tables.EventQueue;
 import org.dependencytrack.persistence.jooq.generated.tables.FindingAttribution;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityAnalysis;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityMetaComponent;
@@ -25,6 +27,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.LicenseGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.LicenseGroupLicense;
 import org.dependencytrack.persistence.jooq.generated.tables.MappedLdapGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.MappedOidcGroup;
+import org.dependencytrack.persistence.jooq.generated.tables.MetricsChangelog;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationPublisher;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationRule;
 import org.dependencytrack.persistence.jooq.generated.tables.NotificationRuleProjects;
@@ -34,6 +37,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.OidcGroup;
 import org.dependencytrack.persistence.jooq.generated.tables.Permission;
 import org.dependencytrack.persistence.jooq.generated.tables.Policy;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyCondition;
+import org.dependencytrack.persistence.jooq.generated.tables.PolicyEvaluationFingerprint;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyProjects;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyTags;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyViolation;
@@ -53,6 +57,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponent;
 import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponentsVulnerabilities;
 import org.dependencytrack.persistence.jooq.generated.tables.Tag;
 import org.dependencytrack.persistence.jooq.generated.tables.Team;
+import org.dependencytrack.persistence.jooq.generated.tables.TeamProjectEffectiveAccess;
 import org.dependencytrack.persistence.jooq.generated.tables.TeamsPermissions;
 import org.dependencytrack.persistence.jooq.generated.tables.User;
 import org.dependencytrack.persistence.jooq.generated.tables.UserProjectEffectivePermissions;
@@ -105,6 +110,11 @@ public class Tables {
      */
     public static final ApiKeysTeams APIKEYS_TEAMS = ApiKeysTeams.APIKEYS_TEAMS;
 
+    /**
+     * The table <code>AUTH_CACHE_VERSION</code>.
+     */
+    public static final AuthCacheVersion AUTH_CACHE_VERSION = AuthCacheVersion.AUTH_CACHE_VERSION;
+
     /**
      * The table <code>BOM</code>.
      */
@@ -145,6 +155,11 @@ public class Tables {
      */
     public static final Epss EPSS = Epss.EPSS;
 
+    /**
+     * The table <code>EVENT_QUEUE</code>.
+     */
+    public static final EventQueue EVENT_QUEUE = EventQueue.EVENT_QUEUE;
+
     /**
      * The table <code>FINDINGATTRIBUTION</code>.
      */
@@ -185,6 +200,11 @@ public class Tables {
      */
     public static final MappedOidcGroup MAPPEDOIDCGROUP = MappedOidcGroup.MAPPEDOIDCGROUP;
 
+    /**
+     * The table <code>METRICS_CHANGELOG</code>.
+     */
+    public static final MetricsChangelog METRICS_CHANGELOG = MetricsChangelog.METRICS_CHANGELOG;
+
     /**
      * The table <code>NOTIFICATIONPUBLISHER</code>.
      */
@@ -225,6 +245,11 @@ public class Tables {
      */
     public static final Policy POLICY = Policy.POLICY;
 
+    /**
+     * The table <code>POLICY_EVALUATION_FINGERPRINT</code>.
+     */
+    public static final PolicyEvaluationFingerprint POLICY_EVALUATION_FINGERPRINT = PolicyEvaluationFingerprint.POLICY_EVALUATION_FINGERPRINT;
+
     /**
      * The table <code>POLICY_PROJECTS</code>.
      */
@@ -325,6 +350,11 @@ public class Tables {
      */
     public static final Team TEAM = Team.TEAM;
 
+    /**
+     * The table <code>TEAM_PROJECT_EFFECTIVE_ACCESS</code>.
+     */
+    public static final TeamProjectEffectiveAccess TEAM_PROJECT_EFFECTIVE_ACCESS = TeamProjectEffectiveAccess.TEAM_PROJECT_EFFECTIVE_ACCESS;
+
     /**
      * The table <code>TEAMS_PERMISSIONS</code>.
      */
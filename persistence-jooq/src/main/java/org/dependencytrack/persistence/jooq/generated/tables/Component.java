@@ -21,6 +21,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.DependencyMetrics.D
 import org.dependencytrack.persistence.jooq.generated.tables.FindingAttribution.FindingAttributionPath;
 import org.dependencytrack.persistence.jooq.generated.tables.IntegrityAnalysis.IntegrityAnalysisPath;
 import org.dependencytrack.persistence.jooq.generated.tables.License.LicensePath;
+import org.dependencytrack.persistence.jooq.generated.tables.PolicyEvaluationFingerprint.PolicyEvaluationFingerprintPath;
 import org.dependencytrack.persistence.jooq.generated.tables.PolicyViolation.PolicyViolationPath;
 import org.dependencytrack.persistence.jooq.generated.tables.Project.ProjectPath;
 import org.dependencytrack.persistence.jooq.generated.tables.ViolationAnalysis.ViolationAnalysisPath;
@@ -491,6 +492,19 @@ public class Component extends TableImpl<ComponentRecord> {
         return _integrityAnalysis;
     }
 
+    private transient PolicyEvaluationFingerprintPath _policyEvaluationFingerprint;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>POLICY_EVALUATION_FINGERPRINT</code> table
+     */
+    public PolicyEvaluationFingerprintPath policyEvaluationFingerprint() {
+        if (_policyEvaluationFingerprint == null)
+            _policyEvaluationFingerprint = new PolicyEvaluationFingerprintPath(this, null, Keys.POLICY_EVALUATION_FINGERPRINT_COMPONENT_FK.getInverseKey());
+
+        return _policyEvaluationFingerprint;
+    }
+
     private transient PolicyViolationPath _policyViolation;
 
     /**
@@ -31,6 +31,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.ProjectsTags.Projec
 import org.dependencytrack.persistence.jooq.generated.tables.ServiceComponent.ServiceComponentPath;
 import org.dependencytrack.persistence.jooq.generated.tables.Tag.TagPath;
 import org.dependencytrack.persistence.jooq.generated.tables.Team.TeamPath;
+import org.dependencytrack.persistence.jooq.generated.tables.TeamProjectEffectiveAccess.TeamProjectEffectiveAccessPath;
 import org.dependencytrack.persistence.jooq.generated.tables.UserProjectEffectivePermissions.UserProjectEffectivePermissionsPath;
 import org.dependencytrack.persistence.jooq.generated.tables.UserProjectRoles.UserProjectRolesPath;
 import org.dependencytrack.persistence.jooq.generated.tables.Vex.VexPath;
@@ -503,6 +504,19 @@ public class Project extends TableImpl<ProjectRecord> {
         return _serviceComponent;
     }
 
+    private transient TeamProjectEffectiveAccessPath _teamProjectEffectiveAccess;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>TEAM_PROJECT_EFFECTIVE_ACCESS</code> table
+     */
+    public TeamProjectEffectiveAccessPath teamProjectEffectiveAccess() {
+        if (_teamProjectEffectiveAccess == null)
+            _teamProjectEffectiveAccess = new TeamProjectEffectiveAccessPath(this, null, Keys.TEAM_PROJECT_EFFECTIVE_ACCESS_PROJECT_FK.getInverseKey());
+
+        return _teamProjectEffectiveAccess;
+    }
+
     private transient UserProjectEffectivePermissionsPath _userProjectEffectivePermissions;
 
     /**
@@ -125,7 +125,7 @@ public class RepositoryMetaComponent extends TableImpl<RepositoryMetaComponentRe
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.REPOSITORY_META_COMPONENT_COMPOUND_IDX, Indexes.REPOSITORY_META_COMPONENT_LASTCHECK_IDX);
+        return Arrays.asList(Indexes.REPOSITORY_META_COMPONENT_COMPOUND_IDX, Indexes.REPOSITORY_META_COMPONENT_LASTCHECK_IDX, Indexes.REPOSITORY_META_COMPONENT_NULL_NAMESPACE_IDX);
     }
 
     @Override
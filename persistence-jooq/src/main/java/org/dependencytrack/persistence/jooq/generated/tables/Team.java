@@ -17,6 +17,7 @@ import org.dependencytrack.persistence.jooq.generated.tables.NotificationRuleTea
 import org.dependencytrack.persistence.jooq.generated.tables.Permission.PermissionPath;
 import org.dependencytrack.persistence.jooq.generated.tables.Project.ProjectPath;
 import org.dependencytrack.persistence.jooq.generated.tables.ProjectAccessTeams.ProjectAccessTeamsPath;
+import org.dependencytrack.persistence.jooq.generated.tables.TeamProjectEffectiveAccess.TeamProjectEffectiveAccessPath;
 import org.dependencytrack.persistence.jooq.generated.tables.TeamsPermissions.TeamsPermissionsPath;
 import org.dependencytrack.persistence.jooq.generated.tables.User.UserPath;
 import org.dependencytrack.persistence.jooq.generated.tables.UsersTeams.UsersTeamsPath;
@@ -227,6 +228,19 @@ public class Team extends TableImpl<TeamRecord> {
         return _projectAccessTeams;
     }
 
+    private transient TeamProjectEffectiveAccessPath _teamProjectEffectiveAccess;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>TEAM_PROJECT_EFFECTIVE_ACCESS</code> table
+     */
+    public TeamProjectEffectiveAccessPath teamProjectEffectiveAccess() {
+        if (_teamProjectEffectiveAccess == null)
+            _teamProjectEffectiveAccess = new TeamProjectEffectiveAccessPath(this, null, Keys.TEAM_PROJECT_EFFECTIVE_ACCESS_TEAM_FK.getInverseKey());
+
+        return _teamProjectEffectiveAccess;
+    }
+
     private transient TeamsPermissionsPath _teamsPermissions;
 
     /**
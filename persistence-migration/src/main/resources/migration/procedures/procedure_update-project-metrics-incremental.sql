@@ -0,0 +1,32 @@
+CREATE OR REPLACE PROCEDURE "UPDATE_PROJECT_METRICS_INCREMENTAL"(
+  "project_uuid" UUID,
+  "component_ids" BIGINT[]
+)
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_project_id"                              BIGINT;
+  "v_component_uuid"                          UUID;
+BEGIN
+  SELECT "ID" FROM "PROJECT" WHERE "UUID" = "project_uuid" INTO "v_project_id";
+  IF "v_project_id" IS NULL THEN
+    RAISE EXCEPTION 'Project with UUID % does not exist', "project_uuid";
+  END IF;
+
+  -- Only update metrics of components that changed, or that never had metrics calculated before.
+  -- All other components retain their most recent DEPENDENCYMETRICS, which are re-used for aggregation.
+  FOR "v_component_uuid" IN SELECT "UUID"
+                              FROM "COMPONENT"
+                             WHERE "PROJECT_ID" = "v_project_id"
+                               AND ("ID" = ANY("component_ids")
+                                 OR NOT EXISTS(SELECT 1
+                                                 FROM "DEPENDENCYMETRICS"
+                                                WHERE "DEPENDENCYMETRICS"."COMPONENT_ID" = "COMPONENT"."ID"))
+  LOOP
+    CALL "UPDATE_COMPONENT_METRICS"("v_component_uuid");
+  END LOOP;
+
+  CALL "AGGREGATE_PROJECT_METRICS"("v_project_id");
+END;
+$$;
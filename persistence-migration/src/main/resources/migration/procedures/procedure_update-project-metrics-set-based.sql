@@ -0,0 +1,338 @@
+-- Set-based variant of UPDATE_PROJECT_METRICS.
+--
+-- Instead of calling UPDATE_COMPONENT_METRICS for every component of the project,
+-- metrics of all components are computed with a single statement, using GROUP BY
+-- aggregations over findings, analyses, and policy violations. Component metrics
+-- are bulk-inserted into DEPENDENCYMETRICS, and project metrics are derived
+-- from the same intermediate result, without reading DEPENDENCYMETRICS again.
+--
+-- Results are equivalent to those of UPDATE_PROJECT_METRICS, with the exception
+-- that deduplication of aliased vulnerabilities is deterministic: Of all findings
+-- of a component that alias each other, the one with the lowest vulnerability ID
+-- is counted. UPDATE_COMPONENT_METRICS counts whichever it encounters first.
+
+CREATE OR REPLACE PROCEDURE "UPDATE_PROJECT_METRICS_SET_BASED"(
+  "project_uuid" UUID
+)
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_project_id" BIGINT;
+  "v_risk_score" NUMERIC; -- Inherited risk score
+BEGIN
+  SELECT "ID" FROM "PROJECT" WHERE "UUID" = "project_uuid" INTO "v_project_id";
+  IF "v_project_id" IS NULL THEN
+    RAISE EXCEPTION 'Project with UUID % does not exist', "project_uuid";
+  END IF;
+
+  WITH
+  -- All non-suppressed findings of all components in the project.
+  "CTE_FINDINGS" AS (
+    SELECT "CV"."COMPONENT_ID"
+         , "V"."ID" AS "VULNERABILITY_ID"
+         , "V"."SOURCE"
+         , "V"."VULNID"
+         , COALESCE("A"."SEVERITY", "V"."SEVERITY") AS "SEVERITY"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "COMPONENTS_VULNERABILITIES" AS "CV"
+        ON "CV"."COMPONENT_ID" = "C"."ID"
+     INNER JOIN "VULNERABILITY" AS "V"
+        ON "V"."ID" = "CV"."VULNERABILITY_ID"
+      LEFT JOIN "ANALYSIS" AS "A"
+        ON "A"."COMPONENT_ID" = "CV"."COMPONENT_ID"
+       AND "A"."VULNERABILITY_ID" = "CV"."VULNERABILITY_ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND ("A"."SUPPRESSED" != TRUE OR "A"."SUPPRESSED" IS NULL)
+  ),
+  -- Aliases of findings, in the same SOURCE|VULNID format that findings are compared with.
+  "CTE_FINDING_ALIASES" AS (
+    SELECT "F"."COMPONENT_ID"
+         , "F"."VULNERABILITY_ID"
+         , "ALIAS"."KEY"
+      FROM "CTE_FINDINGS" AS "F"
+     INNER JOIN "VULNERABILITYALIAS" AS "VA"
+        ON ("F"."SOURCE" = 'GITHUB' AND "VA"."GHSA_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'INTERNAL' AND "VA"."INTERNAL_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'NVD' AND "VA"."CVE_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'OSSINDEX' AND "VA"."SONATYPE_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'OSV' AND "VA"."OSV_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'SNYK' AND "VA"."SNYK_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'VULNDB' AND "VA"."VULNDB_ID" = "F"."VULNID")
+     CROSS JOIN LATERAL (
+       VALUES ('GITHUB|' || "VA"."GHSA_ID")
+            , ('INTERNAL|' || "VA"."INTERNAL_ID")
+            , ('NVD|' || "VA"."CVE_ID")
+            , ('OSSINDEX|' || "VA"."SONATYPE_ID")
+            , ('OSV|' || "VA"."OSV_ID")
+            , ('SNYK|' || "VA"."SNYK_ID")
+            , ('VULNDB|' || "VA"."VULNDB_ID")
+     ) AS "ALIAS"("KEY")
+     WHERE "ALIAS"."KEY" IS NOT NULL
+  ),
+  "CTE_VULNERABILITY_COUNTS" AS (
+    SELECT "F"."COMPONENT_ID"
+         , COUNT(*)::INT AS "VULNERABILITIES"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'CRITICAL'))::INT AS "CRITICAL"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'HIGH'))::INT AS "HIGH"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'MEDIUM'))::INT AS "MEDIUM"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'LOW'))::INT AS "LOW"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" IS NULL
+                                OR "F"."SEVERITY" NOT IN ('CRITICAL', 'HIGH', 'MEDIUM', 'LOW')))::INT AS "UNASSIGNED"
+      FROM "CTE_FINDINGS" AS "F"
+     -- Do not count findings for which an alias has already been counted.
+     WHERE NOT EXISTS(
+       SELECT 1
+         FROM "CTE_FINDING_ALIASES" AS "FA"
+        WHERE "FA"."COMPONENT_ID" = "F"."COMPONENT_ID"
+          AND "FA"."VULNERABILITY_ID" < "F"."VULNERABILITY_ID"
+          AND "FA"."KEY" = ("F"."SOURCE" || '|' || "F"."VULNID")
+     )
+     GROUP BY "F"."COMPONENT_ID"
+  ),
+  "CTE_ANALYSIS_COUNTS" AS (
+    SELECT "A"."COMPONENT_ID"
+         , (COUNT(*) FILTER (WHERE "A"."SUPPRESSED" = FALSE
+                               AND "A"."STATE" != 'NOT_SET'
+                               AND "A"."STATE" != 'IN_TRIAGE'))::INT AS "AUDITED"
+         , (COUNT(*) FILTER (WHERE "A"."SUPPRESSED" = TRUE))::INT AS "SUPPRESSED"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "ANALYSIS" AS "A"
+        ON "A"."COMPONENT_ID" = "C"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+     GROUP BY "A"."COMPONENT_ID"
+  ),
+  "CTE_POLICY_VIOLATION_COUNTS" AS (
+    SELECT "PV"."COMPONENT_ID"
+         , COUNT(*)::INT AS "TOTAL"
+         , (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'FAIL'))::INT AS "FAIL"
+         , (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'WARN'))::INT AS "WARN"
+         , (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'INFO'))::INT AS "INFO"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'LICENSE'))::INT AS "LICENSE_TOTAL"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'OPERATIONAL'))::INT AS "OPERATIONAL_TOTAL"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'SECURITY'))::INT AS "SECURITY_TOTAL"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "POLICYVIOLATION" AS "PV"
+        ON "PV"."COMPONENT_ID" = "C"."ID"
+     INNER JOIN "POLICYCONDITION" AS "PC"
+        ON "PC"."ID" = "PV"."POLICYCONDITION_ID"
+     INNER JOIN "POLICY" AS "P"
+        ON "P"."ID" = "PC"."POLICY_ID"
+      LEFT JOIN "VIOLATIONANALYSIS" AS "VA"
+        ON "VA"."COMPONENT_ID" = "PV"."COMPONENT_ID"
+       AND "VA"."POLICYVIOLATION_ID" = "PV"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND ("VA"."ID" IS NULL OR "VA"."SUPPRESSED" = FALSE)
+     GROUP BY "PV"."COMPONENT_ID"
+  ),
+  "CTE_VIOLATION_ANALYSIS_COUNTS" AS (
+    SELECT "VA"."COMPONENT_ID"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'LICENSE'))::INT AS "LICENSE_AUDITED"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'OPERATIONAL'))::INT AS "OPERATIONAL_AUDITED"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'SECURITY'))::INT AS "SECURITY_AUDITED"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "VIOLATIONANALYSIS" AS "VA"
+        ON "VA"."COMPONENT_ID" = "C"."ID"
+     INNER JOIN "POLICYVIOLATION" AS "PV"
+        ON "PV"."ID" = "VA"."POLICYVIOLATION_ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND "VA"."SUPPRESSED" = FALSE
+       AND "VA"."STATE" != 'NOT_SET'
+     GROUP BY "VA"."COMPONENT_ID"
+  ),
+  "CTE_COMPONENT_COUNTS" AS (
+    SELECT "C"."ID" AS "COMPONENT_ID"
+         , COALESCE("VC"."VULNERABILITIES", 0) AS "VULNERABILITIES"
+         , COALESCE("VC"."CRITICAL", 0) AS "CRITICAL"
+         , COALESCE("VC"."HIGH", 0) AS "HIGH"
+         , COALESCE("VC"."MEDIUM", 0) AS "MEDIUM"
+         , COALESCE("VC"."LOW", 0) AS "LOW"
+         , COALESCE("VC"."UNASSIGNED", 0) AS "UNASSIGNED"
+         , COALESCE("AC"."AUDITED", 0) AS "FINDINGS_AUDITED"
+         , COALESCE("AC"."SUPPRESSED", 0) AS "SUPPRESSED"
+         , COALESCE("PVC"."TOTAL", 0) AS "POLICYVIOLATIONS_TOTAL"
+         , COALESCE("PVC"."FAIL", 0) AS "POLICYVIOLATIONS_FAIL"
+         , COALESCE("PVC"."WARN", 0) AS "POLICYVIOLATIONS_WARN"
+         , COALESCE("PVC"."INFO", 0) AS "POLICYVIOLATIONS_INFO"
+         , COALESCE("PVC"."LICENSE_TOTAL", 0) AS "POLICYVIOLATIONS_LICENSE_TOTAL"
+         , COALESCE("VAC"."LICENSE_AUDITED", 0) AS "POLICYVIOLATIONS_LICENSE_AUDITED"
+         , COALESCE("PVC"."OPERATIONAL_TOTAL", 0) AS "POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+         , COALESCE("VAC"."OPERATIONAL_AUDITED", 0) AS "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+         , COALESCE("PVC"."SECURITY_TOTAL", 0) AS "POLICYVIOLATIONS_SECURITY_TOTAL"
+         , COALESCE("VAC"."SECURITY_AUDITED", 0) AS "POLICYVIOLATIONS_SECURITY_AUDITED"
+      FROM "COMPONENT" AS "C"
+      LEFT JOIN "CTE_VULNERABILITY_COUNTS" AS "VC"
+        ON "VC"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "CTE_ANALYSIS_COUNTS" AS "AC"
+        ON "AC"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "CTE_POLICY_VIOLATION_COUNTS" AS "PVC"
+        ON "PVC"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "CTE_VIOLATION_ANALYSIS_COUNTS" AS "VAC"
+        ON "VAC"."COMPONENT_ID" = "C"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+  ),
+  "CTE_COMPONENT_METRICS" AS (
+    SELECT "CC".*
+         , "CALC_RISK_SCORE"("CC"."CRITICAL", "CC"."HIGH", "CC"."MEDIUM", "CC"."LOW", "CC"."UNASSIGNED") AS "RISKSCORE"
+         , "CC"."VULNERABILITIES" AS "FINDINGS_TOTAL"
+         , "CC"."VULNERABILITIES" - "CC"."FINDINGS_AUDITED" AS "FINDINGS_UNAUDITED"
+         , ("CC"."POLICYVIOLATIONS_LICENSE_AUDITED"
+            + "CC"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+            + "CC"."POLICYVIOLATIONS_SECURITY_AUDITED") AS "POLICYVIOLATIONS_AUDITED"
+         , "CC"."POLICYVIOLATIONS_TOTAL"
+            - ("CC"."POLICYVIOLATIONS_LICENSE_AUDITED"
+               + "CC"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+               + "CC"."POLICYVIOLATIONS_SECURITY_AUDITED") AS "POLICYVIOLATIONS_UNAUDITED"
+         , "CC"."POLICYVIOLATIONS_LICENSE_TOTAL"
+            - "CC"."POLICYVIOLATIONS_LICENSE_AUDITED" AS "POLICYVIOLATIONS_LICENSE_UNAUDITED"
+         , "CC"."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+            - "CC"."POLICYVIOLATIONS_OPERATIONAL_AUDITED" AS "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+         , "CC"."POLICYVIOLATIONS_SECURITY_TOTAL"
+            - "CC"."POLICYVIOLATIONS_SECURITY_AUDITED" AS "POLICYVIOLATIONS_SECURITY_UNAUDITED"
+      FROM "CTE_COMPONENT_COUNTS" AS "CC"
+  ),
+  "CTE_INSERTED_COMPONENT_METRICS" AS (
+    INSERT INTO "DEPENDENCYMETRICS" ("COMPONENT_ID",
+                                     "PROJECT_ID",
+                                     "VULNERABILITIES",
+                                     "CRITICAL",
+                                     "HIGH",
+                                     "MEDIUM",
+                                     "LOW",
+                                     "UNASSIGNED_SEVERITY",
+                                     "RISKSCORE",
+                                     "FINDINGS_TOTAL",
+                                     "FINDINGS_AUDITED",
+                                     "FINDINGS_UNAUDITED",
+                                     "SUPPRESSED",
+                                     "POLICYVIOLATIONS_TOTAL",
+                                     "POLICYVIOLATIONS_FAIL",
+                                     "POLICYVIOLATIONS_WARN",
+                                     "POLICYVIOLATIONS_INFO",
+                                     "POLICYVIOLATIONS_AUDITED",
+                                     "POLICYVIOLATIONS_UNAUDITED",
+                                     "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                     "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                     "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                     "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                     "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                     "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                     "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                     "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                     "POLICYVIOLATIONS_SECURITY_UNAUDITED",
+                                     "FIRST_OCCURRENCE",
+                                     "LAST_OCCURRENCE")
+    SELECT "COMPONENT_ID",
+           "v_project_id",
+           "VULNERABILITIES",
+           "CRITICAL",
+           "HIGH",
+           "MEDIUM",
+           "LOW",
+           "UNASSIGNED",
+           "RISKSCORE",
+           "FINDINGS_TOTAL",
+           "FINDINGS_AUDITED",
+           "FINDINGS_UNAUDITED",
+           "SUPPRESSED",
+           "POLICYVIOLATIONS_TOTAL",
+           "POLICYVIOLATIONS_FAIL",
+           "POLICYVIOLATIONS_WARN",
+           "POLICYVIOLATIONS_INFO",
+           "POLICYVIOLATIONS_AUDITED",
+           "POLICYVIOLATIONS_UNAUDITED",
+           "POLICYVIOLATIONS_LICENSE_TOTAL",
+           "POLICYVIOLATIONS_LICENSE_AUDITED",
+           "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+           "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+           "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+           "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+           "POLICYVIOLATIONS_SECURITY_TOTAL",
+           "POLICYVIOLATIONS_SECURITY_AUDITED",
+           "POLICYVIOLATIONS_SECURITY_UNAUDITED",
+           NOW(),
+           NOW()
+      FROM "CTE_COMPONENT_METRICS"
+  ),
+  "CTE_UPDATED_COMPONENTS" AS (
+    UPDATE "COMPONENT"
+       SET "LAST_RISKSCORE" = "CM"."RISKSCORE"
+      FROM "CTE_COMPONENT_METRICS" AS "CM"
+     WHERE "COMPONENT"."ID" = "CM"."COMPONENT_ID"
+       AND "COMPONENT"."LAST_RISKSCORE" IS DISTINCT FROM "CM"."RISKSCORE"
+  )
+  INSERT INTO "PROJECTMETRICS" ("PROJECT_ID",
+                                "COMPONENTS",
+                                "VULNERABLECOMPONENTS",
+                                "VULNERABILITIES",
+                                "CRITICAL",
+                                "HIGH",
+                                "MEDIUM",
+                                "LOW",
+                                "UNASSIGNED_SEVERITY",
+                                "RISKSCORE",
+                                "FINDINGS_TOTAL",
+                                "FINDINGS_AUDITED",
+                                "FINDINGS_UNAUDITED",
+                                "SUPPRESSED",
+                                "POLICYVIOLATIONS_TOTAL",
+                                "POLICYVIOLATIONS_FAIL",
+                                "POLICYVIOLATIONS_WARN",
+                                "POLICYVIOLATIONS_INFO",
+                                "POLICYVIOLATIONS_AUDITED",
+                                "POLICYVIOLATIONS_UNAUDITED",
+                                "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                "POLICYVIOLATIONS_SECURITY_UNAUDITED",
+                                "FIRST_OCCURRENCE",
+                                "LAST_OCCURRENCE")
+  -- NOTE: SUM returns NULL when no rows match the query, but COUNT returns 0.
+  -- For nullable result columns, use COALESCE(..., 0) to have a default value.
+  SELECT "v_project_id",
+         COUNT(*)::INT,
+         COALESCE(SUM(CASE WHEN "VULNERABILITIES" > 0 THEN 1 ELSE 0 END)::INT, 0),
+         COALESCE(SUM("VULNERABILITIES")::INT, 0),
+         COALESCE(SUM("CRITICAL")::INT, 0),
+         COALESCE(SUM("HIGH")::INT, 0),
+         COALESCE(SUM("MEDIUM")::INT, 0),
+         COALESCE(SUM("LOW")::INT, 0),
+         COALESCE(SUM("UNASSIGNED")::INT, 0),
+         "CALC_RISK_SCORE"(
+           COALESCE(SUM("CRITICAL")::INT, 0),
+           COALESCE(SUM("HIGH")::INT, 0),
+           COALESCE(SUM("MEDIUM")::INT, 0),
+           COALESCE(SUM("LOW")::INT, 0),
+           COALESCE(SUM("UNASSIGNED")::INT, 0)),
+         COALESCE(SUM("FINDINGS_TOTAL")::INT, 0),
+         COALESCE(SUM("FINDINGS_AUDITED")::INT, 0),
+         COALESCE(SUM("FINDINGS_UNAUDITED")::INT, 0),
+         COALESCE(SUM("SUPPRESSED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_TOTAL")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_FAIL")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_WARN")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_INFO")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_AUDITED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_UNAUDITED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_LICENSE_TOTAL")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_LICENSE_AUDITED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_LICENSE_UNAUDITED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_OPERATIONAL_TOTAL")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_OPERATIONAL_AUDITED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_OPERATIONAL_UNAUDITED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_SECURITY_TOTAL")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_SECURITY_AUDITED")::INT, 0),
+         COALESCE(SUM("POLICYVIOLATIONS_SECURITY_UNAUDITED")::INT, 0),
+         NOW(),
+         NOW()
+    FROM "CTE_COMPONENT_METRICS"
+  RETURNING "RISKSCORE" INTO "v_risk_score";
+
+  UPDATE "PROJECT" SET "LAST_RISKSCORE" = "v_risk_score" WHERE "ID" = "v_project_id";
+END;
+$$;